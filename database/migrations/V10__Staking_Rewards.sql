@@ -0,0 +1,33 @@
+-- NeoBridge Platform - Staking Reward Epochs
+-- Version: V10
+-- Description: Per-cryptocurrency daily reward epochs and the staked balance snapshot
+-- each wallet was rewarded on. A wallet is credited once per epoch, when its row is applied.
+
+CREATE TABLE staking_epochs (
+    cryptocurrency VARCHAR(20) NOT NULL,
+    epoch DATE NOT NULL,
+    -- Reward per staked unit for the epoch
+    rate NUMERIC(30,18) NOT NULL,
+    -- SNAPSHOT, APPLYING or COMPLETED
+    status VARCHAR(10) NOT NULL,
+    wallets INTEGER,
+    total_staked NUMERIC(38,18),
+    total_reward NUMERIC(38,18),
+    lease_owner VARCHAR(64),
+    lease_until TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    PRIMARY KEY (cryptocurrency, epoch)
+);
+
+CREATE TABLE staking_rewards (
+    cryptocurrency VARCHAR(20) NOT NULL,
+    epoch DATE NOT NULL,
+    wallet_id UUID NOT NULL,
+    staked_balance NUMERIC(30,18) NOT NULL,
+    reward NUMERIC(30,18) NOT NULL DEFAULT 0,
+    applied BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (cryptocurrency, epoch, wallet_id)
+);
+
+CREATE INDEX idx_staking_rewards_wallet ON staking_rewards(wallet_id, epoch);
@@ -0,0 +1,44 @@
+-- NeoBridge Platform - Internal Crypto Trading
+-- Version: V11
+-- Description: Limit orders matched by the in-memory order books, their trades,
+-- and how far each pair's executions have been settled against wallets.
+
+CREATE TABLE trading_orders (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    -- BASE-QUOTE, e.g. ETH-USDT
+    pair VARCHAR(25) NOT NULL,
+    -- BUY or SELL
+    side VARCHAR(4) NOT NULL,
+    price NUMERIC(30,18) NOT NULL,
+    quantity NUMERIC(30,18) NOT NULL,
+    filled_quantity NUMERIC(30,18) NOT NULL DEFAULT 0,
+    -- OPEN, PARTIALLY_FILLED, FILLED, CANCELLED or REJECTED
+    status VARCHAR(16) NOT NULL,
+    base_wallet_id UUID NOT NULL,
+    quote_wallet_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_trading_orders_user ON trading_orders(user_id, created_at);
+CREATE INDEX idx_trading_orders_open ON trading_orders(pair) WHERE status IN ('OPEN', 'PARTIALLY_FILLED');
+
+CREATE TABLE trading_trades (
+    pair VARCHAR(25) NOT NULL,
+    -- Execution sequence of the pair
+    sequence BIGINT NOT NULL,
+    buy_order_id UUID NOT NULL,
+    sell_order_id UUID NOT NULL,
+    price NUMERIC(30,18) NOT NULL,
+    quantity NUMERIC(30,18) NOT NULL,
+    taker_side VARCHAR(4) NOT NULL,
+    executed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (pair, sequence)
+);
+
+CREATE TABLE trading_settlements (
+    pair VARCHAR(25) PRIMARY KEY,
+    settled_sequence BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,28 @@
+-- NeoBridge Platform - Pre-Derived Deposit Addresses
+-- Version: V12
+-- Description: HD deposit addresses derived ahead of wallet creation. The cursor
+-- is advanced before a range is derived, so a derivation index is never used twice.
+
+CREATE TABLE address_pool_cursors (
+    network VARCHAR(30) PRIMARY KEY,
+    next_index BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE address_pool (
+    network VARCHAR(30) NOT NULL,
+    derivation_index BIGINT NOT NULL,
+    address VARCHAR(100) NOT NULL,
+    public_key VARCHAR(130),
+    derivation_path VARCHAR(100) NOT NULL,
+    -- AVAILABLE, LEASED (held in memory by an instance) or ASSIGNED
+    status VARCHAR(10) NOT NULL,
+    leased_by VARCHAR(64),
+    leased_at TIMESTAMP,
+    assigned_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (network, derivation_index)
+);
+
+CREATE UNIQUE INDEX idx_address_pool_address ON address_pool(network, address);
+CREATE INDEX idx_address_pool_available ON address_pool(network, derivation_index) WHERE status = 'AVAILABLE';
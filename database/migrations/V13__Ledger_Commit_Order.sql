@@ -0,0 +1,14 @@
+-- NeoBridge Platform - Ledger Projection In Commit Order
+-- Version: V13
+-- Description: Records the writing transaction id on every ledger event. The
+-- projector reads events by (txid, position) below the oldest running
+-- transaction, so an event whose position was assigned before a later one
+-- committed is never skipped. Rows written before this migration keep txid 0
+-- and are ordered by position alone, which matches the existing checkpoint.
+
+ALTER TABLE ledger_events ADD COLUMN txid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE ledger_events ALTER COLUMN txid SET DEFAULT (pg_current_xact_id()::text)::bigint;
+
+CREATE INDEX idx_ledger_events_txid ON ledger_events(txid, position);
+
+ALTER TABLE ledger_checkpoints ADD COLUMN txid BIGINT NOT NULL DEFAULT 0;
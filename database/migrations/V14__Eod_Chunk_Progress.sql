@@ -0,0 +1,9 @@
+-- NeoBridge Platform - Chunked End-of-Day Jobs
+-- Version: V14
+-- Description: Lease and progress columns for EOD jobs that commit a
+-- partition in chunks. The claim is renewed with every chunk; progress is the
+-- last account id of the last committed chunk.
+
+ALTER TABLE eod_runs ADD COLUMN claimed_by VARCHAR(64);
+ALTER TABLE eod_runs ADD COLUMN claimed_at TIMESTAMP;
+ALTER TABLE eod_runs ADD COLUMN progress UUID;
@@ -0,0 +1,13 @@
+-- NeoBridge Platform - UTXO Changes In Commit Order
+-- Version: V15
+-- Description: Records the writing transaction id with every wallet_utxos
+-- change. Indexes read changes by (change_txid, change_seq) below the oldest
+-- running transaction, so a change whose sequence value was taken before a
+-- later one committed is never skipped. Rows written before this migration
+-- keep change_txid 0 and are ordered by change_seq alone.
+
+ALTER TABLE wallet_utxos ADD COLUMN change_txid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE wallet_utxos ALTER COLUMN change_txid SET DEFAULT (pg_current_xact_id()::text)::bigint;
+
+CREATE INDEX idx_wallet_utxos_commit_order ON wallet_utxos(wallet_id, change_txid, change_seq);
+DROP INDEX idx_wallet_utxos_changes;
@@ -0,0 +1,14 @@
+-- NeoBridge Platform - Payment Transition Status Names
+-- Version: V16
+-- Description: Stores payment transition statuses by PaymentStatus name
+-- instead of ordinal, so adding or reordering a status never changes the
+-- meaning of rows already in the log. Existing ordinals are mapped through
+-- the PaymentStatus declaration order they were written with.
+
+ALTER TABLE payment_transitions
+    ALTER COLUMN from_status TYPE VARCHAR(30) USING (ARRAY[
+        'PENDING', 'PROCESSING', 'AUTHORIZED', 'COMPLETED', 'FAILED', 'CANCELLED', 'REVERSED',
+        'REFUNDED', 'SUSPENDED', 'UNDER_REVIEW', 'COMPLIANCE_CHECK', 'FRAUD_CHECK'])[from_status + 1],
+    ALTER COLUMN to_status TYPE VARCHAR(30) USING (ARRAY[
+        'PENDING', 'PROCESSING', 'AUTHORIZED', 'COMPLETED', 'FAILED', 'CANCELLED', 'REVERSED',
+        'REFUNDED', 'SUSPENDED', 'UNDER_REVIEW', 'COMPLIANCE_CHECK', 'FRAUD_CHECK'])[to_status + 1];
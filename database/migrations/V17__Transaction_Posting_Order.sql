@@ -0,0 +1,21 @@
+-- NeoBridge Platform - Transaction Posting Order
+-- Version: V17
+-- Description: Monotonic posting sequence on transactions. Legs of one
+-- journal entry share created_at and have random ids, so neither orders two
+-- legs on the same account. The sequence is taken at insert time while the
+-- account is still locked, so per account it follows the order balances
+-- were applied in. Existing rows are numbered in their previous
+-- (created_at, id) order.
+
+ALTER TABLE transactions ADD COLUMN posting_seq BIGINT;
+
+UPDATE transactions t SET posting_seq = o.seq
+FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY created_at, id) AS seq FROM transactions) o
+WHERE o.id = t.id;
+
+ALTER TABLE transactions ALTER COLUMN posting_seq SET NOT NULL;
+ALTER TABLE transactions ALTER COLUMN posting_seq ADD GENERATED BY DEFAULT AS IDENTITY;
+SELECT setval(pg_get_serial_sequence('transactions', 'posting_seq'), COALESCE(MAX(posting_seq), 0) + 1, false)
+FROM transactions;
+
+CREATE INDEX idx_transactions_account_posting ON transactions(account_id, posting_seq);
@@ -0,0 +1,18 @@
+-- NeoBridge Platform - Payment Transition Log
+-- Version: V2
+-- Description: Append-only, day-partitioned log of payment status transitions.
+-- Statuses are PaymentStatus ordinals. Daily partitions are created ahead of
+-- time by the payment service; the default partition only catches stragglers.
+
+CREATE TABLE payment_transitions (
+    id BIGINT GENERATED ALWAYS AS IDENTITY,
+    payment_id UUID NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    from_status SMALLINT,
+    to_status SMALLINT NOT NULL,
+    code VARCHAR(50)
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE payment_transitions_default PARTITION OF payment_transitions DEFAULT;
+
+CREATE INDEX idx_payment_transitions_payment ON payment_transitions(payment_id, occurred_at);
@@ -0,0 +1,42 @@
+-- NeoBridge Platform - Event-Sourced Account Ledger
+-- Version: V3
+-- Description: Append-only ledger events, rolling per-account snapshots and
+-- the balance projection maintained from them. Event types are
+-- LedgerEventType ordinals.
+
+CREATE TABLE ledger_events (
+    position BIGINT GENERATED ALWAYS AS IDENTITY,
+    account_id UUID NOT NULL,
+    sequence BIGINT NOT NULL,
+    type SMALLINT NOT NULL,
+    amount DECIMAL(19,4) NOT NULL,
+    reference VARCHAR(100),
+    occurred_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (account_id, sequence)
+);
+
+CREATE UNIQUE INDEX idx_ledger_events_position ON ledger_events(position);
+
+CREATE TABLE ledger_snapshots (
+    account_id UUID PRIMARY KEY,
+    sequence BIGINT NOT NULL,
+    balance DECIMAL(19,4) NOT NULL,
+    available_balance DECIMAL(19,4) NOT NULL,
+    reserved_balance DECIMAL(19,4) NOT NULL,
+    taken_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE ledger_balances (
+    account_id UUID PRIMARY KEY,
+    balance DECIMAL(19,4) NOT NULL,
+    available_balance DECIMAL(19,4) NOT NULL,
+    reserved_balance DECIMAL(19,4) NOT NULL
+);
+
+CREATE TABLE ledger_checkpoints (
+    name VARCHAR(50) PRIMARY KEY,
+    position BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO ledger_checkpoints (name, position) VALUES ('balances', 0);
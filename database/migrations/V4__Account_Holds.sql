@@ -0,0 +1,25 @@
+-- NeoBridge Platform - Account Holds
+-- Version: V4
+-- Description: Individually identified holds on account funds with expiry.
+
+CREATE TABLE account_holds (
+    id UUID PRIMARY KEY,
+    account_id UUID NOT NULL REFERENCES accounts(id),
+    amount DECIMAL(19,4) NOT NULL,
+    captured_amount DECIMAL(19,4) NOT NULL DEFAULT 0,
+    currency VARCHAR(3) NOT NULL,
+    status VARCHAR(30) NOT NULL,
+    reference VARCHAR(100),
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE INDEX idx_account_holds_account_id ON account_holds(account_id);
+CREATE INDEX idx_account_holds_reference ON account_holds(reference);
+
+-- Only open holds are ever scanned for expiry
+CREATE INDEX idx_account_holds_open_expiry ON account_holds(expires_at)
+    WHERE status IN ('ACTIVE', 'PARTIALLY_CAPTURED');
@@ -0,0 +1,30 @@
+-- NeoBridge Platform - End-of-Day Balances and Statements
+-- Version: V5
+-- Description: Per-account daily balance snapshots computed at end of day,
+-- and the checkpoints that make partitioned EOD jobs restartable.
+
+CREATE TABLE account_daily_balances (
+    account_id UUID NOT NULL,
+    business_date DATE NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    opening_balance DECIMAL(19,4) NOT NULL,
+    closing_balance DECIMAL(19,4) NOT NULL,
+    credits_total DECIMAL(19,4) NOT NULL,
+    debits_total DECIMAL(19,4) NOT NULL,
+    credit_count INTEGER NOT NULL,
+    debit_count INTEGER NOT NULL,
+    PRIMARY KEY (account_id, business_date)
+);
+
+-- One row per completed (job, date, partition of the account id space)
+CREATE TABLE eod_runs (
+    job VARCHAR(30) NOT NULL,
+    run_date DATE NOT NULL,
+    partition_index INTEGER NOT NULL,
+    rows_processed INTEGER NOT NULL DEFAULT 0,
+    completed_at TIMESTAMP,
+    PRIMARY KEY (job, run_date, partition_index)
+);
+
+-- Statement lines and per-account day ranges
+CREATE INDEX idx_transactions_account_created ON transactions(account_id, created_at);
@@ -0,0 +1,8 @@
+-- NeoBridge Platform - Account Number Blocks
+-- Version: V6
+-- Description: Sequence that account service nodes lease account number
+-- serial blocks from. The increment is the block size.
+
+CREATE SEQUENCE account_number_seq START WITH 1 INCREMENT BY 1000 NO CYCLE;
+
+CREATE UNIQUE INDEX idx_accounts_iban_unique ON accounts(iban) WHERE iban IS NOT NULL;
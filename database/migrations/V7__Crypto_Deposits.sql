@@ -0,0 +1,42 @@
+-- NeoBridge Platform - On-Chain Deposit Detection
+-- Version: V7
+-- Description: Detected deposits to platform wallets, per-network scan cursors
+-- and the recent block hashes used to detect chain reorganisations.
+
+CREATE TABLE crypto_deposits (
+    id UUID PRIMARY KEY,
+    network VARCHAR(30) NOT NULL,
+    tx_hash VARCHAR(100) NOT NULL,
+    output_index INTEGER NOT NULL,
+    wallet_id UUID NOT NULL,
+    cryptocurrency VARCHAR(20) NOT NULL,
+    amount DECIMAL(30,18) NOT NULL,
+    block_height BIGINT NOT NULL,
+    block_hash VARCHAR(100) NOT NULL,
+    confirmations INTEGER NOT NULL DEFAULT 0,
+    -- PENDING, CREDITED, ORPHANED, or REORGED when credited and then reorganised away
+    status VARCHAR(20) NOT NULL,
+    credited_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (network, tx_hash, output_index)
+);
+
+CREATE INDEX idx_crypto_deposits_pending ON crypto_deposits(network, block_height) WHERE status = 'PENDING';
+CREATE INDEX idx_crypto_deposits_wallet ON crypto_deposits(wallet_id, created_at);
+
+-- Last scanned block per network; the row lock serialises scanners
+CREATE TABLE deposit_scan_cursors (
+    network VARCHAR(30) PRIMARY KEY,
+    block_height BIGINT NOT NULL,
+    block_hash VARCHAR(100),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Hashes of the most recently scanned blocks, pruned to the reorg window
+CREATE TABLE deposit_blocks (
+    network VARCHAR(30) NOT NULL,
+    block_height BIGINT NOT NULL,
+    block_hash VARCHAR(100) NOT NULL,
+    PRIMARY KEY (network, block_height)
+);
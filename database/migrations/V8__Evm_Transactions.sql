@@ -0,0 +1,31 @@
+-- NeoBridge Platform - EVM Hot Wallet Transactions
+-- Version: V8
+-- Description: Transactions sent from EVM hot wallets, one row per nonce, so
+-- nonces survive restarts and are never used twice.
+
+CREATE TABLE evm_transactions (
+    id UUID PRIMARY KEY,
+    wallet_id UUID NOT NULL,
+    network VARCHAR(30) NOT NULL,
+    from_address VARCHAR(255) NOT NULL,
+    to_address VARCHAR(255) NOT NULL,
+    nonce BIGINT NOT NULL,
+    value_wei NUMERIC(78,0) NOT NULL,
+    gas_limit BIGINT NOT NULL,
+    max_fee_per_gas NUMERIC(78,0) NOT NULL,
+    max_priority_fee_per_gas NUMERIC(78,0) NOT NULL,
+    data TEXT,
+    -- Hash of the latest broadcast; replaced on fee bumps
+    tx_hash VARCHAR(100) NOT NULL,
+    -- WITHDRAWAL or GAP_FILL
+    kind VARCHAR(20) NOT NULL,
+    -- PENDING or CONFIRMED
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 1,
+    submitted_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (wallet_id, nonce)
+);
+
+CREATE INDEX idx_evm_transactions_pending ON evm_transactions(wallet_id, nonce) WHERE status = 'PENDING';
@@ -0,0 +1,25 @@
+-- NeoBridge Platform - Unspent Outputs of Bitcoin-Family Wallets
+-- Version: V9
+-- Description: Per-wallet unspent transaction outputs for coin selection.
+-- Every change takes a new change_seq so in-memory indexes catch up incrementally.
+
+CREATE SEQUENCE wallet_utxo_change_seq;
+
+CREATE TABLE wallet_utxos (
+    wallet_id UUID NOT NULL,
+    txid CHAR(64) NOT NULL,
+    vout INTEGER NOT NULL,
+    value_sats BIGINT NOT NULL,
+    -- 0 while unconfirmed
+    block_height INTEGER NOT NULL DEFAULT 0,
+    -- AVAILABLE, RESERVED, SPENT or ORPHANED
+    status VARCHAR(10) NOT NULL,
+    reserved_until TIMESTAMP,
+    change_seq BIGINT NOT NULL DEFAULT nextval('wallet_utxo_change_seq'),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (wallet_id, txid, vout)
+);
+
+CREATE INDEX idx_wallet_utxos_changes ON wallet_utxos(wallet_id, change_seq);
+CREATE INDEX idx_wallet_utxos_available ON wallet_utxos(wallet_id) WHERE status = 'AVAILABLE';
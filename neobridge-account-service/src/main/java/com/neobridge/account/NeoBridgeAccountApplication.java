@@ -5,15 +5,17 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Spring Boot application class for the NeoBridge Account Service.
  * Provides account management, balance tracking, and transaction history.
  */
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.neobridge.account", "com.neobridge.common.fx", "com.neobridge.common.stream"})
 @EnableJpaAuditing
 @EnableKafka
 @EnableCaching
+@EnableScheduling
 public class NeoBridgeAccountApplication {
 
     public static void main(String[] args) {
@@ -2,21 +2,42 @@ package com.neobridge.account.controller;
 
 import com.neobridge.account.dto.AccountCreateRequest;
 import com.neobridge.account.dto.AccountResponse;
+import com.neobridge.account.dto.BulkAccountCreateResponse;
+import com.neobridge.account.dto.HoldResponse;
+import com.neobridge.account.dto.JournalEntryRequest;
+import com.neobridge.account.dto.JournalEntryResponse;
 import com.neobridge.account.entity.Account;
 import com.neobridge.account.service.AccountService;
+import com.neobridge.account.service.BulkAccountService;
+import com.neobridge.account.service.HoldService;
+import com.neobridge.account.service.JournalService;
+import com.neobridge.account.statement.EodSnapshotJob;
+import com.neobridge.account.statement.StatementFormat;
+import com.neobridge.account.statement.StatementJob;
+import com.neobridge.account.statement.StatementService;
 import com.neobridge.common.response.ApiResponse;
+import com.neobridge.common.stream.StreamFormat;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,6 +55,24 @@ public class AccountController {
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private BulkAccountService bulkAccountService;
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private StatementService statementService;
+
+    @Autowired
+    private EodSnapshotJob eodSnapshotJob;
+
+    @Autowired
+    private StatementJob statementJob;
+
     /**
      * Create a new account.
      */
@@ -53,6 +92,26 @@ public class AccountController {
         }
     }
 
+    /**
+     * Create accounts in bulk from a JSON array or newline-delimited JSON stream
+     * of account creation requests.
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BulkAccountCreateResponse>> createAccounts(InputStream body) {
+        logger.info("Creating accounts in bulk");
+        
+        try {
+            BulkAccountCreateResponse result = bulkAccountService.createAccounts(body);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(result, "Bulk account creation completed"));
+        } catch (Exception e) {
+            logger.error("Error creating accounts in bulk: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to create accounts in bulk: " + e.getMessage()));
+        }
+    }
+
     /**
      * Get account by ID.
      */
@@ -107,6 +166,22 @@ public class AccountController {
         }
     }
 
+    /**
+     * Stream all accounts for a user as a chunked JSON array or as
+     * newline-delimited JSON. Failures after the first rows were sent end the
+     * stream with an error record; see {@link com.neobridge.common.stream.JdbcStreamingService}.
+     */
+    @GetMapping("/user/{userId}/stream")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamUserAccounts(@PathVariable UUID userId,
+                                                                    @RequestParam(defaultValue = "JSON") StreamFormat format) {
+        logger.debug("Streaming accounts for user: {}", userId);
+        
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .body(accountService.streamUserAccounts(userId, format));
+    }
+
     /**
      * Get all accounts with pagination.
      */
@@ -174,12 +249,13 @@ public class AccountController {
     public ResponseEntity<ApiResponse<Void>> debitAccount(
             @PathVariable UUID accountId,
             @RequestParam BigDecimal amount,
+            @RequestParam(required = false) String currency,
             @RequestParam String description,
             @RequestParam String reference) {
         logger.info("Processing debit for account: {}, amount: {}", accountId, amount);
         
         try {
-            accountService.debitAccount(accountId, amount, description, reference);
+            accountService.debitAccount(accountId, amount, currency, description, reference);
             return ResponseEntity.ok(ApiResponse.success(null, "Account debited successfully"));
         } catch (Exception e) {
             logger.error("Error processing debit: {}", e.getMessage(), e);
@@ -196,12 +272,13 @@ public class AccountController {
     public ResponseEntity<ApiResponse<Void>> creditAccount(
             @PathVariable UUID accountId,
             @RequestParam BigDecimal amount,
+            @RequestParam(required = false) String currency,
             @RequestParam String description,
             @RequestParam String reference) {
         logger.info("Processing credit for account: {}, amount: {}", accountId, amount);
         
         try {
-            accountService.creditAccount(accountId, amount, description, reference);
+            accountService.creditAccount(accountId, amount, currency, description, reference);
             return ResponseEntity.ok(ApiResponse.success(null, "Account credited successfully"));
         } catch (Exception e) {
             logger.error("Error processing credit: {}", e.getMessage(), e);
@@ -250,6 +327,124 @@ public class AccountController {
         }
     }
 
+    /**
+     * Place an identified hold on account funds.
+     */
+    @PostMapping("/{accountId}/holds")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<HoldResponse>> placeHold(
+            @PathVariable UUID accountId,
+            @RequestParam BigDecimal amount,
+            @RequestParam(required = false) String reference,
+            @RequestParam(required = false) Long ttlSeconds) {
+        logger.info("Placing hold on account: {}, amount: {}", accountId, amount);
+        
+        try {
+            HoldResponse hold = holdService.placeHold(accountId, amount, reference,
+                                                      ttlSeconds != null ? Duration.ofSeconds(ttlSeconds) : null);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(hold, "Hold placed successfully"));
+        } catch (Exception e) {
+            logger.error("Error placing hold: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to place hold: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get open holds on an account.
+     */
+    @GetMapping("/{accountId}/holds")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<HoldResponse>>> getOpenHolds(@PathVariable UUID accountId) {
+        logger.debug("Fetching open holds for account: {}", accountId);
+        
+        try {
+            List<HoldResponse> holds = holdService.getOpenHolds(accountId);
+            return ResponseEntity.ok(ApiResponse.success(holds, "Holds retrieved successfully"));
+        } catch (Exception e) {
+            logger.error("Error fetching holds: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to retrieve holds: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get hold by ID.
+     */
+    @GetMapping("/holds/{holdId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<HoldResponse>> getHold(@PathVariable UUID holdId) {
+        logger.debug("Fetching hold: {}", holdId);
+        
+        try {
+            HoldResponse hold = holdService.getHold(holdId);
+            return ResponseEntity.ok(ApiResponse.success(hold, "Hold retrieved successfully"));
+        } catch (Exception e) {
+            logger.error("Error fetching hold: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("Hold not found: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Capture part or all of a hold.
+     */
+    @PostMapping("/holds/{holdId}/capture")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<HoldResponse>> captureHold(
+            @PathVariable UUID holdId,
+            @RequestParam(required = false) BigDecimal amount,
+            @RequestParam(required = false) String description) {
+        logger.info("Capturing hold: {}, amount: {}", holdId, amount);
+        
+        try {
+            HoldResponse hold = holdService.capture(holdId, amount, description);
+            return ResponseEntity.ok(ApiResponse.success(hold, "Hold captured successfully"));
+        } catch (Exception e) {
+            logger.error("Error capturing hold: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to capture hold: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Void a hold, releasing its remaining amount.
+     */
+    @PostMapping("/holds/{holdId}/void")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<HoldResponse>> voidHold(@PathVariable UUID holdId) {
+        logger.info("Voiding hold: {}", holdId);
+        
+        try {
+            HoldResponse hold = holdService.voidHold(holdId);
+            return ResponseEntity.ok(ApiResponse.success(hold, "Hold voided successfully"));
+        } catch (Exception e) {
+            logger.error("Error voiding hold: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to void hold: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Post a balanced multi-leg journal entry, e.g. an internal transfer.
+     */
+    @PostMapping("/journal")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<JournalEntryResponse>> postJournalEntry(@Valid @RequestBody JournalEntryRequest request) {
+        logger.info("Posting journal entry: {}", request.getReference());
+        
+        try {
+            JournalEntryResponse entry = journalService.postEntry(request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(entry, "Journal entry posted successfully"));
+        } catch (Exception e) {
+            logger.error("Error posting journal entry: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to post journal entry: " + e.getMessage()));
+        }
+    }
+
     /**
      * Calculate interest for account.
      */
@@ -286,6 +481,87 @@ public class AccountController {
         }
     }
 
+    /**
+     * Rebuild the ledger balance projection from the event stream.
+     */
+    @PostMapping("/ledger/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildLedgerProjection() {
+        logger.info("Rebuilding ledger balance projection");
+        
+        try {
+            int accounts = accountService.rebuildLedgerProjection();
+            return ResponseEntity.ok(ApiResponse.success(accounts, "Ledger projection rebuilt successfully"));
+        } catch (Exception e) {
+            logger.error("Error rebuilding ledger projection: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to rebuild ledger projection: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Download an account statement for a date range.
+     */
+    @GetMapping("/{accountId}/statement")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<?> getStatement(
+            @PathVariable UUID accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "PDF") StatementFormat format) {
+        logger.info("Generating {} statement for account: {}, {} to {}", format, accountId, from, to);
+        
+        try {
+            byte[] statement = statementService.renderStatement(accountId, from, to, format);
+            String filename = "statement-" + accountId + "-" + from + "-" + to + "." + format.getExtension();
+            return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(statement);
+        } catch (Exception e) {
+            logger.error("Error generating statement: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to generate statement: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Run (or resume) the end-of-day balance snapshot for a business day.
+     */
+    @PostMapping("/eod/snapshot")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> runEodSnapshot(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        logger.info("Running EOD balance snapshot for {}", date);
+        
+        try {
+            int snapshots = eodSnapshotJob.run(date);
+            return ResponseEntity.ok(ApiResponse.success(snapshots, "EOD snapshot completed successfully"));
+        } catch (Exception e) {
+            logger.error("Error running EOD snapshot: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to run EOD snapshot: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Run (or resume) monthly statement rendering for all accounts.
+     */
+    @PostMapping("/statements/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> runMonthlyStatements(@RequestParam YearMonth month) {
+        logger.info("Rendering monthly statements for {}", month);
+        
+        try {
+            int statements = statementJob.run(month);
+            return ResponseEntity.ok(ApiResponse.success(statements, "Statements rendered successfully"));
+        } catch (Exception e) {
+            logger.error("Error rendering statements: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to render statements: " + e.getMessage()));
+        }
+    }
+
     /**
      * Health check endpoint.
      */
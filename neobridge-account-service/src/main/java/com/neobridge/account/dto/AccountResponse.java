@@ -6,6 +6,9 @@ import com.neobridge.account.entity.Account.AccountType;
 import com.neobridge.account.entity.Account.Currency;
 
 import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -17,6 +20,7 @@ public class AccountResponse {
     private UUID id;
     private UUID userId;
     private String accountNumber;
+    private String iban;
     private String accountName;
     private AccountType accountType;
     private Currency currency;
@@ -47,6 +51,7 @@ public class AccountResponse {
         response.setId(account.getId());
         response.setUserId(account.getUserId());
         response.setAccountNumber(account.getAccountNumber());
+        response.setIban(account.getIban());
         response.setAccountName(account.getAccountName());
         response.setAccountType(account.getAccountType());
         response.setCurrency(account.getCurrency());
@@ -73,6 +78,53 @@ public class AccountResponse {
         return response;
     }
 
+    /**
+     * Columns read by {@link #fromRow(ResultSet)}, in order.
+     */
+    public static final String COLUMNS =
+        "id, user_id, account_number, account_name, account_type, currency, status, balance, available_balance, "
+        + "reserved_balance, daily_limit, monthly_limit, daily_transactions_count, monthly_transactions_count, "
+        + "daily_transactions_amount, monthly_transactions_amount, last_transaction_date, interest_rate, "
+        + "last_interest_calculation, overdraft_limit, overdraft_used, is_joint_account, joint_account_holders, "
+        + "description, created_at, updated_at, iban";
+
+    // Static factory method for rows selected with COLUMNS
+    public static AccountResponse fromRow(ResultSet rs) throws SQLException {
+        AccountResponse response = new AccountResponse();
+        response.setId(rs.getObject(1, UUID.class));
+        response.setUserId(rs.getObject(2, UUID.class));
+        response.setAccountNumber(rs.getString(3));
+        response.setAccountName(rs.getString(4));
+        response.setAccountType(AccountType.valueOf(rs.getString(5)));
+        response.setCurrency(Currency.valueOf(rs.getString(6)));
+        response.setStatus(AccountStatus.valueOf(rs.getString(7)));
+        response.setBalance(rs.getBigDecimal(8));
+        response.setAvailableBalance(rs.getBigDecimal(9));
+        response.setReservedBalance(rs.getBigDecimal(10));
+        response.setDailyLimit(rs.getBigDecimal(11));
+        response.setMonthlyLimit(rs.getBigDecimal(12));
+        response.setDailyTransactionsCount(rs.getInt(13));
+        response.setMonthlyTransactionsCount(rs.getInt(14));
+        response.setDailyTransactionsAmount(rs.getBigDecimal(15));
+        response.setMonthlyTransactionsAmount(rs.getBigDecimal(16));
+        response.setLastTransactionDate(localDateTime(rs.getTimestamp(17)));
+        response.setInterestRate(rs.getBigDecimal(18));
+        response.setLastInterestCalculation(localDateTime(rs.getTimestamp(19)));
+        response.setOverdraftLimit(rs.getBigDecimal(20));
+        response.setOverdraftUsed(rs.getBigDecimal(21));
+        response.setIsJointAccount(rs.getBoolean(22));
+        response.setJointAccountHolders(rs.getString(23));
+        response.setDescription(rs.getString(24));
+        response.setCreatedAt(localDateTime(rs.getTimestamp(25)));
+        response.setUpdatedAt(localDateTime(rs.getTimestamp(26)));
+        response.setIban(rs.getString(27));
+        return response;
+    }
+
+    private static LocalDateTime localDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -98,6 +150,14 @@ public class AccountResponse {
         this.accountNumber = accountNumber;
     }
 
+    public String getIban() {
+        return iban;
+    }
+
+    public void setIban(String iban) {
+        this.iban = iban;
+    }
+
     public String getAccountName() {
         return accountName;
     }
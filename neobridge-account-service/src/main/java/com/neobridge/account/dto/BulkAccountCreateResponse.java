@@ -0,0 +1,98 @@
+package com.neobridge.account.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO summarising a bulk account creation. Records are identified by their
+ * zero-based position in the request stream.
+ */
+public class BulkAccountCreateResponse {
+
+    private UUID batchId;
+    private int received;
+    private int created;
+    private int failed;
+    private List<RecordError> errors = new ArrayList<>();
+
+    // Constructors
+    public BulkAccountCreateResponse() {}
+
+    public BulkAccountCreateResponse(UUID batchId) {
+        this.batchId = batchId;
+    }
+
+    // Getters and Setters
+    public UUID getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(UUID batchId) {
+        this.batchId = batchId;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<RecordError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RecordError> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Why a record was not created.
+     */
+    public static class RecordError {
+
+        private int index;
+        private String message;
+
+        public RecordError() {}
+
+        public RecordError(int index, String message) {
+            this.index = index;
+            this.message = message;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.neobridge.account.dto;
+
+import com.neobridge.account.entity.AccountHold;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO for account hold responses.
+ */
+public class HoldResponse {
+
+    private UUID id;
+    private UUID accountId;
+    private BigDecimal amount;
+    private BigDecimal capturedAmount;
+    private BigDecimal remainingAmount;
+    private String currency;
+    private AccountHold.HoldStatus status;
+    private String reference;
+    private Instant expiresAt;
+    private Instant createdAt;
+
+    // Constructors
+    public HoldResponse() {}
+
+    public HoldResponse(AccountHold hold) {
+        this.id = hold.getId();
+        this.accountId = hold.getAccountId();
+        this.amount = hold.getAmount();
+        this.capturedAmount = hold.getCapturedAmount();
+        this.remainingAmount = hold.getRemainingAmount();
+        this.currency = hold.getCurrency();
+        this.status = hold.getStatus();
+        this.reference = hold.getReference();
+        this.expiresAt = hold.getExpiresAt();
+        this.createdAt = hold.getCreatedAt();
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(UUID accountId) {
+        this.accountId = accountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getCapturedAmount() {
+        return capturedAmount;
+    }
+
+    public void setCapturedAmount(BigDecimal capturedAmount) {
+        this.capturedAmount = capturedAmount;
+    }
+
+    public BigDecimal getRemainingAmount() {
+        return remainingAmount;
+    }
+
+    public void setRemainingAmount(BigDecimal remainingAmount) {
+        this.remainingAmount = remainingAmount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public AccountHold.HoldStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AccountHold.HoldStatus status) {
+        this.status = status;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
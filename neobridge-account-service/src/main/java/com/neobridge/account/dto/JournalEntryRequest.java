@@ -0,0 +1,60 @@
+package com.neobridge.account.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for posting a multi-leg journal entry. The legs must sum to zero in
+ * every currency.
+ */
+public class JournalEntryRequest {
+
+    @NotBlank(message = "Reference is required")
+    @Size(max = 100, message = "Reference must not exceed 100 characters")
+    private String reference;
+
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    private String description;
+
+    @NotNull(message = "Legs are required")
+    @Size(min = 2, max = 100, message = "A journal entry needs between 2 and 100 legs")
+    @Valid
+    private List<JournalLegRequest> legs;
+
+    // Constructors
+    public JournalEntryRequest() {}
+
+    public JournalEntryRequest(String reference, List<JournalLegRequest> legs) {
+        this.reference = reference;
+        this.legs = legs;
+    }
+
+    // Getters and Setters
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<JournalLegRequest> getLegs() {
+        return legs;
+    }
+
+    public void setLegs(List<JournalLegRequest> legs) {
+        this.legs = legs;
+    }
+}
@@ -0,0 +1,133 @@
+package com.neobridge.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for a posted journal entry. Legs are in request order.
+ */
+public class JournalEntryResponse {
+
+    private UUID journalId;
+    private String reference;
+    private LocalDateTime postedAt;
+    private List<Leg> legs = new ArrayList<>();
+
+    // Constructors
+    public JournalEntryResponse() {}
+
+    public JournalEntryResponse(UUID journalId, String reference, LocalDateTime postedAt) {
+        this.journalId = journalId;
+        this.reference = reference;
+        this.postedAt = postedAt;
+    }
+
+    // Getters and Setters
+    public UUID getJournalId() {
+        return journalId;
+    }
+
+    public void setJournalId(UUID journalId) {
+        this.journalId = journalId;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+
+    public void setPostedAt(LocalDateTime postedAt) {
+        this.postedAt = postedAt;
+    }
+
+    public List<Leg> getLegs() {
+        return legs;
+    }
+
+    public void setLegs(List<Leg> legs) {
+        this.legs = legs;
+    }
+
+    /**
+     * A posted leg with the account balance around it.
+     */
+    public static class Leg {
+
+        private UUID transactionId;
+        private UUID accountId;
+        private BigDecimal amount;
+        private String currency;
+        private BigDecimal balanceBefore;
+        private BigDecimal balanceAfter;
+
+        public Leg() {}
+
+        public Leg(UUID transactionId, UUID accountId, BigDecimal amount, String currency,
+                   BigDecimal balanceBefore, BigDecimal balanceAfter) {
+            this.transactionId = transactionId;
+            this.accountId = accountId;
+            this.amount = amount;
+            this.currency = currency;
+            this.balanceBefore = balanceBefore;
+            this.balanceAfter = balanceAfter;
+        }
+
+        public UUID getTransactionId() {
+            return transactionId;
+        }
+
+        public void setTransactionId(UUID transactionId) {
+            this.transactionId = transactionId;
+        }
+
+        public UUID getAccountId() {
+            return accountId;
+        }
+
+        public void setAccountId(UUID accountId) {
+            this.accountId = accountId;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public void setCurrency(String currency) {
+            this.currency = currency;
+        }
+
+        public BigDecimal getBalanceBefore() {
+            return balanceBefore;
+        }
+
+        public void setBalanceBefore(BigDecimal balanceBefore) {
+            this.balanceBefore = balanceBefore;
+        }
+
+        public BigDecimal getBalanceAfter() {
+            return balanceAfter;
+        }
+
+        public void setBalanceAfter(BigDecimal balanceAfter) {
+            this.balanceAfter = balanceAfter;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.neobridge.account.dto;
+
+import com.neobridge.account.entity.Account.Currency;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for one leg of a journal entry. Negative amounts debit the account,
+ * positive amounts credit it.
+ */
+public class JournalLegRequest {
+
+    @NotNull(message = "Account ID is required")
+    private UUID accountId;
+
+    @NotNull(message = "Amount is required")
+    private BigDecimal amount;
+
+    @NotNull(message = "Currency is required")
+    private Currency currency;
+
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    private String description;
+
+    // Constructors
+    public JournalLegRequest() {}
+
+    public JournalLegRequest(UUID accountId, BigDecimal amount, Currency currency) {
+        this.accountId = accountId;
+        this.amount = amount;
+        this.currency = currency;
+    }
+
+    // Getters and Setters
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(UUID accountId) {
+        this.accountId = accountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(Currency currency) {
+        this.currency = currency;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
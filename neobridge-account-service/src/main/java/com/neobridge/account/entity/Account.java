@@ -6,10 +6,12 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,8 +27,15 @@ import java.util.UUID;
     @Index(name = "idx_accounts_currency", columnList = "currency"),
     @Index(name = "idx_accounts_status", columnList = "status")
 })
+@NamedEntityGraph(name = Account.WITH_TRANSACTIONS, attributeNodes = @NamedAttributeNode("transactions"))
+@DynamicUpdate // Balances may be owned by the ledger projection; only write columns that changed
 public class Account extends BaseEntity {
 
+    /**
+     * Fetch plan loading the account together with its transactions.
+     */
+    public static final String WITH_TRANSACTIONS = "Account.withTransactions";
+
     @NotNull
     @Column(name = "user_id", nullable = false)
     private UUID userId;
@@ -36,6 +45,10 @@ public class Account extends BaseEntity {
     @Column(name = "account_number", unique = true, nullable = false)
     private String accountNumber;
 
+    @Size(max = 34)
+    @Column(name = "iban", unique = true)
+    private String iban;
+
     @NotBlank
     @Size(max = 100)
     @Column(name = "account_name", nullable = false)
@@ -110,7 +123,9 @@ public class Account extends BaseEntity {
     @Column(name = "description")
     private String description;
 
-    @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // Read-only view: transactions are written by account_id and saved on their own,
+    // so saving an account never cascades to or initializes this collection
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY)
     private List<Transaction> transactions = new ArrayList<>();
 
     // Enums
@@ -210,8 +225,12 @@ public class Account extends BaseEntity {
     }
 
     // Helper methods
+    /**
+     * Whether the amount can leave the available balance, drawing on the
+     * overdraft limit if needed.
+     */
     public boolean hasSufficientBalance(BigDecimal amount) {
-        return availableBalance.compareTo(amount) >= 0;
+        return availableBalance.add(overdraftLimit).compareTo(amount) >= 0;
     }
 
     public boolean hasSufficientDailyLimit(BigDecimal amount) {
@@ -225,12 +244,14 @@ public class Account extends BaseEntity {
     public void debit(BigDecimal amount) {
         this.balance = this.balance.subtract(amount);
         this.availableBalance = this.availableBalance.subtract(amount);
+        this.overdraftUsed = this.balance.signum() < 0 ? this.balance.negate() : BigDecimal.ZERO;
         updateTransactionCounts(amount);
     }
 
     public void credit(BigDecimal amount) {
         this.balance = this.balance.add(amount);
         this.availableBalance = this.availableBalance.add(amount);
+        this.overdraftUsed = this.balance.signum() < 0 ? this.balance.negate() : BigDecimal.ZERO;
         updateTransactionCounts(amount);
     }
 
@@ -244,6 +265,13 @@ public class Account extends BaseEntity {
         this.availableBalance = this.availableBalance.add(amount);
     }
 
+    /**
+     * Count a posting against the daily and monthly limits without touching balances.
+     */
+    public void countTransaction(BigDecimal amount) {
+        updateTransactionCounts(amount);
+    }
+
     private void updateTransactionCounts(BigDecimal amount) {
         this.dailyTransactionsCount++;
         this.monthlyTransactionsCount++;
@@ -291,6 +319,14 @@ public class Account extends BaseEntity {
         this.accountNumber = accountNumber;
     }
 
+    public String getIban() {
+        return iban;
+    }
+
+    public void setIban(String iban) {
+        this.iban = iban;
+    }
+
     public String getAccountName() {
         return accountName;
     }
@@ -459,12 +495,12 @@ public class Account extends BaseEntity {
         this.description = description;
     }
 
+    /**
+     * Transactions of this account. Load with the {@link #WITH_TRANSACTIONS}
+     * fetch plan; touching the lazy collection otherwise costs a query per account.
+     */
     public List<Transaction> getTransactions() {
-        return transactions;
-    }
-
-    public void setTransactions(List<Transaction> transactions) {
-        this.transactions = transactions;
+        return Collections.unmodifiableList(transactions);
     }
 
     @Override
@@ -0,0 +1,171 @@
+package com.neobridge.account.entity;
+
+import com.neobridge.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An individually identified hold (authorization) on account funds.
+ * The held amount stays reserved on the account until it is captured,
+ * voided or expires.
+ */
+@Entity
+@Table(name = "account_holds", indexes = {
+    @Index(name = "idx_account_holds_account_id", columnList = "account_id"),
+    @Index(name = "idx_account_holds_reference", columnList = "reference")
+})
+public class AccountHold extends BaseEntity {
+
+    @NotNull
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @DecimalMin(value = "0.01", inclusive = true)
+    @Column(name = "amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    @Column(name = "captured_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal capturedAmount = BigDecimal.ZERO;
+
+    @Column(name = "currency", nullable = false)
+    private String currency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private HoldStatus status = HoldStatus.ACTIVE;
+
+    @Size(max = 100)
+    @Column(name = "reference")
+    private String reference;
+
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // Enums
+    public enum HoldStatus {
+        ACTIVE("Active"),
+        PARTIALLY_CAPTURED("Partially Captured"),
+        CAPTURED("Captured"),
+        VOIDED("Voided"),
+        EXPIRED("Expired");
+
+        private final String displayName;
+
+        HoldStatus(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    // Constructors
+    public AccountHold() {}
+
+    public AccountHold(UUID accountId, BigDecimal amount, String currency, String reference, Instant expiresAt) {
+        this.accountId = accountId;
+        this.amount = amount;
+        this.currency = currency;
+        this.reference = reference;
+        this.expiresAt = expiresAt;
+    }
+
+    // Helper methods
+    public boolean isOpen() {
+        return status == HoldStatus.ACTIVE || status == HoldStatus.PARTIALLY_CAPTURED;
+    }
+
+    public BigDecimal getRemainingAmount() {
+        return amount.subtract(capturedAmount);
+    }
+
+    public void capture(BigDecimal captured) {
+        this.capturedAmount = this.capturedAmount.add(captured);
+        this.status = getRemainingAmount().signum() == 0 ? HoldStatus.CAPTURED : HoldStatus.PARTIALLY_CAPTURED;
+    }
+
+    public void markAsVoided() {
+        this.status = HoldStatus.VOIDED;
+    }
+
+    public void markAsExpired() {
+        this.status = HoldStatus.EXPIRED;
+    }
+
+    // Getters and Setters
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(UUID accountId) {
+        this.accountId = accountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getCapturedAmount() {
+        return capturedAmount;
+    }
+
+    public void setCapturedAmount(BigDecimal capturedAmount) {
+        this.capturedAmount = capturedAmount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public HoldStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(HoldStatus status) {
+        this.status = status;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountHold{" +
+                "id=" + getId() +
+                ", accountId=" + accountId +
+                ", amount=" + amount +
+                ", capturedAmount=" + capturedAmount +
+                ", status=" + status +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
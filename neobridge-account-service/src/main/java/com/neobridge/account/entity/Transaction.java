@@ -110,6 +110,7 @@ public class Transaction extends BaseEntity {
     @Column(name = "metadata")
     private String metadata;
 
+    // Read-only; account_id is written through accountId
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", insertable = false, updatable = false)
     private Account account;
@@ -427,10 +428,6 @@ public class Transaction extends BaseEntity {
         return account;
     }
 
-    public void setAccount(Account account) {
-        this.account = account;
-    }
-
     @Override
     public String toString() {
         return "Transaction{" +
@@ -0,0 +1,135 @@
+package com.neobridge.account.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One event per committed chunk of a bulk account creation, as published on
+ * the account events topic. Keyed by {@code batchId} so a batch's chunks stay
+ * ordered within a partition.
+ */
+public class AccountsCreatedEvent {
+
+    private UUID batchId;
+    private int chunk;
+    private List<CreatedAccount> accounts = new ArrayList<>();
+    private Instant occurredAt;
+
+    // Constructors
+    public AccountsCreatedEvent() {}
+
+    public AccountsCreatedEvent(UUID batchId, int chunk) {
+        this.batchId = batchId;
+        this.chunk = chunk;
+        this.occurredAt = Instant.now();
+    }
+
+    // Getters and Setters
+    public UUID getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(UUID batchId) {
+        this.batchId = batchId;
+    }
+
+    public int getChunk() {
+        return chunk;
+    }
+
+    public void setChunk(int chunk) {
+        this.chunk = chunk;
+    }
+
+    public List<CreatedAccount> getAccounts() {
+        return accounts;
+    }
+
+    public void setAccounts(List<CreatedAccount> accounts) {
+        this.accounts = accounts;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * An account created in the chunk.
+     */
+    public static class CreatedAccount {
+
+        private UUID accountId;
+        private UUID userId;
+        private String accountNumber;
+        private String accountType;
+        private String currency;
+        private BigDecimal initialDeposit;
+
+        public CreatedAccount() {}
+
+        public CreatedAccount(UUID accountId, UUID userId, String accountNumber, String accountType,
+                              String currency, BigDecimal initialDeposit) {
+            this.accountId = accountId;
+            this.userId = userId;
+            this.accountNumber = accountNumber;
+            this.accountType = accountType;
+            this.currency = currency;
+            this.initialDeposit = initialDeposit;
+        }
+
+        public UUID getAccountId() {
+            return accountId;
+        }
+
+        public void setAccountId(UUID accountId) {
+            this.accountId = accountId;
+        }
+
+        public UUID getUserId() {
+            return userId;
+        }
+
+        public void setUserId(UUID userId) {
+            this.userId = userId;
+        }
+
+        public String getAccountNumber() {
+            return accountNumber;
+        }
+
+        public void setAccountNumber(String accountNumber) {
+            this.accountNumber = accountNumber;
+        }
+
+        public String getAccountType() {
+            return accountType;
+        }
+
+        public void setAccountType(String accountType) {
+            this.accountType = accountType;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public void setCurrency(String currency) {
+            this.currency = currency;
+        }
+
+        public BigDecimal getInitialDeposit() {
+            return initialDeposit;
+        }
+
+        public void setInitialDeposit(BigDecimal initialDeposit) {
+            this.initialDeposit = initialDeposit;
+        }
+    }
+}
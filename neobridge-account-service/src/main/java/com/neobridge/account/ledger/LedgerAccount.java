@@ -0,0 +1,88 @@
+package com.neobridge.account.ledger;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Balance state of an account rehydrated from its latest snapshot plus the
+ * events after it. Mutable only while folding events in.
+ */
+public class LedgerAccount {
+
+    private final UUID accountId;
+    private long sequence;
+    private long snapshotSequence;
+    private BigDecimal balance;
+    private BigDecimal availableBalance;
+    private BigDecimal reservedBalance;
+
+    public LedgerAccount(UUID accountId, long sequence, BigDecimal balance, BigDecimal availableBalance,
+                         BigDecimal reservedBalance) {
+        this.accountId = accountId;
+        this.sequence = sequence;
+        this.snapshotSequence = sequence;
+        this.balance = balance;
+        this.availableBalance = availableBalance;
+        this.reservedBalance = reservedBalance;
+    }
+
+    /**
+     * State of an account without any events.
+     */
+    public static LedgerAccount empty(UUID accountId) {
+        return new LedgerAccount(accountId, 0, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    /**
+     * Fold the next event of this account into the state.
+     */
+    public void apply(LedgerEvent event) {
+        if (event.getSequence() != sequence + 1) {
+            throw new IllegalStateException("Out of order ledger event " + event + " after sequence " + sequence);
+        }
+        LedgerEventType type = event.getType();
+        BigDecimal amount = event.getAmount();
+        balance = add(balance, amount, type.getBalanceSign());
+        availableBalance = add(availableBalance, amount, type.getAvailableSign());
+        reservedBalance = add(reservedBalance, amount, type.getReservedSign());
+        sequence = event.getSequence();
+    }
+
+    private static BigDecimal add(BigDecimal value, BigDecimal amount, int sign) {
+        if (sign == 0) {
+            return value;
+        }
+        return sign > 0 ? value.add(amount) : value.subtract(amount);
+    }
+
+    /**
+     * Number of events folded in since the snapshot this state was loaded from.
+     */
+    public long getEventsSinceSnapshot() {
+        return sequence - snapshotSequence;
+    }
+
+    void markSnapshotted() {
+        snapshotSequence = sequence;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public BigDecimal getAvailableBalance() {
+        return availableBalance;
+    }
+
+    public BigDecimal getReservedBalance() {
+        return reservedBalance;
+    }
+}
@@ -0,0 +1,58 @@
+package com.neobridge.account.ledger;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An immutable posting in an account's event stream. {@code sequence} is
+ * dense per account and starts at 1.
+ */
+public class LedgerEvent {
+
+    private final UUID accountId;
+    private final long sequence;
+    private final LedgerEventType type;
+    private final BigDecimal amount;
+    private final String reference;
+    private final Instant occurredAt;
+
+    public LedgerEvent(UUID accountId, long sequence, LedgerEventType type, BigDecimal amount,
+                       String reference, Instant occurredAt) {
+        this.accountId = accountId;
+        this.sequence = sequence;
+        this.type = type;
+        this.amount = amount;
+        this.reference = reference;
+        this.occurredAt = occurredAt;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public LedgerEventType getType() {
+        return type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return accountId + "#" + sequence + ":" + type + ":" + amount;
+    }
+}
@@ -0,0 +1,86 @@
+package com.neobridge.account.ledger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only store of ledger events with one rolling snapshot per account.
+ * {@code (account_id, sequence)} is the primary key, so two writers appending
+ * the same sequence conflict instead of both succeeding.
+ */
+@Repository
+public class LedgerEventStore {
+
+    private static final LedgerEventType[] TYPES = LedgerEventType.values();
+
+    private static final String INSERT_EVENT_SQL =
+        "INSERT INTO ledger_events (account_id, sequence, type, amount, reference, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SNAPSHOT_SQL =
+        "SELECT sequence, balance, available_balance, reserved_balance FROM ledger_snapshots WHERE account_id = ?";
+
+    private static final String SELECT_EVENTS_SQL =
+        "SELECT sequence, type, amount, reference, occurred_at FROM ledger_events " +
+        "WHERE account_id = ? AND sequence > ? ORDER BY sequence";
+
+    private static final String UPSERT_SNAPSHOT_SQL =
+        "INSERT INTO ledger_snapshots (account_id, sequence, balance, available_balance, reserved_balance, taken_at) " +
+        "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (account_id) DO UPDATE SET sequence = EXCLUDED.sequence, balance = EXCLUDED.balance, " +
+        "available_balance = EXCLUDED.available_balance, reserved_balance = EXCLUDED.reserved_balance, " +
+        "taken_at = EXCLUDED.taken_at WHERE ledger_snapshots.sequence < EXCLUDED.sequence";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rehydrate an account from its snapshot and the events after it.
+     * Returns an empty state at sequence 0 for an account without events.
+     */
+    public LedgerAccount load(UUID accountId) {
+        List<LedgerAccount> snapshots = jdbcTemplate.query(SELECT_SNAPSHOT_SQL, (rs, rowNum) ->
+            new LedgerAccount(accountId, rs.getLong(1), rs.getBigDecimal(2), rs.getBigDecimal(3), rs.getBigDecimal(4)),
+            accountId);
+        LedgerAccount account = snapshots.isEmpty() ? LedgerAccount.empty(accountId) : snapshots.get(0);
+        jdbcTemplate.query(SELECT_EVENTS_SQL, rs -> {
+            account.apply(mapEvent(accountId, rs));
+        }, accountId, account.getSequence());
+        return account;
+    }
+
+    /**
+     * Append events in one batch.
+     *
+     * @throws org.springframework.dao.DuplicateKeyException if another writer appended one of the sequences first
+     */
+    public void append(List<LedgerEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (LedgerEvent event : events) {
+            rows.add(new Object[] {event.getAccountId(), event.getSequence(), event.getType().ordinal(),
+                                   event.getAmount(), event.getReference(), Timestamp.from(event.getOccurredAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, rows);
+    }
+
+    /**
+     * Replace the account's snapshot with its current state, unless a newer one exists.
+     */
+    public void saveSnapshot(LedgerAccount account) {
+        jdbcTemplate.update(UPSERT_SNAPSHOT_SQL, account.getAccountId(), account.getSequence(), account.getBalance(),
+                            account.getAvailableBalance(), account.getReservedBalance());
+        account.markSnapshotted();
+    }
+
+    private static LedgerEvent mapEvent(UUID accountId, ResultSet rs) throws SQLException {
+        return new LedgerEvent(accountId, rs.getLong(1), TYPES[rs.getInt(2)], rs.getBigDecimal(3), rs.getString(4),
+                               rs.getTimestamp(5).toInstant());
+    }
+}
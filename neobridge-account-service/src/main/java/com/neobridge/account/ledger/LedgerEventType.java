@@ -0,0 +1,56 @@
+package com.neobridge.account.ledger;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Kinds of ledger postings, stored by ordinal. Each kind moves the amount
+ * between the balance components as given by its deltas.
+ */
+public enum LedgerEventType {
+    OPENING("Opening balance", 1, 1, 0),
+    CREDIT("Credit", 1, 1, 0),
+    DEBIT("Debit", -1, -1, 0),
+    RESERVE("Reserve", 0, -1, 1),
+    RELEASE("Release reservation", 0, 1, -1);
+
+    private final String displayName;
+    private final int balanceSign;
+    private final int availableSign;
+    private final int reservedSign;
+
+    LedgerEventType(String displayName, int balanceSign, int availableSign, int reservedSign) {
+        this.displayName = displayName;
+        this.balanceSign = balanceSign;
+        this.availableSign = availableSign;
+        this.reservedSign = reservedSign;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public int getBalanceSign() {
+        return balanceSign;
+    }
+
+    public int getAvailableSign() {
+        return availableSign;
+    }
+
+    public int getReservedSign() {
+        return reservedSign;
+    }
+
+    /**
+     * SQL expression summing the signed amounts of {@code amountColumn} for one
+     * balance component, given the per-type signs.
+     */
+    static String signedSum(String typeColumn, String amountColumn, ToIntFunction<LedgerEventType> sign) {
+        StringBuilder sql = new StringBuilder("SUM(CASE ").append(typeColumn);
+        for (LedgerEventType type : values()) {
+            sql.append(" WHEN ").append(type.ordinal()).append(" THEN ")
+               .append(sign.applyAsInt(type)).append(" * ").append(amountColumn);
+        }
+        return sql.append(" ELSE 0 END)").toString();
+    }
+}
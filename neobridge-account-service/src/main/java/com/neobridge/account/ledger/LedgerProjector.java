@@ -0,0 +1,202 @@
+package com.neobridge.account.ledger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Maintains the balance projection from the ledger event stream. Events are
+ * tailed behind a checkpoint in (writing transaction id, position) order and
+ * only below the oldest transaction still running: positions are handed out
+ * at insert time, so a lower position can commit after a higher one, but no
+ * transaction below the snapshot xmin can still add events. A long-running
+ * transaction therefore delays projection rather than losing events.
+ * Per-account deltas of each batch are added to {@code ledger_balances} and
+ * copied onto {@code accounts}. The checkpoint row is locked while projecting,
+ * so only one instance applies a batch at a time.
+ */
+@Component
+public class LedgerProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerProjector.class);
+
+    private static final String CHECKPOINT = "balances";
+    private static final LedgerEventType[] TYPES = LedgerEventType.values();
+
+    private static final String LOCK_CHECKPOINT_SQL =
+        "SELECT txid, position FROM ledger_checkpoints WHERE name = ? FOR UPDATE";
+
+    private static final String UPDATE_CHECKPOINT_SQL =
+        "UPDATE ledger_checkpoints SET txid = ?, position = ?, updated_at = CURRENT_TIMESTAMP WHERE name = ?";
+
+    private static final String VISIBLE_XMIN = "(pg_snapshot_xmin(pg_current_snapshot())::text)::bigint";
+
+    private static final String SELECT_EVENTS_SQL =
+        "SELECT txid, position, account_id, type, amount FROM ledger_events " +
+        "WHERE (txid, position) > (?, ?) AND txid < " + VISIBLE_XMIN + " ORDER BY txid, position LIMIT ?";
+
+    private static final String ADD_BALANCES_SQL =
+        "INSERT INTO ledger_balances (account_id, balance, available_balance, reserved_balance) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (account_id) DO UPDATE SET balance = ledger_balances.balance + EXCLUDED.balance, " +
+        "available_balance = ledger_balances.available_balance + EXCLUDED.available_balance, " +
+        "reserved_balance = ledger_balances.reserved_balance + EXCLUDED.reserved_balance";
+
+    private static final String COPY_TO_ACCOUNT_SQL =
+        "UPDATE accounts a SET balance = b.balance, available_balance = b.available_balance, " +
+        "reserved_balance = b.reserved_balance, overdraft_used = GREATEST(-b.balance, 0), " +
+        "updated_at = CURRENT_TIMESTAMP FROM ledger_balances b WHERE b.account_id = a.id AND a.id = ?";
+
+    private static final String BUCKET = "(hashtext(%s::text) & 2147483647) %% ? = ?";
+
+    private static final String CLEAR_BUCKET_SQL =
+        "DELETE FROM ledger_balances WHERE " + String.format(BUCKET, "account_id");
+
+    private static final String REBUILD_BUCKET_SQL =
+        "INSERT INTO ledger_balances (account_id, balance, available_balance, reserved_balance) " +
+        "SELECT account_id, " +
+        LedgerEventType.signedSum("type", "amount", LedgerEventType::getBalanceSign) + ", " +
+        LedgerEventType.signedSum("type", "amount", LedgerEventType::getAvailableSign) + ", " +
+        LedgerEventType.signedSum("type", "amount", LedgerEventType::getReservedSign) + " " +
+        "FROM ledger_events WHERE txid < ? AND " + String.format(BUCKET, "account_id") + " GROUP BY account_id";
+
+    private static final String COPY_BUCKET_SQL =
+        "UPDATE accounts a SET balance = b.balance, available_balance = b.available_balance, " +
+        "reserved_balance = b.reserved_balance, overdraft_used = GREATEST(-b.balance, 0), " +
+        "updated_at = CURRENT_TIMESTAMP FROM ledger_balances b WHERE b.account_id = a.id AND " +
+        String.format(BUCKET, "b.account_id");
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${neobridge.account.ledger.projection-batch-size:5000}")
+    private int batchSize;
+
+    @Value("${neobridge.account.ledger.rebuild-parallelism:8}")
+    private int rebuildParallelism;
+
+    /**
+     * Apply the next batch of events to the projection.
+     */
+    @Scheduled(fixedDelayString = "${neobridge.account.ledger.projection-interval:500}")
+    public void project() {
+        if (!ledgerService.isEventSourced()) {
+            return;
+        }
+        try {
+            Integer applied = new TransactionTemplate(transactionManager).execute(status -> projectBatch());
+            if (applied != null && applied > 0) {
+                logger.debug("Projected {} ledger events", applied);
+            }
+        } catch (Exception e) {
+            logger.error("Ledger projection failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int projectBatch() {
+        List<long[]> locked = jdbcTemplate.query(LOCK_CHECKPOINT_SQL + " SKIP LOCKED",
+            (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)}, CHECKPOINT);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, BigDecimal[]> deltas = new HashMap<>();
+        long[] checkpoint = locked.get(0);
+        int[] count = {0};
+        jdbcTemplate.query(SELECT_EVENTS_SQL, rs -> {
+            checkpoint[0] = rs.getLong(1);
+            checkpoint[1] = rs.getLong(2);
+            LedgerEventType type = TYPES[rs.getInt(4)];
+            BigDecimal amount = rs.getBigDecimal(5);
+            BigDecimal[] delta = deltas.computeIfAbsent(rs.getObject(3, UUID.class),
+                id -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+            delta[0] = delta[0].add(amount.multiply(BigDecimal.valueOf(type.getBalanceSign())));
+            delta[1] = delta[1].add(amount.multiply(BigDecimal.valueOf(type.getAvailableSign())));
+            delta[2] = delta[2].add(amount.multiply(BigDecimal.valueOf(type.getReservedSign())));
+            count[0]++;
+        }, checkpoint[0], checkpoint[1], batchSize);
+        if (count[0] == 0) {
+            return 0;
+        }
+
+        List<Object[]> balanceRows = new ArrayList<>(deltas.size());
+        List<Object[]> accountRows = new ArrayList<>(deltas.size());
+        for (Map.Entry<UUID, BigDecimal[]> entry : deltas.entrySet()) {
+            BigDecimal[] delta = entry.getValue();
+            balanceRows.add(new Object[] {entry.getKey(), delta[0], delta[1], delta[2]});
+            accountRows.add(new Object[] {entry.getKey()});
+        }
+        jdbcTemplate.batchUpdate(ADD_BALANCES_SQL, balanceRows);
+        jdbcTemplate.batchUpdate(COPY_TO_ACCOUNT_SQL, accountRows);
+        jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, checkpoint[0], checkpoint[1], CHECKPOINT);
+        return count[0];
+    }
+
+    /**
+     * Recompute the whole projection from the event stream. Account buckets are
+     * rebuilt in parallel, each in its own transaction, while the checkpoint
+     * stays locked so incremental projection pauses on every instance. If a
+     * bucket fails, the checkpoint is not advanced and the rebuild must be rerun.
+     *
+     * @return number of accounts rebuilt
+     */
+    public int rebuild() {
+        long started = System.currentTimeMillis();
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate bucket = new TransactionTemplate(transactionManager);
+        bucket.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Integer rebuilt = outer.execute(status -> {
+            jdbcTemplate.queryForList(LOCK_CHECKPOINT_SQL, CHECKPOINT);
+            // Every event below the xmin is committed or gone; later ones are left to incremental projection
+            Long upTo = jdbcTemplate.queryForObject("SELECT " + VISIBLE_XMIN, Long.class);
+
+            ExecutorService executor = Executors.newFixedThreadPool(rebuildParallelism);
+            try {
+                List<Future<Integer>> results = new ArrayList<>(rebuildParallelism);
+                for (int i = 0; i < rebuildParallelism; i++) {
+                    int index = i;
+                    results.add(executor.submit(() -> bucket.execute(s -> {
+                        jdbcTemplate.update(CLEAR_BUCKET_SQL, rebuildParallelism, index);
+                        int accounts = jdbcTemplate.update(REBUILD_BUCKET_SQL, upTo, rebuildParallelism, index);
+                        jdbcTemplate.update(COPY_BUCKET_SQL, rebuildParallelism, index);
+                        return accounts;
+                    })));
+                }
+                int total = 0;
+                for (Future<Integer> result : results) {
+                    total += result.get();
+                }
+                jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, upTo, 0L, CHECKPOINT);
+                return total;
+            } catch (Exception e) {
+                throw new IllegalStateException("Ledger projection rebuild failed", e);
+            } finally {
+                executor.shutdown();
+            }
+        });
+        logger.info("Rebuilt ledger projection for {} accounts in {} ms", rebuilt, System.currentTimeMillis() - started);
+        return rebuilt != null ? rebuilt : 0;
+    }
+}
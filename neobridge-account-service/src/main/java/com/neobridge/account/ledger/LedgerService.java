@@ -0,0 +1,114 @@
+package com.neobridge.account.ledger;
+
+import com.neobridge.account.entity.Account;
+import com.neobridge.account.exception.InsufficientBalanceException;
+import com.neobridge.account.exception.InvalidAccountOperationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Write side of the event-sourced ledger. Postings are validated against the
+ * account's rehydrated state and appended as immutable events; balances on
+ * {@code accounts} are maintained asynchronously by {@link LedgerProjector}.
+ * Writers to the same account are serialised with a transaction-scoped
+ * advisory lock rather than by the balance columns. The write path is not
+ * append-only: {@link com.neobridge.account.service.AccountService} still
+ * saves the account's limit counters in the same transaction, and the
+ * projector later updates the row, so {@code accounts} remains contended.
+ */
+@Service
+public class LedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerService.class);
+
+    @Autowired
+    private LedgerEventStore eventStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${neobridge.account.ledger.event-sourced:false}")
+    private boolean eventSourced;
+
+    @Value("${neobridge.account.ledger.snapshot-every:100}")
+    private int snapshotEvery;
+
+    public boolean isEventSourced() {
+        return eventSourced;
+    }
+
+    /**
+     * Append a posting to the account's ledger and return the resulting state.
+     * The first posting of an account seeds its stream from the current
+     * {@code accounts} balances.
+     */
+    @Transactional
+    public LedgerAccount post(Account account, LedgerEventType type, BigDecimal amount, String reference) {
+        UUID accountId = account.getId();
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, lockKey(accountId));
+
+        LedgerAccount state = eventStore.load(accountId);
+        List<LedgerEvent> events = new ArrayList<>(3);
+        Instant now = Instant.now();
+        if (state.getSequence() == 0) {
+            events.add(next(state, LedgerEventType.OPENING, account.getBalance(), "OPENING", now));
+            if (account.getReservedBalance().signum() > 0) {
+                events.add(next(state, LedgerEventType.RESERVE, account.getReservedBalance(), "OPENING", now));
+            }
+            logger.info("Seeded ledger for account {} with balance {}", accountId, account.getBalance());
+        }
+
+        validate(state, type, amount, account.getOverdraftLimit());
+        events.add(next(state, type, amount, reference, now));
+        eventStore.append(events);
+
+        if (state.getEventsSinceSnapshot() >= snapshotEvery) {
+            eventStore.saveSnapshot(state);
+            logger.debug("Snapshotted ledger for account {} at sequence {}", accountId, state.getSequence());
+        }
+        return state;
+    }
+
+    /**
+     * Current state of an account's ledger, or an empty state if it has none.
+     */
+    @Transactional(readOnly = true)
+    public LedgerAccount getState(UUID accountId) {
+        return eventStore.load(accountId);
+    }
+
+    private static void validate(LedgerAccount state, LedgerEventType type, BigDecimal amount, BigDecimal overdraftLimit) {
+        if (amount.signum() <= 0) {
+            throw new InvalidAccountOperationException("Ledger amount must be positive: " + amount);
+        }
+        // Same rule as Account.hasSufficientBalance: available balance plus the overdraft limit
+        if (type.getAvailableSign() < 0 && state.getAvailableBalance().add(overdraftLimit).compareTo(amount) < 0) {
+            throw new InsufficientBalanceException("Insufficient balance for " + type.getDisplayName().toLowerCase() + ": " + amount);
+        }
+        if (type.getReservedSign() < 0 && state.getReservedBalance().compareTo(amount) < 0) {
+            throw new InvalidAccountOperationException("Release exceeds reserved balance: " + amount);
+        }
+    }
+
+    private static LedgerEvent next(LedgerAccount state, LedgerEventType type, BigDecimal amount, String reference,
+                                    Instant now) {
+        LedgerEvent event = new LedgerEvent(state.getAccountId(), state.getSequence() + 1, type, amount, reference, now);
+        state.apply(event);
+        return event;
+    }
+
+    private static long lockKey(UUID accountId) {
+        return accountId.getMostSignificantBits() ^ accountId.getLeastSignificantBits();
+    }
+}
@@ -0,0 +1,42 @@
+package com.neobridge.account.repository;
+
+import com.neobridge.account.entity.AccountHold;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for account holds.
+ */
+@Repository
+public interface AccountHoldRepository extends JpaRepository<AccountHold, UUID> {
+
+    /**
+     * Hold by id, row-locked so capture, void and expiry of the same hold serialise.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM AccountHold h WHERE h.id = :id")
+    Optional<AccountHold> findByIdForUpdate(@Param("id") UUID id);
+
+    List<AccountHold> findByAccountIdAndStatusIn(UUID accountId, List<AccountHold.HoldStatus> statuses);
+
+    List<AccountHold> findByReference(String reference);
+
+    /**
+     * IDs of open holds that expired before {@code now}, earliest first. Served by
+     * the partial {@code idx_account_holds_open_expiry} index, so the cost does
+     * not grow with the number of settled holds.
+     */
+    @Query(value = "SELECT id FROM account_holds " +
+                   "WHERE status IN ('ACTIVE', 'PARTIALLY_CAPTURED') AND expires_at <= :now " +
+                   "ORDER BY expires_at LIMIT :limit", nativeQuery = true)
+    List<UUID> findExpiredOpenHoldIds(@Param("now") Instant now, @Param("limit") int limit);
+}
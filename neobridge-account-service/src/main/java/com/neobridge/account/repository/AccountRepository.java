@@ -0,0 +1,57 @@
+package com.neobridge.account.repository;
+
+import com.neobridge.account.entity.Account;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for accounts. Methods load accounts without their transactions
+ * unless they name the {@link Account#WITH_TRANSACTIONS} fetch plan.
+ */
+@Repository
+public interface AccountRepository extends JpaRepository<Account, UUID> {
+
+    Optional<Account> findByAccountNumber(String accountNumber);
+
+    List<Account> findByUserId(UUID userId);
+
+    /**
+     * Account and its transactions in a single query.
+     */
+    @EntityGraph(Account.WITH_TRANSACTIONS)
+    Optional<Account> findWithTransactionsById(UUID id);
+
+    /**
+     * Account by id, row-locked so that its versioned update later in the
+     * transaction cannot lose to a concurrent writer.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Reset daily counters on every account in one statement.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE VERSIONED Account a SET a.dailyTransactionsCount = 0, " +
+           "a.dailyTransactionsAmount = 0, a.updatedAt = CURRENT_TIMESTAMP")
+    int resetDailyLimits();
+
+    /**
+     * Reset monthly counters on every account in one statement.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE VERSIONED Account a SET a.monthlyTransactionsCount = 0, " +
+           "a.monthlyTransactionsAmount = 0, a.updatedAt = CURRENT_TIMESTAMP")
+    int resetMonthlyLimits();
+}
@@ -0,0 +1,19 @@
+package com.neobridge.account.repository;
+
+import com.neobridge.account.entity.Transaction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository for account transactions. Transactions are addressed by
+ * {@code accountId}; the {@code account} association is never loaded here.
+ */
+@Repository
+public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+
+    Page<Transaction> findByAccountIdOrderByCreatedAtDesc(UUID accountId, Pageable pageable);
+}
@@ -7,9 +7,17 @@ import com.neobridge.account.entity.Transaction;
 import com.neobridge.account.exception.AccountNotFoundException;
 import com.neobridge.account.exception.InsufficientBalanceException;
 import com.neobridge.account.exception.InvalidAccountOperationException;
+import com.neobridge.account.ledger.LedgerAccount;
+import com.neobridge.account.ledger.LedgerEventType;
+import com.neobridge.account.ledger.LedgerProjector;
+import com.neobridge.account.ledger.LedgerService;
 import com.neobridge.account.repository.AccountRepository;
 import com.neobridge.account.repository.TransactionRepository;
 import com.neobridge.account.util.AccountNumberGenerator;
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.common.fx.FxRateUnavailableException;
+import com.neobridge.common.stream.JdbcStreamingService;
+import com.neobridge.common.stream.StreamFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,9 +27,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -37,6 +48,9 @@ public class AccountService {
 
     private static final Logger logger = LoggerFactory.getLogger(AccountService.class);
 
+    private static final String USER_ACCOUNTS_QUERY = "SELECT " + AccountResponse.COLUMNS
+        + " FROM accounts WHERE user_id = ? AND deleted = false ORDER BY created_at, id";
+
     @Autowired
     private AccountRepository accountRepository;
 
@@ -46,6 +60,18 @@ public class AccountService {
     @Autowired
     private AccountNumberGenerator accountNumberGenerator;
 
+    @Autowired
+    private JdbcStreamingService streamingService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerProjector ledgerProjector;
+
+    @Autowired
+    private FxRateService fxRateService;
+
     @Autowired
     private KafkaTemplate<String, Object> kafkaTemplate;
 
@@ -55,7 +81,7 @@ public class AccountService {
     public AccountResponse createAccount(AccountCreateRequest request) {
         logger.info("Creating account for user: {}", request.getUserId());
 
-        // Generate unique account number
+        // Generate unique account number (no database round trip within a leased block)
         String accountNumber = accountNumberGenerator.generateAccountNumber(request.getAccountType(), request.getCurrency());
 
         // Create account entity
@@ -67,6 +93,8 @@ public class AccountService {
             request.getCurrency()
         );
 
+        account.setIban(accountNumberGenerator.generateIban(accountNumber));
+
         // Set additional properties
         if (request.getDescription() != null) {
             account.setDescription(request.getDescription());
@@ -153,6 +181,17 @@ public class AccountService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Stream all accounts for a user, oldest first. Rows are written as they are read.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StreamingResponseBody streamUserAccounts(UUID userId, StreamFormat format) {
+        logger.debug("Streaming accounts for user: {} (format {})", userId, format);
+
+        return streamingService.stream("accounts.user", format, USER_ACCOUNTS_QUERY,
+                                       (rs, rowNum) -> AccountResponse.fromRow(rs), userId);
+    }
+
     /**
      * Get accounts with pagination.
      */
@@ -211,18 +250,33 @@ public class AccountService {
      */
     @CacheEvict(value = "accounts", key = "#accountId")
     public void debitAccount(UUID accountId, BigDecimal amount, String description, String reference) {
-        logger.info("Processing debit for account: {}, amount: {}", accountId, amount);
+        debitAccount(accountId, amount, null, description, reference);
+    }
+
+    /**
+     * Process account debit of an amount in another currency, converted into the
+     * account currency at the current FX rate. A null currency means the account currency.
+     */
+    @CacheEvict(value = "accounts", key = "#accountId")
+    public void debitAccount(UUID accountId, BigDecimal amount, String currency, String description, String reference) {
+        logger.info("Processing debit for account: {}, amount: {} {}", accountId, amount, currency);
         
         Account account = accountRepository.findById(accountId)
             .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
         
+        BigDecimal originalAmount = amount;
+        BigDecimal exchangeRate = exchangeRate(account, currency);
+        if (exchangeRate != null) {
+            amount = amount.multiply(exchangeRate).setScale(FxRateService.FIAT_SCALE, RoundingMode.HALF_EVEN);
+        }
+        
         // Validate account status
         if (account.getStatus() != Account.AccountStatus.ACTIVE) {
             throw new InvalidAccountOperationException("Account is not active: " + account.getStatus());
         }
         
-        // Validate sufficient balance
-        if (!account.hasSufficientBalance(amount)) {
+        // Validate sufficient balance (checked against the ledger when event-sourced)
+        if (!ledgerService.isEventSourced() && !account.hasSufficientBalance(amount)) {
             throw new InsufficientBalanceException("Insufficient balance for debit: " + amount);
         }
         
@@ -237,9 +291,9 @@ public class AccountService {
         }
         
         // Process debit
-        BigDecimal balanceBefore = account.getBalance();
-        account.debit(amount);
-        BigDecimal balanceAfter = account.getBalance();
+        BigDecimal[] balances = post(account, LedgerEventType.DEBIT, amount, reference);
+        BigDecimal balanceBefore = balances[0];
+        BigDecimal balanceAfter = balances[1];
         
         // Save account
         accountRepository.save(account);
@@ -256,6 +310,11 @@ public class AccountService {
         transaction.setBalanceBefore(balanceBefore);
         transaction.setBalanceAfter(balanceAfter);
         transaction.setReference(reference);
+        if (exchangeRate != null) {
+            transaction.setExchangeRate(exchangeRate);
+            transaction.setOriginalAmount(originalAmount);
+            transaction.setOriginalCurrency(currency);
+        }
         transaction.markAsCompleted();
         
         transactionRepository.save(transaction);
@@ -271,20 +330,35 @@ public class AccountService {
      */
     @CacheEvict(value = "accounts", key = "#accountId")
     public void creditAccount(UUID accountId, BigDecimal amount, String description, String reference) {
-        logger.info("Processing credit for account: {}, amount: {}", accountId, amount);
+        creditAccount(accountId, amount, null, description, reference);
+    }
+
+    /**
+     * Process account credit of an amount in another currency, converted into the
+     * account currency at the current FX rate. A null currency means the account currency.
+     */
+    @CacheEvict(value = "accounts", key = "#accountId")
+    public void creditAccount(UUID accountId, BigDecimal amount, String currency, String description, String reference) {
+        logger.info("Processing credit for account: {}, amount: {} {}", accountId, amount, currency);
         
         Account account = accountRepository.findById(accountId)
             .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
         
+        BigDecimal originalAmount = amount;
+        BigDecimal exchangeRate = exchangeRate(account, currency);
+        if (exchangeRate != null) {
+            amount = amount.multiply(exchangeRate).setScale(FxRateService.FIAT_SCALE, RoundingMode.HALF_EVEN);
+        }
+        
         // Validate account status
         if (account.getStatus() != Account.AccountStatus.ACTIVE) {
             throw new InvalidAccountOperationException("Account is not active: " + account.getStatus());
         }
         
         // Process credit
-        BigDecimal balanceBefore = account.getBalance();
-        account.credit(amount);
-        BigDecimal balanceAfter = account.getBalance();
+        BigDecimal[] balances = post(account, LedgerEventType.CREDIT, amount, reference);
+        BigDecimal balanceBefore = balances[0];
+        BigDecimal balanceAfter = balances[1];
         
         // Save account
         accountRepository.save(account);
@@ -301,6 +375,11 @@ public class AccountService {
         transaction.setBalanceBefore(balanceBefore);
         transaction.setBalanceAfter(balanceAfter);
         transaction.setReference(reference);
+        if (exchangeRate != null) {
+            transaction.setExchangeRate(exchangeRate);
+            transaction.setOriginalAmount(originalAmount);
+            transaction.setOriginalCurrency(currency);
+        }
         transaction.markAsCompleted();
         
         transactionRepository.save(transaction);
@@ -321,6 +400,11 @@ public class AccountService {
         Account account = accountRepository.findById(accountId)
             .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
         
+        if (ledgerService.isEventSourced()) {
+            ledgerService.post(account, LedgerEventType.RESERVE, amount, null);
+            return;
+        }
+        
         if (!account.hasSufficientBalance(amount)) {
             throw new InsufficientBalanceException("Insufficient balance for reservation: " + amount);
         }
@@ -339,6 +423,11 @@ public class AccountService {
         Account account = accountRepository.findById(accountId)
             .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
         
+        if (ledgerService.isEventSourced()) {
+            ledgerService.post(account, LedgerEventType.RELEASE, amount, null);
+            return;
+        }
+        
         account.releaseReservation(amount);
         accountRepository.save(account);
     }
@@ -364,7 +453,8 @@ public class AccountService {
             .divide(BigDecimal.valueOf(365), 4, BigDecimal.ROUND_HALF_UP);
         
         if (interestAmount.compareTo(BigDecimal.ZERO) > 0) {
-            account.credit(interestAmount);
+            String reference = "INT-" + account.getAccountNumber() + "-" + LocalDateTime.now().toLocalDate();
+            post(account, LedgerEventType.CREDIT, interestAmount, reference);
             account.setLastInterestCalculation(LocalDateTime.now());
             accountRepository.save(account);
             
@@ -377,7 +467,7 @@ public class AccountService {
                 account.getCurrency().name(),
                 "Interest credit"
             );
-            transaction.setReference("INT-" + account.getAccountNumber() + "-" + LocalDateTime.now().toLocalDate());
+            transaction.setReference(reference);
             transaction.markAsCompleted();
             
             transactionRepository.save(transaction);
@@ -393,11 +483,8 @@ public class AccountService {
     public void resetDailyLimits() {
         logger.info("Resetting daily transaction limits for all accounts");
         
-        List<Account> accounts = accountRepository.findAll();
-        for (Account account : accounts) {
-            account.resetDailyLimits();
-        }
-        accountRepository.saveAll(accounts);
+        int accounts = accountRepository.resetDailyLimits();
+        logger.info("Daily transaction limits reset for {} accounts", accounts);
     }
 
     /**
@@ -407,11 +494,8 @@ public class AccountService {
     public void resetMonthlyLimits() {
         logger.info("Resetting monthly transaction limits for all accounts");
         
-        List<Account> accounts = accountRepository.findAll();
-        for (Account account : accounts) {
-            account.resetMonthlyLimits();
-        }
-        accountRepository.saveAll(accounts);
+        int accounts = accountRepository.resetMonthlyLimits();
+        logger.info("Monthly transaction limits reset for {} accounts", accounts);
     }
 
     /**
@@ -441,7 +525,54 @@ public class AccountService {
         logger.info("Account closed successfully: {}", accountId);
     }
 
+    /**
+     * Rebuild the ledger balance projection from the event stream.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = "accounts", allEntries = true)
+    public int rebuildLedgerProjection() {
+        logger.info("Rebuilding ledger balance projection");
+        return ledgerProjector.rebuild();
+    }
+
     // Private helper methods
+
+    /**
+     * Rate from {@code currency} into the account currency, or null when no conversion applies.
+     */
+    private BigDecimal exchangeRate(Account account, String currency) {
+        if (currency == null || currency.equals(account.getCurrency().name())) {
+            return null;
+        }
+        try {
+            return fxRateService.getRate(currency, account.getCurrency().name());
+        } catch (FxRateUnavailableException e) {
+            throw new InvalidAccountOperationException("Cannot convert " + currency + " into "
+                + account.getCurrency() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Apply a balance posting, in place or through the ledger.
+     * Returns the balance before and after.
+     */
+    private BigDecimal[] post(Account account, LedgerEventType type, BigDecimal amount, String reference) {
+        if (ledgerService.isEventSourced()) {
+            LedgerAccount state = ledgerService.post(account, type, amount, reference);
+            account.countTransaction(amount);
+            BigDecimal after = state.getBalance();
+            BigDecimal before = type == LedgerEventType.DEBIT ? after.add(amount) : after.subtract(amount);
+            return new BigDecimal[] {before, after};
+        }
+        BigDecimal before = account.getBalance();
+        if (type == LedgerEventType.DEBIT) {
+            account.debit(amount);
+        } else {
+            account.credit(amount);
+        }
+        return new BigDecimal[] {before, account.getBalance()};
+    }
+
     private void validateStatusTransition(Account.AccountStatus currentStatus, Account.AccountStatus newStatus) {
         // Add validation logic for status transitions
         if (currentStatus == Account.AccountStatus.CLOSED && newStatus != Account.AccountStatus.CLOSED) {
@@ -0,0 +1,268 @@
+package com.neobridge.account.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neobridge.account.dto.AccountCreateRequest;
+import com.neobridge.account.dto.BulkAccountCreateResponse;
+import com.neobridge.account.entity.Account;
+import com.neobridge.account.entity.Transaction;
+import com.neobridge.account.event.AccountsCreatedEvent;
+import com.neobridge.account.util.AccountNumberGenerator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk account creation for corporate onboarding. Records are read from the
+ * request body one at a time (a JSON array or newline-delimited JSON) and
+ * processed in chunks: each chunk is validated in parallel, then its accounts
+ * and initial deposit transactions are written with one JDBC batch per table
+ * in a single transaction, and one event is published for the chunk.
+ * Ids are assigned here, so inserts never wait on generated keys.
+ */
+@Service
+public class BulkAccountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkAccountService.class);
+
+    private static final String INSERT_ACCOUNT_SQL =
+        "INSERT INTO accounts (id, user_id, account_number, iban, account_name, account_type, currency, status, " +
+        "balance, available_balance, reserved_balance, daily_limit, monthly_limit, daily_transactions_count, " +
+        "monthly_transactions_count, daily_transactions_amount, monthly_transactions_amount, last_transaction_date, " +
+        "interest_rate, overdraft_limit, overdraft_used, is_joint_account, joint_account_holders, description, " +
+        "created_at, updated_at, version, deleted) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, false)";
+
+    private static final String INSERT_TRANSACTION_SQL =
+        "INSERT INTO transactions (id, account_id, user_id, transaction_type, status, amount, currency, " +
+        "balance_before, balance_after, reference, description, exchange_rate, fee_amount, " +
+        "processing_date, created_at, updated_at, version, deleted) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1, 0, ?, ?, ?, 0, false)";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AccountNumberGenerator accountNumberGenerator;
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${neobridge.account.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${neobridge.account.bulk.max-records:100000}")
+    private int maxRecords;
+
+    @Value("${neobridge.account.bulk.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${neobridge.account.events-topic:neobridge.account.events}")
+    private String accountEventsTopic;
+
+    /**
+     * Create every valid account in the stream. Invalid records are reported
+     * and skipped; a chunk that fails to write is reported as a whole.
+     */
+    public BulkAccountCreateResponse createAccounts(InputStream body) throws IOException {
+        UUID batchId = UUID.randomUUID();
+        BulkAccountCreateResponse response = new BulkAccountCreateResponse(batchId);
+        logger.info("Starting bulk account creation {}", batchId);
+        long started = System.currentTimeMillis();
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<AccountCreateRequest> chunk = new ArrayList<>(chunkSize);
+        int chunkIndex = 0;
+        int offset = 0;
+        String stoppedBy = null;
+        try (MappingIterator<AccountCreateRequest> records =
+                 objectMapper.readerFor(AccountCreateRequest.class).readValues(body)) {
+            while (records.hasNextValue()) {
+                if (response.getReceived() >= maxRecords) {
+                    stoppedBy = "Bulk request exceeds " + maxRecords + " records; remaining records ignored";
+                    break;
+                }
+                chunk.add(records.nextValue());
+                response.setReceived(response.getReceived() + 1);
+                if (chunk.size() == chunkSize) {
+                    processChunk(batchId, chunkIndex++, offset, chunk, transaction, response);
+                    offset += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Chunks already written stay committed; report where the input broke off
+            stoppedBy = "Malformed record: " + e.getOriginalMessage() + "; remaining input ignored";
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(batchId, chunkIndex, offset, chunk, transaction, response);
+        }
+        if (stoppedBy != null) {
+            reportError(response, response.getReceived(), stoppedBy);
+        }
+
+        logger.info("Bulk account creation {} finished: {} received, {} created, {} failed in {} ms", batchId,
+                   response.getReceived(), response.getCreated(), response.getFailed(),
+                   System.currentTimeMillis() - started);
+        return response;
+    }
+
+    private void processChunk(UUID batchId, int chunkIndex, int offset, List<AccountCreateRequest> chunk,
+                              TransactionTemplate transaction, BulkAccountCreateResponse response) {
+        // Validation is CPU-bound and independent per record
+        List<String> violations = IntStream.range(0, chunk.size()).parallel()
+            .mapToObj(i -> describe(validator.validate(chunk.get(i))))
+            .toList();
+
+        List<Integer> valid = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (violations.get(i) == null) {
+                valid.add(i);
+            } else {
+                reportError(response, offset + i, violations.get(i));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        AccountsCreatedEvent event = new AccountsCreatedEvent(batchId, chunkIndex);
+        List<Object[]> accountRows = new ArrayList<>(valid.size());
+        List<Object[]> transactionRows = new ArrayList<>(valid.size());
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int index : valid) {
+            AccountCreateRequest request = chunk.get(index);
+            Account account = newAccount(request);
+            accountRows.add(accountRow(account, now));
+
+            BigDecimal deposit = request.getInitialDeposit();
+            if (deposit != null && deposit.signum() > 0) {
+                transactionRows.add(new Object[] {
+                    UUID.randomUUID(), account.getId(), account.getUserId(),
+                    Transaction.TransactionType.DEPOSIT.name(), Transaction.TransactionStatus.COMPLETED.name(),
+                    deposit, account.getCurrency().name(), BigDecimal.ZERO, account.getBalance(),
+                    "INIT-" + account.getAccountNumber(), "Initial deposit", now, now, now
+                });
+            }
+            event.getAccounts().add(new AccountsCreatedEvent.CreatedAccount(account.getId(), account.getUserId(),
+                account.getAccountNumber(), account.getAccountType().name(), account.getCurrency().name(), deposit));
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, accountRows);
+                if (!transactionRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactionRows);
+                }
+            });
+        } catch (Exception e) {
+            logger.error("Bulk account creation {} chunk {} failed: {}", batchId, chunkIndex, e.getMessage(), e);
+            for (int index : valid) {
+                reportError(response, offset + index, "Chunk " + chunkIndex + " failed: " + e.getMessage());
+            }
+            return;
+        }
+        response.setCreated(response.getCreated() + valid.size());
+        publishAccountsCreatedEvent(event);
+    }
+
+    // Same defaults and initial-deposit handling as AccountService.createAccount
+    private Account newAccount(AccountCreateRequest request) {
+        String accountNumber = accountNumberGenerator.generateAccountNumber(request.getAccountType(), request.getCurrency());
+        Account account = new Account(request.getUserId(), accountNumber, request.getAccountName(),
+                                      request.getAccountType(), request.getCurrency());
+        account.setId(UUID.randomUUID());
+        account.setIban(accountNumberGenerator.generateIban(accountNumber));
+        if (request.getDescription() != null) {
+            account.setDescription(request.getDescription());
+        }
+        if (request.getDailyLimit() != null) {
+            account.setDailyLimit(request.getDailyLimit());
+        }
+        if (request.getMonthlyLimit() != null) {
+            account.setMonthlyLimit(request.getMonthlyLimit());
+        }
+        if (request.getIsJointAccount() != null) {
+            account.setIsJointAccount(request.getIsJointAccount());
+        }
+        if (request.getJointAccountHolders() != null) {
+            account.setJointAccountHolders(request.getJointAccountHolders());
+        }
+        if (request.getInitialDeposit() != null && request.getInitialDeposit().signum() > 0) {
+            account.credit(request.getInitialDeposit());
+        }
+        return account;
+    }
+
+    private static Object[] accountRow(Account account, Timestamp now) {
+        return new Object[] {
+            account.getId(), account.getUserId(), account.getAccountNumber(), account.getIban(),
+            account.getAccountName(), account.getAccountType().name(), account.getCurrency().name(),
+            account.getStatus().name(), account.getBalance(), account.getAvailableBalance(),
+            account.getReservedBalance(), account.getDailyLimit(), account.getMonthlyLimit(),
+            account.getDailyTransactionsCount(), account.getMonthlyTransactionsCount(),
+            account.getDailyTransactionsAmount(), account.getMonthlyTransactionsAmount(),
+            account.getLastTransactionDate() != null ? Timestamp.valueOf(account.getLastTransactionDate()) : null,
+            account.getInterestRate(), account.getOverdraftLimit(), account.getOverdraftUsed(),
+            account.getIsJointAccount(), account.getJointAccountHolders(), account.getDescription(), now, now
+        };
+    }
+
+    private static String describe(Set<ConstraintViolation<AccountCreateRequest>> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private void reportError(BulkAccountCreateResponse response, int index, String message) {
+        response.setFailed(response.getFailed() + 1);
+        if (response.getErrors().size() < maxReportedErrors) {
+            response.getErrors().add(new BulkAccountCreateResponse.RecordError(index, message));
+        }
+    }
+
+    private void publishAccountsCreatedEvent(AccountsCreatedEvent event) {
+        try {
+            kafkaTemplate.send(accountEventsTopic, event.getBatchId().toString(), event);
+            logger.debug("Published accounts created event for batch {} chunk {} ({} accounts)",
+                        event.getBatchId(), event.getChunk(), event.getAccounts().size());
+        } catch (Exception e) {
+            logger.error("Failed to publish accounts created event for batch {} chunk {}: {}",
+                        event.getBatchId(), event.getChunk(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.neobridge.account.service;
+
+import com.neobridge.account.repository.AccountHoldRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Expires holds whose TTL has passed. Due holds are read earliest first from
+ * the partial expiry index, so each run touches only what is due rather than
+ * scanning every hold ever placed.
+ */
+@Component
+public class HoldExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldExpiryScheduler.class);
+
+    @Autowired
+    private AccountHoldRepository holdRepository;
+
+    @Autowired
+    private HoldService holdService;
+
+    @Value("${neobridge.account.holds.expiry-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${neobridge.account.holds.expiry-interval:30000}")
+    public void expireDueHolds() {
+        Instant now = Instant.now();
+        int expired = 0;
+        List<UUID> due;
+        int batchExpired;
+        do {
+            due = holdRepository.findExpiredOpenHoldIds(now, batchSize);
+            batchExpired = 0;
+            for (UUID holdId : due) {
+                try {
+                    if (holdService.expireHold(holdId)) {
+                        batchExpired++;
+                    }
+                } catch (Exception e) {
+                    logger.error("Failed to expire hold {}: {}", holdId, e.getMessage(), e);
+                }
+            }
+            expired += batchExpired;
+            // A full batch that made no progress would be read again unchanged
+        } while (due.size() == batchSize && batchExpired > 0);
+
+        if (expired > 0) {
+            logger.info("Expired {} holds", expired);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.neobridge.account.service;
+
+import com.neobridge.account.dto.AccountResponse;
+import com.neobridge.account.dto.HoldResponse;
+import com.neobridge.account.entity.AccountHold;
+import com.neobridge.account.exception.AccountNotFoundException;
+import com.neobridge.account.exception.InvalidAccountOperationException;
+import com.neobridge.account.repository.AccountHoldRepository;
+import com.neobridge.account.repository.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for individually identified holds on account funds, e.g. card
+ * authorizations. Placing a hold reserves the amount on the account; the hold
+ * is then captured (fully or in parts), voided, or expired by
+ * {@link HoldExpiryScheduler}. Each operation locks the hold's row and then
+ * the account's row, always in that order, before {@link AccountService}
+ * applies the versioned account update, so that update cannot fail on a
+ * concurrent writer.
+ */
+@Service
+@Transactional
+public class HoldService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldService.class);
+
+    private static final List<AccountHold.HoldStatus> OPEN_STATUSES =
+        List.of(AccountHold.HoldStatus.ACTIVE, AccountHold.HoldStatus.PARTIALLY_CAPTURED);
+
+    @Autowired
+    private AccountHoldRepository holdRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Value("${neobridge.account.holds.default-ttl:PT168H}")
+    private Duration defaultTtl;
+
+    @Value("${neobridge.account.holds.max-ttl:PT720H}")
+    private Duration maxTtl;
+
+    /**
+     * Place a hold on the account and reserve its amount.
+     *
+     * @param ttl time until the hold expires; {@code null} for the default
+     */
+    public HoldResponse placeHold(UUID accountId, BigDecimal amount, String reference, Duration ttl) {
+        logger.info("Placing hold on account: {}, amount: {}, reference: {}", accountId, amount, reference);
+
+        if (amount == null || amount.signum() <= 0) {
+            throw new InvalidAccountOperationException("Hold amount must be positive: " + amount);
+        }
+        Duration holdTtl = ttl != null ? ttl : defaultTtl;
+        if (holdTtl.isNegative() || holdTtl.isZero() || holdTtl.compareTo(maxTtl) > 0) {
+            throw new InvalidAccountOperationException("Hold TTL must be positive and at most " + maxTtl + ": " + holdTtl);
+        }
+
+        AccountResponse account = accountService.getAccountById(accountId);
+        lockAccount(accountId);
+        accountService.reserveAmount(accountId, amount);
+
+        AccountHold hold = new AccountHold(accountId, amount, account.getCurrency().name(), reference,
+                                           Instant.now().plus(holdTtl));
+        hold = holdRepository.save(hold);
+
+        logger.info("Hold {} placed on account: {}, expires at: {}", hold.getId(), accountId, hold.getExpiresAt());
+        return new HoldResponse(hold);
+    }
+
+    /**
+     * Get hold by ID.
+     */
+    @Transactional(readOnly = true)
+    public HoldResponse getHold(UUID holdId) {
+        return new HoldResponse(findHold(holdId));
+    }
+
+    /**
+     * Open holds on an account.
+     */
+    @Transactional(readOnly = true)
+    public List<HoldResponse> getOpenHolds(UUID accountId) {
+        return holdRepository.findByAccountIdAndStatusIn(accountId, OPEN_STATUSES).stream()
+            .map(HoldResponse::new)
+            .toList();
+    }
+
+    /**
+     * Capture part or all of a hold's remaining amount, debiting the account.
+     * Whatever is left stays held until captured, voided or expired.
+     *
+     * @param amount amount to capture; {@code null} captures the remainder
+     */
+    public HoldResponse capture(UUID holdId, BigDecimal amount, String description) {
+        AccountHold hold = lockOpenHold(holdId);
+        BigDecimal captured = amount != null ? amount : hold.getRemainingAmount();
+        logger.info("Capturing {} of hold {}", captured, holdId);
+
+        if (captured.signum() <= 0 || captured.compareTo(hold.getRemainingAmount()) > 0) {
+            throw new InvalidAccountOperationException("Capture amount must be positive and at most " +
+                                                       hold.getRemainingAmount() + ": " + captured);
+        }
+
+        lockAccount(hold.getAccountId());
+        accountService.releaseReservation(hold.getAccountId(), captured);
+        accountService.debitAccount(hold.getAccountId(), captured,
+                                    description != null ? description : "Hold capture", hold.getReference());
+        hold.capture(captured);
+        hold = holdRepository.save(hold);
+
+        logger.info("Hold {} captured {}, remaining: {}", holdId, captured, hold.getRemainingAmount());
+        return new HoldResponse(hold);
+    }
+
+    /**
+     * Void a hold, releasing its remaining amount.
+     */
+    public HoldResponse voidHold(UUID holdId) {
+        AccountHold hold = lockOpenHold(holdId);
+        logger.info("Voiding hold {}", holdId);
+
+        lockAccount(hold.getAccountId());
+        accountService.releaseReservation(hold.getAccountId(), hold.getRemainingAmount());
+        hold.markAsVoided();
+        return new HoldResponse(holdRepository.save(hold));
+    }
+
+    /**
+     * Expire a hold whose TTL has passed, releasing its remaining amount.
+     * Runs in its own transaction so one failing hold does not roll back a batch.
+     *
+     * @return {@code false} if the hold was settled or extended concurrently
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean expireHold(UUID holdId) {
+        AccountHold hold = holdRepository.findByIdForUpdate(holdId).orElse(null);
+        if (hold == null || !hold.isOpen() || hold.getExpiresAt().isAfter(Instant.now())) {
+            return false;
+        }
+
+        lockAccount(hold.getAccountId());
+        accountService.releaseReservation(hold.getAccountId(), hold.getRemainingAmount());
+        hold.markAsExpired();
+        holdRepository.save(hold);
+
+        logger.debug("Hold {} expired, released {}", holdId, hold.getRemainingAmount());
+        return true;
+    }
+
+    private AccountHold findHold(UUID holdId) {
+        return holdRepository.findById(holdId)
+            .orElseThrow(() -> new InvalidAccountOperationException("Hold not found with ID: " + holdId));
+    }
+
+    private void lockAccount(UUID accountId) {
+        accountRepository.findByIdForUpdate(accountId)
+            .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
+    }
+
+    private AccountHold lockOpenHold(UUID holdId) {
+        AccountHold hold = holdRepository.findByIdForUpdate(holdId)
+            .orElseThrow(() -> new InvalidAccountOperationException("Hold not found with ID: " + holdId));
+        if (!hold.isOpen()) {
+            throw new InvalidAccountOperationException("Hold is not open: " + hold.getStatus());
+        }
+        if (hold.getExpiresAt().isBefore(Instant.now())) {
+            throw new InvalidAccountOperationException("Hold has expired: " + holdId);
+        }
+        return hold;
+    }
+}
@@ -0,0 +1,263 @@
+package com.neobridge.account.service;
+
+import com.neobridge.account.dto.JournalEntryRequest;
+import com.neobridge.account.dto.JournalEntryResponse;
+import com.neobridge.account.dto.JournalLegRequest;
+import com.neobridge.account.entity.Account;
+import com.neobridge.account.entity.Transaction;
+import com.neobridge.account.exception.AccountNotFoundException;
+import com.neobridge.account.exception.InsufficientBalanceException;
+import com.neobridge.account.exception.InvalidAccountOperationException;
+import com.neobridge.account.ledger.LedgerAccount;
+import com.neobridge.account.ledger.LedgerEventType;
+import com.neobridge.account.ledger.LedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Double-entry journal engine for postings that move money between accounts.
+ * An entry's legs must sum to zero per currency. All involved accounts are
+ * locked up front in ascending id order, so entries sharing accounts queue
+ * instead of deadlocking, and every leg is written in one batch per table.
+ */
+@Service
+@Transactional
+public class JournalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalService.class);
+
+    private static final int MAX_SCALE = 4;
+
+    private static final String SELECT_ACCOUNTS_SQL =
+        "SELECT id, user_id, currency, status, balance, available_balance, reserved_balance, overdraft_limit FROM accounts " +
+        "WHERE deleted = false AND id IN (%s) ORDER BY id";
+
+    private static final String UPDATE_BALANCES_SQL =
+        "UPDATE accounts SET balance = ?, available_balance = ?, overdraft_used = GREATEST(-CAST(? AS DECIMAL), 0), " +
+        "last_transaction_date = ?, updated_at = ?, version = version + 1 WHERE id = ?";
+
+    private static final String INSERT_TRANSACTION_SQL =
+        "INSERT INTO transactions (id, account_id, user_id, transaction_type, status, amount, currency, " +
+        "balance_before, balance_after, reference, external_reference, description, exchange_rate, fee_amount, " +
+        "processing_date, created_at, updated_at, version, deleted) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1, 0, ?, ?, ?, 0, false)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    /**
+     * Post a balanced journal entry atomically.
+     */
+    @CacheEvict(value = "accounts", allEntries = true)
+    public JournalEntryResponse postEntry(JournalEntryRequest request) {
+        List<JournalLegRequest> legs = request.getLegs();
+        logger.info("Posting journal entry {} with {} legs", request.getReference(), legs.size());
+
+        validateBalanced(legs);
+
+        // Legs per account, accounts in ascending id order; credits before debits within an account
+        Map<UUID, List<Integer>> legsByAccount = new TreeMap<>();
+        for (int i = 0; i < legs.size(); i++) {
+            legsByAccount.computeIfAbsent(legs.get(i).getAccountId(), id -> new ArrayList<>()).add(i);
+        }
+        for (List<Integer> indexes : legsByAccount.values()) {
+            indexes.sort((a, b) -> Integer.compare(-legs.get(a).getAmount().signum(), -legs.get(b).getAmount().signum()));
+        }
+
+        boolean eventSourced = ledgerService.isEventSourced();
+        Map<UUID, AccountRow> accounts = loadAccounts(legsByAccount.keySet(), !eventSourced);
+        for (JournalLegRequest leg : legs) {
+            AccountRow account = accounts.get(leg.getAccountId());
+            if (account == null) {
+                throw new AccountNotFoundException("Account not found with ID: " + leg.getAccountId());
+            }
+            if (account.status != Account.AccountStatus.ACTIVE) {
+                throw new InvalidAccountOperationException("Account is not active: " + leg.getAccountId());
+            }
+            if (account.currency != leg.getCurrency()) {
+                throw new InvalidAccountOperationException("Leg currency " + leg.getCurrency() +
+                                                           " does not match account " + leg.getAccountId());
+            }
+        }
+
+        UUID journalId = UUID.randomUUID();
+        BigDecimal[] before = new BigDecimal[legs.size()];
+        BigDecimal[] after = new BigDecimal[legs.size()];
+        if (eventSourced) {
+            postToLedger(legs, legsByAccount, accounts, request.getReference(), before, after);
+        } else {
+            applyInPlace(legs, legsByAccount, accounts, before, after);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        JournalEntryResponse response = new JournalEntryResponse(journalId, request.getReference(), now);
+        Object[][] legRows = new Object[legs.size()][];
+        for (int i = 0; i < legs.size(); i++) {
+            JournalLegRequest leg = legs.get(i);
+            AccountRow account = accounts.get(leg.getAccountId());
+            boolean debit = leg.getAmount().signum() < 0;
+            UUID transactionId = UUID.randomUUID();
+            legRows[i] = new Object[] {
+                transactionId, account.id, account.userId,
+                (debit ? Transaction.TransactionType.TRANSFER : Transaction.TransactionType.RECEIPT).name(),
+                Transaction.TransactionStatus.COMPLETED.name(), leg.getAmount().abs(), account.currency.name(),
+                before[i], after[i], request.getReference(), journalId.toString(),
+                leg.getDescription() != null ? leg.getDescription() : request.getDescription(),
+                timestamp, timestamp, timestamp
+            };
+            response.getLegs().add(new JournalEntryResponse.Leg(transactionId, account.id, leg.getAmount(),
+                                                                account.currency.name(), before[i], after[i]));
+        }
+        // Inserted in the order balances were applied, which is the order posting_seq records
+        List<Object[]> transactionRows = new ArrayList<>(legs.size());
+        for (List<Integer> indexes : legsByAccount.values()) {
+            for (int index : indexes) {
+                transactionRows.add(legRows[index]);
+            }
+        }
+
+        if (!eventSourced) {
+            List<Object[]> balanceRows = new ArrayList<>(legsByAccount.size());
+            for (UUID accountId : legsByAccount.keySet()) {
+                AccountRow account = accounts.get(accountId);
+                balanceRows.add(new Object[] {account.balance, account.availableBalance, account.balance, timestamp, timestamp,
+                                              accountId});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_BALANCES_SQL, balanceRows);
+        }
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactionRows);
+
+        logger.info("Journal entry {} posted as {} across {} accounts", request.getReference(), journalId,
+                   legsByAccount.size());
+        return response;
+    }
+
+    private static void validateBalanced(List<JournalLegRequest> legs) {
+        if (legs == null || legs.size() < 2) {
+            throw new InvalidAccountOperationException("A journal entry needs at least two legs");
+        }
+        Map<Account.Currency, BigDecimal> totals = new EnumMap<>(Account.Currency.class);
+        for (JournalLegRequest leg : legs) {
+            BigDecimal amount = leg.getAmount();
+            if (amount.signum() == 0) {
+                throw new InvalidAccountOperationException("Journal leg amount must not be zero");
+            }
+            if (amount.stripTrailingZeros().scale() > MAX_SCALE) {
+                throw new InvalidAccountOperationException("Journal leg amount has more than " + MAX_SCALE + " decimals: " + amount);
+            }
+            totals.merge(leg.getCurrency(), amount, BigDecimal::add);
+        }
+        for (Map.Entry<Account.Currency, BigDecimal> total : totals.entrySet()) {
+            if (total.getValue().signum() != 0) {
+                throw new InvalidAccountOperationException("Journal legs in " + total.getKey() +
+                                                           " do not balance: off by " + total.getValue());
+            }
+        }
+    }
+
+    /**
+     * Load the accounts in ascending id order, row-locking them when balances
+     * are updated in place.
+     */
+    private Map<UUID, AccountRow> loadAccounts(Iterable<UUID> accountIds, boolean lock) {
+        List<Object> args = new ArrayList<>();
+        for (UUID accountId : accountIds) {
+            args.add(accountId);
+        }
+        String sql = String.format(SELECT_ACCOUNTS_SQL, String.join(", ", Collections.nCopies(args.size(), "?")));
+        if (lock) {
+            sql += " FOR UPDATE";
+        }
+        Map<UUID, AccountRow> accounts = new HashMap<>(args.size() * 2);
+        jdbcTemplate.query(sql, rs -> {
+            AccountRow account = new AccountRow();
+            account.id = rs.getObject(1, UUID.class);
+            account.userId = rs.getObject(2, UUID.class);
+            account.currency = Account.Currency.valueOf(rs.getString(3));
+            account.status = Account.AccountStatus.valueOf(rs.getString(4));
+            account.balance = rs.getBigDecimal(5);
+            account.availableBalance = rs.getBigDecimal(6);
+            account.reservedBalance = rs.getBigDecimal(7);
+            account.overdraftLimit = rs.getBigDecimal(8) != null ? rs.getBigDecimal(8) : BigDecimal.ZERO;
+            accounts.put(account.id, account);
+        }, args.toArray());
+        return accounts;
+    }
+
+    private static void applyInPlace(List<JournalLegRequest> legs, Map<UUID, List<Integer>> legsByAccount,
+                                     Map<UUID, AccountRow> accounts, BigDecimal[] before, BigDecimal[] after) {
+        for (Map.Entry<UUID, List<Integer>> entry : legsByAccount.entrySet()) {
+            AccountRow account = accounts.get(entry.getKey());
+            for (int index : entry.getValue()) {
+                BigDecimal amount = legs.get(index).getAmount();
+                if (amount.signum() < 0 && account.availableBalance.add(account.overdraftLimit).add(amount).signum() < 0) {
+                    throw new InsufficientBalanceException("Insufficient balance in account " + account.id +
+                                                           " for journal leg: " + amount);
+                }
+                before[index] = account.balance;
+                account.balance = account.balance.add(amount);
+                account.availableBalance = account.availableBalance.add(amount);
+                after[index] = account.balance;
+            }
+        }
+    }
+
+    private void postToLedger(List<JournalLegRequest> legs, Map<UUID, List<Integer>> legsByAccount,
+                              Map<UUID, AccountRow> accounts, String reference, BigDecimal[] before, BigDecimal[] after) {
+        // Ledger locks are taken per account as it is first posted to, hence in ascending id order
+        for (Map.Entry<UUID, List<Integer>> entry : legsByAccount.entrySet()) {
+            Account account = accounts.get(entry.getKey()).toAccount();
+            for (int index : entry.getValue()) {
+                BigDecimal amount = legs.get(index).getAmount();
+                LedgerEventType type = amount.signum() < 0 ? LedgerEventType.DEBIT : LedgerEventType.CREDIT;
+                LedgerAccount state = ledgerService.post(account, type, amount.abs(), reference);
+                after[index] = state.getBalance();
+                before[index] = state.getBalance().subtract(amount);
+            }
+        }
+    }
+
+    private static final class AccountRow {
+
+        private UUID id;
+        private UUID userId;
+        private Account.Currency currency;
+        private Account.AccountStatus status;
+        private BigDecimal balance;
+        private BigDecimal availableBalance;
+        private BigDecimal reservedBalance;
+        private BigDecimal overdraftLimit;
+
+        // Detached view for seeding the ledger stream
+        private Account toAccount() {
+            Account account = new Account();
+            account.setId(id);
+            account.setBalance(balance);
+            account.setAvailableBalance(availableBalance);
+            account.setReservedBalance(reservedBalance);
+            account.setOverdraftLimit(overdraftLimit);
+            return account;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.neobridge.account.statement;
+
+import java.util.UUID;
+
+/**
+ * Splits the account id space into contiguous ranges so partitioned jobs can
+ * select their accounts with an index range scan. Bounds follow PostgreSQL's
+ * unsigned byte-wise uuid ordering and are inclusive.
+ */
+public final class AccountPartitions {
+
+    private AccountPartitions() {}
+
+    public static UUID lowerBound(int index, int count) {
+        return new UUID(start(index, count), 0L);
+    }
+
+    public static UUID upperBound(int index, int count) {
+        if (index == count - 1) {
+            return new UUID(-1L, -1L);
+        }
+        return new UUID(start(index + 1, count) - 1, -1L);
+    }
+
+    // Most significant 64 bits where the range starts, as an unsigned value
+    private static long start(int index, int count) {
+        return Long.divideUnsigned(-1L, count) * index;
+    }
+}
@@ -0,0 +1,58 @@
+package com.neobridge.account.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One account's balances and turnover for a business day. Days without
+ * completed transactions have no snapshot; their balance is the previous close.
+ */
+public class DailyBalance {
+
+    private final LocalDate businessDate;
+    private final BigDecimal openingBalance;
+    private final BigDecimal closingBalance;
+    private final BigDecimal creditsTotal;
+    private final BigDecimal debitsTotal;
+    private final int creditCount;
+    private final int debitCount;
+
+    public DailyBalance(LocalDate businessDate, BigDecimal openingBalance, BigDecimal closingBalance,
+                        BigDecimal creditsTotal, BigDecimal debitsTotal, int creditCount, int debitCount) {
+        this.businessDate = businessDate;
+        this.openingBalance = openingBalance;
+        this.closingBalance = closingBalance;
+        this.creditsTotal = creditsTotal;
+        this.debitsTotal = debitsTotal;
+        this.creditCount = creditCount;
+        this.debitCount = debitCount;
+    }
+
+    public LocalDate getBusinessDate() {
+        return businessDate;
+    }
+
+    public BigDecimal getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public BigDecimal getClosingBalance() {
+        return closingBalance;
+    }
+
+    public BigDecimal getCreditsTotal() {
+        return creditsTotal;
+    }
+
+    public BigDecimal getDebitsTotal() {
+        return debitsTotal;
+    }
+
+    public int getCreditCount() {
+        return creditCount;
+    }
+
+    public int getDebitCount() {
+        return debitCount;
+    }
+}
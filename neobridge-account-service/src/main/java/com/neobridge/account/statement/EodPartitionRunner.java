@@ -0,0 +1,235 @@
+package com.neobridge.account.statement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs an end-of-day job over partitions of the account id space in parallel.
+ * Each partition runs in its own transaction that first claims the partition in
+ * {@code eod_runs}; the claim commits together with the partition's work, so a
+ * rerun after a crash or failure only redoes partitions that did not finish,
+ * and instances running the same job concurrently never process a partition twice.
+ * <p>
+ * Jobs too long for one transaction per partition run in chunks instead: the
+ * claim is a committed lease, each chunk commits with the partition's progress
+ * and renews the lease, and a partition whose lease expired is resumed after
+ * its last committed chunk.
+ */
+@Component
+public class EodPartitionRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EodPartitionRunner.class);
+
+    // Blocks on a concurrent claim until it commits or rolls back
+    private static final String CLAIM_SQL =
+        "INSERT INTO eod_runs (job, run_date, partition_index) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private static final String COMPLETE_SQL =
+        "UPDATE eod_runs SET rows_processed = ?, completed_at = CURRENT_TIMESTAMP " +
+        "WHERE job = ? AND run_date = ? AND partition_index = ?";
+
+    // Takes a new partition, or one whose holder stopped renewing its lease
+    private static final String CLAIM_LEASE_SQL =
+        "INSERT INTO eod_runs (job, run_date, partition_index, claimed_by, claimed_at) " +
+        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) ON CONFLICT (job, run_date, partition_index) DO UPDATE " +
+        "SET claimed_by = EXCLUDED.claimed_by, claimed_at = EXCLUDED.claimed_at WHERE eod_runs.completed_at IS NULL " +
+        "AND (eod_runs.claimed_at IS NULL OR eod_runs.claimed_at < CURRENT_TIMESTAMP - ? * INTERVAL '1 second') " +
+        "RETURNING progress";
+
+    private static final String PROGRESS_SQL =
+        "UPDATE eod_runs SET progress = ?, rows_processed = rows_processed + ?, claimed_at = CURRENT_TIMESTAMP " +
+        "WHERE job = ? AND run_date = ? AND partition_index = ? AND claimed_by = ? AND completed_at IS NULL";
+
+    private static final String COMPLETE_LEASE_SQL =
+        "UPDATE eod_runs SET completed_at = CURRENT_TIMESTAMP " +
+        "WHERE job = ? AND run_date = ? AND partition_index = ? AND claimed_by = ?";
+
+    private static final String LAST_COMPLETED_SQL =
+        "SELECT run_date FROM eod_runs WHERE job = ? AND completed_at IS NOT NULL " +
+        "GROUP BY run_date HAVING COUNT(*) >= ? ORDER BY run_date DESC LIMIT 1";
+
+    /**
+     * Work for one partition; ids are inclusive bounds.
+     *
+     * @return number of rows processed
+     */
+    @FunctionalInterface
+    public interface PartitionTask {
+        int process(UUID lowerBound, UUID upperBound) throws Exception;
+    }
+
+    /**
+     * Work for one chunk of a partition; bounds are inclusive.
+     */
+    @FunctionalInterface
+    public interface ChunkTask {
+
+        /**
+         * Process the next chunk of accounts after {@code after}, which is null
+         * at the start of the partition.
+         *
+         * @return ids processed in ascending order; empty when the partition is done
+         */
+        List<UUID> process(UUID lowerBound, UUID upperBound, UUID after) throws Exception;
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${neobridge.account.statements.partitions:16}")
+    private int partitions;
+
+    @Value("${neobridge.account.statements.parallelism:8}")
+    private int parallelism;
+
+    @Value("${neobridge.account.statements.claim-lease:PT10M}")
+    private Duration claimLease;
+
+    /**
+     * Run the job for the date over every partition not yet completed.
+     *
+     * @return rows processed by this run
+     */
+    public int run(String job, LocalDate runDate, PartitionTask task) {
+        long started = System.currentTimeMillis();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Date date = Date.valueOf(runDate);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions));
+        try {
+            List<Future<Integer>> results = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                int index = i;
+                results.add(executor.submit(() -> transaction.execute(status -> {
+                    if (jdbcTemplate.update(CLAIM_SQL, job, date, index) == 0) {
+                        return 0; // completed earlier
+                    }
+                    int rows;
+                    try {
+                        rows = task.process(AccountPartitions.lowerBound(index, partitions),
+                                            AccountPartitions.upperBound(index, partitions));
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(job + " partition " + index + " failed", e);
+                    }
+                    jdbcTemplate.update(COMPLETE_SQL, rows, job, date, index);
+                    return rows;
+                })));
+            }
+            return collect(job, runDate, results, started);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Run the job for the date over every partition not yet completed, one
+     * committed chunk at a time.
+     *
+     * @return rows processed by this run
+     */
+    public int runInChunks(String job, LocalDate runDate, ChunkTask task) {
+        long started = System.currentTimeMillis();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Date date = Date.valueOf(runDate);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions));
+        try {
+            List<Future<Integer>> results = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                int index = i;
+                results.add(executor.submit(() -> {
+                    String holder = UUID.randomUUID().toString();
+                    List<UUID> claimed = transaction.execute(status -> jdbcTemplate.query(CLAIM_LEASE_SQL,
+                        (rs, rowNum) -> rs.getObject(1, UUID.class), job, date, index, holder, claimLease.toSeconds()));
+                    if (claimed == null || claimed.isEmpty()) {
+                        return 0; // completed earlier or held by a live run
+                    }
+                    UUID lowerBound = AccountPartitions.lowerBound(index, partitions);
+                    UUID upperBound = AccountPartitions.upperBound(index, partitions);
+                    UUID[] after = {claimed.get(0)};
+                    int rows = 0;
+                    while (true) {
+                        Integer chunkRows = transaction.execute(status -> {
+                            List<UUID> processed;
+                            try {
+                                processed = task.process(lowerBound, upperBound, after[0]);
+                            } catch (RuntimeException e) {
+                                throw e;
+                            } catch (Exception e) {
+                                throw new IllegalStateException(job + " partition " + index + " failed", e);
+                            }
+                            if (processed.isEmpty()) {
+                                jdbcTemplate.update(COMPLETE_LEASE_SQL, job, date, index, holder);
+                                return 0;
+                            }
+                            after[0] = processed.get(processed.size() - 1);
+                            if (jdbcTemplate.update(PROGRESS_SQL, after[0], processed.size(), job, date, index, holder) == 0) {
+                                throw new IllegalStateException(job + " partition " + index + " lease was taken over");
+                            }
+                            return processed.size();
+                        });
+                        if (chunkRows == null || chunkRows == 0) {
+                            return rows;
+                        }
+                        rows += chunkRows;
+                    }
+                }));
+            }
+            return collect(job, runDate, results, started);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static int collect(String job, LocalDate runDate, List<Future<Integer>> results, long started) {
+        int total = 0;
+        int failed = 0;
+        for (Future<Integer> result : results) {
+            try {
+                total += result.get();
+            } catch (Exception e) {
+                failed++;
+                logger.error("EOD job {} for {} failed on a partition: {}", job, runDate, e.getMessage(), e);
+            }
+        }
+        if (failed > 0) {
+            throw new IllegalStateException("EOD job " + job + " for " + runDate + " failed on " + failed +
+                                            " partitions; rerun to resume");
+        }
+        logger.info("EOD job {} for {} processed {} rows in {} ms", job, runDate, total,
+                   System.currentTimeMillis() - started);
+        return total;
+    }
+
+    /**
+     * Latest date the job completed on every partition, or {@code null}.
+     */
+    public LocalDate lastCompletedDate(String job) {
+        List<Date> dates = jdbcTemplate.queryForList(LAST_COMPLETED_SQL, Date.class, job, partitions);
+        return dates.isEmpty() ? null : dates.get(0).toLocalDate();
+    }
+}
@@ -0,0 +1,83 @@
+package com.neobridge.account.statement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * End-of-day job computing each account's daily balance snapshot from that
+ * day's completed transactions only. Opening and closing balances come from
+ * the first and last transaction's balance_before/balance_after in posting
+ * order, so no earlier history is read. Accounts without activity get no row.
+ */
+@Component
+public class EodSnapshotJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(EodSnapshotJob.class);
+
+    public static final String JOB = "daily-balances";
+
+    // Credits and debits are told apart by the balance movement, whatever the transaction type
+    private static final String SNAPSHOT_SQL =
+        "INSERT INTO account_daily_balances (account_id, business_date, currency, opening_balance, closing_balance, " +
+        "credits_total, debits_total, credit_count, debit_count) " +
+        "SELECT account_id, ?, MIN(currency), " +
+        "(ARRAY_AGG(balance_before ORDER BY posting_seq))[1], " +
+        "(ARRAY_AGG(balance_after ORDER BY posting_seq DESC))[1], " +
+        "COALESCE(SUM(amount) FILTER (WHERE balance_after >= balance_before), 0), " +
+        "COALESCE(SUM(amount) FILTER (WHERE balance_after < balance_before), 0), " +
+        "COUNT(*) FILTER (WHERE balance_after >= balance_before), " +
+        "COUNT(*) FILTER (WHERE balance_after < balance_before) " +
+        "FROM transactions WHERE status = 'COMPLETED' AND deleted = false AND balance_after IS NOT NULL " +
+        "AND created_at >= ? AND created_at < ? AND account_id BETWEEN ? AND ? " +
+        "GROUP BY account_id " +
+        "ON CONFLICT (account_id, business_date) DO UPDATE SET currency = EXCLUDED.currency, " +
+        "opening_balance = EXCLUDED.opening_balance, closing_balance = EXCLUDED.closing_balance, " +
+        "credits_total = EXCLUDED.credits_total, debits_total = EXCLUDED.debits_total, " +
+        "credit_count = EXCLUDED.credit_count, debit_count = EXCLUDED.debit_count";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EodPartitionRunner partitionRunner;
+
+    @Value("${neobridge.account.statements.zone:UTC}")
+    private ZoneId zone;
+
+    /**
+     * Snapshot the previous business day.
+     */
+    @Scheduled(cron = "${neobridge.account.statements.eod-cron:0 30 0 * * *}")
+    public void runForPreviousDay() {
+        try {
+            run(LocalDate.now(zone).minusDays(1));
+        } catch (Exception e) {
+            logger.error("EOD balance snapshot failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Snapshot a business day. Safe to rerun: finished partitions are skipped
+     * and snapshot rows are upserted.
+     *
+     * @return number of account snapshots written
+     */
+    public int run(LocalDate businessDate) {
+        logger.info("Running EOD balance snapshot for {}", businessDate);
+        Date date = Date.valueOf(businessDate);
+        Timestamp dayStart = Timestamp.from(businessDate.atStartOfDay(zone).toInstant());
+        Timestamp dayEnd = Timestamp.from(businessDate.plusDays(1).atStartOfDay(zone).toInstant());
+        return partitionRunner.run(JOB, businessDate, (lower, upper) ->
+            jdbcTemplate.update(SNAPSHOT_SQL, date, dayStart, dayEnd, lower, upper));
+    }
+}
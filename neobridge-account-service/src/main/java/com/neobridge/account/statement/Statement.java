@@ -0,0 +1,134 @@
+package com.neobridge.account.statement;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An account statement for a date range: opening and closing balance, one
+ * entry per active day and the transaction lines behind them.
+ */
+public class Statement {
+
+    private final UUID accountId;
+    private final String accountNumber;
+    private final String accountName;
+    private final String currency;
+    private final LocalDate from;
+    private final LocalDate to;
+    private BigDecimal openingBalance;
+    private final List<DailyBalance> days = new ArrayList<>();
+    private final List<Line> lines = new ArrayList<>();
+
+    public Statement(UUID accountId, String accountNumber, String accountName, String currency,
+                     LocalDate from, LocalDate to) {
+        this.accountId = accountId;
+        this.accountNumber = accountNumber;
+        this.accountName = accountName;
+        this.currency = currency;
+        this.from = from;
+        this.to = to;
+    }
+
+    public BigDecimal getClosingBalance() {
+        return days.isEmpty() ? openingBalance : days.get(days.size() - 1).getClosingBalance();
+    }
+
+    public BigDecimal getCreditsTotal() {
+        return days.stream().map(DailyBalance::getCreditsTotal).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    public BigDecimal getDebitsTotal() {
+        return days.stream().map(DailyBalance::getDebitsTotal).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public String getAccountName() {
+        return accountName;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public BigDecimal getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public void setOpeningBalance(BigDecimal openingBalance) {
+        this.openingBalance = openingBalance;
+    }
+
+    public List<DailyBalance> getDays() {
+        return days;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    /**
+     * One completed transaction. {@code amount} is signed: negative for debits.
+     */
+    public static class Line {
+
+        private final Instant postedAt;
+        private final String type;
+        private final String description;
+        private final String reference;
+        private final BigDecimal amount;
+        private final BigDecimal balanceAfter;
+
+        public Line(Instant postedAt, String type, String description, String reference,
+                    BigDecimal amount, BigDecimal balanceAfter) {
+            this.postedAt = postedAt;
+            this.type = type;
+            this.description = description;
+            this.reference = reference;
+            this.amount = amount;
+            this.balanceAfter = balanceAfter;
+        }
+
+        public Instant getPostedAt() {
+            return postedAt;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getReference() {
+            return reference;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public BigDecimal getBalanceAfter() {
+            return balanceAfter;
+        }
+    }
+}
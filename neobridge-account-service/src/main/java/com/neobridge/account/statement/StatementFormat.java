@@ -0,0 +1,33 @@
+package com.neobridge.account.statement;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Rendered statement formats.
+ */
+public enum StatementFormat {
+    PDF("PDF", MediaType.APPLICATION_PDF, "pdf"),
+    CSV("CSV", MediaType.parseMediaType("text/csv"), "csv");
+
+    private final String displayName;
+    private final MediaType mediaType;
+    private final String extension;
+
+    StatementFormat(String displayName, MediaType mediaType, String extension) {
+        this.displayName = displayName;
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,118 @@
+package com.neobridge.account.statement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Renders the monthly statement of every account to the statement output
+ * directory, one file per account, with partitions of the account space
+ * rendered in parallel. Each partition is rendered in chunks of accounts, one
+ * transaction per chunk, so no transaction stays open for a whole partition.
+ * A rerun skips completed partitions and resumes the others after their last
+ * committed chunk; files of a chunk that failed midway are simply overwritten.
+ */
+@Component
+public class StatementJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementJob.class);
+
+    public static final String JOB = "monthly-statements";
+
+    private static final String FIRST_CHUNK_SQL =
+        "SELECT id, account_number FROM accounts WHERE deleted = false AND id BETWEEN ? AND ? ORDER BY id LIMIT ?";
+
+    private static final String NEXT_CHUNK_SQL =
+        "SELECT id, account_number FROM accounts WHERE deleted = false AND id > ? AND id <= ? ORDER BY id LIMIT ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EodPartitionRunner partitionRunner;
+
+    @Autowired
+    private StatementService statementService;
+
+    @Autowired
+    private StatementRenderer renderer;
+
+    @Value("${neobridge.account.statements.zone:UTC}")
+    private ZoneId zone;
+
+    @Value("${neobridge.account.statements.output-dir:statements}")
+    private String outputDir;
+
+    @Value("${neobridge.account.statements.format:PDF}")
+    private StatementFormat format;
+
+    @Value("${neobridge.account.statements.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Render statements for the previous month.
+     */
+    @Scheduled(cron = "${neobridge.account.statements.monthly-cron:0 0 3 1 * *}")
+    public void runForPreviousMonth() {
+        try {
+            run(YearMonth.now(zone).minusMonths(1));
+        } catch (Exception e) {
+            logger.error("Monthly statement run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Render statements for a month.
+     *
+     * @return number of statements rendered by this run
+     */
+    public int run(YearMonth month) {
+        logger.info("Rendering {} statements for {}", format, month);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
+        LocalDate closedThrough = partitionRunner.lastCompletedDate(EodSnapshotJob.JOB);
+        Path directory = Paths.get(outputDir, month.toString());
+
+        return partitionRunner.runInChunks(JOB, from, (lower, upper, after) -> {
+            Files.createDirectories(directory);
+            List<Object[]> accounts = jdbcTemplate.query(after == null ? FIRST_CHUNK_SQL : NEXT_CHUNK_SQL,
+                (rs, rowNum) -> new Object[] {rs.getObject(1, UUID.class), rs.getString(2)},
+                after == null ? lower : after, upper, chunkSize);
+            List<UUID> rendered = new ArrayList<>(accounts.size());
+            for (Object[] account : accounts) {
+                UUID accountId = (UUID) account[0];
+                Statement statement = statementService.buildStatement(accountId, from, to, closedThrough);
+                write(directory.resolve(account[1] + "." + format.getExtension()), renderer.render(statement, format));
+                rendered.add(accountId);
+            }
+            return rendered;
+        });
+    }
+
+    // Write then rename, so a crash never leaves a truncated statement in place
+    private static void write(Path target, byte[] content) {
+        try {
+            Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.write(temporary, content);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write statement " + target, e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.neobridge.account.statement;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.FontFactory;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Renders statements as PDF or CSV. Stateless and thread-safe.
+ */
+@Component
+public class StatementRenderer {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14);
+    private static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8);
+    private static final Font BODY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 8);
+
+    @Value("${neobridge.account.statements.zone:UTC}")
+    private ZoneId zone;
+
+    public byte[] render(Statement statement, StatementFormat format) {
+        return switch (format) {
+            case PDF -> renderPdf(statement);
+            case CSV -> renderCsv(statement);
+        };
+    }
+
+    private byte[] renderCsv(Statement statement) {
+        StringBuilder csv = new StringBuilder(128 + statement.getLines().size() * 96);
+        csv.append("Account,").append(csvValue(statement.getAccountNumber())).append('\n')
+           .append("Currency,").append(statement.getCurrency()).append('\n')
+           .append("Period,").append(statement.getFrom()).append(',').append(statement.getTo()).append('\n')
+           .append("Opening balance,").append(money(statement.getOpeningBalance())).append('\n')
+           .append("Closing balance,").append(money(statement.getClosingBalance())).append('\n')
+           .append('\n')
+           .append("Posted at,Type,Description,Reference,Amount,Balance\n");
+        for (Statement.Line line : statement.getLines()) {
+            csv.append(TIMESTAMP.format(line.getPostedAt().atZone(zone))).append(',')
+               .append(line.getType()).append(',')
+               .append(csvValue(line.getDescription())).append(',')
+               .append(csvValue(line.getReference())).append(',')
+               .append(money(line.getAmount())).append(',')
+               .append(money(line.getBalanceAfter())).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] renderPdf(Statement statement) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16384);
+        Document document = new Document(PageSize.A4, 36, 36, 36, 36);
+        try {
+            PdfWriter.getInstance(document, out);
+            document.open();
+
+            document.add(new Paragraph("Account Statement", TITLE_FONT));
+            document.add(new Paragraph(statement.getAccountName() + " - " + statement.getAccountNumber(), BODY_FONT));
+            document.add(new Paragraph("Period: " + statement.getFrom() + " to " + statement.getTo(), BODY_FONT));
+            document.add(new Paragraph("Opening balance: " + money(statement.getOpeningBalance()) + " " +
+                                       statement.getCurrency(), BODY_FONT));
+            document.add(new Paragraph("Total credits: " + money(statement.getCreditsTotal()) +
+                                       "    Total debits: " + money(statement.getDebitsTotal()), BODY_FONT));
+            document.add(new Paragraph("Closing balance: " + money(statement.getClosingBalance()) + " " +
+                                       statement.getCurrency(), BODY_FONT));
+            document.add(new Paragraph(" "));
+
+            PdfPTable table = new PdfPTable(new float[] {2.2f, 1.4f, 3.4f, 1.8f, 1.4f, 1.6f});
+            table.setWidthPercentage(100);
+            table.setHeaderRows(1);
+            for (String header : new String[] {"Posted at", "Type", "Description", "Reference", "Amount", "Balance"}) {
+                table.addCell(cell(header, HEADER_FONT, Element.ALIGN_LEFT));
+            }
+            for (Statement.Line line : statement.getLines()) {
+                table.addCell(cell(TIMESTAMP.format(line.getPostedAt().atZone(zone)), BODY_FONT, Element.ALIGN_LEFT));
+                table.addCell(cell(line.getType(), BODY_FONT, Element.ALIGN_LEFT));
+                table.addCell(cell(line.getDescription(), BODY_FONT, Element.ALIGN_LEFT));
+                table.addCell(cell(line.getReference(), BODY_FONT, Element.ALIGN_LEFT));
+                table.addCell(cell(money(line.getAmount()), BODY_FONT, Element.ALIGN_RIGHT));
+                table.addCell(cell(money(line.getBalanceAfter()), BODY_FONT, Element.ALIGN_RIGHT));
+            }
+            document.add(table);
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Failed to render statement for account " + statement.getAccountId(), e);
+        } finally {
+            document.close();
+        }
+        return out.toByteArray();
+    }
+
+    private static PdfPCell cell(String text, Font font, int alignment) {
+        PdfPCell cell = new PdfPCell(new Phrase(text != null ? text : "", font));
+        cell.setHorizontalAlignment(alignment);
+        return cell;
+    }
+
+    private static String money(BigDecimal amount) {
+        return amount == null ? "" : amount.setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,173 @@
+package com.neobridge.account.statement;
+
+import com.neobridge.account.exception.AccountNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Builds account statements from the EOD daily balance snapshots. Days not yet
+ * covered by a completed EOD run are aggregated from the statement's own
+ * transaction lines, so statements are current without waiting for EOD and
+ * never scan transactions outside the statement period.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StatementService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementService.class);
+
+    private static final String ACCOUNT_SQL =
+        "SELECT account_number, account_name, currency, balance FROM accounts WHERE id = ? AND deleted = false";
+
+    private static final String PREVIOUS_CLOSE_SQL =
+        "SELECT business_date, closing_balance FROM account_daily_balances WHERE account_id = ? AND business_date < ? " +
+        "ORDER BY business_date DESC LIMIT 1";
+
+    private static final String DAYS_SQL =
+        "SELECT business_date, opening_balance, closing_balance, credits_total, debits_total, credit_count, debit_count " +
+        "FROM account_daily_balances WHERE account_id = ? AND business_date BETWEEN ? AND ? ORDER BY business_date";
+
+    private static final String LINES_SQL =
+        "SELECT created_at, transaction_type, description, reference, amount, balance_before, balance_after " +
+        "FROM transactions WHERE account_id = ? AND status = 'COMPLETED' AND deleted = false " +
+        "AND balance_after IS NOT NULL AND created_at >= ? AND created_at < ? ORDER BY posting_seq";
+
+    // Movements after a snapshot that no completed EOD run has covered yet
+    private static final String MOVEMENT_BETWEEN_SQL =
+        "SELECT COALESCE(SUM(balance_after - balance_before), 0) FROM transactions " +
+        "WHERE account_id = ? AND status = 'COMPLETED' AND deleted = false AND balance_after IS NOT NULL " +
+        "AND created_at >= ? AND created_at < ?";
+
+    // Fallback when no snapshot precedes the period: back out later movements from the live balance
+    private static final String MOVEMENT_SINCE_SQL =
+        "SELECT COALESCE(SUM(balance_after - balance_before), 0) FROM transactions " +
+        "WHERE account_id = ? AND status = 'COMPLETED' AND deleted = false AND balance_after IS NOT NULL " +
+        "AND created_at >= ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EodPartitionRunner partitionRunner;
+
+    @Autowired
+    private StatementRenderer renderer;
+
+    @Value("${neobridge.account.statements.zone:UTC}")
+    private ZoneId zone;
+
+    /**
+     * Render the statement of an account for a date range, both ends inclusive.
+     */
+    public byte[] renderStatement(UUID accountId, LocalDate from, LocalDate to, StatementFormat format) {
+        return renderer.render(buildStatement(accountId, from, to), format);
+    }
+
+    /**
+     * Build the statement of an account for a date range, both ends inclusive.
+     */
+    public Statement buildStatement(UUID accountId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Statement period ends before it starts: " + from + " to " + to);
+        }
+        return buildStatement(accountId, from, to, partitionRunner.lastCompletedDate(EodSnapshotJob.JOB));
+    }
+
+    Statement buildStatement(UUID accountId, LocalDate from, LocalDate to, LocalDate closedThrough) {
+        logger.debug("Building statement for account: {}, {} to {}", accountId, from, to);
+
+        Object[] account = jdbcTemplate.query(ACCOUNT_SQL, rs -> rs.next()
+            ? new Object[] {rs.getString(1), rs.getString(2), rs.getString(3), rs.getBigDecimal(4)} : null, accountId);
+        if (account == null) {
+            throw new AccountNotFoundException("Account not found with ID: " + accountId);
+        }
+        Statement statement = new Statement(accountId, (String) account[0], (String) account[1], (String) account[2],
+                                            from, to);
+        Timestamp periodStart = Timestamp.from(from.atStartOfDay(zone).toInstant());
+        Timestamp periodEnd = Timestamp.from(to.plusDays(1).atStartOfDay(zone).toInstant());
+
+        statement.setOpeningBalance(openingBalance(accountId, from, closedThrough, (BigDecimal) account[3],
+                                                   periodStart));
+
+        // Snapshotted days
+        LocalDate snapshotsThrough = closedThrough == null ? from.minusDays(1)
+            : closedThrough.isBefore(to) ? closedThrough : to;
+        if (!snapshotsThrough.isBefore(from)) {
+            jdbcTemplate.query(DAYS_SQL, rs -> {
+                statement.getDays().add(new DailyBalance(rs.getDate(1).toLocalDate(), rs.getBigDecimal(2),
+                    rs.getBigDecimal(3), rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getInt(6), rs.getInt(7)));
+            }, accountId, Date.valueOf(from), Date.valueOf(snapshotsThrough));
+        }
+
+        // Lines, plus the deltas for days after the last EOD run
+        Map<LocalDate, BigDecimal[]> openDays = new TreeMap<>();
+        jdbcTemplate.query(LINES_SQL, rs -> {
+            BigDecimal amount = rs.getBigDecimal(5);
+            BigDecimal before = rs.getBigDecimal(6);
+            BigDecimal after = rs.getBigDecimal(7);
+            boolean debit = before != null && after.compareTo(before) < 0;
+            Timestamp postedAt = rs.getTimestamp(1);
+            statement.getLines().add(new Statement.Line(postedAt.toInstant(), rs.getString(2), rs.getString(3),
+                                                        rs.getString(4), debit ? amount.negate() : amount, after));
+
+            LocalDate day = postedAt.toInstant().atZone(zone).toLocalDate();
+            if (day.isAfter(snapshotsThrough)) {
+                // opening, closing, credits, debits, credit count, debit count
+                BigDecimal[] delta = openDays.computeIfAbsent(day, d -> new BigDecimal[] {
+                    before != null ? before : after.subtract(amount), null,
+                    BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+                delta[1] = after;
+                delta[debit ? 3 : 2] = delta[debit ? 3 : 2].add(amount);
+                delta[debit ? 5 : 4] = delta[debit ? 5 : 4].add(BigDecimal.ONE);
+            }
+        }, accountId, periodStart, periodEnd);
+
+        for (Map.Entry<LocalDate, BigDecimal[]> entry : openDays.entrySet()) {
+            BigDecimal[] delta = entry.getValue();
+            statement.getDays().add(new DailyBalance(entry.getKey(), delta[0], delta[1], delta[2], delta[3],
+                                                     delta[4].intValue(), delta[5].intValue()));
+        }
+        return statement;
+    }
+
+    /**
+     * Balance at the start of the period. Accounts without activity get no EOD
+     * row, so the latest snapshot before the period is the opening balance only
+     * when EOD has completed through the day before; otherwise movements on
+     * the days after the snapshot that EOD has not covered are added to it.
+     */
+    private BigDecimal openingBalance(UUID accountId, LocalDate from, LocalDate closedThrough, BigDecimal liveBalance,
+                                      Timestamp periodStart) {
+        List<Object[]> previousClose = jdbcTemplate.query(PREVIOUS_CLOSE_SQL,
+            (rs, rowNum) -> new Object[] {rs.getDate(1).toLocalDate(), rs.getBigDecimal(2)}, accountId, Date.valueOf(from));
+        if (previousClose.isEmpty()) {
+            BigDecimal movedSince = jdbcTemplate.queryForObject(MOVEMENT_SINCE_SQL, BigDecimal.class,
+                                                                accountId, periodStart);
+            return liveBalance.subtract(movedSince);
+        }
+        LocalDate snapshotDate = (LocalDate) previousClose.get(0)[0];
+        BigDecimal closingBalance = (BigDecimal) previousClose.get(0)[1];
+        if (closedThrough != null && !closedThrough.isBefore(from.minusDays(1))) {
+            return closingBalance;
+        }
+        Timestamp snapshotEnd = Timestamp.from(snapshotDate.plusDays(1).atStartOfDay(zone).toInstant());
+        BigDecimal movedAfter = jdbcTemplate.queryForObject(MOVEMENT_BETWEEN_SQL, BigDecimal.class,
+                                                            accountId, snapshotEnd, periodStart);
+        return closingBalance.add(movedAfter);
+    }
+}
@@ -0,0 +1,187 @@
+package com.neobridge.account.util;
+
+import com.neobridge.account.entity.Account;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates account numbers that are unique by construction.
+ * Serials come from blocks leased from {@code account_number_seq}; the block
+ * size is the sequence's increment, so each node makes one database round trip
+ * per block and nodes never hand out the same serial. Numbers are formatted
+ * locally as {@code <type prefix><separator><serial><Luhn check digit>}.
+ * Serials skipped when a node restarts are simply never issued.
+ */
+@Component
+public class AccountNumberGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountNumberGenerator.class);
+
+    private static final String LEASE_SQL = "SELECT nextval('account_number_seq')";
+
+    private static final String BLOCK_SIZE_SQL =
+        "SELECT increment_by FROM pg_sequences WHERE sequencename = 'account_number_seq'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${neobridge.account.account-number.length:12}")
+    private int length;
+
+    @Value("${neobridge.account.account-number.separator:-}")
+    private String separator;
+
+    @Value("${neobridge.account.account-number.iban.country-code:}")
+    private String ibanCountryCode;
+
+    @Value("${neobridge.account.account-number.iban.bank-code:}")
+    private String ibanBankCode;
+
+    private final Map<Account.AccountType, String> prefixes = new EnumMap<>(Account.AccountType.class);
+
+    // Current block: serials in [next, end)
+    private volatile Block block = new Block(0, 0);
+
+    private long blockSize;
+
+    /**
+     * Next account number. Unique across all currencies and nodes.
+     */
+    public String generateAccountNumber(Account.AccountType accountType, Account.Currency currency) {
+        long serial = nextSerial();
+        String digits = Long.toString(serial);
+        int serialLength = length - 1;
+        if (digits.length() > serialLength) {
+            throw new IllegalStateException("Account number serial space exhausted at " + serial);
+        }
+        StringBuilder number = new StringBuilder(length + 8).append(prefix(accountType)).append(separator);
+        for (int i = digits.length(); i < serialLength; i++) {
+            number.append('0');
+        }
+        number.append(digits);
+        return number.append(luhnCheckDigit(number, number.length() - serialLength)).toString();
+    }
+
+    /**
+     * IBAN for an account number, or {@code null} when no IBAN country is configured.
+     * The BBAN is the configured bank code followed by the account number's digits.
+     */
+    public String generateIban(String accountNumber) {
+        if (ibanCountryCode.isEmpty()) {
+            return null;
+        }
+        String bban = ibanBankCode + digitsOf(accountNumber);
+        int checkDigits = 98 - mod97(bban + ibanCountryCode + "00");
+        return ibanCountryCode + (checkDigits < 10 ? "0" : "") + checkDigits + bban;
+    }
+
+    /**
+     * Whether the account number's check digit matches its serial.
+     */
+    public boolean isValid(String accountNumber) {
+        String digits = digitsOf(accountNumber);
+        if (digits.length() != length) {
+            return false;
+        }
+        return luhnCheckDigit(digits, 0, digits.length() - 1) == digits.charAt(digits.length() - 1);
+    }
+
+    private long nextSerial() {
+        while (true) {
+            Block current = block;
+            long serial = current.next.getAndIncrement();
+            if (serial < current.end) {
+                return serial;
+            }
+            synchronized (this) {
+                if (block == current) {
+                    block = leaseBlock();
+                }
+            }
+        }
+    }
+
+    private Block leaseBlock() {
+        if (blockSize == 0) {
+            Long increment = jdbcTemplate.queryForObject(BLOCK_SIZE_SQL, Long.class);
+            blockSize = increment != null && increment > 0 ? increment : 1;
+        }
+        Long start = jdbcTemplate.queryForObject(LEASE_SQL, Long.class);
+        logger.debug("Leased account number block [{}, {})", start, start + blockSize);
+        return new Block(start, start + blockSize);
+    }
+
+    private String prefix(Account.AccountType accountType) {
+        return prefixes.computeIfAbsent(accountType, type -> environment.getProperty(
+            "neobridge.account.account-number.prefix." + type.name().toLowerCase(Locale.ROOT).replace('_', '-'),
+            type.name().substring(0, Math.min(3, type.name().length()))));
+    }
+
+    private static String digitsOf(String accountNumber) {
+        StringBuilder digits = new StringBuilder(accountNumber.length());
+        for (int i = 0; i < accountNumber.length(); i++) {
+            char c = accountNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    private static char luhnCheckDigit(CharSequence number, int from) {
+        return luhnCheckDigit(number, from, number.length());
+    }
+
+    // Luhn check digit over number[from, to)
+    private static char luhnCheckDigit(CharSequence number, int from, int to) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = to - 1; i >= from; i--) {
+            int digit = number.charAt(i) - '0';
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
+    // ISO 7064 MOD 97-10 with letters as 10..35, without building a big integer
+    private static int mod97(String value) {
+        int remainder = 0;
+        for (int i = 0; i < value.length(); i++) {
+            int code = Character.digit(value.charAt(i), 36);
+            remainder = (code < 10 ? remainder * 10 : remainder * 100) + code;
+            remainder %= 97;
+        }
+        return remainder;
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.neobridge.account.ledger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Rehydration starts from the account's snapshot and reads only the events
+ * after it, however long the stream behind the snapshot is.
+ */
+class LedgerEventStoreTest {
+
+    private final UUID accountId = UUID.randomUUID();
+
+    private JdbcTemplate jdbcTemplate;
+    private LedgerEventStore eventStore;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventStore = new LedgerEventStore();
+        ReflectionTestUtils.setField(eventStore, "jdbcTemplate", jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void loadReadsOnlyEventsAfterTheSnapshot() throws Exception {
+        ResultSet snapshot = mock(ResultSet.class);
+        when(snapshot.getLong(1)).thenReturn(10_000L);
+        when(snapshot.getBigDecimal(2)).thenReturn(new BigDecimal("500.00"));
+        when(snapshot.getBigDecimal(3)).thenReturn(new BigDecimal("450.00"));
+        when(snapshot.getBigDecimal(4)).thenReturn(new BigDecimal("50.00"));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(accountId))).thenAnswer(invocation ->
+            List.of(((RowMapper<LedgerAccount>) invocation.getArgument(1)).mapRow(snapshot, 0)));
+        events(10_000L, event(10_001L, LedgerEventType.DEBIT, "25.00"), event(10_002L, LedgerEventType.RELEASE, "50.00"));
+
+        LedgerAccount account = eventStore.load(accountId);
+
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(accountId), eq(10_000L));
+        assertThat(account.getSequence()).isEqualTo(10_002L);
+        assertThat(account.getEventsSinceSnapshot()).isEqualTo(2);
+        assertThat(account.getBalance()).isEqualByComparingTo("475.00");
+        assertThat(account.getAvailableBalance()).isEqualByComparingTo("475.00");
+        assertThat(account.getReservedBalance()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void loadWithoutSnapshotReplaysTheWholeStream() throws Exception {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(accountId))).thenReturn(List.of());
+        events(0L, event(1L, LedgerEventType.OPENING, "100.00"), event(2L, LedgerEventType.RESERVE, "40.00"));
+
+        LedgerAccount account = eventStore.load(accountId);
+
+        assertThat(account.getSequence()).isEqualTo(2);
+        assertThat(account.getEventsSinceSnapshot()).isEqualTo(2);
+        assertThat(account.getAvailableBalance()).isEqualByComparingTo("60.00");
+    }
+
+    @Test
+    void saveSnapshotResetsTheEventsSinceSnapshot() {
+        LedgerAccount account = LedgerAccount.empty(accountId);
+        account.apply(new LedgerEvent(accountId, 1, LedgerEventType.OPENING, BigDecimal.TEN, null, Instant.now()));
+
+        eventStore.saveSnapshot(account);
+
+        verify(jdbcTemplate).update(anyString(), eq(accountId), eq(1L), eq(BigDecimal.TEN), eq(BigDecimal.TEN),
+                                    eq(BigDecimal.ZERO));
+        assertThat(account.getEventsSinceSnapshot()).isZero();
+    }
+
+    private void events(long after, ResultSet... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet row : rows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(accountId), eq(after));
+    }
+
+    private static ResultSet event(long sequence, LedgerEventType type, String amount) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(sequence);
+        when(rs.getInt(2)).thenReturn(type.ordinal());
+        when(rs.getBigDecimal(3)).thenReturn(new BigDecimal(amount));
+        when(rs.getTimestamp(5)).thenReturn(Timestamp.from(Instant.now()));
+        return rs;
+    }
+}
@@ -0,0 +1,78 @@
+package com.neobridge.account.ledger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A projection rebuild covers every account bucket, each on its own thread,
+ * and advances the checkpoint only once all of them have succeeded.
+ */
+class LedgerProjectorTest {
+
+    private static final int PARALLELISM = 4;
+    private static final long XMIN = 7_000L;
+
+    private JdbcTemplate jdbcTemplate;
+    private LedgerProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT (pg_snapshot_xmin"), eq(Long.class))).thenReturn(XMIN);
+        projector = new LedgerProjector();
+        ReflectionTestUtils.setField(projector, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(projector, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(projector, "rebuildParallelism", PARALLELISM);
+    }
+
+    @Test
+    void rebuildsEveryBucketInParallelAndAdvancesTheCheckpoint() {
+        Set<Integer> buckets = ConcurrentHashMap.newKeySet();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        when(jdbcTemplate.update(startsWith("INSERT INTO ledger_balances"), eq(XMIN), eq(PARALLELISM), anyInt()))
+            .thenAnswer(invocation -> {
+                buckets.add(invocation.getArgument(3));
+                threads.add(Thread.currentThread());
+                return 10;
+            });
+
+        int rebuilt = projector.rebuild();
+
+        assertThat(rebuilt).isEqualTo(10 * PARALLELISM);
+        assertThat(buckets).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(threads).doesNotContain(Thread.currentThread());
+        for (int bucket = 0; bucket < PARALLELISM; bucket++) {
+            verify(jdbcTemplate).update(startsWith("DELETE FROM ledger_balances"), eq(PARALLELISM), eq(bucket));
+            verify(jdbcTemplate).update(startsWith("UPDATE accounts"), eq(PARALLELISM), eq(bucket));
+        }
+        verify(jdbcTemplate).update(startsWith("UPDATE ledger_checkpoints"), eq(XMIN), eq(0L), eq("balances"));
+    }
+
+    @Test
+    void failedBucketLeavesTheCheckpointWhereItWas() {
+        when(jdbcTemplate.update(startsWith("INSERT INTO ledger_balances"), eq(XMIN), eq(PARALLELISM), eq(2)))
+            .thenThrow(new IllegalStateException("bucket lost"));
+
+        assertThatThrownBy(projector::rebuild).hasMessageContaining("rebuild failed");
+
+        verify(jdbcTemplate, never()).update(contains("ledger_checkpoints"), eq(XMIN), eq(0L), anyString());
+    }
+}
@@ -0,0 +1,107 @@
+package com.neobridge.account.ledger;
+
+import com.neobridge.account.entity.Account;
+import com.neobridge.account.exception.InsufficientBalanceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Postings are validated against the rehydrated state, seed the stream on
+ * first use and snapshot the account every {@code snapshot-every} events.
+ */
+class LedgerServiceTest {
+
+    private final UUID accountId = UUID.randomUUID();
+
+    private LedgerEventStore eventStore;
+    private LedgerService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        eventStore = mock(LedgerEventStore.class);
+        ledgerService = new LedgerService();
+        ReflectionTestUtils.setField(ledgerService, "eventStore", eventStore);
+        ReflectionTestUtils.setField(ledgerService, "jdbcTemplate", mock(JdbcTemplate.class));
+        ReflectionTestUtils.setField(ledgerService, "snapshotEvery", 3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void firstPostingSeedsTheStreamFromTheAccount() {
+        when(eventStore.load(accountId)).thenReturn(LedgerAccount.empty(accountId));
+        Account account = account("100.00", "20.00");
+
+        LedgerAccount state = ledgerService.post(account, LedgerEventType.DEBIT, new BigDecimal("30.00"), "ref");
+
+        ArgumentCaptor<List<LedgerEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventStore).append(events.capture());
+        assertThat(events.getValue()).extracting(LedgerEvent::getType)
+            .containsExactly(LedgerEventType.OPENING, LedgerEventType.RESERVE, LedgerEventType.DEBIT);
+        assertThat(events.getValue()).extracting(LedgerEvent::getSequence).containsExactly(1L, 2L, 3L);
+        assertThat(state.getBalance()).isEqualByComparingTo("70.00");
+        assertThat(state.getAvailableBalance()).isEqualByComparingTo("50.00");
+        assertThat(state.getReservedBalance()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    void snapshotsOnceEnoughEventsFollowTheLastSnapshot() {
+        when(eventStore.load(accountId)).thenReturn(loaded(10, 11));
+        ledgerService.post(account("0", "0"), LedgerEventType.CREDIT, BigDecimal.ONE, null);
+        verify(eventStore, never()).saveSnapshot(any());
+
+        LedgerAccount due = loaded(10, 12);
+        when(eventStore.load(accountId)).thenReturn(due);
+        ledgerService.post(account("0", "0"), LedgerEventType.CREDIT, BigDecimal.ONE, null);
+        verify(eventStore).saveSnapshot(due);
+        assertThat(due.getSequence()).isEqualTo(13);
+    }
+
+    @Test
+    void rejectsDebitBeyondAvailableBalanceAndOverdraft() {
+        when(eventStore.load(accountId)).thenReturn(loaded(1, 1));
+        Account account = account("0", "0");
+        account.setOverdraftLimit(new BigDecimal("5.00"));
+
+        assertThatThrownBy(() -> ledgerService.post(account, LedgerEventType.DEBIT, new BigDecimal("15.01"), null))
+            .isInstanceOf(InsufficientBalanceException.class);
+        verify(eventStore, never()).append(any());
+    }
+
+    /**
+     * State loaded from a snapshot at {@code snapshotSequence} with credits of 10 folded in up to {@code sequence}.
+     */
+    private LedgerAccount loaded(long snapshotSequence, long sequence) {
+        LedgerAccount state = new LedgerAccount(accountId, snapshotSequence, BigDecimal.TEN, BigDecimal.TEN,
+                                                BigDecimal.ZERO);
+        for (long next = snapshotSequence + 1; next <= sequence; next++) {
+            state.apply(new LedgerEvent(accountId, next, LedgerEventType.CREDIT, BigDecimal.TEN, null,
+                                        Instant.now()));
+        }
+        return state;
+    }
+
+    private Account account(String balance, String reserved) {
+        Account account = new Account();
+        account.setId(accountId);
+        account.setBalance(new BigDecimal(balance));
+        account.setReservedBalance(new BigDecimal(reserved));
+        account.setOverdraftLimit(BigDecimal.ZERO);
+        return account;
+    }
+}
@@ -0,0 +1,80 @@
+package com.neobridge.account.repository;
+
+import com.neobridge.account.entity.AccountHold;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The expiry query returns only open holds that are due, earliest first and
+ * up to the batch limit, against PostgreSQL.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class AccountHoldRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private AccountHoldRepository holdRepository;
+
+    @Test
+    void findsDueOpenHoldsEarliestFirst() {
+        Instant now = Instant.now();
+        UUID accountId = UUID.randomUUID();
+        AccountHold older = save(accountId, now.minusSeconds(600));
+        AccountHold partial = save(accountId, now.minusSeconds(300));
+        partial.capture(BigDecimal.ONE);
+        holdRepository.save(partial);
+        AccountHold voided = save(accountId, now.minusSeconds(400));
+        voided.markAsVoided();
+        holdRepository.save(voided);
+        save(accountId, now.plusSeconds(600));
+        holdRepository.flush();
+
+        assertThat(holdRepository.findExpiredOpenHoldIds(now, 10)).containsExactly(older.getId(), partial.getId());
+        assertThat(holdRepository.findExpiredOpenHoldIds(now, 1)).containsExactly(older.getId());
+    }
+
+    @Test
+    void findsOpenHoldsOfAnAccount() {
+        UUID accountId = UUID.randomUUID();
+        AccountHold open = save(accountId, Instant.now().plusSeconds(60));
+        AccountHold captured = save(accountId, Instant.now().plusSeconds(60));
+        captured.capture(captured.getAmount());
+        holdRepository.saveAndFlush(captured);
+
+        List<AccountHold> holds = holdRepository.findByAccountIdAndStatusIn(accountId,
+            List.of(AccountHold.HoldStatus.ACTIVE, AccountHold.HoldStatus.PARTIALLY_CAPTURED));
+
+        assertThat(holds).extracting(AccountHold::getId).containsExactly(open.getId());
+        assertThat(holdRepository.findByIdForUpdate(captured.getId())).get()
+            .extracting(AccountHold::getStatus).isEqualTo(AccountHold.HoldStatus.CAPTURED);
+    }
+
+    private AccountHold save(UUID accountId, Instant expiresAt) {
+        return holdRepository.save(new AccountHold(accountId, new BigDecimal("10.00"), "EUR", "AUTH", expiresAt));
+    }
+}
@@ -0,0 +1,167 @@
+package com.neobridge.account.service;
+
+import com.neobridge.account.entity.Account;
+import com.neobridge.account.entity.Transaction;
+import com.neobridge.account.ledger.LedgerProjector;
+import com.neobridge.account.ledger.LedgerService;
+import com.neobridge.account.repository.AccountRepository;
+import com.neobridge.account.repository.TransactionRepository;
+import com.neobridge.account.util.AccountNumberGenerator;
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.common.stream.JdbcStreamingService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements issued per AccountService call, counted with Hibernate
+ * statistics against PostgreSQL. Accounts carry a transaction history, so any
+ * path that touches Account.transactions shows up as extra statements.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    // Entity constraints reject zero balances on insert; these tests are about statement counts
+    "spring.jpa.properties.jakarta.persistence.validation.mode=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(AccountService.class)
+class AccountServiceStatementCountTest {
+
+    private static final int HISTORY = 50;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @MockBean
+    private AccountNumberGenerator accountNumberGenerator;
+
+    @MockBean
+    private JdbcStreamingService streamingService;
+
+    @MockBean
+    private LedgerService ledgerService;
+
+    @MockBean
+    private LedgerProjector ledgerProjector;
+
+    @MockBean
+    private FxRateService fxRateService;
+
+    @MockBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        Account account = new Account(UUID.randomUUID(), "CUR-" + System.nanoTime(), "Household",
+                                      Account.AccountType.CURRENT, Account.Currency.EUR);
+        account.setBalance(new BigDecimal("5000.0000"));
+        account.setAvailableBalance(new BigDecimal("5000.0000"));
+        accountId = accountRepository.saveAndFlush(account).getId();
+        for (int i = 0; i < HISTORY; i++) {
+            transactionRepository.save(new Transaction(accountId, account.getUserId(),
+                Transaction.TransactionType.DEPOSIT, BigDecimal.TEN, "EUR", "History " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void debitLoadsAccountAndWritesOneRowPerTable() {
+        accountService.debitAccount(accountId, new BigDecimal("25.00"), "Groceries", "REF-1");
+        entityManager.flush();
+
+        // SELECT account, UPDATE account, INSERT transaction
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void creditLoadsAccountAndWritesOneRowPerTable() {
+        accountService.creditAccount(accountId, new BigDecimal("25.00"), "Refund", "REF-2");
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void statusChangeNeverTouchesTransactions() {
+        accountService.updateAccountStatus(accountId, Account.AccountStatus.SUSPENDED);
+        entityManager.flush();
+
+        // SELECT account, UPDATE account
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void readingAnAccountIsOneSelect() {
+        accountService.getAccountById(accountId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void limitResetIsOneUpdate() {
+        accountService.resetDailyLimits();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void transactionsFetchPlanLoadsHistoryInOneSelect() {
+        Account account = accountRepository.findWithTransactionsById(accountId).orElseThrow();
+
+        assertThat(account.getTransactions()).hasSize(HISTORY);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,48 @@
+package com.neobridge.account.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Schema for benchmarks running against a bare PostgreSQL container. The
+ * accounts and transactions tables are created by Hibernate in the service,
+ * so only the columns the JDBC write paths touch are declared here; the
+ * repository migrations that build on them are applied as shipped.
+ */
+final class BenchmarkSchema {
+
+    private static final String TABLES_SQL =
+        "CREATE TABLE accounts (id UUID PRIMARY KEY, user_id UUID NOT NULL, account_number VARCHAR(20), " +
+        "iban VARCHAR(34), account_name VARCHAR(100), account_type VARCHAR(20), currency VARCHAR(3) NOT NULL, " +
+        "status VARCHAR(20) NOT NULL, balance DECIMAL(19,4) NOT NULL, available_balance DECIMAL(19,4) NOT NULL, " +
+        "reserved_balance DECIMAL(19,4) NOT NULL DEFAULT 0, daily_limit DECIMAL(19,4), monthly_limit DECIMAL(19,4), " +
+        "daily_transactions_count INTEGER, monthly_transactions_count INTEGER, daily_transactions_amount DECIMAL(19,4), " +
+        "monthly_transactions_amount DECIMAL(19,4), last_transaction_date TIMESTAMP, interest_rate DECIMAL(5,4), " +
+        "overdraft_limit DECIMAL(19,4) DEFAULT 0, overdraft_used DECIMAL(19,4) DEFAULT 0, is_joint_account BOOLEAN, " +
+        "joint_account_holders VARCHAR(500), description VARCHAR(500), created_at TIMESTAMP, updated_at TIMESTAMP, " +
+        "version BIGINT NOT NULL DEFAULT 0, deleted BOOLEAN NOT NULL DEFAULT false);" +
+        "CREATE UNIQUE INDEX idx_accounts_number ON accounts(account_number);" +
+        "CREATE TABLE transactions (id UUID PRIMARY KEY, account_id UUID NOT NULL, user_id UUID NOT NULL, " +
+        "transaction_type VARCHAR(30) NOT NULL, status VARCHAR(20) NOT NULL, amount DECIMAL(19,4) NOT NULL, " +
+        "currency VARCHAR(3) NOT NULL, balance_before DECIMAL(19,4), balance_after DECIMAL(19,4), " +
+        "reference VARCHAR(100), external_reference VARCHAR(100), description VARCHAR(500), " +
+        "exchange_rate DECIMAL(19,8), fee_amount DECIMAL(19,4), processing_date TIMESTAMP, created_at TIMESTAMP, " +
+        "updated_at TIMESTAMP, version BIGINT, deleted BOOLEAN)";
+
+    private static final Path MIGRATIONS = Path.of("..", "database", "migrations");
+
+    private BenchmarkSchema() {}
+
+    /**
+     * Create the account tables, then apply the named migrations in order.
+     */
+    static void create(JdbcTemplate jdbcTemplate, String... migrations) throws IOException {
+        jdbcTemplate.execute(TABLES_SQL);
+        for (String migration : migrations) {
+            jdbcTemplate.execute(Files.readString(MIGRATIONS.resolve(migration)));
+        }
+    }
+}
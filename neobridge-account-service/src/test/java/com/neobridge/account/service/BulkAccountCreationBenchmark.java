@@ -0,0 +1,124 @@
+package com.neobridge.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neobridge.account.dto.AccountCreateRequest;
+import com.neobridge.account.dto.BulkAccountCreateResponse;
+import com.neobridge.account.entity.Account;
+import com.neobridge.account.util.AccountNumberGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Accounts created per second through the bulk endpoint's service for an
+ * NDJSON body of 100k records, at several chunk sizes. Every account gets an
+ * initial deposit, so each chunk writes two JDBC batches. Kafka is mocked.
+ * Runs against a PostgreSQL container and is skipped without Docker.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class BulkAccountCreationBenchmark {
+
+    private static final int RECORDS = 100_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        BenchmarkSchema.create(jdbcTemplate, "V6__Account_Number_Sequence.sql");
+    }
+
+    @AfterAll
+    static void closeDataSource() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void createAccountsInBulk() throws Exception {
+        byte[] body = ndjson();
+        BulkAccountService service = service(500);
+        service.createAccounts(new ByteArrayInputStream(body)); // warm-up
+
+        for (int chunkSize : new int[] {100, 500, 2000}) {
+            service = service(chunkSize);
+            long started = System.nanoTime();
+            BulkAccountCreateResponse response = service.createAccounts(new ByteArrayInputStream(body));
+            double perSecond = response.getCreated() * 1e9 / (System.nanoTime() - started);
+
+            System.out.printf("Bulk account creation, chunk size %d: %d created, %d failed, %.0f accounts/sec%n",
+                              chunkSize, response.getCreated(), response.getFailed(), perSecond);
+            assertThat(response.getCreated()).isEqualTo(RECORDS);
+        }
+    }
+
+    private byte[] ndjson() throws Exception {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int i = 0; i < RECORDS; i++) {
+            AccountCreateRequest request = new AccountCreateRequest(UUID.randomUUID(), "Payroll account " + i,
+                Account.AccountType.CURRENT, Account.Currency.EUR);
+            request.setInitialDeposit(new BigDecimal("250.00"));
+            request.setDescription("Corporate onboarding batch");
+            objectMapper.writeValue(body, request);
+            body.write('\n');
+        }
+        return body.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private BulkAccountService service(int chunkSize) {
+        AccountNumberGenerator generator = new AccountNumberGenerator();
+        ReflectionTestUtils.setField(generator, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(generator, "environment", new MockEnvironment());
+        ReflectionTestUtils.setField(generator, "length", 12);
+        ReflectionTestUtils.setField(generator, "separator", "-");
+        ReflectionTestUtils.setField(generator, "ibanCountryCode", "DE");
+        ReflectionTestUtils.setField(generator, "ibanBankCode", "37040044");
+
+        BulkAccountService service = new BulkAccountService();
+        ReflectionTestUtils.setField(service, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(service, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(service, "transactionManager", new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(service, "accountNumberGenerator", generator);
+        ReflectionTestUtils.setField(service, "kafkaTemplate", mock(KafkaTemplate.class));
+        ReflectionTestUtils.setField(service, "chunkSize", chunkSize);
+        ReflectionTestUtils.setField(service, "maxRecords", RECORDS);
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 1000);
+        ReflectionTestUtils.setField(service, "accountEventsTopic", "neobridge.account.events");
+        return service;
+    }
+}
@@ -0,0 +1,156 @@
+package com.neobridge.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neobridge.account.dto.BulkAccountCreateResponse;
+import com.neobridge.account.event.AccountsCreatedEvent;
+import com.neobridge.account.util.AccountNumberGenerator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Invalid records are reported by index and skipped, a chunk that fails to
+ * write is reported record by record, and each committed chunk publishes
+ * exactly one event.
+ */
+class BulkAccountServiceTest {
+
+    private static final String TOPIC = "neobridge.account.events";
+
+    private ValidatorFactory validatorFactory;
+    private JdbcTemplate jdbcTemplate;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private BulkAccountService bulkAccountService;
+    private final AtomicInteger accountBatches = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        jdbcTemplate = mock(JdbcTemplate.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        AccountNumberGenerator accountNumberGenerator = mock(AccountNumberGenerator.class);
+        AtomicInteger serial = new AtomicInteger();
+        when(accountNumberGenerator.generateAccountNumber(any(), any()))
+            .thenAnswer(invocation -> "CUR-" + serial.incrementAndGet());
+
+        bulkAccountService = new BulkAccountService();
+        ReflectionTestUtils.setField(bulkAccountService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(bulkAccountService, "validator", validatorFactory.getValidator());
+        ReflectionTestUtils.setField(bulkAccountService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(bulkAccountService, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(bulkAccountService, "accountNumberGenerator", accountNumberGenerator);
+        ReflectionTestUtils.setField(bulkAccountService, "kafkaTemplate", kafkaTemplate);
+        ReflectionTestUtils.setField(bulkAccountService, "chunkSize", 2);
+        ReflectionTestUtils.setField(bulkAccountService, "maxRecords", 100);
+        ReflectionTestUtils.setField(bulkAccountService, "maxReportedErrors", 100);
+        ReflectionTestUtils.setField(bulkAccountService, "accountEventsTopic", TOPIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void reportsInvalidRecordsAndFailedChunksAndPublishesPerCommittedChunk() throws Exception {
+        // The second chunk's account batch hits a constraint violation
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO accounts"), anyList())).thenAnswer(invocation -> {
+            if (accountBatches.incrementAndGet() == 2) {
+                throw new DataIntegrityViolationException("duplicate account_number");
+            }
+            return new int[((List<?>) invocation.getArgument(1)).size()];
+        });
+
+        BulkAccountCreateResponse response = bulkAccountService.createAccounts(ndjson(
+            record("Payroll", "250.00"),
+            "{\"userId\":\"" + UUID.randomUUID() + "\",\"accountType\":\"CURRENT\",\"currency\":\"EUR\"," +
+                "\"initialDeposit\":10}",
+            record("Treasury", "10.00"),
+            record("Expenses", "10.00"),
+            record("Reserve", "75.00")));
+
+        assertThat(response.getReceived()).isEqualTo(5);
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(BulkAccountCreateResponse.RecordError::getIndex)
+            .containsExactly(1, 2, 3);
+        assertThat(response.getErrors().get(0).getMessage()).startsWith("accountName: ");
+        assertThat(response.getErrors().get(1).getMessage()).startsWith("Chunk 1 failed: ");
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(2)).send(eq(TOPIC), eq(response.getBatchId().toString()), events.capture());
+        assertThat(events.getAllValues()).extracting(event -> ((AccountsCreatedEvent) event).getChunk())
+            .containsExactly(0, 2);
+        AccountsCreatedEvent first = (AccountsCreatedEvent) events.getAllValues().get(0);
+        assertThat(first.getAccounts()).singleElement().satisfies(account -> {
+            assertThat(account.getAccountNumber()).isEqualTo("CUR-1");
+            assertThat(account.getInitialDeposit()).isEqualByComparingTo("250.00");
+        });
+        // The failed chunk never reached its deposit batch
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("INSERT INTO transactions"), anyList());
+    }
+
+    @Test
+    void keepsCommittedChunksWhenTheInputBreaksOff() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[0]);
+
+        BulkAccountCreateResponse response = bulkAccountService.createAccounts(ndjson(
+            record("Payroll", "1.00"), record("Treasury", "1.00"), record("Expenses", "1.00"), "{\"userId\": "));
+
+        assertThat(response.getReceived()).isEqualTo(3);
+        assertThat(response.getCreated()).isEqualTo(3);
+        assertThat(response.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getIndex()).isEqualTo(3);
+            assertThat(error.getMessage()).startsWith("Malformed record: ");
+        });
+        verify(kafkaTemplate, times(2)).send(eq(TOPIC), anyString(), any());
+    }
+
+    @Test
+    void ignoresRecordsBeyondTheLimit() throws Exception {
+        ReflectionTestUtils.setField(bulkAccountService, "maxRecords", 2);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[0]);
+
+        BulkAccountCreateResponse response = bulkAccountService.createAccounts(ndjson(
+            record("Payroll", "1.00"), record("Treasury", "1.00"), record("Expenses", "1.00")));
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getErrors().get(0).getMessage()).contains("exceeds 2 records");
+    }
+
+    private static String record(String name, String deposit) {
+        return "{\"userId\":\"" + UUID.randomUUID() + "\",\"accountName\":\"" + name + "\"," +
+               "\"accountType\":\"CURRENT\",\"currency\":\"EUR\",\"initialDeposit\":" + deposit + "}";
+    }
+
+    private static ByteArrayInputStream ndjson(String... records) {
+        return new ByteArrayInputStream(String.join("\n", records).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,69 @@
+package com.neobridge.account.service;
+
+import com.neobridge.account.repository.AccountHoldRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Due holds are expired batch by batch until a short batch or a batch that
+ * made no progress, and one failing hold does not stop the rest.
+ */
+class HoldExpirySchedulerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private AccountHoldRepository holdRepository;
+    private HoldService holdService;
+    private HoldExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        holdRepository = mock(AccountHoldRepository.class);
+        holdService = mock(HoldService.class);
+        scheduler = new HoldExpiryScheduler();
+        ReflectionTestUtils.setField(scheduler, "holdRepository", holdRepository);
+        ReflectionTestUtils.setField(scheduler, "holdService", holdService);
+        ReflectionTestUtils.setField(scheduler, "batchSize", BATCH_SIZE);
+    }
+
+    @Test
+    void expiresBatchesUntilAShortOne() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(holdRepository.findExpiredOpenHoldIds(any(Instant.class), eq(BATCH_SIZE)))
+            .thenReturn(List.of(first, second), List.of(third));
+        when(holdService.expireHold(any())).thenReturn(true);
+        when(holdService.expireHold(second)).thenThrow(new IllegalStateException("account locked"));
+
+        scheduler.expireDueHolds();
+
+        verify(holdService).expireHold(first);
+        verify(holdService).expireHold(second);
+        verify(holdService).expireHold(third);
+        verify(holdRepository, times(2)).findExpiredOpenHoldIds(any(Instant.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void stopsOnAFullBatchThatMadeNoProgress() {
+        List<UUID> stuck = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(holdRepository.findExpiredOpenHoldIds(any(Instant.class), eq(BATCH_SIZE))).thenReturn(stuck);
+        when(holdService.expireHold(any())).thenReturn(false);
+
+        scheduler.expireDueHolds();
+
+        verify(holdRepository).findExpiredOpenHoldIds(any(Instant.class), eq(BATCH_SIZE));
+    }
+}
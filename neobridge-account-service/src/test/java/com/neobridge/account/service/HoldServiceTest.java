@@ -0,0 +1,160 @@
+package com.neobridge.account.service;
+
+import com.neobridge.account.dto.AccountResponse;
+import com.neobridge.account.dto.HoldResponse;
+import com.neobridge.account.entity.Account;
+import com.neobridge.account.entity.AccountHold;
+import com.neobridge.account.exception.InvalidAccountOperationException;
+import com.neobridge.account.repository.AccountHoldRepository;
+import com.neobridge.account.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Holds reserve on placement and release or debit exactly what they settle,
+ * with the account row locked before every account update.
+ */
+class HoldServiceTest {
+
+    private final UUID accountId = UUID.randomUUID();
+
+    private AccountHoldRepository holdRepository;
+    private AccountRepository accountRepository;
+    private AccountService accountService;
+    private HoldService holdService;
+
+    @BeforeEach
+    void setUp() {
+        holdRepository = mock(AccountHoldRepository.class);
+        accountRepository = mock(AccountRepository.class);
+        accountService = mock(AccountService.class);
+        holdService = new HoldService();
+        ReflectionTestUtils.setField(holdService, "holdRepository", holdRepository);
+        ReflectionTestUtils.setField(holdService, "accountRepository", accountRepository);
+        ReflectionTestUtils.setField(holdService, "accountService", accountService);
+        ReflectionTestUtils.setField(holdService, "defaultTtl", Duration.ofHours(168));
+        ReflectionTestUtils.setField(holdService, "maxTtl", Duration.ofHours(720));
+
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(new Account()));
+        when(holdRepository.save(any(AccountHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void placeHoldLocksTheAccountAndReserves() {
+        AccountResponse account = mock(AccountResponse.class);
+        when(account.getCurrency()).thenReturn(Account.Currency.EUR);
+        when(accountService.getAccountById(accountId)).thenReturn(account);
+
+        HoldResponse hold = holdService.placeHold(accountId, new BigDecimal("40.00"), "AUTH-1", Duration.ofHours(1));
+
+        InOrder order = inOrder(accountRepository, accountService, holdRepository);
+        order.verify(accountRepository).findByIdForUpdate(accountId);
+        order.verify(accountService).reserveAmount(accountId, new BigDecimal("40.00"));
+        order.verify(holdRepository).save(any(AccountHold.class));
+        assertThat(hold.getAmount()).isEqualByComparingTo("40.00");
+        assertThat(hold.getStatus()).isEqualTo(AccountHold.HoldStatus.ACTIVE);
+    }
+
+    @Test
+    void placeHoldRejectsTtlBeyondTheMaximum() {
+        assertThatThrownBy(() -> holdService.placeHold(accountId, BigDecimal.TEN, "AUTH-2", Duration.ofDays(31)))
+            .isInstanceOf(InvalidAccountOperationException.class);
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    void captureOfTheRemainderReleasesAndDebitsIt() {
+        AccountHold hold = hold("100.00", Instant.now().plusSeconds(60));
+
+        HoldResponse captured = holdService.capture(hold.getId(), null, null);
+
+        InOrder order = inOrder(holdRepository, accountRepository, accountService);
+        order.verify(holdRepository).findByIdForUpdate(hold.getId());
+        order.verify(accountRepository).findByIdForUpdate(accountId);
+        order.verify(accountService).releaseReservation(accountId, new BigDecimal("100.00"));
+        order.verify(accountService).debitAccount(accountId, new BigDecimal("100.00"), "Hold capture", "AUTH");
+        assertThat(captured.getStatus()).isEqualTo(AccountHold.HoldStatus.CAPTURED);
+    }
+
+    @Test
+    void partialCaptureLeavesTheRestHeld() {
+        AccountHold hold = hold("100.00", Instant.now().plusSeconds(60));
+
+        holdService.capture(hold.getId(), new BigDecimal("30.00"), "Fuel");
+
+        verify(accountService).releaseReservation(accountId, new BigDecimal("30.00"));
+        verify(accountService).debitAccount(accountId, new BigDecimal("30.00"), "Fuel", "AUTH");
+        assertThat(hold.getStatus()).isEqualTo(AccountHold.HoldStatus.PARTIALLY_CAPTURED);
+        assertThat(hold.getRemainingAmount()).isEqualByComparingTo("70.00");
+
+        assertThatThrownBy(() -> holdService.capture(hold.getId(), new BigDecimal("70.01"), null))
+            .isInstanceOf(InvalidAccountOperationException.class);
+    }
+
+    @Test
+    void voidReleasesTheRemainingAmount() {
+        AccountHold hold = hold("100.00", Instant.now().plusSeconds(60));
+        hold.capture(new BigDecimal("25.00"));
+
+        HoldResponse voided = holdService.voidHold(hold.getId());
+
+        verify(accountRepository).findByIdForUpdate(accountId);
+        verify(accountService).releaseReservation(accountId, new BigDecimal("75.00"));
+        verify(accountService, never()).debitAccount(any(), any(), anyString(), anyString());
+        assertThat(voided.getStatus()).isEqualTo(AccountHold.HoldStatus.VOIDED);
+
+        assertThatThrownBy(() -> holdService.voidHold(hold.getId()))
+            .isInstanceOf(InvalidAccountOperationException.class);
+    }
+
+    @Test
+    void expireReleasesStaleHoldsOnly() {
+        AccountHold stale = hold("50.00", Instant.now().minusSeconds(1));
+        AccountHold extended = hold("20.00", Instant.now().plusSeconds(60));
+
+        assertThat(holdService.expireHold(stale.getId())).isTrue();
+        assertThat(holdService.expireHold(extended.getId())).isFalse();
+        assertThat(holdService.expireHold(stale.getId())).isFalse();
+
+        verify(accountService).releaseReservation(accountId, new BigDecimal("50.00"));
+        verify(accountService, never()).releaseReservation(eq(accountId), eq(new BigDecimal("20.00")));
+        assertThat(stale.getStatus()).isEqualTo(AccountHold.HoldStatus.EXPIRED);
+        assertThat(extended.getStatus()).isEqualTo(AccountHold.HoldStatus.ACTIVE);
+    }
+
+    @Test
+    void expiredHoldCannotBeCaptured() {
+        AccountHold hold = hold("10.00", Instant.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> holdService.capture(hold.getId(), null, null))
+            .isInstanceOf(InvalidAccountOperationException.class);
+        verifyNoInteractions(accountService);
+    }
+
+    private AccountHold hold(String amount, Instant expiresAt) {
+        AccountHold hold = new AccountHold(accountId, new BigDecimal(amount), "EUR", "AUTH", expiresAt);
+        hold.setId(UUID.randomUUID());
+        when(holdRepository.findByIdForUpdate(hold.getId())).thenReturn(Optional.of(hold));
+        return hold;
+    }
+}
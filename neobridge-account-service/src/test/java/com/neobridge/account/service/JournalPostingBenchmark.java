@@ -0,0 +1,190 @@
+package com.neobridge.account.service;
+
+import com.neobridge.account.dto.JournalEntryRequest;
+import com.neobridge.account.dto.JournalLegRequest;
+import com.neobridge.account.entity.Account;
+import com.neobridge.account.ledger.LedgerEventStore;
+import com.neobridge.account.ledger.LedgerService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Journal postings per second and latency for 2-leg and 10-leg entries,
+ * posted in place and through the event-sourced ledger, with every thread
+ * drawing its legs from the same small set of hot accounts. Runs against a
+ * PostgreSQL container and is skipped without Docker.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class JournalPostingBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int HOT_ACCOUNTS = 20;
+    private static final int POSTINGS_PER_THREAD = 300;
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("1000000.0000");
+    private static final BigDecimal LEG_AMOUNT = new BigDecimal("1.25");
+
+    private static final String INSERT_ACCOUNT_SQL =
+        "INSERT INTO accounts (id, user_id, currency, status, balance, available_balance) VALUES (?, ?, 'EUR', 'ACTIVE', ?, ?)";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        dataSource.setMaximumPoolSize(THREADS);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        BenchmarkSchema.create(jdbcTemplate, "V3__Account_Ledger.sql", "V13__Ledger_Commit_Order.sql");
+    }
+
+    @AfterAll
+    static void closeDataSource() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void inPlacePostingsUnderContention() throws Exception {
+        postUnderContention(false);
+    }
+
+    @Test
+    void ledgerPostingsUnderContention() throws Exception {
+        postUnderContention(true);
+    }
+
+    private static void postUnderContention(boolean eventSourced) throws Exception {
+        LedgerEventStore eventStore = new LedgerEventStore();
+        ReflectionTestUtils.setField(eventStore, "jdbcTemplate", jdbcTemplate);
+        LedgerService ledgerService = new LedgerService();
+        ReflectionTestUtils.setField(ledgerService, "eventStore", eventStore);
+        ReflectionTestUtils.setField(ledgerService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(ledgerService, "eventSourced", eventSourced);
+        ReflectionTestUtils.setField(ledgerService, "snapshotEvery", 100);
+        JournalService journalService = new JournalService();
+        ReflectionTestUtils.setField(journalService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(journalService, "ledgerService", ledgerService);
+
+        for (int legs : new int[] {2, 10}) {
+            List<UUID> accounts = openAccounts();
+            run(journalService, accounts, legs, 20); // warm-up
+            Result result = run(journalService, accounts, legs, POSTINGS_PER_THREAD);
+
+            BigDecimal total = BigDecimal.ZERO;
+            for (UUID accountId : accounts) {
+                total = total.add(eventSourced ? ledgerService.getState(accountId).getBalance()
+                    : jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, accountId));
+            }
+            System.out.printf("%s %d-leg postings over %d hot accounts, %d threads: %.0f postings/sec, " +
+                              "p50 %.1f ms, p99 %.1f ms%n",
+                              eventSourced ? "Ledger" : "In-place", legs, HOT_ACCOUNTS, THREADS, result.postingsPerSecond,
+                              result.p50Nanos / 1e6, result.p99Nanos / 1e6);
+            assertThat(result.postingsPerSecond).isPositive();
+            // Balanced entries leave the total across the hot accounts unchanged
+            assertThat(total).isEqualByComparingTo(OPENING_BALANCE.multiply(BigDecimal.valueOf(HOT_ACCOUNTS)));
+        }
+    }
+
+    private static List<UUID> openAccounts() {
+        List<UUID> accounts = new ArrayList<>(HOT_ACCOUNTS);
+        List<Object[]> rows = new ArrayList<>(HOT_ACCOUNTS);
+        for (int i = 0; i < HOT_ACCOUNTS; i++) {
+            UUID accountId = UUID.randomUUID();
+            accounts.add(accountId);
+            rows.add(new Object[] {accountId, UUID.randomUUID(), OPENING_BALANCE, OPENING_BALANCE});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, rows);
+        return accounts;
+    }
+
+    private static Result run(JournalService journalService, List<UUID> accounts, int legs, int postingsPerThread)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(THREADS);
+            long started = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[postingsPerThread];
+                    for (int i = 0; i < postingsPerThread; i++) {
+                        JournalEntryRequest request = entry(accounts, legs);
+                        long t0 = System.nanoTime();
+                        transactionTemplate.executeWithoutResult(status -> journalService.postEntry(request));
+                        latencies[i] = System.nanoTime() - t0;
+                    }
+                    return latencies;
+                }));
+            }
+            long[] latencies = new long[THREADS * postingsPerThread];
+            for (int t = 0; t < THREADS; t++) {
+                System.arraycopy(futures.get(t).get(), 0, latencies, t * postingsPerThread, postingsPerThread);
+            }
+            long elapsed = System.nanoTime() - started;
+            Arrays.sort(latencies);
+
+            Result result = new Result();
+            result.postingsPerSecond = latencies.length * 1e9 / elapsed;
+            result.p50Nanos = latencies[latencies.length / 2];
+            result.p99Nanos = latencies[latencies.length * 99 / 100];
+            return result;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Half the legs debit and half credit distinct hot accounts by the same amount.
+     */
+    private static JournalEntryRequest entry(List<UUID> accounts, int legs) {
+        List<UUID> shuffled = new ArrayList<>(accounts);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<JournalLegRequest> entryLegs = new ArrayList<>(legs);
+        for (int i = 0; i < legs; i++) {
+            UUID accountId = shuffled.remove(random.nextInt(shuffled.size()));
+            BigDecimal amount = i % 2 == 0 ? LEG_AMOUNT.negate() : LEG_AMOUNT;
+            entryLegs.add(new JournalLegRequest(accountId, amount, Account.Currency.EUR));
+        }
+        return new JournalEntryRequest("BENCH-" + UUID.randomUUID(), entryLegs);
+    }
+
+    private static final class Result {
+
+        private double postingsPerSecond;
+        private long p50Nanos;
+        private long p99Nanos;
+    }
+}
@@ -0,0 +1,60 @@
+package com.neobridge.account.statement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Partitions cover the whole uuid space in PostgreSQL's unsigned ordering,
+ * contiguously and without overlap.
+ */
+class AccountPartitionsTest {
+
+    @Test
+    void partitionsTileTheIdSpace() {
+        for (int count : new int[] {1, 2, 3, 16, 1000}) {
+            assertThat(AccountPartitions.lowerBound(0, count)).isEqualTo(new UUID(0L, 0L));
+            assertThat(AccountPartitions.upperBound(count - 1, count)).isEqualTo(new UUID(-1L, -1L));
+            for (int index = 0; index < count; index++) {
+                UUID lower = AccountPartitions.lowerBound(index, count);
+                UUID upper = AccountPartitions.upperBound(index, count);
+                assertThat(compareUnsigned(lower, upper)).isNegative();
+                if (index + 1 < count) {
+                    // The next partition starts right after this one ends
+                    UUID next = AccountPartitions.lowerBound(index + 1, count);
+                    assertThat(upper.getLeastSignificantBits()).isEqualTo(-1L);
+                    assertThat(upper.getMostSignificantBits() + 1).isEqualTo(next.getMostSignificantBits());
+                    assertThat(next.getLeastSignificantBits()).isZero();
+                }
+            }
+        }
+    }
+
+    @Test
+    void idsWithTheHighBitSetFallInTheUpperHalf() {
+        UUID high = UUID.fromString("c0000000-0000-4000-8000-000000000000");
+        UUID low = UUID.fromString("30000000-0000-4000-8000-000000000000");
+
+        assertThat(partitionOf(high, 2)).isEqualTo(1);
+        assertThat(partitionOf(low, 2)).isEqualTo(0);
+        assertThat(partitionOf(high, 16)).isEqualTo(12);
+    }
+
+    private static int partitionOf(UUID id, int count) {
+        for (int index = 0; index < count; index++) {
+            if (compareUnsigned(AccountPartitions.lowerBound(index, count), id) <= 0
+                    && compareUnsigned(id, AccountPartitions.upperBound(index, count)) <= 0) {
+                return index;
+            }
+        }
+        throw new AssertionError("No partition holds " + id);
+    }
+
+    // PostgreSQL compares uuids as unsigned bytes, unlike UUID.compareTo
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
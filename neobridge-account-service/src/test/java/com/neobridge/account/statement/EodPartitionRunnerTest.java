@@ -0,0 +1,105 @@
+package com.neobridge.account.statement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Partitions already completed are skipped, a partition whose lease is held
+ * elsewhere is left alone, and a chunked partition resumes after its last
+ * committed chunk.
+ */
+class EodPartitionRunnerTest {
+
+    private static final String JOB = "test-job";
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 1);
+
+    private JdbcTemplate jdbcTemplate;
+    private EodPartitionRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        runner = new EodPartitionRunner();
+        ReflectionTestUtils.setField(runner, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(runner, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(runner, "partitions", 2);
+        ReflectionTestUtils.setField(runner, "parallelism", 1);
+        ReflectionTestUtils.setField(runner, "claimLease", Duration.ofMinutes(10));
+    }
+
+    @Test
+    void runSkipsPartitionsCompletedEarlier() {
+        when(jdbcTemplate.update(startsWith("INSERT INTO eod_runs"), eq(JOB), any(), eq(0))).thenReturn(0);
+        when(jdbcTemplate.update(startsWith("INSERT INTO eod_runs"), eq(JOB), any(), eq(1))).thenReturn(1);
+        List<UUID> lowerBounds = Collections.synchronizedList(new ArrayList<>());
+
+        int rows = runner.run(JOB, DATE, (lower, upper) -> {
+            lowerBounds.add(lower);
+            return 5;
+        });
+
+        assertThat(rows).isEqualTo(5);
+        assertThat(lowerBounds).containsExactly(AccountPartitions.lowerBound(1, 2));
+        verify(jdbcTemplate).update(startsWith("UPDATE eod_runs SET rows_processed"), eq(5), eq(JOB), any(), eq(1));
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE eod_runs SET rows_processed"), anyInt(), eq(JOB),
+                                             any(), eq(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void chunkedPartitionResumesAfterItsCommittedProgress() {
+        UUID progress = new UUID(0x0100000000000000L, 7L);
+        UUID next = new UUID(0x0200000000000000L, 0L);
+        // Partition 0 is held by a live run, partition 1 was left behind at progress
+        when(jdbcTemplate.query(startsWith("INSERT INTO eod_runs"), any(RowMapper.class), any(Object[].class)))
+            .thenAnswer(invocation -> (Integer) invocation.getArgument(4) == 0
+                ? List.of() : Collections.singletonList(progress));
+        when(jdbcTemplate.update(startsWith("UPDATE eod_runs SET progress"), any(Object[].class))).thenReturn(1);
+        List<UUID> afters = new ArrayList<>();
+
+        int rows = runner.runInChunks(JOB, DATE, (lower, upper, after) -> {
+            afters.add(after);
+            return after.equals(progress) ? List.of(next) : List.of();
+        });
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(afters).containsExactly(progress, next);
+        verify(jdbcTemplate).update(startsWith("UPDATE eod_runs SET progress"), eq(next), eq(1), eq(JOB), any(),
+                                    eq(1), any());
+        verify(jdbcTemplate).update(startsWith("UPDATE eod_runs SET completed_at"), eq(JOB), any(), eq(1), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void chunkFailsOnceItsLeaseWasTakenOver() {
+        when(jdbcTemplate.query(startsWith("INSERT INTO eod_runs"), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(Collections.singletonList(null));
+        when(jdbcTemplate.update(startsWith("UPDATE eod_runs SET progress"), any(Object[].class))).thenReturn(0);
+
+        assertThatThrownBy(() -> runner.runInChunks(JOB, DATE, (lower, upper, after) -> List.of(lower)))
+            .hasMessageContaining("failed on 2 partitions");
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE eod_runs SET completed_at"), any(Object[].class));
+    }
+}
@@ -0,0 +1,135 @@
+package com.neobridge.account.statement;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements and EOD snapshots against PostgreSQL order an account's
+ * transactions by posting sequence, so two legs of one journal entry that
+ * share a timestamp still open and close the day in the order they were
+ * applied. Skipped without Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class StatementServiceTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    // Only the columns the statement queries read
+    private static final String TABLES_SQL =
+        "CREATE TABLE accounts (id UUID PRIMARY KEY, account_number VARCHAR(20), account_name VARCHAR(100), " +
+        "currency VARCHAR(3) NOT NULL, balance DECIMAL(19,4) NOT NULL, deleted BOOLEAN NOT NULL DEFAULT false);" +
+        "CREATE TABLE transactions (id UUID PRIMARY KEY, account_id UUID NOT NULL, transaction_type VARCHAR(30), " +
+        "status VARCHAR(20) NOT NULL, amount DECIMAL(19,4) NOT NULL, currency VARCHAR(3) NOT NULL, " +
+        "balance_before DECIMAL(19,4), balance_after DECIMAL(19,4), reference VARCHAR(100), " +
+        "description VARCHAR(500), created_at TIMESTAMP, deleted BOOLEAN NOT NULL DEFAULT false)";
+
+    private static final String INSERT_TRANSACTION_SQL =
+        "INSERT INTO transactions (id, account_id, transaction_type, status, amount, currency, balance_before, " +
+        "balance_after, reference, created_at) VALUES (?, ?, ?, 'COMPLETED', ?, 'EUR', ?, ?, 'JE-1', ?)";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static EodPartitionRunner partitionRunner;
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(TABLES_SQL);
+        for (String migration : new String[] {"V5__Account_Statements.sql", "V14__Eod_Chunk_Progress.sql",
+                                              "V17__Transaction_Posting_Order.sql"}) {
+            jdbcTemplate.execute(Files.readString(Path.of("..", "database", "migrations", migration)));
+        }
+
+        partitionRunner = new EodPartitionRunner();
+        ReflectionTestUtils.setField(partitionRunner, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(partitionRunner, "transactionManager", new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(partitionRunner, "partitions", 4);
+        ReflectionTestUtils.setField(partitionRunner, "parallelism", 2);
+        ReflectionTestUtils.setField(partitionRunner, "claimLease", Duration.ofMinutes(10));
+    }
+
+    @AfterAll
+    static void closeDataSource() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void legsSharingATimestampKeepTheirPostingOrder() {
+        UUID accountId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO accounts (id, account_number, account_name, currency, balance) " +
+                            "VALUES (?, 'NB0001', 'Current', 'EUR', 70)", accountId);
+        Timestamp postedAt = Timestamp.valueOf(DAY.atTime(10, 0));
+        // Credited then debited by one entry; the ids sort the other way round
+        jdbcTemplate.update(INSERT_TRANSACTION_SQL, new UUID(-1L, -1L), accountId, "RECEIPT", 100, 0, 100, postedAt);
+        jdbcTemplate.update(INSERT_TRANSACTION_SQL, new UUID(0L, 1L), accountId, "TRANSFER", 30, 100, 70, postedAt);
+
+        StatementService statementService = statementService();
+        Statement open = statementService.buildStatement(accountId, DAY, DAY, null);
+        assertThat(open.getLines()).extracting(Statement.Line::getType).containsExactly("RECEIPT", "TRANSFER");
+        assertThat(open.getOpeningBalance()).isEqualByComparingTo("0");
+        assertThat(open.getDays()).singleElement().satisfies(day -> {
+            assertThat(day.getOpeningBalance()).isEqualByComparingTo("0");
+            assertThat(day.getClosingBalance()).isEqualByComparingTo("70");
+        });
+
+        EodSnapshotJob snapshotJob = new EodSnapshotJob();
+        ReflectionTestUtils.setField(snapshotJob, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(snapshotJob, "partitionRunner", partitionRunner);
+        ReflectionTestUtils.setField(snapshotJob, "zone", ZONE);
+        assertThat(snapshotJob.run(DAY)).isEqualTo(1);
+        // A rerun skips the finished partitions
+        assertThat(snapshotJob.run(DAY)).isZero();
+        assertThat(partitionRunner.lastCompletedDate(EodSnapshotJob.JOB)).isEqualTo(DAY);
+
+        Statement closed = statementService.buildStatement(accountId, DAY, DAY);
+        assertThat(closed.getDays()).singleElement().satisfies(day -> {
+            assertThat(day.getOpeningBalance()).isEqualByComparingTo("0");
+            assertThat(day.getClosingBalance()).isEqualByComparingTo("70");
+            assertThat(day.getCreditCount()).isEqualTo(1);
+            assertThat(day.getDebitCount()).isEqualTo(1);
+        });
+        assertThat(closed.getClosingBalance()).isEqualByComparingTo("70");
+
+        // The next day opens from the snapshot
+        Statement next = statementService.buildStatement(accountId, DAY.plusDays(1), DAY.plusDays(1));
+        assertThat(next.getOpeningBalance()).isEqualByComparingTo("70");
+        assertThat(next.getLines()).isEmpty();
+    }
+
+    private static StatementService statementService() {
+        StatementService statementService = new StatementService();
+        ReflectionTestUtils.setField(statementService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(statementService, "partitionRunner", partitionRunner);
+        ReflectionTestUtils.setField(statementService, "zone", ZONE);
+        return statementService;
+    }
+}
@@ -0,0 +1,102 @@
+package com.neobridge.account.util;
+
+import com.neobridge.account.entity.Account;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Account numbers (with IBANs) generated per second from 1 and 16 threads.
+ * Each block lease costs a simulated 1 ms database round trip, so the numbers
+ * include the amortised lease cost at the default block size of 1000.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class AccountNumberGeneratorBenchmark {
+
+    private static final int NUMBERS_PER_THREAD = 200_000;
+    private static final long BLOCK_SIZE = 1000;
+
+    @Test
+    void generateAccountNumbers() throws Exception {
+        for (int threads : new int[] {1, 16}) {
+            AccountNumberGenerator generator = generator();
+            generate(generator, threads, NUMBERS_PER_THREAD / 10); // warm-up
+
+            long started = System.nanoTime();
+            List<List<String>> numbers = generate(generator, threads, NUMBERS_PER_THREAD);
+            double perSecond = (double) threads * NUMBERS_PER_THREAD * 1e9 / (System.nanoTime() - started);
+
+            Set<String> unique = new HashSet<>();
+            for (List<String> threadNumbers : numbers) {
+                unique.addAll(threadNumbers);
+            }
+            System.out.printf("Account numbers, %d threads: %.2fM/sec with IBAN, %d unique%n",
+                              threads, perSecond / 1e6, unique.size());
+            assertThat(unique).hasSize(threads * NUMBERS_PER_THREAD);
+            assertThat(generator.isValid(numbers.get(0).get(0))).isTrue();
+        }
+    }
+
+    private static List<List<String>> generate(AccountNumberGenerator generator, int threads, int perThread)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<String> numbers = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        String number = generator.generateAccountNumber(Account.AccountType.CURRENT, Account.Currency.EUR);
+                        generator.generateIban(number);
+                        numbers.add(number);
+                    }
+                    return numbers;
+                }));
+            }
+            List<List<String>> numbers = new ArrayList<>(threads);
+            for (Future<List<String>> future : futures) {
+                numbers.add(future.get());
+            }
+            return numbers;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static AccountNumberGenerator generator() {
+        AtomicLong sequence = new AtomicLong(1);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(contains("pg_sequences"), eq(Long.class))).thenReturn(BLOCK_SIZE);
+        when(jdbcTemplate.queryForObject(contains("nextval"), eq(Long.class))).thenAnswer(invocation -> {
+            Thread.sleep(1); // database round trip
+            return sequence.getAndAdd(BLOCK_SIZE);
+        });
+
+        AccountNumberGenerator generator = new AccountNumberGenerator();
+        ReflectionTestUtils.setField(generator, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(generator, "environment", new MockEnvironment());
+        ReflectionTestUtils.setField(generator, "length", 12);
+        ReflectionTestUtils.setField(generator, "separator", "-");
+        ReflectionTestUtils.setField(generator, "ibanCountryCode", "DE");
+        ReflectionTestUtils.setField(generator, "ibanBankCode", "37040044");
+        return generator;
+    }
+}
@@ -0,0 +1,88 @@
+package com.neobridge.account.util;
+
+import com.neobridge.account.entity.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Known-answer checks for the Luhn check digit, IBAN MOD 97-10 check digits
+ * and account number validation.
+ */
+class AccountNumberGeneratorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AccountNumberGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(contains("pg_sequences"), eq(Long.class))).thenReturn(1L);
+        generator = new AccountNumberGenerator();
+        ReflectionTestUtils.setField(generator, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(generator, "environment",
+            new MockEnvironment().withProperty("neobridge.account.account-number.prefix.savings", "SAV"));
+        ReflectionTestUtils.setField(generator, "length", 11);
+        ReflectionTestUtils.setField(generator, "separator", "-");
+        ReflectionTestUtils.setField(generator, "ibanCountryCode", "");
+        ReflectionTestUtils.setField(generator, "ibanBankCode", "");
+    }
+
+    @Test
+    void appendsTheLuhnCheckDigit() {
+        lease(7992739871L);
+        assertThat(generator.generateAccountNumber(Account.AccountType.CURRENT, Account.Currency.EUR))
+            .isEqualTo("CUR-79927398713");
+
+        lease(42L);
+        assertThat(generator.generateAccountNumber(Account.AccountType.SAVINGS, Account.Currency.EUR))
+            .isEqualTo("SAV-00000000422");
+    }
+
+    @Test
+    void rejectsSerialsLongerThanTheNumber() {
+        lease(12_345_678_901L);
+
+        assertThatThrownBy(() -> generator.generateAccountNumber(Account.AccountType.CURRENT, Account.Currency.EUR))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void computesIbanCheckDigits() {
+        ReflectionTestUtils.setField(generator, "ibanCountryCode", "GB");
+        ReflectionTestUtils.setField(generator, "ibanBankCode", "WEST123456");
+        assertThat(generator.generateIban("98765432")).isEqualTo("GB82WEST12345698765432");
+
+        ReflectionTestUtils.setField(generator, "ibanCountryCode", "DE");
+        ReflectionTestUtils.setField(generator, "ibanBankCode", "37040044");
+        assertThat(generator.generateIban("0532-013000")).isEqualTo("DE89370400440532013000");
+    }
+
+    @Test
+    void noIbanWithoutACountry() {
+        assertThat(generator.generateIban("CUR-79927398713")).isNull();
+    }
+
+    @Test
+    void validatesTheCheckDigit() {
+        assertThat(generator.isValid("CUR-79927398713")).isTrue();
+        assertThat(generator.isValid("SAV-00000000422")).isTrue();
+        assertThat(generator.isValid("CUR-79927398710")).isFalse();
+        assertThat(generator.isValid("CUR-79927398731")).isFalse();
+        assertThat(generator.isValid("CUR-7992739873")).isFalse();
+    }
+
+    // Blocks are one serial long, so the next number is the next lease
+    private void lease(long start) {
+        when(jdbcTemplate.queryForObject(contains("nextval"), eq(Long.class))).thenReturn(start);
+    }
+}
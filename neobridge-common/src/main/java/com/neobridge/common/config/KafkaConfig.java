@@ -96,6 +96,15 @@ public class KafkaConfig {
                 .build();
     }
 
+    @Bean
+    public NewTopic paymentEventsTopic() {
+        return TopicBuilder.name("neobridge.payment.events")
+                .partitions(6)
+                .replicas(1)
+                .configs(Map.of("retention.ms", "604800000")) // 7 days, covers velocity replay
+                .build();
+    }
+
     @Bean
     public NewTopic cryptoEventsTopic() {
         return TopicBuilder.name("neobridge.crypto.events")
@@ -123,6 +132,15 @@ public class KafkaConfig {
                 .build();
     }
 
+    @Bean
+    public NewTopic fxRatesTopic() {
+        return TopicBuilder.name("neobridge.fx.rates")
+                .partitions(1)
+                .replicas(1)
+                .compact() // latest rate per currency pair is the state
+                .build();
+    }
+
     @Bean
     public NewTopic auditEventsTopic() {
         return TopicBuilder.name("neobridge.audit.events")
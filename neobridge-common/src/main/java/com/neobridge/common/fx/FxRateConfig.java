@@ -0,0 +1,35 @@
+package com.neobridge.common.fx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * FX rate configuration. When {@code neobridge.fx.replay-file} is set, rates are
+ * seeded from a recorded feed instead of (or before) the Kafka topic, which is
+ * how local development and tests run without a live rate source.
+ */
+@Configuration
+public class FxRateConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FxRateConfig.class);
+
+    @Bean
+    @ConditionalOnProperty(name = "neobridge.fx.replay-file")
+    public ReplayFxRateFeed replayFxRateFeed(FxRateService fxRateService,
+                                             @Value("${neobridge.fx.replay-file}") Resource replayFile) throws IOException {
+        ReplayFxRateFeed feed = new ReplayFxRateFeed(fxRateService,
+            ReplayFxRateFeed.read(new InputStreamReader(replayFile.getInputStream(), StandardCharsets.UTF_8)));
+        int replayed = feed.replayAll();
+        logger.info("Seeded FX rates with {} recorded ticks from {}", replayed, replayFile);
+        return feed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.neobridge.common.fx;
+
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Feeds the FX rate topic into the local {@link FxRateService}.
+ * Every instance needs the full rate set, so each one consumes with its own
+ * consumer group and rebuilds state from the start of the compacted topic
+ * whenever partitions are assigned. The group id is derived from the host
+ * name so a restarted instance rejoins its previous group instead of leaving
+ * an orphaned one behind; set {@code neobridge.fx.consumer-group} explicitly
+ * where host names are not stable.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class FxRateFeedListener implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(FxRateFeedListener.class);
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        // Rates live only in memory, so a rejoined group still replays the whole compacted topic
+        callback.seekToBeginning(assignments.keySet());
+    }
+
+    @KafkaListener(
+        topics = "${neobridge.fx.topic:neobridge.fx.rates}",
+        groupId = "${neobridge.fx.consumer-group:${spring.application.name:neobridge}-fx-${HOSTNAME:local}}",
+        properties = {
+            "auto.offset.reset=earliest",
+            "spring.json.value.default.type=com.neobridge.common.fx.FxRateUpdate"
+        }
+    )
+    public void onRateUpdate(FxRateUpdate update) {
+        if (update.getBaseCurrency() == null || update.getQuoteCurrency() == null) {
+            logger.warn("Ignoring malformed FX rate update: {}", update);
+            return;
+        }
+        fxRateService.apply(update);
+    }
+}
@@ -0,0 +1,134 @@
+package com.neobridge.common.fx;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shared FX rate source for the NeoBridge platform.
+ * Readers work against an immutable {@link FxRateSnapshot} published through a
+ * volatile reference, so lookups never lock; feed updates build and publish the
+ * next snapshot.
+ */
+@Service
+public class FxRateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FxRateService.class);
+
+    /**
+     * Scale of fiat amounts across the platform (precision 19, scale 4 columns).
+     */
+    public static final int FIAT_SCALE = 4;
+
+    @Value("${neobridge.fx.base-currency:EUR}")
+    private String baseCurrency;
+
+    @Value("${neobridge.fx.max-age:PT5M}")
+    private Duration maxAge;
+
+    private long maxAgeMillis;
+
+    private volatile FxRateSnapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        maxAgeMillis = maxAge.toMillis();
+        snapshot = FxRateSnapshot.empty(baseCurrency);
+        logger.info("FX rate service initialised with base currency {} and max rate age {}", baseCurrency, maxAge);
+    }
+
+    /**
+     * Rate converting one unit of {@code from} into {@code to}.
+     *
+     * @throws FxRateUnavailableException if the pair is unknown or stale
+     */
+    public BigDecimal getRate(String from, String to) {
+        if (from.equals(to)) {
+            return BigDecimal.ONE;
+        }
+        return snapshot.rate(from, to, System.currentTimeMillis(), maxAgeMillis);
+    }
+
+    /**
+     * Rate converting one unit of {@code from} into {@code to}, if a fresh one is known.
+     */
+    public Optional<BigDecimal> findRate(String from, String to) {
+        if (from.equals(to)) {
+            return Optional.of(BigDecimal.ONE);
+        }
+        FxRateSnapshot current = snapshot;
+        if (!current.supports(from) || !current.supports(to)
+                || System.currentTimeMillis() - current.asOf(from, to) > maxAgeMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(current.rate(from, to));
+    }
+
+    /**
+     * Convert a fiat amount, rounded to the platform fiat scale.
+     */
+    public BigDecimal convert(BigDecimal amount, String from, String to) {
+        return convert(amount, from, to, FIAT_SCALE);
+    }
+
+    /**
+     * Convert an amount, rounded half-even to the given scale.
+     */
+    public BigDecimal convert(BigDecimal amount, String from, String to, int scale) {
+        if (from.equals(to)) {
+            return amount.setScale(scale, RoundingMode.HALF_EVEN);
+        }
+        return amount.multiply(getRate(from, to)).setScale(scale, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Whether a fresh rate exists for the pair.
+     */
+    public boolean hasRate(String from, String to) {
+        FxRateSnapshot current = snapshot;
+        if (!current.supports(from) || !current.supports(to)) {
+            return false;
+        }
+        return System.currentTimeMillis() - current.asOf(from, to) <= maxAgeMillis;
+    }
+
+    /**
+     * Apply a single feed update.
+     */
+    public void apply(FxRateUpdate update) {
+        apply(List.of(update));
+    }
+
+    /**
+     * Apply a batch of feed updates and publish the resulting snapshot.
+     * Writers are serialised; readers keep using the previous snapshot until the swap.
+     */
+    public synchronized void apply(Collection<FxRateUpdate> updates) {
+        snapshot = snapshot.apply(updates);
+        logger.debug("Published FX snapshot {} with {} currencies", snapshot.getSequence(), snapshot.size());
+    }
+
+    /**
+     * Current snapshot, for callers that need several consistent lookups.
+     */
+    public FxRateSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+}
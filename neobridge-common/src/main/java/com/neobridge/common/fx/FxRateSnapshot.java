@@ -0,0 +1,199 @@
+package com.neobridge.common.fx;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable FX rate matrix. Every feed quote is kept against the currency it
+ * was quoted in; when a snapshot is built, each currency is resolved to a rate
+ * against the base currency through its chain of quotes and all cross rates
+ * are triangulated from those, so a lookup is two index probes and an array
+ * read. Cross quotes therefore follow later moves of the rates they hang off.
+ */
+public final class FxRateSnapshot {
+
+    private static final MathContext RATE_CONTEXT = MathContext.DECIMAL64;
+
+    private final String baseCurrency;
+    private final Map<String, Quote> quotes;
+    private final Map<String, Integer> index;
+    private final BigDecimal[] perBase;
+    private final long[] asOfMillis;
+    private final BigDecimal[][] crossRates;
+    private final long sequence;
+
+    private FxRateSnapshot(String baseCurrency, Map<String, Quote> quotes, long sequence) {
+        this.baseCurrency = baseCurrency;
+        this.quotes = quotes;
+        this.sequence = sequence;
+
+        Map<String, BigDecimal> resolvedRates = new LinkedHashMap<>();
+        Map<String, Long> resolvedTimestamps = new HashMap<>();
+        resolvedRates.put(baseCurrency, BigDecimal.ONE);
+        resolvedTimestamps.put(baseCurrency, Long.MAX_VALUE);
+        for (String currency : quotes.keySet()) {
+            resolve(currency, resolvedRates, resolvedTimestamps, new HashSet<>());
+        }
+
+        Map<String, Integer> nextIndex = new HashMap<>();
+        perBase = new BigDecimal[resolvedRates.size()];
+        asOfMillis = new long[resolvedRates.size()];
+        int i = 0;
+        for (Map.Entry<String, BigDecimal> entry : resolvedRates.entrySet()) {
+            nextIndex.put(entry.getKey(), i);
+            perBase[i] = entry.getValue();
+            asOfMillis[i] = resolvedTimestamps.get(entry.getKey());
+            i++;
+        }
+        index = Map.copyOf(nextIndex);
+
+        crossRates = new BigDecimal[perBase.length][perBase.length];
+        for (int from = 0; from < perBase.length; from++) {
+            for (int to = 0; to < perBase.length; to++) {
+                crossRates[from][to] = from == to ? BigDecimal.ONE : perBase[to].divide(perBase[from], RATE_CONTEXT);
+            }
+        }
+    }
+
+    /**
+     * Snapshot holding only the base currency.
+     */
+    public static FxRateSnapshot empty(String baseCurrency) {
+        return new FxRateSnapshot(baseCurrency, Map.of(), 0L);
+    }
+
+    /**
+     * Build the next snapshot with the given updates applied. A quote against
+     * the base currency defines a currency directly. A cross quote defines its
+     * quote currency relative to its base currency (or the reverse, when only
+     * the quote currency is quoted directly) and is ignored for currencies that
+     * already have a direct quote. Currencies whose chain does not reach the
+     * base currency yet are kept and resolve once the missing quote arrives.
+     */
+    public FxRateSnapshot apply(Collection<FxRateUpdate> updates) {
+        Map<String, Quote> next = new HashMap<>(quotes);
+
+        for (FxRateUpdate update : updates) {
+            if (update.getRate() == null || update.getRate().signum() <= 0) {
+                continue;
+            }
+            long timestamp = update.getTimestamp() != null ? update.getTimestamp().toEpochMilli() : System.currentTimeMillis();
+            String base = update.getBaseCurrency();
+            String quote = update.getQuoteCurrency();
+            if (base.equals(quote)) {
+                continue;
+            }
+
+            if (baseCurrency.equals(base)) {
+                next.put(quote, new Quote(baseCurrency, update.getRate(), timestamp));
+            } else if (baseCurrency.equals(quote)) {
+                next.put(base, new Quote(baseCurrency, BigDecimal.ONE.divide(update.getRate(), RATE_CONTEXT), timestamp));
+            } else if (!isDirect(next, quote)) {
+                next.put(quote, new Quote(base, update.getRate(), timestamp));
+            } else if (!isDirect(next, base)) {
+                next.put(base, new Quote(quote, BigDecimal.ONE.divide(update.getRate(), RATE_CONTEXT), timestamp));
+            }
+        }
+        return new FxRateSnapshot(baseCurrency, Map.copyOf(next), sequence + 1);
+    }
+
+    /**
+     * Rate converting one unit of {@code from} into {@code to}.
+     *
+     * @throws FxRateUnavailableException if either currency is unknown or older than {@code maxAgeMillis}
+     */
+    public BigDecimal rate(String from, String to, long nowMillis, long maxAgeMillis) {
+        int fromIndex = indexOf(from);
+        int toIndex = indexOf(to);
+        long oldest = Math.min(asOfMillis[fromIndex], asOfMillis[toIndex]);
+        if (nowMillis - oldest > maxAgeMillis) {
+            throw new FxRateUnavailableException("Stale FX rate for " + from + "/" + to);
+        }
+        return crossRates[fromIndex][toIndex];
+    }
+
+    /**
+     * Rate converting one unit of {@code from} into {@code to}, however old.
+     *
+     * @throws FxRateUnavailableException if either currency is unknown
+     */
+    public BigDecimal rate(String from, String to) {
+        return crossRates[indexOf(from)][indexOf(to)];
+    }
+
+    /**
+     * Time of the oldest rate contributing to the pair, in epoch millis.
+     */
+    public long asOf(String from, String to) {
+        return Math.min(asOfMillis[indexOf(from)], asOfMillis[indexOf(to)]);
+    }
+
+    public boolean supports(String currency) {
+        return index.containsKey(currency);
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public int size() {
+        return perBase.length;
+    }
+
+    private int indexOf(String currency) {
+        Integer i = index.get(currency);
+        if (i == null) {
+            throw new FxRateUnavailableException("No FX rate for currency: " + currency);
+        }
+        return i;
+    }
+
+    private boolean isDirect(Map<String, Quote> candidates, String currency) {
+        Quote quote = candidates.get(currency);
+        return quote != null && baseCurrency.equals(quote.anchor);
+    }
+
+    /**
+     * Resolve a currency's rate against the base currency through its chain of
+     * quotes, memoising every currency on the way. Returns false if the chain
+     * is broken or cyclic.
+     */
+    private boolean resolve(String currency, Map<String, BigDecimal> rates, Map<String, Long> timestamps, Set<String> visiting) {
+        if (rates.containsKey(currency)) {
+            return true;
+        }
+        Quote quote = quotes.get(currency);
+        if (quote == null || !visiting.add(currency) || !resolve(quote.anchor, rates, timestamps, visiting)) {
+            return false;
+        }
+        rates.put(currency, quote.rate.multiply(rates.get(quote.anchor), RATE_CONTEXT));
+        timestamps.put(currency, Math.min(quote.asOfMillis, timestamps.get(quote.anchor)));
+        return true;
+    }
+
+    /**
+     * A feed quote: units of the currency per one unit of {@code anchor}.
+     */
+    private static final class Quote {
+
+        private final String anchor;
+        private final BigDecimal rate;
+        private final long asOfMillis;
+
+        private Quote(String anchor, BigDecimal rate, long asOfMillis) {
+            this.anchor = anchor;
+            this.rate = rate;
+            this.asOfMillis = asOfMillis;
+        }
+    }
+}
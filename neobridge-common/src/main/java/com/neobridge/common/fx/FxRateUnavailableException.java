@@ -0,0 +1,11 @@
+package com.neobridge.common.fx;
+
+/**
+ * Thrown when no sufficiently fresh FX rate is available for a currency pair.
+ */
+public class FxRateUnavailableException extends RuntimeException {
+
+    public FxRateUnavailableException(String message) {
+        super(message);
+    }
+}
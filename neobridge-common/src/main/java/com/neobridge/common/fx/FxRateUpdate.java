@@ -0,0 +1,79 @@
+package com.neobridge.common.fx;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A single FX rate tick as published on the FX rate feed topic.
+ * The rate is the amount of {@code quoteCurrency} for one unit of {@code baseCurrency}.
+ */
+public class FxRateUpdate {
+
+    private String baseCurrency;
+    private String quoteCurrency;
+    private BigDecimal rate;
+    private Instant timestamp;
+    private String source;
+
+    // Constructors
+    public FxRateUpdate() {}
+
+    public FxRateUpdate(String baseCurrency, String quoteCurrency, BigDecimal rate, Instant timestamp) {
+        this.baseCurrency = baseCurrency;
+        this.quoteCurrency = quoteCurrency;
+        this.rate = rate;
+        this.timestamp = timestamp;
+    }
+
+    // Getters and Setters
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public void setBaseCurrency(String baseCurrency) {
+        this.baseCurrency = baseCurrency;
+    }
+
+    public String getQuoteCurrency() {
+        return quoteCurrency;
+    }
+
+    public void setQuoteCurrency(String quoteCurrency) {
+        this.quoteCurrency = quoteCurrency;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    @Override
+    public String toString() {
+        return "FxRateUpdate{" +
+                "baseCurrency='" + baseCurrency + '\'' +
+                ", quoteCurrency='" + quoteCurrency + '\'' +
+                ", rate=" + rate +
+                ", timestamp=" + timestamp +
+                ", source='" + source + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+package com.neobridge.common.fx;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Local stand-in for the FX rate topic. Replays recorded ticks from a CSV
+ * source ({@code timestamp,base,quote,rate}, ISO-8601 timestamps, {@code #}
+ * comments) into an {@link FxRateService}, either all at once or step by step.
+ * Timestamps are shifted so the last recorded tick lands at replay time,
+ * keeping recorded rates fresh while preserving their relative ages.
+ */
+public class ReplayFxRateFeed {
+
+    private final FxRateService fxRateService;
+    private final List<FxRateUpdate> ticks;
+    private int position;
+
+    public ReplayFxRateFeed(FxRateService fxRateService, List<FxRateUpdate> ticks) {
+        this.fxRateService = fxRateService;
+        this.ticks = Collections.unmodifiableList(new ArrayList<>(ticks));
+    }
+
+    /**
+     * Parse recorded ticks from a CSV source.
+     */
+    public static List<FxRateUpdate> read(Reader source) throws IOException {
+        List<FxRateUpdate> ticks = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length < 4) {
+                    throw new IOException("Malformed FX tick: " + line);
+                }
+                FxRateUpdate update = new FxRateUpdate(fields[1].trim(), fields[2].trim(),
+                    new BigDecimal(fields[3].trim()), Instant.parse(fields[0].trim()));
+                update.setSource("replay");
+                ticks.add(update);
+            }
+        }
+        return ticks;
+    }
+
+    /**
+     * Replay every remaining tick as a single snapshot update.
+     */
+    public int replayAll() {
+        return replayNext(ticks.size() - position);
+    }
+
+    /**
+     * Replay the next {@code count} ticks as a single snapshot update.
+     */
+    public synchronized int replayNext(int count) {
+        int end = Math.min(ticks.size(), position + Math.max(0, count));
+        if (end == position) {
+            return 0;
+        }
+        long shift = System.currentTimeMillis() - ticks.get(ticks.size() - 1).getTimestamp().toEpochMilli();
+        List<FxRateUpdate> batch = new ArrayList<>(end - position);
+        for (FxRateUpdate tick : ticks.subList(position, end)) {
+            FxRateUpdate shifted = new FxRateUpdate(tick.getBaseCurrency(), tick.getQuoteCurrency(),
+                tick.getRate(), tick.getTimestamp().plusMillis(shift));
+            shifted.setSource(tick.getSource());
+            batch.add(shifted);
+        }
+        fxRateService.apply(batch);
+        int replayed = end - position;
+        position = end;
+        return replayed;
+    }
+
+    /**
+     * Rewind to the first recorded tick.
+     */
+    public synchronized void rewind() {
+        position = 0;
+    }
+
+    public int remaining() {
+        return ticks.size() - position;
+    }
+}
@@ -0,0 +1,185 @@
+package com.neobridge.common.stream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams query results straight to the HTTP response.
+ * Rows are read from a forward-only, read-only cursor in fetch-size chunks and
+ * serialised one at a time, so heap use per request does not grow with the
+ * number of rows. The body runs on the MVC async executor, outside any caller
+ * transaction, on its own connection.
+ * <p>
+ * A failure before anything was sent propagates, so the client gets an error
+ * status. Once rows have been sent the status is committed, so a failure ends
+ * the stream with an error record instead: {@code {"error":{...}}} as the last
+ * NDJSON line, or as the last element of the JSON array, which is still
+ * closed. Clients must treat a listing ending in an error record as incomplete.
+ */
+@Service
+public class JdbcStreamingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcStreamingService.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${neobridge.stream.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${neobridge.stream.flush-rows:200}")
+    private int flushRows;
+
+    /**
+     * Response body streaming every row of {@code sql} in the given format.
+     * {@code name} tags the stream metrics, e.g. {@code accounts.user}.
+     */
+    public <T> StreamingResponseBody stream(String name, StreamFormat format, String sql,
+                                            RowMapper<T> rowMapper, Object... args) {
+        long requestedAt = System.nanoTime();
+        return out -> write(name, format, sql, rowMapper, args, requestedAt, out);
+    }
+
+    private <T> void write(String name, StreamFormat format, String sql, RowMapper<T> rowMapper,
+                           Object[] args, long requestedAt, OutputStream out) throws IOException {
+        boolean ndjson = format == StreamFormat.NDJSON;
+        long rows = 0;
+        boolean firstByteRecorded = false;
+        String outcome = "error";
+        JsonGenerator generator = null;
+
+        try (Connection connection = dataSource.getConnection()) {
+            // PostgreSQL only honours the fetch size with auto-commit off
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                new ArgumentPreparedStatementSetter(args).setValues(statement);
+
+                try (ResultSet rs = statement.executeQuery()) {
+                    generator = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    generator.setRootValueSeparator(null);
+                    if (!ndjson) {
+                        generator.writeStartArray();
+                    }
+                    while (rs.next()) {
+                        generator.writeObject(rowMapper.mapRow(rs, (int) rows));
+                        if (ndjson) {
+                            generator.writeRaw('\n');
+                        }
+                        rows++;
+                        if (!firstByteRecorded || rows % flushRows == 0) {
+                            generator.flush();
+                            if (!firstByteRecorded) {
+                                recordFirstByte(name, requestedAt);
+                                firstByteRecorded = true;
+                            }
+                        }
+                    }
+                    if (!ndjson) {
+                        generator.writeEndArray();
+                    }
+                    generator.close();
+                    if (!firstByteRecorded) {
+                        recordFirstByte(name, requestedAt);
+                    }
+                }
+            } finally {
+                connection.rollback();
+            }
+            outcome = "success";
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Stream {} failed after {} rows: {}", name, rows, e.getMessage(), e);
+            if (!firstByteRecorded) {
+                throw new IOException("Stream " + name + " failed", e);
+            }
+            writeError(generator, ndjson, rows);
+        } catch (IOException e) {
+            // Client went away; nothing more can be written
+            outcome = "aborted";
+            logger.debug("Stream {} aborted after {} rows: {}", name, rows, e.getMessage());
+            throw e;
+        } finally {
+            Timer.builder("neobridge.stream.duration")
+                .tag("stream", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+            DistributionSummary.builder("neobridge.stream.rows")
+                .tag("stream", name)
+                .register(meterRegistry)
+                .record(rows);
+        }
+        logger.debug("Stream {} wrote {} rows", name, rows);
+    }
+
+    /**
+     * Terminate a committed stream with an error record, closing the JSON
+     * array so the body stays well-formed.
+     */
+    private static void writeError(JsonGenerator generator, boolean ndjson, long rows) throws IOException {
+        if (generator.isClosed()) {
+            return; // the listing itself was complete
+        }
+        // Close whatever part of a row was written before the failure
+        int listingDepth = ndjson ? 0 : 1;
+        JsonStreamContext context = generator.getOutputContext();
+        while (context.getNestingDepth() > listingDepth) {
+            if (context.inObject()) {
+                generator.writeEndObject();
+            } else {
+                generator.writeEndArray();
+            }
+            context = generator.getOutputContext();
+        }
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("error");
+        generator.writeStringField("message", "Listing failed after " + rows + " rows and is incomplete");
+        generator.writeNumberField("rows", rows);
+        generator.writeEndObject();
+        generator.writeEndObject();
+        if (ndjson) {
+            generator.writeRaw('\n');
+        } else if (context.inArray()) {
+            generator.writeEndArray();
+        }
+        generator.close();
+    }
+
+    private void recordFirstByte(String name, long requestedAt) {
+        Timer.builder("neobridge.stream.first-byte")
+            .tag("stream", name)
+            .register(meterRegistry)
+            .record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+    }
+}
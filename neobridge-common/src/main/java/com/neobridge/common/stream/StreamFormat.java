@@ -0,0 +1,27 @@
+package com.neobridge.common.stream;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Wire formats for streamed listings.
+ */
+public enum StreamFormat {
+    JSON("Chunked JSON array", MediaType.APPLICATION_JSON),
+    NDJSON("Newline-delimited JSON", MediaType.APPLICATION_NDJSON);
+
+    private final String displayName;
+    private final MediaType mediaType;
+
+    StreamFormat(String displayName, MediaType mediaType) {
+        this.displayName = displayName;
+        this.mediaType = mediaType;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,67 @@
+package com.neobridge.common.fx;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FxRateServiceTest {
+
+    private FxRateService fxRateService;
+
+    @BeforeEach
+    void setUp() {
+        fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "baseCurrency", "EUR");
+        ReflectionTestUtils.setField(fxRateService, "maxAge", Duration.ofMinutes(5));
+        fxRateService.init();
+    }
+
+    @Test
+    void replayedSampleFeedKeepsCrossRatesCurrent() throws Exception {
+        List<FxRateUpdate> ticks = ReplayFxRateFeed.read(new InputStreamReader(
+            getClass().getResourceAsStream("/fx/rates-sample.csv"), StandardCharsets.UTF_8));
+        ReplayFxRateFeed feed = new ReplayFxRateFeed(fxRateService, ticks);
+
+        // First 12 ticks: the 09:00:00 EUR crosses plus the USD-quoted crosses
+        feed.replayNext(12);
+        BigDecimal cadBefore = fxRateService.getRate("EUR", "CAD");
+        assertThat(cadBefore).isEqualByComparingTo(new BigDecimal("1.0945").multiply(new BigDecimal("1.3318"), MathContext.DECIMAL64));
+
+        // EUR/USD moves at 09:00:30; the USD/CAD quote is unchanged, so EUR/CAD must follow
+        feed.replayAll();
+        assertThat(fxRateService.getRate("EUR", "CAD"))
+            .isEqualByComparingTo(new BigDecimal("1.0948").multiply(new BigDecimal("1.3318"), MathContext.DECIMAL64));
+        assertThat(fxRateService.getRate("USD", "CAD")).isEqualByComparingTo("1.3318");
+        assertThat(feed.remaining()).isZero();
+    }
+
+    @Test
+    void convertsAtFiatScale() {
+        fxRateService.apply(new FxRateUpdate("EUR", "USD", new BigDecimal("1.1"), Instant.now()));
+
+        assertThat(fxRateService.convert(new BigDecimal("100"), "EUR", "USD")).isEqualByComparingTo("110.0000");
+        assertThat(fxRateService.convert(new BigDecimal("100"), "EUR", "USD").scale()).isEqualTo(FxRateService.FIAT_SCALE);
+    }
+
+    @Test
+    void staleOrMissingRatesAreNotServed() {
+        fxRateService.apply(new FxRateUpdate("EUR", "USD", new BigDecimal("1.1"), Instant.now().minusSeconds(600)));
+
+        assertThat(fxRateService.hasRate("EUR", "USD")).isFalse();
+        assertThat(fxRateService.findRate("EUR", "USD")).isEmpty();
+        assertThat(fxRateService.findRate("EUR", "JPY")).isEmpty();
+        assertThat(fxRateService.findRate("EUR", "EUR")).contains(BigDecimal.ONE);
+        assertThatThrownBy(() -> fxRateService.getRate("EUR", "USD")).isInstanceOf(FxRateUnavailableException.class);
+    }
+}
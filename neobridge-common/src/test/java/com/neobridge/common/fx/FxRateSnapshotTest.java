@@ -0,0 +1,87 @@
+package com.neobridge.common.fx;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FxRateSnapshotTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-02T09:00:00Z");
+
+    @Test
+    void triangulatesDirectQuotesThroughBase() {
+        FxRateSnapshot snapshot = FxRateSnapshot.empty("EUR").apply(List.of(
+            tick("EUR", "USD", "1.10", T0),
+            tick("EUR", "GBP", "0.88", T0)));
+
+        assertThat(snapshot.rate("USD", "GBP")).isEqualByComparingTo("0.8");
+        assertThat(snapshot.rate("EUR", "GBP")).isEqualByComparingTo("0.88");
+    }
+
+    @Test
+    void crossQuoteFollowsLaterMovesOfItsAnchor() {
+        FxRateSnapshot snapshot = FxRateSnapshot.empty("EUR").apply(List.of(
+            tick("EUR", "USD", "1.10", T0),
+            tick("USD", "CAD", "1.30", T0)));
+        assertThat(snapshot.rate("EUR", "CAD")).isEqualByComparingTo("1.43");
+
+        FxRateSnapshot moved = snapshot.apply(List.of(tick("EUR", "USD", "1.20", T0.plusSeconds(30))));
+
+        assertThat(moved.rate("EUR", "CAD")).isEqualByComparingTo("1.56");
+        assertThat(moved.rate("USD", "CAD")).isEqualByComparingTo("1.30");
+    }
+
+    @Test
+    void crossQuoteResolvesOnceItsAnchorArrives() {
+        FxRateSnapshot pending = FxRateSnapshot.empty("EUR").apply(List.of(tick("USD", "AUD", "1.50", T0)));
+        assertThat(pending.supports("AUD")).isFalse();
+
+        FxRateSnapshot resolved = pending.apply(List.of(tick("EUR", "USD", "1.10", T0)));
+
+        assertThat(resolved.rate("EUR", "AUD")).isEqualByComparingTo("1.65");
+    }
+
+    @Test
+    void crossQuoteDoesNotReplaceDirectQuote() {
+        FxRateSnapshot snapshot = FxRateSnapshot.empty("EUR").apply(List.of(
+            tick("EUR", "USD", "1.10", T0),
+            tick("EUR", "CAD", "1.45", T0),
+            tick("USD", "CAD", "1.30", T0)));
+
+        assertThat(snapshot.rate("EUR", "CAD")).isEqualByComparingTo("1.45");
+    }
+
+    @Test
+    void invertsQuotesAgainstBase() {
+        FxRateSnapshot snapshot = FxRateSnapshot.empty("EUR").apply(List.of(tick("CHF", "EUR", "1.25", T0)));
+
+        assertThat(snapshot.rate("EUR", "CHF")).isEqualByComparingTo("0.8");
+    }
+
+    @Test
+    void derivedRateIsAsOldAsItsOldestLeg() {
+        FxRateSnapshot snapshot = FxRateSnapshot.empty("EUR").apply(List.of(
+            tick("EUR", "USD", "1.10", T0),
+            tick("USD", "CAD", "1.30", T0.plusSeconds(600))));
+        long now = T0.plusSeconds(601).toEpochMilli();
+
+        assertThat(snapshot.asOf("EUR", "CAD")).isEqualTo(T0.toEpochMilli());
+        assertThatThrownBy(() -> snapshot.rate("EUR", "CAD", now, 300_000))
+            .isInstanceOf(FxRateUnavailableException.class);
+    }
+
+    @Test
+    void rejectsUnknownCurrency() {
+        assertThatThrownBy(() -> FxRateSnapshot.empty("EUR").rate("EUR", "XYZ"))
+            .isInstanceOf(FxRateUnavailableException.class);
+    }
+
+    private static FxRateUpdate tick(String base, String quote, String rate, Instant timestamp) {
+        return new FxRateUpdate(base, quote, new BigDecimal(rate), timestamp);
+    }
+}
@@ -0,0 +1,104 @@
+package com.neobridge.common.stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JdbcStreamingServiceTest {
+
+    private static final RowMapper<Map<String, Object>> ROW = (rs, rowNum) -> Map.of("n", rowNum);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResultSet resultSet;
+    private JdbcStreamingService service;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        service = new JdbcStreamingService();
+        ReflectionTestUtils.setField(service, "dataSource", dataSource);
+        ReflectionTestUtils.setField(service, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(service, "fetchSize", 100);
+        ReflectionTestUtils.setField(service, "flushRows", 1);
+    }
+
+    @Test
+    void streamsCompleteJsonArray() throws Exception {
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        JsonNode body = objectMapper.readTree(run(StreamFormat.JSON));
+
+        assertThat(body.isArray()).isTrue();
+        assertThat(body).hasSize(2);
+        assertThat(meterRegistry.get("neobridge.stream.duration").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void endsCommittedJsonStreamWithErrorElement() throws Exception {
+        when(resultSet.next()).thenReturn(true, true).thenThrow(new SQLException("connection reset"));
+
+        JsonNode body = objectMapper.readTree(run(StreamFormat.JSON));
+
+        assertThat(body).hasSize(3);
+        assertThat(body.get(2).path("error").path("rows").asLong()).isEqualTo(2);
+        assertThat(meterRegistry.get("neobridge.stream.duration").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void endsCommittedNdjsonStreamWithErrorLine() throws Exception {
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("connection reset"));
+
+        String[] lines = run(StreamFormat.NDJSON).split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).has("error")).isTrue();
+    }
+
+    @Test
+    void propagatesFailureBeforeAnythingWasSent() throws Exception {
+        when(resultSet.next()).thenThrow(new SQLException("relation does not exist"));
+
+        assertThatThrownBy(() -> run(StreamFormat.JSON))
+            .isInstanceOf(IOException.class)
+            .hasRootCauseMessage("relation does not exist");
+    }
+
+    private String run(StreamFormat format) throws IOException {
+        StreamingResponseBody body = service.stream("test", format, "SELECT 1", ROW);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
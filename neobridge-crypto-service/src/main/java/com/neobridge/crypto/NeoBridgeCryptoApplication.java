@@ -11,7 +11,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * Main Spring Boot application class for the NeoBridge Crypto Service.
  * Provides cryptocurrency wallet management, trading, and DeFi features.
  */
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.neobridge.crypto", "com.neobridge.common.fx"})
 @EnableJpaAuditing
 @EnableKafka
 @EnableCaching
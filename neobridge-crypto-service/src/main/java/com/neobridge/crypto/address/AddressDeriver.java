@@ -0,0 +1,22 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+
+/**
+ * Derives a network's deposit addresses by index. Implementations must be
+ * deterministic and thread-safe; the {@link AddressPool} calls them from
+ * several threads at once. Register one as a bean to support a network that
+ * {@link ExtendedPublicKeyDeriver} cannot encode addresses for.
+ */
+public interface AddressDeriver {
+
+    BlockchainNetwork getNetwork();
+
+    /**
+     * Derive the address at {@code index}.
+     *
+     * @return null when the index yields no valid key, which BIP-32 allows
+     *         with negligible probability; the index is then skipped
+     */
+    DerivedAddress derive(long index);
+}
@@ -0,0 +1,327 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pre-derived deposit addresses, so that creating a wallet takes an address
+ * instead of deriving one. A background refill keeps each network's pool in
+ * {@code address_pool} between its watermarks: it first advances the
+ * network's derivation cursor by a whole range in one statement, then derives
+ * that range in parallel, so no index is ever derived twice across restarts
+ * or instances. Each instance leases blocks of available addresses into
+ * memory and hands them out from there; leased addresses are never returned
+ * to the pool except on orderly shutdown, so an address is not reused even
+ * when the instance dies after handing it out. New wallets are given their
+ * address by {@link WalletAddressAssigner} as they are persisted.
+ */
+@Service
+public class AddressPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(AddressPool.class);
+
+    private static final String INIT_CURSOR_SQL =
+        "INSERT INTO address_pool_cursors (network, next_index, updated_at) VALUES (?, 0, ?) ON CONFLICT (network) DO NOTHING";
+
+    // Reserves [next_index - count, next_index) for the caller
+    private static final String RESERVE_SQL =
+        "UPDATE address_pool_cursors SET next_index = next_index + ?, updated_at = ? WHERE network = ? RETURNING next_index";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO address_pool (network, derivation_index, address, public_key, derivation_path, status, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, 'AVAILABLE', ?) ON CONFLICT DO NOTHING";
+
+    private static final String AVAILABLE_SQL =
+        "SELECT COUNT(*) FROM address_pool WHERE network = ? AND status = 'AVAILABLE'";
+
+    private static final String LEASE_SQL =
+        "UPDATE address_pool SET status = 'LEASED', leased_by = ?, leased_at = ? WHERE network = ? AND derivation_index IN " +
+        "(SELECT derivation_index FROM address_pool WHERE network = ? AND status = 'AVAILABLE' " +
+        "ORDER BY derivation_index LIMIT ? FOR UPDATE SKIP LOCKED) " +
+        "RETURNING derivation_index, address, public_key, derivation_path";
+
+    private static final String ASSIGN_SQL =
+        "UPDATE address_pool SET status = 'ASSIGNED', assigned_at = ? WHERE network = ? AND derivation_index = ?";
+
+    private static final String RETURN_SQL =
+        "UPDATE address_pool SET status = 'AVAILABLE', leased_by = NULL, leased_at = NULL " +
+        "WHERE network = ? AND derivation_index = ? AND status = 'LEASED' AND leased_by = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ObjectProvider<AddressDeriver> addressDerivers;
+
+    @Value("${neobridge.crypto.wallet.derivation.path:m/44'/60'/0'/0/}")
+    private String defaultPath;
+
+    @Value("${neobridge.crypto.wallet.derivation.pool.low-watermark:10000}")
+    private int lowWatermark;
+
+    @Value("${neobridge.crypto.wallet.derivation.pool.high-watermark:50000}")
+    private int highWatermark;
+
+    @Value("${neobridge.crypto.wallet.derivation.pool.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${neobridge.crypto.wallet.derivation.pool.lease-size:200}")
+    private int leaseSize;
+
+    @Value("${neobridge.crypto.wallet.derivation.pool.threads:0}")
+    private int threads;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<BlockchainNetwork, NetworkPool> pools = new EnumMap<>(BlockchainNetwork.class);
+    private final ConcurrentLinkedQueue<Object[]> assigned = new ConcurrentLinkedQueue<>();
+    private int parallelism;
+    private ExecutorService derivationExecutor;
+    private ExecutorService leaseExecutor;
+
+    @PostConstruct
+    public void init() {
+        for (BlockchainNetwork network : BlockchainNetwork.values()) {
+            String key = network.name().toLowerCase(Locale.ROOT);
+            String xpub = environment.getProperty("neobridge.crypto.wallet.derivation.xpub." + key);
+            if (xpub != null && !xpub.isBlank() && ExtendedPublicKeyDeriver.supports(network)) {
+                String path = environment.getProperty("neobridge.crypto.wallet.derivation." + key + ".path", defaultPath);
+                pools.put(network, new NetworkPool(new ExtendedPublicKeyDeriver(network, xpub.trim(), path)));
+            }
+        }
+        // Registered derivers take precedence over configured extended keys
+        addressDerivers.orderedStream().forEach(deriver -> pools.put(deriver.getNetwork(), new NetworkPool(deriver)));
+
+        parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        derivationExecutor = Executors.newFixedThreadPool(parallelism);
+        leaseExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (NetworkPool pool : pools.values()) {
+            leaseInBackground(pool);
+        }
+        logger.info("Address pools enabled for {}", pools.keySet());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseExecutor.shutdownNow();
+        derivationExecutor.shutdownNow();
+        flushAssigned();
+        List<Object[]> unused = new ArrayList<>();
+        for (Map.Entry<BlockchainNetwork, NetworkPool> entry : pools.entrySet()) {
+            DerivedAddress address;
+            while ((address = entry.getValue().leased.poll()) != null) {
+                unused.add(new Object[] {entry.getKey().name(), address.getIndex(), instanceId});
+            }
+        }
+        if (!unused.isEmpty()) {
+            jdbcTemplate.batchUpdate(RETURN_SQL, unused);
+            logger.info("Returned {} unused leased addresses to the pool", unused.size());
+        }
+    }
+
+    public boolean supports(BlockchainNetwork network) {
+        return pools.containsKey(network);
+    }
+
+    /**
+     * Take an unused address of the network. Only touches the database when
+     * this instance's leased block has run dry.
+     */
+    public DerivedAddress take(BlockchainNetwork network) {
+        NetworkPool pool = pools.get(network);
+        if (pool == null) {
+            throw new IllegalStateException("No address pool for network " + network);
+        }
+        DerivedAddress address = pool.leased.poll();
+        if (address == null) {
+            synchronized (pool) {
+                address = pool.leased.poll();
+                if (address == null) {
+                    lease(pool);
+                    address = pool.leased.poll();
+                }
+            }
+            if (address == null) {
+                throw new IllegalStateException("Address pool for " + network + " is exhausted");
+            }
+        }
+        if (pool.size.decrementAndGet() < leaseSize / 2) {
+            leaseInBackground(pool);
+        }
+        assigned.add(new Object[] {null, network.name(), address.getIndex()});
+        return address;
+    }
+
+    /**
+     * Give a new wallet its address, public key and derivation path from the pool.
+     */
+    public void applyTo(CryptoWallet wallet) {
+        DerivedAddress address = take(wallet.getNetwork());
+        wallet.setWalletAddress(address.getAddress());
+        wallet.setPublicKey(address.getPublicKey());
+        wallet.setDerivationPath(address.getDerivationPath());
+    }
+
+    /**
+     * Derive addresses for every network whose pool fell below the low watermark.
+     */
+    @Scheduled(fixedDelayString = "${neobridge.crypto.wallet.derivation.pool.refill-interval:PT30S}")
+    public void refill() {
+        for (NetworkPool pool : pools.values()) {
+            BlockchainNetwork network = pool.deriver.getNetwork();
+            try {
+                Integer available = jdbcTemplate.queryForObject(AVAILABLE_SQL, Integer.class, network.name());
+                if (available == null || available >= lowWatermark) {
+                    continue;
+                }
+                long started = System.nanoTime();
+                int added = 0;
+                while (available + added < highWatermark) {
+                    int derived = deriveBatch(pool, Math.min(batchSize, highWatermark - available - added));
+                    if (derived == 0) {
+                        // The deriver yields nothing; retry on the next run instead of reserving indexes forever
+                        logger.warn("Deriving {} addresses produced none, stopping this refill", network);
+                        break;
+                    }
+                    added += derived;
+                }
+                logger.info("Derived {} {} addresses in {} ms", added, network,
+                           (System.nanoTime() - started) / 1_000_000);
+            } catch (Exception e) {
+                logger.error("Failed to refill {} address pool: {}", network, e.getMessage(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${neobridge.crypto.wallet.derivation.pool.assign-interval:PT1S}")
+    public void flushAssigned() {
+        List<Object[]> rows = new ArrayList<>();
+        Object[] row;
+        while ((row = assigned.poll()) != null) {
+            rows.add(row);
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        for (Object[] assignment : rows) {
+            assignment[0] = now;
+        }
+        try {
+            jdbcTemplate.batchUpdate(ASSIGN_SQL, rows);
+        } catch (Exception e) {
+            // Rows stay LEASED, which never returns them to the pool either
+            logger.warn("Failed to mark {} addresses assigned: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reserve the next {@code count} indexes and derive them on the derivation pool.
+     */
+    private int deriveBatch(NetworkPool pool, int count) throws InterruptedException, ExecutionException {
+        String network = pool.deriver.getNetwork().name();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INIT_CURSOR_SQL, network, now);
+        Long next = jdbcTemplate.queryForObject(RESERVE_SQL, Long.class, count, now, network);
+        long first = next - count;
+
+        int threadsUsed = Math.max(1, Math.min(count / 64, parallelism));
+        int chunk = (count + threadsUsed - 1) / threadsUsed;
+        List<Future<List<Object[]>>> futures = new ArrayList<>(threadsUsed);
+        for (long from = first; from < next; from += chunk) {
+            long start = from;
+            long end = Math.min(next, from + chunk);
+            futures.add(derivationExecutor.submit(() -> {
+                List<Object[]> rows = new ArrayList<>((int) (end - start));
+                for (long index = start; index < end; index++) {
+                    DerivedAddress address = pool.deriver.derive(index);
+                    if (address != null) {
+                        rows.add(new Object[] {
+                            network, index, address.getAddress(), address.getPublicKey(), address.getDerivationPath(), now
+                        });
+                    }
+                }
+                return rows;
+            }));
+        }
+        List<Object[]> rows = new ArrayList<>(count);
+        for (Future<List<Object[]>> future : futures) {
+            rows.addAll(future.get());
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        return rows.size();
+    }
+
+    private void leaseInBackground(NetworkPool pool) {
+        if (pool.leasing.compareAndSet(false, true)) {
+            leaseExecutor.execute(() -> {
+                try {
+                    lease(pool);
+                } finally {
+                    pool.leasing.set(false);
+                }
+            });
+        }
+    }
+
+    private void lease(NetworkPool pool) {
+        String network = pool.deriver.getNetwork().name();
+        try {
+            List<DerivedAddress> block = jdbcTemplate.query(LEASE_SQL, (rs, rowNum) -> new DerivedAddress(
+                rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                instanceId, Timestamp.from(Instant.now()), network, network, leaseSize);
+            block.sort((a, b) -> Long.compare(a.getIndex(), b.getIndex()));
+            pool.leased.addAll(block);
+            pool.size.addAndGet(block.size());
+        } catch (Exception e) {
+            logger.error("Failed to lease {} addresses: {}", network, e.getMessage(), e);
+        }
+    }
+
+    private static final class NetworkPool {
+
+        private final AddressDeriver deriver;
+        private final ConcurrentLinkedQueue<DerivedAddress> leased = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean leasing = new AtomicBoolean();
+
+        private NetworkPool(AddressDeriver deriver) {
+            this.deriver = deriver;
+        }
+    }
+}
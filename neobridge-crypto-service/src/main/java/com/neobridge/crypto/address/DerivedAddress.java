@@ -0,0 +1,43 @@
+package com.neobridge.crypto.address;
+
+/**
+ * An address derived at one index of a network's HD chain.
+ */
+public class DerivedAddress {
+
+    private final long index;
+    private final String address;
+    private final String publicKey;
+    private final String derivationPath;
+
+    public DerivedAddress(long index, String address, String publicKey, String derivationPath) {
+        this.index = index;
+        this.address = address;
+        this.publicKey = publicKey;
+        this.derivationPath = derivationPath;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Compressed public key, hex encoded.
+     */
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public String getDerivationPath() {
+        return derivationPath;
+    }
+
+    @Override
+    public String toString() {
+        return derivationPath + "=" + address;
+    }
+}
@@ -0,0 +1,236 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.Keys;
+import org.web3j.utils.Numeric;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * Derives addresses from a BIP-32 extended public key (xpub) of the chain
+ * that deposit addresses hang off, e.g. {@code m/44'/60'/0'/0}, by public
+ * child derivation. Only public keys are involved, so the private keys stay
+ * with the signer. EVM networks get EIP-55 checksummed addresses, Bitcoin
+ * and Litecoin native SegWit (P2WPKH) addresses.
+ */
+public class ExtendedPublicKeyDeriver implements AddressDeriver {
+
+    private static final X9ECParameters CURVE = CustomNamedCurves.getByName("secp256k1");
+    private static final FixedPointCombMultiplier MULTIPLIER = new FixedPointCombMultiplier();
+    private static final long MAX_INDEX = 0x7FFFFFFFL;
+
+    private static final String BASE58 = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+    private static final String BECH32 = "qpzry9x8gf2tvdw0s3jn54khce6mua7l";
+
+    private final BlockchainNetwork network;
+    private final String segwitPrefix;
+    private final String pathPrefix;
+    private final byte[] chainCode;
+    private final byte[] parentKey;
+    private final ECPoint parentPoint;
+
+    public ExtendedPublicKeyDeriver(BlockchainNetwork network, String xpub, String pathPrefix) {
+        if (!supports(network)) {
+            throw new IllegalArgumentException("No address encoding for network " + network);
+        }
+        byte[] payload = decodeBase58Check(xpub);
+        if (payload.length != 78 || (payload[45] != 2 && payload[45] != 3)) {
+            throw new IllegalArgumentException("Not an extended public key for " + network);
+        }
+        this.network = network;
+        this.segwitPrefix = segwitPrefix(network);
+        this.pathPrefix = pathPrefix.endsWith("/") ? pathPrefix : pathPrefix + "/";
+        this.chainCode = Arrays.copyOfRange(payload, 13, 45);
+        this.parentKey = Arrays.copyOfRange(payload, 45, 78);
+        this.parentPoint = CURVE.getCurve().decodePoint(parentKey);
+    }
+
+    /**
+     * Whether addresses of the network can be encoded from a public key here.
+     */
+    public static boolean supports(BlockchainNetwork network) {
+        return isEvm(network) || segwitPrefix(network) != null;
+    }
+
+    @Override
+    public BlockchainNetwork getNetwork() {
+        return network;
+    }
+
+    @Override
+    public DerivedAddress derive(long index) {
+        if (index < 0 || index > MAX_INDEX) {
+            throw new IllegalArgumentException("Non-hardened index out of range: " + index);
+        }
+        byte[] digest = hmacSha512(chainCode, parentKey, (int) index);
+        BigInteger tweak = new BigInteger(1, Arrays.copyOf(digest, 32));
+        if (tweak.compareTo(CURVE.getN()) >= 0) {
+            return null;
+        }
+        ECPoint child = MULTIPLIER.multiply(CURVE.getG(), tweak).add(parentPoint).normalize();
+        if (child.isInfinity()) {
+            return null;
+        }
+        byte[] compressed = child.getEncoded(true);
+        String address = segwitPrefix != null
+            ? segwitAddress(segwitPrefix, hash160(compressed))
+            : evmAddress(child.getEncoded(false));
+        return new DerivedAddress(index, address, Numeric.toHexStringNoPrefix(compressed), pathPrefix + index);
+    }
+
+    private static boolean isEvm(BlockchainNetwork network) {
+        switch (network) {
+            case ETHEREUM:
+            case BINANCE_SMART_CHAIN:
+            case POLYGON:
+            case ARBITRUM:
+            case OPTIMISM:
+            case BASE:
+            case POLYGON_ZKEVM:
+            case ZKSYNC:
+            case CELO:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static String segwitPrefix(BlockchainNetwork network) {
+        switch (network) {
+            case BITCOIN:
+                return "bc";
+            case LITECOIN:
+                return "ltc";
+            default:
+                return null;
+        }
+    }
+
+    private static String evmAddress(byte[] uncompressed) {
+        byte[] hash = Hash.sha3(Arrays.copyOfRange(uncompressed, 1, uncompressed.length));
+        return Keys.toChecksumAddress(Numeric.toHexString(Arrays.copyOfRange(hash, 12, 32)));
+    }
+
+    private static byte[] hmacSha512(byte[] key, byte[] parentKey, int index) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA512");
+            mac.init(new SecretKeySpec(key, "HmacSHA512"));
+            mac.update(parentKey);
+            mac.update(new byte[] {(byte) (index >>> 24), (byte) (index >>> 16), (byte) (index >>> 8), (byte) index});
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA512 unavailable", e);
+        }
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    private static byte[] hash160(byte[] data) {
+        byte[] sha = sha256(data);
+        RIPEMD160Digest ripemd = new RIPEMD160Digest();
+        ripemd.update(sha, 0, sha.length);
+        byte[] out = new byte[20];
+        ripemd.doFinal(out, 0);
+        return out;
+    }
+
+    private static byte[] decodeBase58Check(String value) {
+        BigInteger number = BigInteger.ZERO;
+        for (int i = 0; i < value.length(); i++) {
+            int digit = BASE58.indexOf(value.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid base58 character in extended key");
+            }
+            number = number.multiply(BigInteger.valueOf(58)).add(BigInteger.valueOf(digit));
+        }
+        byte[] bytes = number.toByteArray();
+        int leadingZeros = 0;
+        while (leadingZeros < value.length() && value.charAt(leadingZeros) == '1') {
+            leadingZeros++;
+        }
+        int start = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        byte[] decoded = new byte[leadingZeros + bytes.length - start];
+        System.arraycopy(bytes, start, decoded, leadingZeros, bytes.length - start);
+        if (decoded.length < 4) {
+            throw new IllegalArgumentException("Extended key too short");
+        }
+        byte[] payload = Arrays.copyOf(decoded, decoded.length - 4);
+        byte[] checksum = sha256(sha256(payload));
+        for (int i = 0; i < 4; i++) {
+            if (checksum[i] != decoded[payload.length + i]) {
+                throw new IllegalArgumentException("Extended key checksum mismatch");
+            }
+        }
+        return payload;
+    }
+
+    // BIP-173 witness version 0 address
+    private static String segwitAddress(String hrp, byte[] program) {
+        int[] data = new int[1 + (program.length * 8 + 4) / 5];
+        int acc = 0;
+        int bits = 0;
+        int out = 1;
+        for (byte b : program) {
+            acc = (acc << 8) | (b & 0xFF);
+            bits += 8;
+            while (bits >= 5) {
+                bits -= 5;
+                data[out++] = (acc >>> bits) & 31;
+            }
+        }
+        if (bits > 0) {
+            data[out] = (acc << (5 - bits)) & 31;
+        }
+
+        byte[] hrpBytes = hrp.getBytes(StandardCharsets.US_ASCII);
+        int[] values = new int[hrpBytes.length * 2 + 1 + data.length + 6];
+        for (int i = 0; i < hrpBytes.length; i++) {
+            values[i] = hrpBytes[i] >> 5;
+            values[hrpBytes.length + 1 + i] = hrpBytes[i] & 31;
+        }
+        System.arraycopy(data, 0, values, hrpBytes.length * 2 + 1, data.length);
+        int polymod = polymod(values) ^ 1;
+
+        StringBuilder address = new StringBuilder(hrp.length() + 1 + data.length + 6).append(hrp).append('1');
+        for (int value : data) {
+            address.append(BECH32.charAt(value));
+        }
+        for (int i = 0; i < 6; i++) {
+            address.append(BECH32.charAt((polymod >>> (5 * (5 - i))) & 31));
+        }
+        return address.toString();
+    }
+
+    private static int polymod(int[] values) {
+        int[] generator = {0x3b6a57b2, 0x26508e6d, 0x1ea119fa, 0x3d4233dd, 0x2a1462b3};
+        int chk = 1;
+        for (int value : values) {
+            int top = chk >>> 25;
+            chk = ((chk & 0x1ffffff) << 5) ^ value;
+            for (int i = 0; i < 5; i++) {
+                if (((top >>> i) & 1) != 0) {
+                    chk ^= generator[i];
+                }
+            }
+        }
+        return chk;
+    }
+}
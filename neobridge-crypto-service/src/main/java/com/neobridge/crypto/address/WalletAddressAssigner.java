@@ -0,0 +1,51 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Entity listener that gives every new wallet without an address one from
+ * the {@link AddressPool}, whichever path creates the wallet, and announces
+ * the wallet through {@link WalletCreatedPublisher} once it has committed.
+ * The address is assigned before the insert is validated, so it satisfies
+ * the entity's not-blank constraint. Networks without a pool keep the
+ * address they were created with.
+ */
+@Component
+public class WalletAddressAssigner {
+
+    @Autowired
+    private AddressPool addressPool;
+
+    @Autowired
+    private WalletCreatedPublisher walletCreatedPublisher;
+
+    @PrePersist
+    public void assignAddress(CryptoWallet wallet) {
+        String address = wallet.getWalletAddress();
+        if ((address == null || address.isBlank()) && wallet.getNetwork() != null
+                && addressPool.supports(wallet.getNetwork())) {
+            addressPool.applyTo(wallet);
+        }
+    }
+
+    @PostPersist
+    public void announce(CryptoWallet wallet) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            walletCreatedPublisher.publish(wallet);
+            return;
+        }
+        // A wallet whose insert rolls back must never be announced
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                walletCreatedPublisher.publish(wallet);
+            }
+        });
+    }
+}
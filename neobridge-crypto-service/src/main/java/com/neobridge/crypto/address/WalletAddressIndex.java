@@ -0,0 +1,271 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.util.AddressBloomFilter;
+import com.neobridge.crypto.util.AddressTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * In-memory answer to "is this address one of our wallets?" for on-chain
+ * events seen by the deposit scanner, without probing {@code crypto_wallets}. A
+ * bloom filter over the address strings rejects almost all foreign addresses
+ * in a few bit probes; the rest are resolved exactly in a compact
+ * {@link AddressTable}, which stores about 40 bytes per address instead of
+ * the address strings. Loaded on startup, kept current from wallet-created
+ * events, and topped up from the database in case an event was missed.
+ *
+ * <p>Heap use is dominated by the table: about 2 GB at 50M addresses, and
+ * three times that while it grows (see {@link AddressTable}). The initial
+ * load sizes the table for the wallet count plus an eighth so that startup
+ * does not grow it.
+ */
+@Component
+public class WalletAddressIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(WalletAddressIndex.class);
+
+    private static final String COUNT_SQL =
+        "SELECT COUNT(*) FROM crypto_wallets WHERE deleted = false AND wallet_address IS NOT NULL";
+
+    private static final String LOAD_SQL =
+        "SELECT id, wallet_address, network, cryptocurrency, created_at FROM crypto_wallets " +
+        "WHERE deleted = false AND created_at > ? ORDER BY created_at";
+
+    private static final String ADDRESSES_SQL =
+        "SELECT wallet_address FROM crypto_wallets WHERE deleted = false AND wallet_address IS NOT NULL";
+
+    // Wallets committed late can carry a creation time before the last load
+    private static final Duration LOAD_OVERLAP = Duration.ofMinutes(1);
+
+    private static final BlockchainNetwork[] NETWORKS = BlockchainNetwork.values();
+    private static final Cryptocurrency[] CRYPTOCURRENCIES = Cryptocurrency.values();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${neobridge.crypto.wallet.index.expected:1000000}")
+    private long expectedAddresses;
+
+    @Value("${neobridge.crypto.wallet.index.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${neobridge.crypto.wallet.index.load-factor:0.8}")
+    private double loadFactor;
+
+    @Value("${neobridge.crypto.wallet.index.fetch-size:10000}")
+    private int fetchSize;
+
+    private volatile AddressTable table;
+    private volatile AddressBloomFilter bloomFilter;
+    private volatile boolean loaded;
+    private Instant loadedThrough = Instant.EPOCH;
+    private AddressBloomFilter rebuilding;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.nanoTime();
+        Long existing = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        long count = existing != null ? existing : 0;
+        synchronized (this) {
+            table = new AddressTable(count + count / 8, loadFactor);
+            bloomFilter = new AddressBloomFilter(Math.max(expectedAddresses, count * 2), falsePositiveRate);
+        }
+        refresh();
+        loaded = true;
+        logger.info("Indexed {} wallet addresses in {} ms: table {} MiB, bloom filter {} MiB", table.size(),
+                   (System.nanoTime() - started) / 1_000_000, table.getSizeInBytes() >> 20,
+                   bloomFilter.getSizeInBytes() >> 20);
+    }
+
+    /**
+     * Add wallets created since the last load.
+     */
+    @Scheduled(fixedDelayString = "${neobridge.crypto.wallet.index.refresh-interval:60000}",
+               initialDelayString = "${neobridge.crypto.wallet.index.refresh-interval:60000}")
+    public void refresh() {
+        AddressBloomFilter rebuild;
+        synchronized (this) {
+            if (table == null) {
+                return;
+            }
+            Instant[] latest = {loadedThrough};
+            stream(LOAD_SQL, rs -> {
+                String address = rs.getString(2);
+                if (address != null) {
+                    index(rs.getObject(1, UUID.class), address, BlockchainNetwork.valueOf(rs.getString(3)),
+                          Cryptocurrency.valueOf(rs.getString(4)));
+                }
+                latest[0] = rs.getTimestamp(5).toInstant();
+            }, Timestamp.from(loadedThrough.minus(LOAD_OVERLAP)));
+            loadedThrough = latest[0];
+            rebuild = startBloomFilterRebuildIfFull();
+        }
+        rebuildBloomFilter(rebuild);
+    }
+
+    /**
+     * Index a wallet's address.
+     */
+    public void add(UUID walletId, String address, BlockchainNetwork network, Cryptocurrency cryptocurrency) {
+        AddressBloomFilter rebuild;
+        synchronized (this) {
+            if (table == null) {
+                return; // the initial load will pick it up
+            }
+            index(walletId, address, network, cryptocurrency);
+            rebuild = startBloomFilterRebuildIfFull();
+        }
+        rebuildBloomFilter(rebuild);
+    }
+
+    /**
+     * The wallet owning an address, or {@code null} when it is not one of ours.
+     */
+    public IndexedWallet match(String address) {
+        if (address == null || table == null) {
+            return null;
+        }
+        String key = normalize(address);
+        if (!bloomFilter.mightContain(key)) {
+            return null;
+        }
+        AddressTable.Entry entry = table.find(AddressTable.fingerprint(key));
+        if (entry == null) {
+            return null;
+        }
+        int tag = entry.getTag();
+        return new IndexedWallet(entry.getWalletId(), NETWORKS[tag >>> 8], CRYPTOCURRENCIES[tag & 0xFF]);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    private void index(UUID walletId, String address, BlockchainNetwork network, Cryptocurrency cryptocurrency) {
+        String key = normalize(address);
+        table.put(AddressTable.fingerprint(key), walletId, network.ordinal() << 8 | cryptocurrency.ordinal());
+        bloomFilter.put(key);
+        if (rebuilding != null) {
+            rebuilding.put(key);
+        }
+    }
+
+    /**
+     * A larger, empty filter once the table has outgrown the current one and
+     * no rebuild is running, otherwise null. Called under the index lock;
+     * from here on every indexed address goes into both filters.
+     */
+    private AddressBloomFilter startBloomFilterRebuildIfFull() {
+        if (rebuilding != null || table.size() <= bloomFilter.getCapacity()) {
+            return null;
+        }
+        rebuilding = new AddressBloomFilter(table.size() * 2L, falsePositiveRate);
+        return rebuilding;
+    }
+
+    /**
+     * The table keeps fingerprints only, so the larger filter is filled from
+     * the database outside the index lock and swapped in when complete. Adds
+     * and lookups carry on against the old filter meanwhile; an overfull
+     * filter only lets more foreign addresses through to the table.
+     */
+    private void rebuildBloomFilter(AddressBloomFilter rebuilt) {
+        if (rebuilt == null) {
+            return;
+        }
+        try {
+            stream(ADDRESSES_SQL, rs -> rebuilt.put(normalize(rs.getString(1))));
+        } catch (Exception e) {
+            synchronized (this) {
+                rebuilding = null;
+            }
+            logger.error("Failed to rebuild address bloom filter, retrying on the next add: {}", e.getMessage(), e);
+            return;
+        }
+        synchronized (this) {
+            bloomFilter = rebuilt;
+            rebuilding = null;
+        }
+        logger.info("Rebuilt address bloom filter for {} addresses", rebuilt.getCapacity());
+    }
+
+    private void stream(String sql, RowCallbackHandler handler, Object... args) {
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(fetchSize);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        // PostgreSQL only honours the fetch size inside a transaction
+        readOnly.executeWithoutResult(status -> streaming.query(sql, handler, args));
+    }
+
+    /**
+     * Hex addresses (EVM and similar) are case-insensitive; others are kept as
+     * is. Lowercase addresses, the common case on a lookup, are not copied.
+     */
+    static String normalize(String address) {
+        String trimmed = address.trim();
+        if (!trimmed.startsWith("0x") && !trimmed.startsWith("0X")) {
+            return trimmed;
+        }
+        for (int i = 1; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                return trimmed.toLowerCase(Locale.ROOT);
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * Wallet an address belongs to, with what it holds.
+     */
+    public static final class IndexedWallet {
+
+        private final UUID walletId;
+        private final BlockchainNetwork network;
+        private final Cryptocurrency cryptocurrency;
+
+        IndexedWallet(UUID walletId, BlockchainNetwork network, Cryptocurrency cryptocurrency) {
+            this.walletId = walletId;
+            this.network = network;
+            this.cryptocurrency = cryptocurrency;
+        }
+
+        public UUID getWalletId() {
+            return walletId;
+        }
+
+        public BlockchainNetwork getNetwork() {
+            return network;
+        }
+
+        public Cryptocurrency getCryptocurrency() {
+            return cryptocurrency;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A wallet was created with an on-chain address.
+ */
+public class WalletCreatedEvent {
+
+    private UUID walletId;
+    private UUID userId;
+    private String walletAddress;
+    private BlockchainNetwork network;
+    private Cryptocurrency cryptocurrency;
+    private Instant occurredAt;
+
+    // Constructors
+    public WalletCreatedEvent() {}
+
+    public static WalletCreatedEvent of(CryptoWallet wallet) {
+        WalletCreatedEvent event = new WalletCreatedEvent();
+        event.setWalletId(wallet.getId());
+        event.setUserId(wallet.getUserId());
+        event.setWalletAddress(wallet.getWalletAddress());
+        event.setNetwork(wallet.getNetwork());
+        event.setCryptocurrency(wallet.getCryptocurrency());
+        event.setOccurredAt(Instant.now());
+        return event;
+    }
+
+    // Getters and Setters
+    public UUID getWalletId() {
+        return walletId;
+    }
+
+    public void setWalletId(UUID walletId) {
+        this.walletId = walletId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getWalletAddress() {
+        return walletAddress;
+    }
+
+    public void setWalletAddress(String walletAddress) {
+        this.walletAddress = walletAddress;
+    }
+
+    public BlockchainNetwork getNetwork() {
+        return network;
+    }
+
+    public void setNetwork(BlockchainNetwork network) {
+        this.network = network;
+    }
+
+    public Cryptocurrency getCryptocurrency() {
+        return cryptocurrency;
+    }
+
+    public void setCryptocurrency(Cryptocurrency cryptocurrency) {
+        this.cryptocurrency = cryptocurrency;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "WalletCreatedEvent{walletId=" + walletId + ", network=" + network + ", walletAddress=" + walletAddress + "}";
+    }
+}
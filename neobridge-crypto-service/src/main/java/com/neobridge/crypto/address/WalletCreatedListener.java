@@ -0,0 +1,43 @@
+package com.neobridge.crypto.address;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds newly created wallets to the local {@link WalletAddressIndex}. Every
+ * instance keeps a full index, so each one consumes with its own consumer
+ * group, named after the host so a restart resumes the same group instead of
+ * leaving an abandoned one behind. A new group starts from the latest events
+ * because existing wallets are loaded from the database on startup; events
+ * replayed on resume map addresses that are already indexed and change nothing.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class WalletCreatedListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(WalletCreatedListener.class);
+
+    @Autowired
+    private WalletAddressIndex walletAddressIndex;
+
+    @KafkaListener(
+        topics = "${neobridge.crypto.wallet.index.topic:neobridge.crypto.wallets-created}",
+        groupId = "${neobridge.crypto.wallet.index.consumer-group:${spring.application.name:neobridge}-address-index-${HOSTNAME:local}}",
+        properties = {
+            "auto.offset.reset=latest",
+            "spring.json.value.default.type=com.neobridge.crypto.address.WalletCreatedEvent"
+        }
+    )
+    public void onWalletCreated(WalletCreatedEvent event) {
+        if (event.getWalletId() == null || event.getWalletAddress() == null || event.getNetwork() == null
+                || event.getCryptocurrency() == null) {
+            logger.warn("Ignoring malformed wallet created event: {}", event);
+            return;
+        }
+        walletAddressIndex.add(event.getWalletId(), event.getWalletAddress(), event.getNetwork(), event.getCryptocurrency());
+    }
+}
@@ -0,0 +1,39 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Announces a new wallet so that every instance's {@link WalletAddressIndex}
+ * recognises its address right away. Called by {@link WalletAddressAssigner}
+ * once the wallet has committed.
+ */
+@Component
+public class WalletCreatedPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WalletCreatedPublisher.class);
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${neobridge.crypto.wallet.index.topic:neobridge.crypto.wallets-created}")
+    private String topic;
+
+    public void publish(CryptoWallet wallet) {
+        if (wallet.getWalletAddress() == null) {
+            return;
+        }
+        WalletCreatedEvent event = WalletCreatedEvent.of(wallet);
+        try {
+            kafkaTemplate.send(topic, event.getWalletId().toString(), event);
+            logger.debug("Published creation of wallet {}", event.getWalletId());
+        } catch (Exception e) {
+            logger.error("Failed to publish creation of wallet {}: {}", event.getWalletId(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.neobridge.crypto.controller;
+
+import com.neobridge.common.response.ApiResponse;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.fee.FeeOracle;
+import com.neobridge.crypto.fee.FeeQuote;
+import com.neobridge.crypto.fee.FeeSpeed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for network fee quotes in the NeoBridge platform.
+ */
+@RestController
+@RequestMapping("/api/v1/fees")
+@CrossOrigin(origins = "*")
+public class FeeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeeController.class);
+
+    @Autowired
+    private FeeOracle feeOracle;
+
+    /**
+     * Get the current fee quote for a network.
+     */
+    @GetMapping("/{network}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<FeeQuote>> getFeeQuote(@PathVariable BlockchainNetwork network,
+                                                             @RequestParam(defaultValue = "STANDARD") FeeSpeed speed) {
+        logger.debug("Fetching {} fee quote for network: {}", speed, network);
+
+        try {
+            FeeQuote quote = feeOracle.quote(network, speed);
+            return ResponseEntity.ok(ApiResponse.success(quote, "Fee quote retrieved successfully"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error fetching fee quote: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to retrieve fee quote: " + e.getMessage()));
+        }
+    }
+}
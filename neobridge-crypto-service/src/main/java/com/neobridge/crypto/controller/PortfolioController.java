@@ -0,0 +1,46 @@
+package com.neobridge.crypto.controller;
+
+import com.neobridge.common.response.ApiResponse;
+import com.neobridge.crypto.portfolio.PortfolioAggregator;
+import com.neobridge.crypto.portfolio.PortfolioValuation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller for crypto portfolio valuations in the NeoBridge platform.
+ */
+@RestController
+@RequestMapping("/api/v1/portfolios")
+@CrossOrigin(origins = "*")
+public class PortfolioController {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioController.class);
+
+    @Autowired
+    private PortfolioAggregator portfolioAggregator;
+
+    /**
+     * Get the current valuation of a user's crypto holdings.
+     */
+    @GetMapping("/user/{userId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PortfolioValuation>> getPortfolio(@PathVariable UUID userId) {
+        logger.debug("Fetching portfolio valuation for user: {}", userId);
+
+        try {
+            PortfolioValuation valuation = portfolioAggregator.getValuation(userId);
+            return ResponseEntity.ok(ApiResponse.success(valuation, "Portfolio retrieved successfully"));
+        } catch (Exception e) {
+            logger.error("Error fetching portfolio: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to retrieve portfolio: " + e.getMessage()));
+        }
+    }
+}
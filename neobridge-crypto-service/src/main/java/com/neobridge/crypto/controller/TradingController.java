@@ -0,0 +1,100 @@
+package com.neobridge.crypto.controller;
+
+import com.neobridge.common.response.ApiResponse;
+import com.neobridge.crypto.dto.CryptoOrderRequest;
+import com.neobridge.crypto.trading.TradingOrder;
+import com.neobridge.crypto.trading.TradingService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller for internal crypto trading in the NeoBridge platform.
+ */
+@RestController
+@RequestMapping("/api/v1/trading/orders")
+@CrossOrigin(origins = "*")
+public class TradingController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TradingController.class);
+
+    @Autowired
+    private TradingService tradingService;
+
+    /**
+     * Place a limit order.
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<TradingOrder>> placeOrder(@Valid @RequestBody CryptoOrderRequest request) {
+        logger.info("Placing {} order on {} for user: {}", request.getSide(), request.getPair(), request.getUserId());
+
+        try {
+            TradingOrder order = tradingService.placeOrder(request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(order, "Order placed successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error placing order: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to place order: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get an order with its settled progress.
+     */
+    @GetMapping("/{orderId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<TradingOrder>> getOrder(@PathVariable UUID orderId) {
+        logger.debug("Fetching order: {}", orderId);
+
+        try {
+            TradingOrder order = tradingService.getOrder(orderId);
+            return ResponseEntity.ok(ApiResponse.success(order, "Order retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error fetching order: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to retrieve order: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Cancel an open order.
+     */
+    @DeleteMapping("/{orderId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<TradingOrder>> cancelOrder(@PathVariable UUID orderId, @RequestParam UUID userId) {
+        logger.info("Cancelling order {} for user: {}", orderId, userId);
+
+        try {
+            TradingOrder order = tradingService.cancelOrder(orderId, userId);
+            return ResponseEntity.ok(ApiResponse.success(order, "Order cancellation requested"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error cancelling order: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to cancel order: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.neobridge.crypto.deposit;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A block as seen by the deposit scanner: its position in the chain and the
+ * outputs it contains. {@code parentHash} links it to the previous block and
+ * is what reorgs are detected by.
+ */
+public class ChainBlock {
+
+    private final long height;
+    private final String hash;
+    private final String parentHash;
+    private final Instant timestamp;
+    private final List<ChainOutput> outputs;
+
+    public ChainBlock(long height, String hash, String parentHash, Instant timestamp, List<ChainOutput> outputs) {
+        this.height = height;
+        this.hash = hash;
+        this.parentHash = parentHash;
+        this.timestamp = timestamp;
+        this.outputs = Collections.unmodifiableList(outputs);
+    }
+
+    public long getHeight() {
+        return height;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getParentHash() {
+        return parentHash;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public List<ChainOutput> getOutputs() {
+        return outputs;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + height + " " + hash;
+    }
+}
@@ -0,0 +1,35 @@
+package com.neobridge.crypto.deposit;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+
+import java.util.List;
+
+/**
+ * Read access to one blockchain network's canonical chain, as needed for
+ * deposit detection. Implementations wrap a node or indexer API; register one
+ * bean per network to have it scanned.
+ */
+public interface ChainClient {
+
+    BlockchainNetwork getNetwork();
+
+    /**
+     * Height of the current chain tip.
+     */
+    long getHeadHeight();
+
+    /**
+     * Up to {@code count} consecutive blocks starting at {@code fromHeight},
+     * fewer when the tip is reached. Implementations should fetch them in as
+     * few round trips as the node allows.
+     */
+    List<ChainBlock> getBlocks(long fromHeight, int count);
+
+    /**
+     * Hash of the canonical block at a height, or {@code null} above the tip.
+     */
+    default String getBlockHash(long height) {
+        List<ChainBlock> blocks = getBlocks(height, 1);
+        return blocks.isEmpty() ? null : blocks.get(0).getHash();
+    }
+}
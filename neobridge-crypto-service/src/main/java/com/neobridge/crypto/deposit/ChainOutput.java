@@ -0,0 +1,52 @@
+package com.neobridge.crypto.deposit;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+
+import java.math.BigDecimal;
+
+/**
+ * A value transfer to an address within a block: a UTXO output, a native
+ * transfer or a token transfer log. {@code outputIndex} makes it unique
+ * within its transaction.
+ */
+public class ChainOutput {
+
+    private final String txHash;
+    private final int outputIndex;
+    private final String address;
+    private final Cryptocurrency cryptocurrency;
+    private final BigDecimal amount;
+
+    public ChainOutput(String txHash, int outputIndex, String address, Cryptocurrency cryptocurrency, BigDecimal amount) {
+        this.txHash = txHash;
+        this.outputIndex = outputIndex;
+        this.address = address;
+        this.cryptocurrency = cryptocurrency;
+        this.amount = amount;
+    }
+
+    public String getTxHash() {
+        return txHash;
+    }
+
+    public int getOutputIndex() {
+        return outputIndex;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public Cryptocurrency getCryptocurrency() {
+        return cryptocurrency;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String toString() {
+        return txHash + ":" + outputIndex + " " + amount + " " + cryptocurrency + " -> " + address;
+    }
+}
@@ -0,0 +1,350 @@
+package com.neobridge.crypto.deposit;
+
+import com.neobridge.crypto.address.WalletAddressIndex;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.portfolio.WalletBalanceEvent;
+import com.neobridge.crypto.portfolio.WalletBalancePublisher;
+import com.neobridge.crypto.utxo.Outpoint;
+import com.neobridge.crypto.utxo.ReceivedOutput;
+import com.neobridge.crypto.utxo.UtxoIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Detects deposits to our wallet addresses and credits them once deep enough.
+ * Each network's chain is scanned in batches of blocks from its
+ * {@link ChainClient}, every output checked against {@link WalletAddressIndex},
+ * and matches recorded as pending deposits together with the scan cursor in
+ * one transaction. The cursor row is locked while scanning, so one instance
+ * scans a network at a time. Pending deposits are credited in a single
+ * set-based statement when they reach the network's confirmation depth.
+ * Recent block hashes are kept to detect reorgs: the cursor rewinds to the
+ * fork point and deposits in orphaned blocks are dropped before crediting.
+ * Confirmations are counted from the cursor, the highest block whose parent
+ * chain was verified, never from the node's reported tip.
+ */
+@Component
+public class DepositScanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepositScanner.class);
+
+    private static final String ENSURE_CURSOR_SQL =
+        "INSERT INTO deposit_scan_cursors (network, block_height, block_hash, updated_at) VALUES (?, ?, NULL, ?) " +
+        "ON CONFLICT (network) DO NOTHING";
+
+    private static final String LOCK_CURSOR_SQL =
+        "SELECT block_height, block_hash FROM deposit_scan_cursors WHERE network = ? FOR UPDATE SKIP LOCKED";
+
+    private static final String UPDATE_CURSOR_SQL =
+        "UPDATE deposit_scan_cursors SET block_height = ?, block_hash = ?, updated_at = ? WHERE network = ?";
+
+    private static final String INSERT_BLOCK_SQL =
+        "INSERT INTO deposit_blocks (network, block_height, block_hash) VALUES (?, ?, ?) " +
+        "ON CONFLICT (network, block_height) DO UPDATE SET block_hash = EXCLUDED.block_hash";
+
+    private static final String PRUNE_BLOCKS_SQL =
+        "DELETE FROM deposit_blocks WHERE network = ? AND block_height < ?";
+
+    private static final String RECENT_BLOCKS_SQL =
+        "SELECT block_height, block_hash FROM deposit_blocks WHERE network = ? ORDER BY block_height DESC";
+
+    private static final String DROP_BLOCKS_SQL =
+        "DELETE FROM deposit_blocks WHERE network = ? AND block_height > ?";
+
+    // Deposits orphaned by a reorg come back to pending when the new chain includes them
+    private static final String INSERT_DEPOSIT_SQL =
+        "INSERT INTO crypto_deposits (id, network, tx_hash, output_index, wallet_id, cryptocurrency, amount, " +
+        "block_height, block_hash, confirmations, status, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 1, 'PENDING', ?, ?) " +
+        "ON CONFLICT (network, tx_hash, output_index) DO UPDATE SET block_height = EXCLUDED.block_height, " +
+        "block_hash = EXCLUDED.block_hash, confirmations = 1, status = 'PENDING', updated_at = EXCLUDED.updated_at " +
+        "WHERE crypto_deposits.status = 'ORPHANED'";
+
+    private static final String ORPHAN_DEPOSITS_SQL =
+        "UPDATE crypto_deposits SET status = 'ORPHANED', confirmations = 0, updated_at = ? " +
+        "WHERE network = ? AND block_height > ? AND status = 'PENDING'";
+
+    private static final String REORGED_CREDITS_SQL =
+        "UPDATE crypto_deposits SET status = 'REORGED', updated_at = ? " +
+        "WHERE network = ? AND block_height > ? AND status = 'CREDITED' RETURNING id";
+
+    private static final String UPDATE_CONFIRMATIONS_SQL =
+        "UPDATE crypto_deposits SET confirmations = ? - block_height + 1, updated_at = ? " +
+        "WHERE network = ? AND status = 'PENDING'";
+
+    // Marks deep-enough deposits credited and adds them to their wallets in one statement, so each is credited once
+    private static final String CREDIT_SQL =
+        "WITH credited AS (UPDATE crypto_deposits SET status = 'CREDITED', credited_at = ?, updated_at = ? " +
+        "WHERE network = ? AND status = 'PENDING' AND block_height <= ? RETURNING wallet_id, amount), " +
+        "totals AS (SELECT wallet_id, SUM(amount) AS amount, COUNT(*) AS deposits FROM credited GROUP BY wallet_id) " +
+        "UPDATE crypto_wallets w SET balance = w.balance + t.amount, available_balance = w.available_balance + t.amount, " +
+        "transaction_count = COALESCE(w.transaction_count, 0) + t.deposits, last_transaction_date = ?, updated_at = ?, " +
+        "version = w.version + 1 FROM totals t WHERE w.id = t.wallet_id " +
+        "RETURNING w.id, w.user_id, w.cryptocurrency, " +
+        "w.balance + w.yield_balance + COALESCE(w.delegation_rewards, 0), w.version";
+
+    @Autowired
+    private ObjectProvider<ChainClient> chainClients;
+
+    @Autowired
+    private WalletAddressIndex walletAddressIndex;
+
+    @Autowired
+    private WalletBalancePublisher walletBalancePublisher;
+
+    @Autowired
+    private UtxoIndex utxoIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${neobridge.crypto.deposits.batch-blocks:50}")
+    private int batchBlocks;
+
+    @Value("${neobridge.crypto.deposits.reorg-window:128}")
+    private int reorgWindow;
+
+    @Value("${neobridge.crypto.deposits.confirmations.default:12}")
+    private int defaultConfirmations;
+
+    @Value("${neobridge.crypto.deposits.start-height:-1}")
+    private long startHeight;
+
+    @Scheduled(fixedDelayString = "${neobridge.crypto.deposits.scan-interval:5000}")
+    public void scanAll() {
+        if (!walletAddressIndex.isLoaded()) {
+            return;
+        }
+        chainClients.orderedStream().forEach(client -> {
+            try {
+                scan(client);
+            } catch (Exception e) {
+                logger.error("Deposit scan of {} failed: {}", client.getNetwork(), e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Scan a network up to its current tip and credit deposits that reached
+     * the confirmation depth.
+     */
+    public void scan(ChainClient client) {
+        BlockchainNetwork network = client.getNetwork();
+        long head = client.getHeadHeight();
+        // A new network starts at the tip unless told otherwise; history is not rescanned
+        long start = startHeight >= 0 ? startHeight : head;
+        jdbcTemplate.update(ENSURE_CURSOR_SQL, network.name(), start - 1, now());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int blocks = 0;
+        while (true) {
+            Integer scanned = transactionTemplate.execute(status -> scanBatch(client, head));
+            if (scanned == null || scanned < 0) {
+                break;
+            }
+            blocks += scanned;
+        }
+        // Published after commit so consumers never see a credit that rolled back
+        List<WalletBalanceEvent> credited = transactionTemplate.execute(status -> credit(network));
+        for (WalletBalanceEvent event : credited) {
+            walletBalancePublisher.publish(event);
+        }
+        if (blocks > 0 || !credited.isEmpty()) {
+            logger.debug("Scanned {} {} blocks up to #{}, credited {} wallets", blocks, network, head, credited.size());
+        }
+    }
+
+    /**
+     * Scan the next batch of blocks under the cursor lock.
+     *
+     * @return blocks scanned, 0 after a rewind, -1 when there is nothing to do
+     */
+    private int scanBatch(ChainClient client, long head) {
+        BlockchainNetwork network = client.getNetwork();
+        List<Cursor> locked = jdbcTemplate.query(LOCK_CURSOR_SQL,
+            (rs, rowNum) -> new Cursor(rs.getLong(1), rs.getString(2)), network.name());
+        if (locked.isEmpty()) {
+            return -1; // another instance is scanning this network
+        }
+        Cursor cursor = locked.get(0);
+        if (cursor.height >= head) {
+            // Nothing new to link against, so check the cursor block itself is still canonical
+            if (cursor.hash != null && !cursor.hash.equals(client.getBlockHash(cursor.height))) {
+                rewind(client, cursor);
+                return 0;
+            }
+            return -1;
+        }
+
+        List<ChainBlock> fetched = client.getBlocks(cursor.height + 1, (int) Math.min(batchBlocks, head - cursor.height));
+        List<ChainBlock> accepted = new ArrayList<>(fetched.size());
+        String parentHash = cursor.hash;
+        for (ChainBlock block : fetched) {
+            if (parentHash != null && !parentHash.equals(block.getParentHash())) {
+                if (accepted.isEmpty()) {
+                    rewind(client, cursor);
+                    return 0;
+                }
+                break; // the chain changed mid-batch; the next batch detects it against the cursor
+            }
+            accepted.add(block);
+            parentHash = block.getHash();
+        }
+        if (accepted.isEmpty()) {
+            return -1;
+        }
+
+        Timestamp now = now();
+        boolean utxoNetwork = UtxoIndex.isUtxoNetwork(network);
+        List<Object[]> deposits = new ArrayList<>();
+        List<ReceivedOutput> utxos = new ArrayList<>();
+        List<Object[]> blockRows = new ArrayList<>(accepted.size());
+        for (ChainBlock block : accepted) {
+            blockRows.add(new Object[] {network.name(), block.getHeight(), block.getHash()});
+            for (ChainOutput output : block.getOutputs()) {
+                WalletAddressIndex.IndexedWallet wallet = walletAddressIndex.match(output.getAddress());
+                if (wallet == null) {
+                    continue;
+                }
+                if (wallet.getNetwork() != network || wallet.getCryptocurrency() != output.getCryptocurrency()) {
+                    logger.warn("Ignoring {} deposit to wallet {} on {}: wallet holds {} on {}", output.getCryptocurrency(),
+                               wallet.getWalletId(), network, wallet.getCryptocurrency(), wallet.getNetwork());
+                    continue;
+                }
+                deposits.add(new Object[] {
+                    UUID.randomUUID(), network.name(), output.getTxHash(), output.getOutputIndex(), wallet.getWalletId(),
+                    output.getCryptocurrency().name(), output.getAmount(), block.getHeight(), block.getHash(), now, now
+                });
+                if (utxoNetwork) {
+                    utxos.add(new ReceivedOutput(wallet.getWalletId(), new Outpoint(output.getTxHash(), output.getOutputIndex()),
+                                                 UtxoIndex.toSatoshis(output.getAmount()), (int) block.getHeight()));
+                }
+            }
+        }
+        if (!deposits.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DEPOSIT_SQL, deposits);
+            if (!utxos.isEmpty()) {
+                utxoIndex.add(utxos);
+            }
+            logger.info("Detected {} deposits on {} in blocks #{}-#{}", deposits.size(), network,
+                       accepted.get(0).getHeight(), accepted.get(accepted.size() - 1).getHeight());
+        }
+        jdbcTemplate.batchUpdate(INSERT_BLOCK_SQL, blockRows);
+        ChainBlock last = accepted.get(accepted.size() - 1);
+        jdbcTemplate.update(UPDATE_CURSOR_SQL, last.getHeight(), last.getHash(), now, network.name());
+        jdbcTemplate.update(PRUNE_BLOCKS_SQL, network.name(), last.getHeight() - reorgWindow);
+        return accepted.size();
+    }
+
+    /**
+     * Move the cursor back to the most recent block still on the canonical
+     * chain and drop what was recorded above it.
+     */
+    private void rewind(ChainClient client, Cursor cursor) {
+        BlockchainNetwork network = client.getNetwork();
+        List<Cursor> recent = jdbcTemplate.query(RECENT_BLOCKS_SQL,
+            (rs, rowNum) -> new Cursor(rs.getLong(1), rs.getString(2)), network.name());
+        Cursor fork = null;
+        for (Cursor block : recent) {
+            if (block.hash.equals(client.getBlockHash(block.height))) {
+                fork = block;
+                break;
+            }
+        }
+        if (fork == null) {
+            throw new IllegalStateException("Reorg on " + network + " below #" + cursor.height +
+                                            " is deeper than the " + reorgWindow + "-block window");
+        }
+
+        Timestamp now = now();
+        int orphaned = jdbcTemplate.update(ORPHAN_DEPOSITS_SQL, now, network.name(), fork.height);
+        List<UUID> reorged = jdbcTemplate.queryForList(REORGED_CREDITS_SQL, UUID.class, now, network.name(), fork.height);
+        if (UtxoIndex.isUtxoNetwork(network)) {
+            utxoIndex.orphanDeposits(network, fork.height);
+        }
+        jdbcTemplate.update(DROP_BLOCKS_SQL, network.name(), fork.height);
+        jdbcTemplate.update(UPDATE_CURSOR_SQL, fork.height, fork.hash, now, network.name());
+        logger.warn("Reorg on {}: rewound from #{} to #{}, orphaned {} pending deposits", network, cursor.height,
+                   fork.height, orphaned);
+        if (!reorged.isEmpty()) {
+            // Deeper than the confirmation depth: the credits stand until reviewed
+            logger.error("Reorg on {} removed {} already credited deposits, review required: {}", network,
+                        reorged.size(), reorged);
+        }
+    }
+
+    /**
+     * Refresh confirmation counts and credit deposits that reached the
+     * network's confirmation depth below the scan cursor. The cursor row is
+     * locked so a concurrent scan cannot rewind it meanwhile.
+     *
+     * @return new balances of the credited wallets
+     */
+    private List<WalletBalanceEvent> credit(BlockchainNetwork network) {
+        List<Long> locked = jdbcTemplate.query(LOCK_CURSOR_SQL, (rs, rowNum) -> rs.getLong(1), network.name());
+        if (locked.isEmpty()) {
+            return List.of(); // the instance scanning this network credits it
+        }
+        long verifiedHeight = locked.get(0);
+        Timestamp now = now();
+        jdbcTemplate.update(UPDATE_CONFIRMATIONS_SQL, verifiedHeight, now, network.name());
+        long creditableHeight = verifiedHeight - requiredConfirmations(network) + 1;
+        List<WalletBalanceEvent> events = jdbcTemplate.query(CREDIT_SQL, (rs, rowNum) -> {
+            WalletBalanceEvent event = new WalletBalanceEvent();
+            event.setWalletId(rs.getObject(1, UUID.class));
+            event.setUserId(rs.getObject(2, UUID.class));
+            event.setCryptocurrency(Cryptocurrency.valueOf(rs.getString(3)));
+            event.setTotalBalance(rs.getBigDecimal(4));
+            event.setVersion(rs.getLong(5));
+            event.setOccurredAt(now.toInstant());
+            return event;
+        }, now, now, network.name(), creditableHeight, now, now);
+        if (!events.isEmpty()) {
+            logger.info("Credited confirmed deposits on {} to {} wallets", network, events.size());
+        }
+        return events;
+    }
+
+    private int requiredConfirmations(BlockchainNetwork network) {
+        return environment.getProperty("neobridge.crypto.deposits.confirmations." + network.name().toLowerCase(Locale.ROOT),
+                                       Integer.class, defaultConfirmations);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.from(Instant.now());
+    }
+
+    private static final class Cursor {
+
+        private final long height;
+        private final String hash;
+
+        private Cursor(long height, String hash) {
+            this.height = height;
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.neobridge.crypto.deposit;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * In-memory chain standing in for a node in local development and tests.
+ * Transfers are queued with {@link #send} and included by the next
+ * {@link #mine}; {@link #reorg} replaces the most recent blocks with a longer
+ * fork, optionally dropping their transfers.
+ */
+public class SimulatedChainClient implements ChainClient {
+
+    private final BlockchainNetwork network;
+    private final List<ChainBlock> blocks = new ArrayList<>();
+    private final List<ChainOutput> pending = new ArrayList<>();
+    private long txCounter;
+
+    public SimulatedChainClient(BlockchainNetwork network) {
+        this.network = network;
+        blocks.add(new ChainBlock(0, hash("genesis", 0), null, Instant.now(), List.of()));
+    }
+
+    @Override
+    public BlockchainNetwork getNetwork() {
+        return network;
+    }
+
+    @Override
+    public synchronized long getHeadHeight() {
+        return blocks.size() - 1;
+    }
+
+    @Override
+    public synchronized List<ChainBlock> getBlocks(long fromHeight, int count) {
+        if (fromHeight < 0 || fromHeight >= blocks.size()) {
+            return List.of();
+        }
+        int to = (int) Math.min(blocks.size(), fromHeight + count);
+        return new ArrayList<>(blocks.subList((int) fromHeight, to));
+    }
+
+    /**
+     * Queue a transfer for the next block.
+     *
+     * @return its transaction hash
+     */
+    public synchronized String send(String address, Cryptocurrency cryptocurrency, BigDecimal amount) {
+        String txHash = hash("tx", ++txCounter);
+        pending.add(new ChainOutput(txHash, 0, address, cryptocurrency, amount));
+        return txHash;
+    }
+
+    /**
+     * Mine a block with every queued transfer.
+     */
+    public synchronized ChainBlock mine() {
+        ChainBlock parent = blocks.get(blocks.size() - 1);
+        long height = parent.getHeight() + 1;
+        ChainBlock block = new ChainBlock(height, hash(parent.getHash(), height), parent.getHash(),
+                                          Instant.now(), new ArrayList<>(pending));
+        pending.clear();
+        blocks.add(block);
+        return block;
+    }
+
+    /**
+     * Replace the last {@code depth} blocks with a fork one block longer.
+     *
+     * @param keepTransfers whether the orphaned transfers are included again in the fork
+     */
+    public synchronized void reorg(int depth, boolean keepTransfers) {
+        if (depth <= 0 || depth >= blocks.size()) {
+            throw new IllegalArgumentException("Reorg depth must be between 1 and " + (blocks.size() - 1));
+        }
+        List<ChainOutput> orphaned = new ArrayList<>();
+        for (int i = 0; i < depth; i++) {
+            orphaned.addAll(0, blocks.remove(blocks.size() - 1).getOutputs());
+        }
+        if (keepTransfers) {
+            pending.addAll(0, orphaned);
+        }
+        // Different timestamps give the fork different hashes
+        for (int i = 0; i <= depth; i++) {
+            ChainBlock parent = blocks.get(blocks.size() - 1);
+            long height = parent.getHeight() + 1;
+            blocks.add(new ChainBlock(height, hash(parent.getHash() + "/fork" + System.nanoTime(), height),
+                                      parent.getHash(), Instant.now(), new ArrayList<>(pending)));
+            pending.clear();
+        }
+    }
+
+    private static String hash(String seed, long height) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest((seed + ":" + height).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
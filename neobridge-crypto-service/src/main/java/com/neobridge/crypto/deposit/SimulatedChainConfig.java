@@ -0,0 +1,35 @@
+package com.neobridge.crypto.deposit;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Local chain for development without a node. When
+ * {@code neobridge.crypto.deposits.simulated.network} is set, a
+ * {@link SimulatedChainClient} for that network is scanned like a real one
+ * and mines a block every {@code block-interval}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "neobridge.crypto.deposits.simulated.network")
+public class SimulatedChainConfig {
+
+    private final SimulatedChainClient chain;
+
+    public SimulatedChainConfig(@Value("${neobridge.crypto.deposits.simulated.network}") BlockchainNetwork network) {
+        this.chain = new SimulatedChainClient(network);
+    }
+
+    @Bean
+    public SimulatedChainClient simulatedChainClient() {
+        return chain;
+    }
+
+    @Scheduled(fixedDelayString = "${neobridge.crypto.deposits.simulated.block-interval:12000}")
+    public void mineSimulatedBlock() {
+        chain.mine();
+    }
+}
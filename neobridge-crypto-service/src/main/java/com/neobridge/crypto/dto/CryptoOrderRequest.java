@@ -0,0 +1,98 @@
+package com.neobridge.crypto.dto;
+
+import com.neobridge.crypto.trading.OrderSide;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for placing a limit order on an internal trading pair.
+ */
+public class CryptoOrderRequest {
+
+    @NotNull(message = "User ID is required")
+    private UUID userId;
+
+    @NotBlank(message = "Trading pair is required")
+    private String pair;
+
+    @NotNull(message = "Order side is required")
+    private OrderSide side;
+
+    @NotNull(message = "Price is required")
+    @DecimalMin(value = "0", inclusive = false, message = "Price must be positive")
+    private BigDecimal price;
+
+    @NotNull(message = "Quantity is required")
+    @DecimalMin(value = "0", inclusive = false, message = "Quantity must be positive")
+    private BigDecimal quantity;
+
+    @NotNull(message = "Base currency wallet is required")
+    private UUID baseWalletId;
+
+    @NotNull(message = "Quote currency wallet is required")
+    private UUID quoteWalletId;
+
+    // Constructors
+    public CryptoOrderRequest() {}
+
+    // Getters and Setters
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getPair() {
+        return pair;
+    }
+
+    public void setPair(String pair) {
+        this.pair = pair;
+    }
+
+    public OrderSide getSide() {
+        return side;
+    }
+
+    public void setSide(OrderSide side) {
+        this.side = side;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public BigDecimal getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(BigDecimal quantity) {
+        this.quantity = quantity;
+    }
+
+    public UUID getBaseWalletId() {
+        return baseWalletId;
+    }
+
+    public void setBaseWalletId(UUID baseWalletId) {
+        this.baseWalletId = baseWalletId;
+    }
+
+    public UUID getQuoteWalletId() {
+        return quoteWalletId;
+    }
+
+    public void setQuoteWalletId(UUID quoteWalletId) {
+        this.quoteWalletId = quoteWalletId;
+    }
+}
@@ -2,9 +2,11 @@ package com.neobridge.crypto.dto;
 
 import com.neobridge.crypto.entity.CryptoWallet;
 import com.neobridge.crypto.entity.CryptoWallet.*;
+import com.neobridge.crypto.price.PriceQuote;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.UUID;
 
 /**
@@ -54,6 +56,23 @@ public class CryptoWalletResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * Response valued at the wallet's live price when a fresh quote is given,
+     * otherwise at the last persisted valuation.
+     */
+    public static CryptoWalletResponse fromCryptoWallet(CryptoWallet wallet, PriceQuote quote) {
+        CryptoWalletResponse response = fromCryptoWallet(wallet);
+        if (quote != null) {
+            BigDecimal total = wallet.getTotalBalance();
+            response.setFiatValueUsd(quote.valueUsd(total));
+            response.setFiatValueEur(quote.valueEur(total));
+            response.setLastPriceUsd(quote.getPriceUsd());
+            response.setLastPriceEur(quote.getPriceEur());
+            response.setLastPriceUpdate(LocalDateTime.ofInstant(quote.getAsOf(), ZoneOffset.UTC));
+        }
+        return response;
+    }
+
     // Static factory method
     public static CryptoWalletResponse fromCryptoWallet(CryptoWallet wallet) {
         CryptoWalletResponse response = new CryptoWalletResponse();
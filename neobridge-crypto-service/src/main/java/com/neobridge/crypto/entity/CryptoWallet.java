@@ -1,6 +1,7 @@
 package com.neobridge.crypto.entity;
 
 import com.neobridge.common.entity.BaseEntity;
+import com.neobridge.crypto.address.WalletAddressAssigner;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -18,6 +19,7 @@ import java.util.UUID;
  * Supports multiple cryptocurrencies and blockchain networks.
  */
 @Entity
+@EntityListeners(WalletAddressAssigner.class)
 @Table(name = "crypto_wallets", indexes = {
     @Index(name = "idx_crypto_wallets_user_id", columnList = "user_id"),
     @Index(name = "idx_crypto_wallets_wallet_address", columnList = "wallet_address"),
@@ -0,0 +1,30 @@
+package com.neobridge.crypto.evm;
+
+/**
+ * A node rejected a transaction. The reason decides whether its nonce is
+ * still in use.
+ */
+public class EvmBroadcastException extends RuntimeException {
+
+    public enum Reason {
+        /** The nonce was already used on chain. */
+        NONCE_TOO_LOW,
+        /** The node already has this exact transaction. */
+        ALREADY_KNOWN,
+        /** A pending transaction with this nonce pays at least as much. */
+        REPLACEMENT_UNDERPRICED,
+        /** Rejected outright; the nonce was not consumed. */
+        REJECTED
+    }
+
+    private final Reason reason;
+
+    public EvmBroadcastException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,27 @@
+package com.neobridge.crypto.evm;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+
+/**
+ * Node access for sending transactions on one EVM network. Register one bean
+ * per network to enable withdrawals on it.
+ */
+public interface EvmClient {
+
+    BlockchainNetwork getNetwork();
+
+    /**
+     * Number of transactions from the address included in the chain, i.e. the
+     * next nonce the chain will accept.
+     */
+    long getConfirmedNonce(String address);
+
+    /**
+     * Submit a signed transaction to the mempool.
+     *
+     * @throws EvmBroadcastException when the node rejects it
+     */
+    void broadcast(SignedEvmTransaction transaction);
+
+    boolean isMined(String txHash);
+}
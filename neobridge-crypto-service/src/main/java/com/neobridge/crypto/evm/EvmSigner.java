@@ -0,0 +1,10 @@
+package com.neobridge.crypto.evm;
+
+/**
+ * Signs transactions with a hot wallet's key, e.g. through an HSM or KMS.
+ * Must be safe to call concurrently.
+ */
+public interface EvmSigner {
+
+    SignedEvmTransaction sign(EvmTransaction transaction);
+}
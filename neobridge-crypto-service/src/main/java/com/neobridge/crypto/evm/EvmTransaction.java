@@ -0,0 +1,98 @@
+package com.neobridge.crypto.evm;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * An unsigned EIP-1559 transaction from one of our hot wallets. Amounts and
+ * fees are in wei. Immutable; fee bumps produce a copy with the same nonce.
+ */
+public final class EvmTransaction {
+
+    private final UUID walletId;
+    private final BlockchainNetwork network;
+    private final String from;
+    private final String to;
+    private final long nonce;
+    private final BigInteger value;
+    private final long gasLimit;
+    private final BigInteger maxFeePerGas;
+    private final BigInteger maxPriorityFeePerGas;
+    private final String data;
+
+    public EvmTransaction(UUID walletId, BlockchainNetwork network, String from, String to, long nonce, BigInteger value,
+                          long gasLimit, BigInteger maxFeePerGas, BigInteger maxPriorityFeePerGas, String data) {
+        this.walletId = walletId;
+        this.network = network;
+        this.from = from;
+        this.to = to;
+        this.nonce = nonce;
+        this.value = value;
+        this.gasLimit = gasLimit;
+        this.maxFeePerGas = maxFeePerGas;
+        this.maxPriorityFeePerGas = maxPriorityFeePerGas;
+        this.data = data;
+    }
+
+    /**
+     * The same transaction with both fees raised by at least {@code percent},
+     * as nodes require to replace a pending transaction, and by at least one wei.
+     */
+    public EvmTransaction bumped(int percent) {
+        return new EvmTransaction(walletId, network, from, to, nonce, value, gasLimit,
+                                  bump(maxFeePerGas, percent), bump(maxPriorityFeePerGas, percent), data);
+    }
+
+    private static BigInteger bump(BigInteger fee, int percent) {
+        BigInteger[] scaled = fee.multiply(BigInteger.valueOf(100L + percent)).divideAndRemainder(BigInteger.valueOf(100));
+        BigInteger bumped = scaled[1].signum() > 0 ? scaled[0].add(BigInteger.ONE) : scaled[0];
+        return bumped.max(fee.add(BigInteger.ONE));
+    }
+
+    public UUID getWalletId() {
+        return walletId;
+    }
+
+    public BlockchainNetwork getNetwork() {
+        return network;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public long getNonce() {
+        return nonce;
+    }
+
+    public BigInteger getValue() {
+        return value;
+    }
+
+    public long getGasLimit() {
+        return gasLimit;
+    }
+
+    public BigInteger getMaxFeePerGas() {
+        return maxFeePerGas;
+    }
+
+    public BigInteger getMaxPriorityFeePerGas() {
+        return maxPriorityFeePerGas;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return from + "#" + nonce + " -> " + to + " " + value + " wei (max fee " + maxFeePerGas + ")";
+    }
+}
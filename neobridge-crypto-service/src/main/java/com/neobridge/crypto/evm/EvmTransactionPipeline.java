@@ -0,0 +1,371 @@
+package com.neobridge.crypto.evm;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.fee.FeeOracle;
+import com.neobridge.crypto.fee.FeeQuote;
+import com.neobridge.crypto.fee.FeeSpeed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends transactions from EVM hot wallets without waiting for each other.
+ * Every submission takes a nonce from the {@link NonceManager}, is signed,
+ * recorded in {@code evm_transactions} and broadcast on a worker pool, so one
+ * wallet can have many transactions in flight. The unique (wallet, nonce) key
+ * stops two instances from using the same nonce. A monitor confirms mined
+ * nonces, re-sends the oldest pending transaction with bumped fees when it is
+ * stuck, and fills nonce gaps nothing reused with zero-value self-transfers.
+ * Pending transactions are re-broadcast on startup when a signer is configured.
+ */
+@Service
+public class EvmTransactionPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(EvmTransactionPipeline.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO evm_transactions (id, wallet_id, network, from_address, to_address, nonce, value_wei, gas_limit, " +
+        "max_fee_per_gas, max_priority_fee_per_gas, data, tx_hash, kind, status, attempts, submitted_at, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', 1, ?, ?, ?) ON CONFLICT (wallet_id, nonce) DO NOTHING";
+
+    private static final String MAX_NONCE_SQL =
+        "SELECT MAX(nonce) FROM evm_transactions WHERE wallet_id = ?";
+
+    private static final String DELETE_SQL =
+        "DELETE FROM evm_transactions WHERE wallet_id = ? AND nonce = ? AND tx_hash = ?";
+
+    private static final String PENDING_SQL =
+        "SELECT wallet_id, network, from_address, to_address, nonce, value_wei, gas_limit, max_fee_per_gas, " +
+        "max_priority_fee_per_gas, data, tx_hash, submitted_at FROM evm_transactions " +
+        "WHERE status = 'PENDING' ORDER BY wallet_id, nonce";
+
+    private static final String CONFIRM_SQL =
+        "UPDATE evm_transactions SET status = 'CONFIRMED', updated_at = ? " +
+        "WHERE wallet_id = ? AND status = 'PENDING' AND nonce < ?";
+
+    private static final String REPLACE_SQL =
+        "UPDATE evm_transactions SET tx_hash = ?, max_fee_per_gas = ?, max_priority_fee_per_gas = ?, " +
+        "attempts = attempts + 1, submitted_at = ?, updated_at = ? WHERE wallet_id = ? AND nonce = ? AND status = 'PENDING'";
+
+    @Autowired
+    private NonceManager nonceManager;
+
+    @Autowired
+    private ObjectProvider<EvmClient> evmClients;
+
+    @Autowired
+    private ObjectProvider<EvmSigner> evmSigner;
+
+    @Autowired
+    private FeeOracle feeOracle;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${neobridge.crypto.evm.broadcast-threads:16}")
+    private int broadcastThreads;
+
+    @Value("${neobridge.crypto.evm.stuck-after:PT3M}")
+    private Duration stuckAfter;
+
+    @Value("${neobridge.crypto.evm.fee-bump-percent:12}")
+    private int feeBumpPercent;
+
+    @Value("${neobridge.crypto.evm.max-fee-cap-wei:500000000000}")
+    private BigInteger maxFeeCap;
+
+    @Value("${neobridge.crypto.evm.gap-fill-after:PT30S}")
+    private Duration gapFillAfter;
+
+    private volatile Map<BlockchainNetwork, EvmClient> clients;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(broadcastThreads);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        EvmSigner signer = evmSigner.getIfAvailable();
+        if (signer == null) {
+            logger.info("No EVM signer configured, not re-broadcasting pending transactions");
+            return;
+        }
+        int rebroadcast = 0;
+        for (PendingTransaction pending : loadPending()) {
+            EvmClient client = client(pending.transaction.getNetwork());
+            if (client == null) {
+                continue;
+            }
+            try {
+                nonceManager.track(pending.transaction.getWalletId(), pending.transaction.getFrom(), client);
+                rebroadcast(client, signer.sign(pending.transaction));
+                rebroadcast++;
+            } catch (Exception e) {
+                // The monitor re-sends it once it is stuck
+                logger.error("Re-broadcast of {} failed: {}", pending.transaction, e.getMessage(), e);
+            }
+        }
+        logger.info("Re-broadcast {} pending EVM transactions", rebroadcast);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Send value (and optionally call data) from a hot wallet with the
+     * wallet's gas limit, at the oracle's standard fees while its sample is
+     * fresh. Otherwise the wallet's own fees are used when set, and the stale
+     * sample or configured fallback when not.
+     *
+     * @return the transaction hash once broadcast
+     */
+    public CompletableFuture<String> submit(CryptoWallet wallet, String to, BigInteger valueWei, String data) {
+        if (!wallet.isEthereumBased()) {
+            throw new IllegalArgumentException("Wallet " + wallet.getId() + " is not on an EVM network");
+        }
+        EvmClient client = client(wallet.getNetwork());
+        if (client == null) {
+            throw new IllegalStateException("No EVM client for network " + wallet.getNetwork());
+        }
+        long gasLimit = wallet.getGasLimit() != null ? wallet.getGasLimit() : 21000L;
+        FeeQuote quote = feeOracle.getEstimate(wallet.getNetwork()) != null
+            ? feeOracle.quote(wallet.getNetwork(), FeeSpeed.STANDARD) : null;
+        boolean walletFees = isPositive(wallet.getMaxFeePerGas()) && isPositive(wallet.getMaxPriorityFeePerGas());
+        if (quote == null && !walletFees) {
+            throw new IllegalStateException("No fee data for network " + wallet.getNetwork());
+        }
+        boolean oracleFees = quote != null && (!quote.isStale() || !walletFees);
+        BigInteger maxFee = oracleFees ? quote.getMaxFeePerGas() : wallet.getMaxFeePerGas().toBigInteger();
+        BigInteger priorityFee = oracleFees ? quote.getMaxPriorityFeePerGas() : wallet.getMaxPriorityFeePerGas().toBigInteger();
+        return CompletableFuture.supplyAsync(() -> send(client, wallet.getId(), wallet.getWalletAddress(), to, valueWei,
+                                                        gasLimit, maxFee, priorityFee, data, "WITHDRAWAL"), executor);
+    }
+
+    /**
+     * Allocate, sign, record and broadcast. Failures other than node
+     * rejections, e.g. timeouts, leave the transaction recorded for the
+     * monitor to re-send.
+     */
+    private String send(EvmClient client, UUID walletId, String from, String to, BigInteger value, long gasLimit,
+                        BigInteger maxFee, BigInteger priorityFee, String data, String kind) {
+        for (int attempt = 1; ; attempt++) {
+            long nonce = nonceManager.allocate(walletId, from, client);
+            SignedEvmTransaction signed;
+            try {
+                signed = sign(new EvmTransaction(walletId, client.getNetwork(), from, to, nonce, value, gasLimit,
+                                                 maxFee, priorityFee, data));
+            } catch (RuntimeException e) {
+                nonceManager.release(walletId, nonce);
+                throw e;
+            }
+            if (!record(signed, kind)) {
+                // Recorded by another instance: skip past everything it holds
+                Long max = jdbcTemplate.queryForObject(MAX_NONCE_SQL, Long.class, walletId);
+                nonceManager.resync(walletId, max != null ? max + 1 : nonce + 1);
+                if (attempt < MAX_ATTEMPTS) {
+                    continue;
+                }
+                throw new IllegalStateException("Could not reserve a nonce for wallet " + walletId);
+            }
+            try {
+                client.broadcast(signed);
+                logger.debug("Broadcast {} as {}", signed.getTransaction(), signed.getHash());
+                return signed.getHash();
+            } catch (EvmBroadcastException e) {
+                switch (e.getReason()) {
+                    case ALREADY_KNOWN:
+                        return signed.getHash();
+                    case NONCE_TOO_LOW:
+                        jdbcTemplate.update(DELETE_SQL, walletId, nonce, signed.getHash());
+                        nonceManager.resync(walletId, client.getConfirmedNonce(from));
+                        if (attempt < MAX_ATTEMPTS) {
+                            continue;
+                        }
+                        throw e;
+                    default:
+                        jdbcTemplate.update(DELETE_SQL, walletId, nonce, signed.getHash());
+                        nonceManager.release(walletId, nonce);
+                        throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Confirm mined nonces, bump stuck transactions and fill stale gaps.
+     */
+    @Scheduled(fixedDelayString = "${neobridge.crypto.evm.monitor-interval:10000}")
+    public void monitor() {
+        Map<UUID, List<PendingTransaction>> byWallet = new LinkedHashMap<>();
+        for (PendingTransaction pending : loadPending()) {
+            byWallet.computeIfAbsent(pending.transaction.getWalletId(), id -> new ArrayList<>()).add(pending);
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        for (Map.Entry<UUID, List<PendingTransaction>> wallet : byWallet.entrySet()) {
+            EvmTransaction first = wallet.getValue().get(0).transaction;
+            EvmClient client = client(first.getNetwork());
+            if (client == null) {
+                continue;
+            }
+            try {
+                long confirmed = client.getConfirmedNonce(first.getFrom());
+                jdbcTemplate.update(CONFIRM_SQL, now, wallet.getKey(), confirmed);
+                nonceManager.confirm(wallet.getKey(), confirmed);
+                for (PendingTransaction pending : wallet.getValue()) {
+                    // Only the head of the queue can be stuck on fees; the rest wait behind it
+                    if (pending.transaction.getNonce() == confirmed
+                            && pending.submittedAt.isBefore(Instant.now().minus(stuckAfter))) {
+                        bump(client, pending, now);
+                    }
+                }
+            } catch (Exception e) {
+                logger.error("Monitoring transactions of wallet {} failed: {}", wallet.getKey(), e.getMessage(), e);
+            }
+        }
+        fillGaps(byWallet);
+    }
+
+    private void bump(EvmClient client, PendingTransaction pending, Timestamp now) {
+        EvmTransaction bumped = pending.transaction.bumped(feeBumpPercent);
+        if (bumped.getMaxFeePerGas().compareTo(maxFeeCap) > 0) {
+            logger.warn("Not bumping {}: max fee would exceed the cap of {} wei", pending.transaction, maxFeeCap);
+            return;
+        }
+        SignedEvmTransaction signed = sign(bumped);
+        try {
+            client.broadcast(signed);
+        } catch (EvmBroadcastException e) {
+            if (e.getReason() != EvmBroadcastException.Reason.ALREADY_KNOWN) {
+                logger.warn("Fee bump of {} rejected: {}", pending.transaction, e.getMessage());
+                return;
+            }
+        }
+        jdbcTemplate.update(REPLACE_SQL, signed.getHash(), bumped.getMaxFeePerGas(), bumped.getMaxPriorityFeePerGas(),
+                            now, now, bumped.getWalletId(), bumped.getNonce());
+        logger.info("Replaced stuck {} with {} paying max fee {}", pending.hash, signed.getHash(), bumped.getMaxFeePerGas());
+    }
+
+    private void fillGaps(Map<UUID, List<PendingTransaction>> pendingByWallet) {
+        for (UUID walletId : nonceManager.getWalletIds()) {
+            List<Long> gaps = nonceManager.takeStaleGaps(walletId, gapFillAfter.toMillis());
+            if (gaps.isEmpty()) {
+                continue;
+            }
+            // Gap fills reuse the wallet's last known fees and address from any pending transaction
+            List<PendingTransaction> pending = pendingByWallet.getOrDefault(walletId, List.of());
+            EvmTransaction template = pending.isEmpty() ? null : pending.get(pending.size() - 1).transaction;
+            EvmClient client = template != null ? client(template.getNetwork()) : null;
+            for (long nonce : gaps) {
+                // The next allocation takes the lowest gap, normally this one
+                nonceManager.release(walletId, nonce);
+                if (client == null) {
+                    continue; // nothing waits behind the gap; the next withdrawal reuses it
+                }
+                try {
+                    send(client, walletId, template.getFrom(), template.getFrom(), BigInteger.ZERO, 21000L,
+                         template.getMaxFeePerGas(), template.getMaxPriorityFeePerGas(), null, "GAP_FILL");
+                    logger.info("Filled nonce gap {} of wallet {}", nonce, walletId);
+                } catch (Exception e) {
+                    logger.error("Filling nonce gap {} of wallet {} failed: {}", nonce, walletId, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private boolean record(SignedEvmTransaction signed, String kind) {
+        EvmTransaction tx = signed.getTransaction();
+        Timestamp now = Timestamp.from(Instant.now());
+        return jdbcTemplate.update(INSERT_SQL, UUID.randomUUID(), tx.getWalletId(), tx.getNetwork().name(), tx.getFrom(),
+            tx.getTo(), tx.getNonce(), tx.getValue(), tx.getGasLimit(), tx.getMaxFeePerGas(), tx.getMaxPriorityFeePerGas(),
+            tx.getData(), signed.getHash(), kind, now, now, now) == 1;
+    }
+
+    private void rebroadcast(EvmClient client, SignedEvmTransaction signed) {
+        try {
+            client.broadcast(signed);
+        } catch (EvmBroadcastException e) {
+            logger.debug("Re-broadcast of {} not accepted: {}", signed.getHash(), e.getReason());
+        }
+    }
+
+    private SignedEvmTransaction sign(EvmTransaction transaction) {
+        EvmSigner signer = evmSigner.getIfAvailable();
+        if (signer == null) {
+            throw new IllegalStateException("No EVM signer configured");
+        }
+        return signer.sign(transaction);
+    }
+
+    private static boolean isPositive(BigDecimal value) {
+        return value != null && value.signum() > 0;
+    }
+
+    private EvmClient client(BlockchainNetwork network) {
+        Map<BlockchainNetwork, EvmClient> byNetwork = clients;
+        if (byNetwork == null) {
+            byNetwork = new EnumMap<>(BlockchainNetwork.class);
+            for (EvmClient client : evmClients) {
+                byNetwork.put(client.getNetwork(), client);
+            }
+            clients = byNetwork;
+        }
+        return byNetwork.get(network);
+    }
+
+    private List<PendingTransaction> loadPending() {
+        return jdbcTemplate.query(PENDING_SQL, (rs, rowNum) -> map(rs));
+    }
+
+    private static PendingTransaction map(ResultSet rs) throws SQLException {
+        EvmTransaction transaction = new EvmTransaction(rs.getObject(1, UUID.class), BlockchainNetwork.valueOf(rs.getString(2)),
+            rs.getString(3), rs.getString(4), rs.getLong(5), rs.getBigDecimal(6).toBigInteger(), rs.getLong(7),
+            rs.getBigDecimal(8).toBigInteger(), rs.getBigDecimal(9).toBigInteger(), rs.getString(10));
+        return new PendingTransaction(transaction, rs.getString(11), rs.getTimestamp(12).toInstant());
+    }
+
+    private static final class PendingTransaction {
+
+        private final EvmTransaction transaction;
+        private final String hash;
+        private final Instant submittedAt;
+
+        private PendingTransaction(EvmTransaction transaction, String hash, Instant submittedAt) {
+            this.transaction = transaction;
+            this.hash = hash;
+            this.submittedAt = submittedAt;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.neobridge.crypto.evm;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out nonces for hot wallets from memory so withdrawals from one wallet
+ * can be signed and broadcast concurrently. A wallet's state is loaded on first
+ * use from the chain, {@code crypto_wallets.nonce} (last confirmed) and the
+ * transactions recorded in {@code evm_transactions}; nonces between the
+ * confirmed one and the highest recorded that have no transaction, e.g. after
+ * a crash between allocation and recording, become gaps. Released and
+ * recovered gaps are handed out again first, and filled with no-op transactions
+ * when nothing reuses them in time, so later nonces are not stuck behind them.
+ */
+@Service
+public class NonceManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(NonceManager.class);
+
+    private static final String STORED_NONCE_SQL =
+        "SELECT COALESCE(nonce, 0) FROM crypto_wallets WHERE id = ?";
+
+    private static final String RECORDED_NONCES_SQL =
+        "SELECT nonce FROM evm_transactions WHERE wallet_id = ? AND nonce >= ? ORDER BY nonce";
+
+    private static final String STORE_CONFIRMED_SQL =
+        "UPDATE crypto_wallets SET nonce = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ? AND COALESCE(nonce, 0) < ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<UUID, WalletNonces> wallets = new ConcurrentHashMap<>();
+
+    /**
+     * Next nonce for a wallet. The caller must record a transaction with it or
+     * {@link #release} it.
+     */
+    public long allocate(UUID walletId, String address, EvmClient client) {
+        return wallets.computeIfAbsent(walletId, id -> load(id, address, client)).allocate();
+    }
+
+    /**
+     * Load a wallet's nonce state if not yet known, e.g. to recover it on startup.
+     */
+    public void track(UUID walletId, String address, EvmClient client) {
+        wallets.computeIfAbsent(walletId, id -> load(id, address, client));
+    }
+
+    /**
+     * Return a nonce that never reached the chain.
+     */
+    public void release(UUID walletId, long nonce) {
+        WalletNonces state = wallets.get(walletId);
+        if (state != null) {
+            state.release(nonce);
+        }
+    }
+
+    /**
+     * Skip ahead after finding {@code floor} already used, by the chain or by
+     * another instance.
+     */
+    public void resync(UUID walletId, long floor) {
+        WalletNonces state = wallets.get(walletId);
+        if (state != null) {
+            state.resync(floor);
+        }
+    }
+
+    /**
+     * Record the chain's confirmed nonce and drop gaps below it.
+     */
+    public void confirm(UUID walletId, long confirmedNonce) {
+        WalletNonces state = wallets.get(walletId);
+        if (state != null) {
+            state.confirm(confirmedNonce);
+        }
+        jdbcTemplate.update(STORE_CONFIRMED_SQL, confirmedNonce, walletId, confirmedNonce);
+    }
+
+    /**
+     * Claim gaps released longer than {@code maxAgeMillis} ago for filling.
+     */
+    public List<Long> takeStaleGaps(UUID walletId, long maxAgeMillis) {
+        WalletNonces state = wallets.get(walletId);
+        return state != null ? state.takeStaleGaps(System.currentTimeMillis() - maxAgeMillis) : List.of();
+    }
+
+    public Set<UUID> getWalletIds() {
+        return wallets.keySet();
+    }
+
+    private WalletNonces load(UUID walletId, String address, EvmClient client) {
+        long confirmed = Math.max(client.getConfirmedNonce(address),
+                                  jdbcTemplate.queryForObject(STORED_NONCE_SQL, Long.class, walletId));
+        List<Long> recorded = jdbcTemplate.queryForList(RECORDED_NONCES_SQL, Long.class, walletId, confirmed);
+        long next = recorded.isEmpty() ? confirmed : Math.max(confirmed, recorded.get(recorded.size() - 1) + 1);
+        WalletNonces state = new WalletNonces(next);
+        Set<Long> used = new HashSet<>(recorded);
+        for (long nonce = confirmed; nonce < next; nonce++) {
+            if (!used.contains(nonce)) {
+                state.release(nonce);
+            }
+        }
+        logger.info("Loaded nonces of wallet {}: confirmed {}, next {}, {} in flight", walletId, confirmed, next,
+                   recorded.size());
+        return state;
+    }
+
+    /**
+     * Nonce state of one wallet; gaps map to the time they were released.
+     */
+    private static final class WalletNonces {
+
+        private long next;
+        private final TreeMap<Long, Long> gaps = new TreeMap<>();
+
+        private WalletNonces(long next) {
+            this.next = next;
+        }
+
+        synchronized long allocate() {
+            Map.Entry<Long, Long> gap = gaps.pollFirstEntry();
+            return gap != null ? gap.getKey() : next++;
+        }
+
+        synchronized void release(long nonce) {
+            if (nonce >= next) {
+                return;
+            }
+            gaps.put(nonce, System.currentTimeMillis());
+            // Gaps at the top are simply not handed out yet
+            while (gaps.remove(next - 1) != null) {
+                next--;
+            }
+        }
+
+        synchronized void resync(long floor) {
+            if (floor > next) {
+                next = floor;
+            }
+        }
+
+        synchronized void confirm(long confirmedNonce) {
+            gaps.headMap(confirmedNonce).clear();
+            resync(confirmedNonce);
+        }
+
+        synchronized List<Long> takeStaleGaps(long releasedBefore) {
+            List<Long> stale = new ArrayList<>();
+            gaps.entrySet().removeIf(gap -> {
+                if (gap.getValue() < releasedBefore) {
+                    stale.add(gap.getKey());
+                    return true;
+                }
+                return false;
+            });
+            return stale;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.neobridge.crypto.evm;
+
+/**
+ * A signed transaction ready for broadcast, with its hash.
+ */
+public final class SignedEvmTransaction {
+
+    private final EvmTransaction transaction;
+    private final String hash;
+    private final String raw;
+
+    public SignedEvmTransaction(EvmTransaction transaction, String hash, String raw) {
+        this.transaction = transaction;
+        this.hash = hash;
+        this.raw = raw;
+    }
+
+    public EvmTransaction getTransaction() {
+        return transaction;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getRaw() {
+        return raw;
+    }
+}
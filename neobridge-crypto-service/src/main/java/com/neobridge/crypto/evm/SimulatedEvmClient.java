@@ -0,0 +1,156 @@
+package com.neobridge.crypto.evm;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.fee.BlockFeeSample;
+import com.neobridge.crypto.fee.FeeSource;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory EVM stand-in for local development and tests. Keeps per-sender
+ * mempools by nonce and applies the node rules that matter for nonce
+ * handling: stale nonces are rejected, replacements must raise both fees by
+ * 10%, and {@link #mine} includes each sender's transactions only in
+ * consecutive nonce order and only while they pay the base fee. Also signs,
+ * with a hash of the transaction fields standing in for a signature, and
+ * reports the priority fees paid in recent blocks.
+ */
+public class SimulatedEvmClient implements EvmClient, EvmSigner, FeeSource {
+
+    private static final int REPLACEMENT_BUMP_PERCENT = 10;
+    private static final int FEE_HISTORY_BLOCKS = 256;
+
+    private final BlockchainNetwork network;
+    private final Map<String, Long> confirmedNonces = new HashMap<>();
+    private final Map<String, TreeMap<Long, SignedEvmTransaction>> mempool = new HashMap<>();
+    private final Set<String> mined = new HashSet<>();
+    private final Deque<BlockFeeSample> feeHistory = new ArrayDeque<>();
+    private BigInteger baseFee = BigInteger.ZERO;
+    private long height;
+
+    public SimulatedEvmClient(BlockchainNetwork network) {
+        this.network = network;
+    }
+
+    @Override
+    public BlockchainNetwork getNetwork() {
+        return network;
+    }
+
+    @Override
+    public synchronized long getConfirmedNonce(String address) {
+        return confirmedNonces.getOrDefault(address, 0L);
+    }
+
+    @Override
+    public synchronized void broadcast(SignedEvmTransaction signed) {
+        EvmTransaction tx = signed.getTransaction();
+        if (tx.getNonce() < getConfirmedNonce(tx.getFrom())) {
+            throw new EvmBroadcastException(EvmBroadcastException.Reason.NONCE_TOO_LOW, "nonce too low: " + tx.getNonce());
+        }
+        TreeMap<Long, SignedEvmTransaction> pending = mempool.computeIfAbsent(tx.getFrom(), address -> new TreeMap<>());
+        SignedEvmTransaction existing = pending.get(tx.getNonce());
+        if (existing != null) {
+            if (existing.getHash().equals(signed.getHash())) {
+                throw new EvmBroadcastException(EvmBroadcastException.Reason.ALREADY_KNOWN, "already known");
+            }
+            EvmTransaction current = existing.getTransaction();
+            if (!paysReplacement(tx.getMaxFeePerGas(), current.getMaxFeePerGas())
+                    || !paysReplacement(tx.getMaxPriorityFeePerGas(), current.getMaxPriorityFeePerGas())) {
+                throw new EvmBroadcastException(EvmBroadcastException.Reason.REPLACEMENT_UNDERPRICED,
+                                                "replacement transaction underpriced");
+            }
+        }
+        pending.put(tx.getNonce(), signed);
+    }
+
+    @Override
+    public synchronized boolean isMined(String txHash) {
+        return mined.contains(txHash);
+    }
+
+    @Override
+    public SignedEvmTransaction sign(EvmTransaction tx) {
+        String fields = tx.getNetwork() + "|" + tx.getFrom() + "|" + tx.getTo() + "|" + tx.getNonce() + "|" + tx.getValue() +
+                        "|" + tx.getGasLimit() + "|" + tx.getMaxFeePerGas() + "|" + tx.getMaxPriorityFeePerGas() + "|" + tx.getData();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fields.getBytes(StandardCharsets.UTF_8));
+            return new SignedEvmTransaction(tx, "0x" + new BigInteger(1, digest).toString(16), fields);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Include up to {@code maxPerSender} transactions per sender.
+     *
+     * @return number of transactions included
+     */
+    public synchronized int mine(int maxPerSender) {
+        int included = 0;
+        List<Long> priorityFees = new ArrayList<>();
+        for (Map.Entry<String, TreeMap<Long, SignedEvmTransaction>> sender : mempool.entrySet()) {
+            long nonce = getConfirmedNonce(sender.getKey());
+            TreeMap<Long, SignedEvmTransaction> pending = sender.getValue();
+            pending.headMap(nonce).clear();
+            int count = 0;
+            Iterator<Map.Entry<Long, SignedEvmTransaction>> it = pending.entrySet().iterator();
+            while (it.hasNext() && count < maxPerSender) {
+                Map.Entry<Long, SignedEvmTransaction> next = it.next();
+                if (next.getKey() != nonce || next.getValue().getTransaction().getMaxFeePerGas().compareTo(baseFee) < 0) {
+                    break; // gap or underpaying transaction blocks everything behind it
+                }
+                EvmTransaction tx = next.getValue().getTransaction();
+                priorityFees.add(tx.getMaxPriorityFeePerGas().min(tx.getMaxFeePerGas().subtract(baseFee)).longValue());
+                mined.add(next.getValue().getHash());
+                it.remove();
+                nonce++;
+                count++;
+            }
+            confirmedNonces.put(sender.getKey(), nonce);
+            included += count;
+        }
+        feeHistory.addLast(new BlockFeeSample(++height, baseFee.longValue(),
+                                              priorityFees.stream().mapToLong(Long::longValue).toArray()));
+        if (feeHistory.size() > FEE_HISTORY_BLOCKS) {
+            feeHistory.removeFirst();
+        }
+        return included;
+    }
+
+    @Override
+    public synchronized List<BlockFeeSample> sampleRecentBlocks(int blocks) {
+        List<BlockFeeSample> samples = new ArrayList<>(feeHistory);
+        return samples.subList(Math.max(0, samples.size() - blocks), samples.size());
+    }
+
+    /**
+     * Set the base fee; transactions with a lower max fee stay pending.
+     */
+    public synchronized void setBaseFee(BigInteger baseFee) {
+        this.baseFee = baseFee;
+    }
+
+    public synchronized int getPendingCount(String address) {
+        TreeMap<Long, SignedEvmTransaction> pending = mempool.get(address);
+        return pending != null ? pending.size() : 0;
+    }
+
+    private static boolean paysReplacement(BigInteger offered, BigInteger current) {
+        return offered.multiply(BigInteger.valueOf(100))
+            .compareTo(current.multiply(BigInteger.valueOf(100L + REPLACEMENT_BUMP_PERCENT))) >= 0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.neobridge.crypto.evm;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Local EVM for development without a node. When
+ * {@code neobridge.crypto.evm.simulated.network} is set, a
+ * {@link SimulatedEvmClient} for that network sends and signs withdrawals
+ * and mines a block every {@code block-interval}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "neobridge.crypto.evm.simulated.network")
+public class SimulatedEvmConfig {
+
+    private final SimulatedEvmClient evm;
+
+    @Value("${neobridge.crypto.evm.simulated.block-size:500}")
+    private int blockSize;
+
+    public SimulatedEvmConfig(@Value("${neobridge.crypto.evm.simulated.network}") BlockchainNetwork network) {
+        this.evm = new SimulatedEvmClient(network);
+    }
+
+    @Bean
+    public SimulatedEvmClient simulatedEvmClient() {
+        return evm;
+    }
+
+    @Scheduled(fixedDelayString = "${neobridge.crypto.evm.simulated.block-interval:12000}")
+    public void mineSimulatedBlock() {
+        evm.mine(blockSize);
+    }
+}
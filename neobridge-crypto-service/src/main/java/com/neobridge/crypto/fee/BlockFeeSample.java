@@ -0,0 +1,35 @@
+package com.neobridge.crypto.fee;
+
+/**
+ * Fees paid in one block, in wei. {@code baseFee} is negative on networks
+ * without EIP-1559, where {@code fees} are the transactions' gas prices;
+ * otherwise {@code fees} are their effective priority fees.
+ */
+public final class BlockFeeSample {
+
+    private final long height;
+    private final long baseFee;
+    private final long[] fees;
+
+    public BlockFeeSample(long height, long baseFee, long[] fees) {
+        this.height = height;
+        this.baseFee = baseFee;
+        this.fees = fees;
+    }
+
+    public long getHeight() {
+        return height;
+    }
+
+    public long getBaseFee() {
+        return baseFee;
+    }
+
+    public boolean isLegacy() {
+        return baseFee < 0;
+    }
+
+    public long[] getFees() {
+        return fees;
+    }
+}
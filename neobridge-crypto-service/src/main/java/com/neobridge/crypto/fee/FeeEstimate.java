@@ -0,0 +1,79 @@
+package com.neobridge.crypto.fee;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+
+import java.math.BigInteger;
+import java.time.Instant;
+
+/**
+ * Fee estimate for one network, in wei per gas, with one tier per
+ * {@link FeeSpeed}. On legacy networks the max fee, priority fee and gas
+ * price of a tier are the same. {@code fallback} marks estimates built from
+ * configured defaults because no samples were available.
+ */
+public final class FeeEstimate {
+
+    private final BlockchainNetwork network;
+    private final long blockHeight;
+    private final BigInteger baseFee;
+    private final BigInteger[] maxPriorityFees;
+    private final BigInteger[] maxFees;
+    private final boolean legacy;
+    private final boolean fallback;
+    private final Instant sampledAt;
+
+    FeeEstimate(BlockchainNetwork network, long blockHeight, BigInteger baseFee, BigInteger[] maxPriorityFees,
+                BigInteger[] maxFees, boolean legacy, boolean fallback, Instant sampledAt) {
+        this.network = network;
+        this.blockHeight = blockHeight;
+        this.baseFee = baseFee;
+        this.maxPriorityFees = maxPriorityFees;
+        this.maxFees = maxFees;
+        this.legacy = legacy;
+        this.fallback = fallback;
+        this.sampledAt = sampledAt;
+    }
+
+    public BlockchainNetwork getNetwork() {
+        return network;
+    }
+
+    public long getBlockHeight() {
+        return blockHeight;
+    }
+
+    public BigInteger getBaseFee() {
+        return baseFee;
+    }
+
+    public BigInteger getMaxPriorityFeePerGas(FeeSpeed speed) {
+        return maxPriorityFees[speed.ordinal()];
+    }
+
+    public BigInteger getMaxFeePerGas(FeeSpeed speed) {
+        return maxFees[speed.ordinal()];
+    }
+
+    /**
+     * Gas price for legacy transactions: what the tier pays at the current base fee.
+     */
+    public BigInteger getGasPrice(FeeSpeed speed) {
+        return legacy ? maxFees[speed.ordinal()] : baseFee.add(maxPriorityFees[speed.ordinal()]);
+    }
+
+    public boolean isLegacy() {
+        return legacy;
+    }
+
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    public Instant getSampledAt() {
+        return sampledAt;
+    }
+
+    public long getAgeMillis() {
+        return System.currentTimeMillis() - sampledAt.toEpochMilli();
+    }
+}
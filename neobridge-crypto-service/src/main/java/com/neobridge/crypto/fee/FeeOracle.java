@@ -0,0 +1,232 @@
+package com.neobridge.crypto.fee;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.evm.NonceManager;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory fee oracle with one estimate per {@link BlockchainNetwork}.
+ * Recent blocks are sampled in the background from each network's
+ * {@link FeeSource}; tiers are percentiles of the fees paid in them, and
+ * EIP-1559 max fees leave room for the base fee to grow. Quotes read the
+ * current estimate without any I/O. Networks without samples are quoted from
+ * the configured gas defaults, flagged as fallback. The standard tier is also
+ * written to the wallets this instance signs EVM transactions from, where the
+ * pipeline falls back to it when samples go stale, at most once per interval
+ * and only when it moved noticeably.
+ */
+@Service
+public class FeeOracle {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeeOracle.class);
+
+    private static final BlockchainNetwork[] NETWORKS = BlockchainNetwork.values();
+
+    private static final String UPDATE_SIGNING_WALLET_SQL =
+        "UPDATE crypto_wallets SET max_fee_per_gas = ?, max_priority_fee_per_gas = ?, gas_price = ?, updated_at = ? " +
+        "WHERE id = ? AND network = ? AND deleted = false";
+
+    @Autowired
+    private ObjectProvider<FeeSource> feeSources;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private NonceManager nonceManager;
+
+    @Value("${neobridge.crypto.fees.sample-blocks:20}")
+    private int sampleBlocks;
+
+    @Value("${neobridge.crypto.fees.percentiles:10,50,90}")
+    private int[] percentiles;
+
+    @Value("${neobridge.crypto.fees.base-fee-multiplier:2}")
+    private int baseFeeMultiplier;
+
+    @Value("${neobridge.crypto.fees.max-age:PT1M}")
+    private Duration maxAge;
+
+    @Value("${neobridge.crypto.fees.wallet-update.min-interval:PT1M}")
+    private Duration walletUpdateInterval;
+
+    @Value("${neobridge.crypto.fees.wallet-update.min-change-percent:10}")
+    private int walletUpdateChangePercent;
+
+    private final AtomicReferenceArray<FeeEstimate> estimates = new AtomicReferenceArray<>(NETWORKS.length);
+    private final FeeEstimate[] fallbacks = new FeeEstimate[NETWORKS.length];
+    private final long[] walletsUpdatedAt = new long[NETWORKS.length];
+    private final BigInteger[] walletsMaxFee = new BigInteger[NETWORKS.length];
+
+    @PostConstruct
+    public void init() {
+        if (percentiles.length != FeeSpeed.values().length) {
+            throw new IllegalStateException("Expected one fee percentile per speed " + Arrays.toString(FeeSpeed.values()));
+        }
+        for (BlockchainNetwork network : NETWORKS) {
+            fallbacks[network.ordinal()] = fallback(network);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${neobridge.crypto.fees.sample-interval:6000}")
+    public void sampleAll() {
+        feeSources.orderedStream().forEach(source -> {
+            try {
+                List<BlockFeeSample> samples = source.sampleRecentBlocks(sampleBlocks);
+                if (samples.isEmpty()) {
+                    return;
+                }
+                FeeEstimate estimate = estimate(source.getNetwork(), samples);
+                estimates.set(source.getNetwork().ordinal(), estimate);
+                updateSigningWallets(estimate);
+            } catch (Exception e) {
+                logger.error("Fee sampling of {} failed: {}", source.getNetwork(), e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Fee quote for a network at a speed.
+     *
+     * @throws IllegalStateException when the network has neither samples nor configured defaults
+     */
+    public FeeQuote quote(BlockchainNetwork network, FeeSpeed speed) {
+        FeeEstimate estimate = getEstimate(network);
+        if (estimate == null) {
+            throw new IllegalStateException("No fee data for network " + network);
+        }
+        return FeeQuote.of(estimate, speed, maxAge.toMillis());
+    }
+
+    /**
+     * Latest sampled estimate, else the configured fallback, else {@code null}.
+     */
+    public FeeEstimate getEstimate(BlockchainNetwork network) {
+        FeeEstimate estimate = estimates.get(network.ordinal());
+        return estimate != null ? estimate : fallbacks[network.ordinal()];
+    }
+
+    /**
+     * Set a wallet's fee fields from the current estimate.
+     */
+    public void applyTo(CryptoWallet wallet, FeeSpeed speed) {
+        FeeQuote quote = quote(wallet.getNetwork(), speed);
+        wallet.setMaxFeePerGas(new BigDecimal(quote.getMaxFeePerGas()));
+        wallet.setMaxPriorityFeePerGas(new BigDecimal(quote.getMaxPriorityFeePerGas()));
+        wallet.setGasPrice(new BigDecimal(quote.getGasPrice()));
+    }
+
+    private FeeEstimate estimate(BlockchainNetwork network, List<BlockFeeSample> samples) {
+        BlockFeeSample latest = samples.get(samples.size() - 1);
+        int total = 0;
+        for (BlockFeeSample sample : samples) {
+            total += sample.getFees().length;
+        }
+        long[] fees = new long[total];
+        int offset = 0;
+        for (BlockFeeSample sample : samples) {
+            System.arraycopy(sample.getFees(), 0, fees, offset, sample.getFees().length);
+            offset += sample.getFees().length;
+        }
+        Arrays.sort(fees);
+
+        FeeSpeed[] speeds = FeeSpeed.values();
+        BigInteger[] priorityFees = new BigInteger[speeds.length];
+        BigInteger[] maxFees = new BigInteger[speeds.length];
+        BigInteger baseFee = BigInteger.valueOf(Math.max(0, latest.getBaseFee()));
+        for (FeeSpeed speed : speeds) {
+            BigInteger fee = BigInteger.valueOf(percentile(fees, percentiles[speed.ordinal()]));
+            if (latest.isLegacy()) {
+                priorityFees[speed.ordinal()] = fee;
+                maxFees[speed.ordinal()] = fee;
+            } else {
+                // Base fee can rise 12.5% per block; the multiplier covers several full blocks
+                priorityFees[speed.ordinal()] = fee;
+                maxFees[speed.ordinal()] = baseFee.multiply(BigInteger.valueOf(baseFeeMultiplier)).add(fee);
+            }
+        }
+        return new FeeEstimate(network, latest.getHeight(), baseFee, priorityFees, maxFees, latest.isLegacy(), false,
+                               Instant.now());
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private void updateSigningWallets(FeeEstimate estimate) {
+        // Only wallets that sign withdrawals ever read these fields; every other wallet is left alone
+        Set<UUID> walletIds = nonceManager.getWalletIds();
+        if (walletIds.isEmpty()) {
+            return;
+        }
+        int slot = estimate.getNetwork().ordinal();
+        long now = System.currentTimeMillis();
+        BigInteger maxFee = estimate.getMaxFeePerGas(FeeSpeed.STANDARD);
+        BigInteger previous = walletsMaxFee[slot];
+        if (now - walletsUpdatedAt[slot] < walletUpdateInterval.toMillis()
+                || (previous != null && !movedBy(previous, maxFee, walletUpdateChangePercent))) {
+            return;
+        }
+        BigDecimal priorityFee = new BigDecimal(estimate.getMaxPriorityFeePerGas(FeeSpeed.STANDARD));
+        BigDecimal gasPrice = new BigDecimal(estimate.getGasPrice(FeeSpeed.STANDARD));
+        Timestamp updatedAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(walletIds.size());
+        for (UUID walletId : walletIds) {
+            rows.add(new Object[] {new BigDecimal(maxFee), priorityFee, gasPrice, updatedAt, walletId,
+                                   estimate.getNetwork().name()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SIGNING_WALLET_SQL, rows);
+        walletsUpdatedAt[slot] = now;
+        walletsMaxFee[slot] = maxFee;
+        logger.debug("Set max fee {} wei on {} signing wallets", maxFee, estimate.getNetwork());
+    }
+
+    private static boolean movedBy(BigInteger previous, BigInteger current, int percent) {
+        BigInteger delta = current.subtract(previous).abs().multiply(BigInteger.valueOf(100));
+        return delta.compareTo(previous.multiply(BigInteger.valueOf(percent))) >= 0;
+    }
+
+    private FeeEstimate fallback(BlockchainNetwork network) {
+        String prefix = "neobridge.crypto.gas." + network.name().toLowerCase(Locale.ROOT) + ".";
+        BigInteger price = environment.getProperty(prefix + "default_price", BigInteger.class);
+        if (price == null) {
+            return null;
+        }
+        BigInteger priority = environment.getProperty(prefix + "priority_fee", BigInteger.class, BigInteger.ZERO);
+        BigInteger[] priorityFees = new BigInteger[FeeSpeed.values().length];
+        BigInteger[] maxFees = new BigInteger[FeeSpeed.values().length];
+        Arrays.fill(priorityFees, priority);
+        Arrays.fill(maxFees, price.add(priority));
+        return new FeeEstimate(network, -1, price, priorityFees, maxFees, false, true, Instant.EPOCH);
+    }
+}
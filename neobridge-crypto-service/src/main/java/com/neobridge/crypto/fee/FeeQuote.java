@@ -0,0 +1,123 @@
+package com.neobridge.crypto.fee;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+
+import java.math.BigInteger;
+import java.time.Instant;
+
+/**
+ * Fee quote for a withdrawal, in wei per gas, with how old the data behind
+ * it is. Stale quotes are still returned; callers decide whether to use them.
+ */
+public class FeeQuote {
+
+    private BlockchainNetwork network;
+    private FeeSpeed speed;
+    private BigInteger maxFeePerGas;
+    private BigInteger maxPriorityFeePerGas;
+    private BigInteger gasPrice;
+    private long blockHeight;
+    private Instant sampledAt;
+    private long ageMillis;
+    private boolean stale;
+    private boolean fallback;
+
+    // Constructors
+    public FeeQuote() {}
+
+    public static FeeQuote of(FeeEstimate estimate, FeeSpeed speed, long maxAgeMillis) {
+        FeeQuote quote = new FeeQuote();
+        quote.setNetwork(estimate.getNetwork());
+        quote.setSpeed(speed);
+        quote.setMaxFeePerGas(estimate.getMaxFeePerGas(speed));
+        quote.setMaxPriorityFeePerGas(estimate.getMaxPriorityFeePerGas(speed));
+        quote.setGasPrice(estimate.getGasPrice(speed));
+        quote.setBlockHeight(estimate.getBlockHeight());
+        quote.setSampledAt(estimate.getSampledAt());
+        quote.setAgeMillis(estimate.getAgeMillis());
+        quote.setStale(estimate.isFallback() || quote.getAgeMillis() > maxAgeMillis);
+        quote.setFallback(estimate.isFallback());
+        return quote;
+    }
+
+    // Getters and Setters
+    public BlockchainNetwork getNetwork() {
+        return network;
+    }
+
+    public void setNetwork(BlockchainNetwork network) {
+        this.network = network;
+    }
+
+    public FeeSpeed getSpeed() {
+        return speed;
+    }
+
+    public void setSpeed(FeeSpeed speed) {
+        this.speed = speed;
+    }
+
+    public BigInteger getMaxFeePerGas() {
+        return maxFeePerGas;
+    }
+
+    public void setMaxFeePerGas(BigInteger maxFeePerGas) {
+        this.maxFeePerGas = maxFeePerGas;
+    }
+
+    public BigInteger getMaxPriorityFeePerGas() {
+        return maxPriorityFeePerGas;
+    }
+
+    public void setMaxPriorityFeePerGas(BigInteger maxPriorityFeePerGas) {
+        this.maxPriorityFeePerGas = maxPriorityFeePerGas;
+    }
+
+    public BigInteger getGasPrice() {
+        return gasPrice;
+    }
+
+    public void setGasPrice(BigInteger gasPrice) {
+        this.gasPrice = gasPrice;
+    }
+
+    public long getBlockHeight() {
+        return blockHeight;
+    }
+
+    public void setBlockHeight(long blockHeight) {
+        this.blockHeight = blockHeight;
+    }
+
+    public Instant getSampledAt() {
+        return sampledAt;
+    }
+
+    public void setSampledAt(Instant sampledAt) {
+        this.sampledAt = sampledAt;
+    }
+
+    public long getAgeMillis() {
+        return ageMillis;
+    }
+
+    public void setAgeMillis(long ageMillis) {
+        this.ageMillis = ageMillis;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public void setStale(boolean stale) {
+        this.stale = stale;
+    }
+
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    public void setFallback(boolean fallback) {
+        this.fallback = fallback;
+    }
+}
@@ -0,0 +1,19 @@
+package com.neobridge.crypto.fee;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+
+import java.util.List;
+
+/**
+ * Recent fee data of one network, e.g. from {@code eth_feeHistory} or a block
+ * explorer. Register one bean per network to have it sampled.
+ */
+public interface FeeSource {
+
+    BlockchainNetwork getNetwork();
+
+    /**
+     * Fee samples of up to {@code blocks} most recent blocks, oldest first.
+     */
+    List<BlockFeeSample> sampleRecentBlocks(int blocks);
+}
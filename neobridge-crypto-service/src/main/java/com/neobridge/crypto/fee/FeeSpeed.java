@@ -0,0 +1,11 @@
+package com.neobridge.crypto.fee;
+
+/**
+ * How quickly a transaction should be included, mapped to a percentile of
+ * recently paid fees.
+ */
+public enum FeeSpeed {
+    SLOW,
+    STANDARD,
+    FAST
+}
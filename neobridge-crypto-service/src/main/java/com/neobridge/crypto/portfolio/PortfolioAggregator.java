@@ -0,0 +1,198 @@
+package com.neobridge.crypto.portfolio;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.price.PriceBoard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Incrementally maintained per-user crypto valuations. Holdings change only
+ * through wallet balance events; price changes are fanned out through an
+ * inverted index from cryptocurrency to the users holding it, so a tick
+ * revalues only the affected portfolios. Reads are a single map lookup and are
+ * never older than {@code max-staleness}. Valuations can optionally be
+ * mirrored to Redis for consumers outside this service.
+ */
+@Service
+public class PortfolioAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioAggregator.class);
+
+    private static final Cryptocurrency[] CRYPTOCURRENCIES = Cryptocurrency.values();
+
+    private static final String REDIS_KEY_PREFIX = "neobridge:portfolio:";
+
+    private static final String LOAD_WALLETS_SQL =
+        "SELECT id, user_id, cryptocurrency, balance + yield_balance + COALESCE(delegation_rewards, 0), version " +
+        "FROM crypto_wallets WHERE deleted = false AND status <> 'ARCHIVED'";
+
+    @Autowired
+    private PriceBoard priceBoard;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<RedisTemplate<String, Object>> redisTemplate;
+
+    @Value("${neobridge.crypto.portfolio.max-staleness:PT10S}")
+    private Duration maxStaleness;
+
+    @Value("${neobridge.crypto.portfolio.load-fetch-size:5000}")
+    private int loadFetchSize;
+
+    @Value("${neobridge.crypto.portfolio.redis-mirror:false}")
+    private boolean redisMirror;
+
+    private final ConcurrentHashMap<UUID, UserPortfolio> portfolios = new ConcurrentHashMap<>();
+    private final Set<UUID>[] holders = newHolderIndex();
+    private final long[] seenVersions = new long[CRYPTOCURRENCIES.length];
+
+    private volatile boolean loaded;
+
+    /**
+     * Seed holdings from the wallet table once the application is up. Events
+     * received meanwhile are applied as well; both carry absolute balances and
+     * the wallet row version, so whichever is older is ignored regardless of
+     * the order they arrive in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(loadFetchSize);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        // PostgreSQL only honours the fetch size inside a transaction
+        int wallets = readOnly.execute(status -> {
+            int[] count = {0};
+            streaming.query(LOAD_WALLETS_SQL, rs -> {
+                UUID userId = rs.getObject(2, UUID.class);
+                updateWallet(userId, rs.getObject(1, UUID.class), Cryptocurrency.valueOf(rs.getString(3)), rs.getLong(5),
+                             rs.getBigDecimal(4));
+                count[0]++;
+            });
+            return count[0];
+        });
+        loaded = true;
+        logger.info("Loaded {} wallets into {} portfolios in {} ms", wallets, portfolios.size(),
+                   System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Apply a wallet's new balance and revalue its owner. Redelivered and
+     * out-of-date events are ignored.
+     */
+    public void apply(WalletBalanceEvent event) {
+        updateWallet(event.getUserId(), event.getWalletId(), event.getCryptocurrency(), event.getVersion(),
+                     event.isClosed() ? null : event.getTotalBalance());
+        if (loaded) {
+            publish(portfolios.get(event.getUserId()).revalue(priceBoard));
+        }
+    }
+
+    /**
+     * Current valuation of a user's crypto holdings; users without wallets get
+     * an empty valuation.
+     */
+    public PortfolioValuation getValuation(UUID userId) {
+        UserPortfolio portfolio = portfolios.get(userId);
+        if (portfolio == null) {
+            return new PortfolioValuation(userId, Instant.now());
+        }
+        PortfolioValuation valuation = portfolio.getValuation();
+        if (valuation == null || System.currentTimeMillis() - portfolio.getValuedAtMillis() > maxStaleness.toMillis()) {
+            valuation = portfolio.revalue(priceBoard);
+            publish(valuation);
+        }
+        return valuation;
+    }
+
+    /**
+     * Revalue the holders of every cryptocurrency whose price moved since the last run.
+     */
+    @Scheduled(fixedDelayString = "${neobridge.crypto.portfolio.refresh-interval:2000}")
+    public void refresh() {
+        if (!loaded) {
+            return;
+        }
+        for (Cryptocurrency cryptocurrency : CRYPTOCURRENCIES) {
+            int slot = cryptocurrency.ordinal();
+            long version = priceBoard.getVersion(cryptocurrency);
+            if (version == seenVersions[slot]) {
+                continue;
+            }
+            seenVersions[slot] = version;
+            int revalued = 0;
+            for (UUID userId : holders[slot]) {
+                UserPortfolio portfolio = portfolios.get(userId);
+                if (portfolio != null) {
+                    publish(portfolio.revalue(priceBoard));
+                    revalued++;
+                }
+            }
+            logger.debug("Revalued {} portfolios holding {}", revalued, cryptocurrency);
+        }
+    }
+
+    private void updateWallet(UUID userId, UUID walletId, Cryptocurrency cryptocurrency, long version,
+                              BigDecimal totalBalance) {
+        UserPortfolio portfolio = portfolios.computeIfAbsent(userId, UserPortfolio::new);
+        // Index updates under the portfolio lock keep them ordered with the holdings change
+        synchronized (portfolio) {
+            Cryptocurrency dropped = portfolio.updateWallet(walletId, cryptocurrency, version, totalBalance);
+            if (dropped != null) {
+                holders[dropped.ordinal()].remove(userId);
+            }
+            if (portfolio.holds(cryptocurrency)) {
+                holders[cryptocurrency.ordinal()].add(userId);
+            }
+        }
+    }
+
+    private void publish(PortfolioValuation valuation) {
+        if (!redisMirror) {
+            return;
+        }
+        RedisTemplate<String, Object> redis = redisTemplate.getIfAvailable();
+        if (redis == null) {
+            return;
+        }
+        try {
+            redis.opsForValue().set(REDIS_KEY_PREFIX + valuation.getUserId(), valuation, maxStaleness.multipliedBy(2));
+        } catch (Exception e) {
+            logger.warn("Failed to mirror portfolio of user {} to Redis: {}", valuation.getUserId(), e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<UUID>[] newHolderIndex() {
+        Set<UUID>[] index = new Set[CRYPTOCURRENCIES.length];
+        for (int i = 0; i < index.length; i++) {
+            index[i] = ConcurrentHashMap.newKeySet();
+        }
+        return index;
+    }
+}
@@ -0,0 +1,134 @@
+package com.neobridge.crypto.portfolio;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A user's crypto net worth at a point in time, with one position per held
+ * cryptocurrency. {@code complete} is false when a held asset had no fresh
+ * price and was left out of the totals.
+ */
+public class PortfolioValuation {
+
+    private UUID userId;
+    private BigDecimal totalUsd = BigDecimal.ZERO;
+    private BigDecimal totalEur = BigDecimal.ZERO;
+    private boolean complete = true;
+    private Instant valuedAt;
+    private List<Position> positions = new ArrayList<>();
+
+    // Constructors
+    public PortfolioValuation() {}
+
+    public PortfolioValuation(UUID userId, Instant valuedAt) {
+        this.userId = userId;
+        this.valuedAt = valuedAt;
+    }
+
+    // Getters and Setters
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public BigDecimal getTotalUsd() {
+        return totalUsd;
+    }
+
+    public void setTotalUsd(BigDecimal totalUsd) {
+        this.totalUsd = totalUsd;
+    }
+
+    public BigDecimal getTotalEur() {
+        return totalEur;
+    }
+
+    public void setTotalEur(BigDecimal totalEur) {
+        this.totalEur = totalEur;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public Instant getValuedAt() {
+        return valuedAt;
+    }
+
+    public void setValuedAt(Instant valuedAt) {
+        this.valuedAt = valuedAt;
+    }
+
+    public List<Position> getPositions() {
+        return positions;
+    }
+
+    public void setPositions(List<Position> positions) {
+        this.positions = positions;
+    }
+
+    /**
+     * Holdings of one cryptocurrency across the user's wallets. Values are
+     * {@code null} when no fresh price was available.
+     */
+    public static class Position {
+
+        private Cryptocurrency cryptocurrency;
+        private BigDecimal quantity;
+        private BigDecimal valueUsd;
+        private BigDecimal valueEur;
+
+        public Position() {}
+
+        public Position(Cryptocurrency cryptocurrency, BigDecimal quantity, BigDecimal valueUsd, BigDecimal valueEur) {
+            this.cryptocurrency = cryptocurrency;
+            this.quantity = quantity;
+            this.valueUsd = valueUsd;
+            this.valueEur = valueEur;
+        }
+
+        public Cryptocurrency getCryptocurrency() {
+            return cryptocurrency;
+        }
+
+        public void setCryptocurrency(Cryptocurrency cryptocurrency) {
+            this.cryptocurrency = cryptocurrency;
+        }
+
+        public BigDecimal getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(BigDecimal quantity) {
+            this.quantity = quantity;
+        }
+
+        public BigDecimal getValueUsd() {
+            return valueUsd;
+        }
+
+        public void setValueUsd(BigDecimal valueUsd) {
+            this.valueUsd = valueUsd;
+        }
+
+        public BigDecimal getValueEur() {
+            return valueEur;
+        }
+
+        public void setValueEur(BigDecimal valueEur) {
+            this.valueEur = valueEur;
+        }
+    }
+}
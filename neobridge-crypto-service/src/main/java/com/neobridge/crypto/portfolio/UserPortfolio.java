@@ -0,0 +1,117 @@
+package com.neobridge.crypto.portfolio;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.price.PriceBoard;
+import com.neobridge.crypto.price.PriceQuote;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One user's holdings (total balance per wallet, summed per cryptocurrency)
+ * and their latest valuation. Mutations are synchronized per user; the
+ * valuation is published through a volatile field so reads never lock. The
+ * last applied row version of every wallet, closed ones included, is kept so
+ * an older balance never replaces a newer one.
+ */
+final class UserPortfolio {
+
+    private final UUID userId;
+    private final Map<UUID, Cryptocurrency> walletAssets = new HashMap<>(4);
+    private final Map<UUID, BigDecimal> walletBalances = new HashMap<>(4);
+    private final Map<UUID, Long> walletVersions = new HashMap<>(4);
+    private final Map<Cryptocurrency, BigDecimal> quantities = new EnumMap<>(Cryptocurrency.class);
+
+    private volatile PortfolioValuation valuation;
+    private volatile long valuedAtMillis;
+
+    UserPortfolio(UUID userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Set a wallet's total balance as of row {@code version}; {@code null}
+     * removes the wallet. Balances older than the last applied one are ignored.
+     *
+     * @return cryptocurrencies the user no longer holds as a result
+     */
+    synchronized Cryptocurrency updateWallet(UUID walletId, Cryptocurrency cryptocurrency, long version,
+                                             BigDecimal totalBalance) {
+        Long applied = walletVersions.get(walletId);
+        if (applied != null && version < applied) {
+            return null;
+        }
+        walletVersions.put(walletId, version);
+        Cryptocurrency previousAsset = walletAssets.get(walletId);
+        BigDecimal previous = walletBalances.get(walletId);
+        if (previous != null) {
+            quantities.merge(previousAsset, previous.negate(), BigDecimal::add);
+        }
+        if (totalBalance == null) {
+            walletAssets.remove(walletId);
+            walletBalances.remove(walletId);
+        } else {
+            walletAssets.put(walletId, cryptocurrency);
+            walletBalances.put(walletId, totalBalance);
+            quantities.merge(cryptocurrency, totalBalance, BigDecimal::add);
+        }
+        if (previousAsset != null && !walletAssets.containsValue(previousAsset)) {
+            quantities.remove(previousAsset);
+            return previousAsset;
+        }
+        return null;
+    }
+
+    synchronized boolean holds(Cryptocurrency cryptocurrency) {
+        return quantities.containsKey(cryptocurrency);
+    }
+
+    synchronized boolean isEmpty() {
+        return walletBalances.isEmpty();
+    }
+
+    /**
+     * Value current holdings at the board's prices and publish the result.
+     */
+    synchronized PortfolioValuation revalue(PriceBoard priceBoard) {
+        Instant now = Instant.now();
+        PortfolioValuation next = new PortfolioValuation(userId, now);
+        BigDecimal totalUsd = BigDecimal.ZERO;
+        BigDecimal totalEur = BigDecimal.ZERO;
+        for (Map.Entry<Cryptocurrency, BigDecimal> holding : quantities.entrySet()) {
+            PriceQuote quote = priceBoard.getQuote(holding.getKey());
+            BigDecimal quantity = holding.getValue();
+            if (quote == null) {
+                next.setComplete(false);
+                next.getPositions().add(new PortfolioValuation.Position(holding.getKey(), quantity, null, null));
+                continue;
+            }
+            BigDecimal valueUsd = quote.valueUsd(quantity);
+            BigDecimal valueEur = quote.valueEur(quantity);
+            totalUsd = totalUsd.add(valueUsd);
+            totalEur = totalEur.add(valueEur);
+            next.getPositions().add(new PortfolioValuation.Position(holding.getKey(), quantity, valueUsd, valueEur));
+        }
+        next.setTotalUsd(totalUsd);
+        next.setTotalEur(totalEur);
+        valuation = next;
+        valuedAtMillis = now.toEpochMilli();
+        return next;
+    }
+
+    PortfolioValuation getValuation() {
+        return valuation;
+    }
+
+    long getValuedAtMillis() {
+        return valuedAtMillis;
+    }
+
+    UUID getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,110 @@
+package com.neobridge.crypto.portfolio;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A wallet's balance after a change, as published on the wallet balance topic.
+ * Carries the absolute total balance rather than a delta, so redelivery and
+ * replay are harmless. Keyed by {@code walletId} so a wallet's events stay
+ * ordered; {@code version} is the wallet row version the balance was read at,
+ * so consumers can tell it apart from an older balance read elsewhere.
+ */
+public class WalletBalanceEvent {
+
+    private UUID walletId;
+    private UUID userId;
+    private Cryptocurrency cryptocurrency;
+    private BigDecimal totalBalance;
+    private long version;
+    private boolean closed;
+    private Instant occurredAt;
+
+    // Constructors
+    public WalletBalanceEvent() {}
+
+    public static WalletBalanceEvent of(CryptoWallet wallet) {
+        WalletBalanceEvent event = new WalletBalanceEvent();
+        event.setWalletId(wallet.getId());
+        event.setUserId(wallet.getUserId());
+        event.setCryptocurrency(wallet.getCryptocurrency());
+        event.setTotalBalance(wallet.getTotalBalance());
+        event.setVersion(wallet.getVersion() != null ? wallet.getVersion() : 0L);
+        event.setClosed(Boolean.TRUE.equals(wallet.getDeleted()) || wallet.getStatus() == CryptoWallet.WalletStatus.ARCHIVED);
+        event.setOccurredAt(Instant.now());
+        return event;
+    }
+
+    // Getters and Setters
+    public UUID getWalletId() {
+        return walletId;
+    }
+
+    public void setWalletId(UUID walletId) {
+        this.walletId = walletId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public Cryptocurrency getCryptocurrency() {
+        return cryptocurrency;
+    }
+
+    public void setCryptocurrency(Cryptocurrency cryptocurrency) {
+        this.cryptocurrency = cryptocurrency;
+    }
+
+    public BigDecimal getTotalBalance() {
+        return totalBalance;
+    }
+
+    public void setTotalBalance(BigDecimal totalBalance) {
+        this.totalBalance = totalBalance;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void setClosed(boolean closed) {
+        this.closed = closed;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "WalletBalanceEvent{" +
+                "walletId=" + walletId +
+                ", userId=" + userId +
+                ", cryptocurrency=" + cryptocurrency +
+                ", totalBalance=" + totalBalance +
+                ", version=" + version +
+                ", closed=" + closed +
+                '}';
+    }
+}
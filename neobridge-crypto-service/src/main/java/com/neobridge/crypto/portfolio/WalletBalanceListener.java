@@ -0,0 +1,43 @@
+package com.neobridge.crypto.portfolio;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds wallet balance changes into the local {@link PortfolioAggregator}.
+ * Every instance serves valuations for every user, so each one consumes with
+ * its own consumer group, named after the host so a restart resumes the same
+ * group instead of leaving an abandoned one behind. A new group starts from
+ * the latest events because holdings are loaded from the database on startup;
+ * events replayed on resume are older than the loaded rows and are ignored.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class WalletBalanceListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(WalletBalanceListener.class);
+
+    @Autowired
+    private PortfolioAggregator portfolioAggregator;
+
+    @KafkaListener(
+        topics = "${neobridge.crypto.portfolio.topic:neobridge.crypto.wallet-balances}",
+        groupId = "${neobridge.crypto.portfolio.consumer-group:${spring.application.name:neobridge}-portfolio-${HOSTNAME:local}}",
+        properties = {
+            "auto.offset.reset=latest",
+            "spring.json.value.default.type=com.neobridge.crypto.portfolio.WalletBalanceEvent"
+        }
+    )
+    public void onWalletBalance(WalletBalanceEvent event) {
+        if (event.getWalletId() == null || event.getUserId() == null || event.getCryptocurrency() == null
+                || (!event.isClosed() && event.getTotalBalance() == null)) {
+            logger.warn("Ignoring malformed wallet balance event: {}", event);
+            return;
+        }
+        portfolioAggregator.apply(event);
+    }
+}
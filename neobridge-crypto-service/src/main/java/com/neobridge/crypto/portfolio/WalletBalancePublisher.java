@@ -0,0 +1,38 @@
+package com.neobridge.crypto.portfolio;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes a wallet's balance after it changed. Call after the change has
+ * committed so consumers never see a balance that was rolled back.
+ */
+@Component
+public class WalletBalancePublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WalletBalancePublisher.class);
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${neobridge.crypto.portfolio.topic:neobridge.crypto.wallet-balances}")
+    private String topic;
+
+    public void publish(CryptoWallet wallet) {
+        publish(WalletBalanceEvent.of(wallet));
+    }
+
+    public void publish(WalletBalanceEvent event) {
+        try {
+            kafkaTemplate.send(topic, event.getWalletId().toString(), event);
+            logger.debug("Published balance of wallet {}: {}", event.getWalletId(), event.getTotalBalance());
+        } catch (Exception e) {
+            logger.error("Failed to publish balance of wallet {}: {}", event.getWalletId(), e.getMessage(), e);
+        }
+    }
+}
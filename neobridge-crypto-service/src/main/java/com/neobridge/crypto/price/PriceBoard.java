@@ -0,0 +1,162 @@
+package com.neobridge.crypto.price;
+
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory board of the latest USD and EUR price per cryptocurrency.
+ * One slot per {@link Cryptocurrency}, updated by compare-and-set, so ticks for
+ * different assets never contend and readers never lock. Each updated asset is
+ * flagged dirty until the revaluation job drains it, coalescing any number of
+ * ticks into one persisted revaluation. Ticks quoted in other fiat currencies,
+ * and a side that has gone stale, are converted through {@link FxRateService}.
+ */
+@Service
+public class PriceBoard {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceBoard.class);
+
+    private static final Cryptocurrency[] CRYPTOCURRENCIES = Cryptocurrency.values();
+
+    private static final String USD = "USD";
+    private static final String EUR = "EUR";
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    private final AtomicReferenceArray<PriceQuote> quotes = new AtomicReferenceArray<>(CRYPTOCURRENCIES.length);
+    private final AtomicIntegerArray dirty = new AtomicIntegerArray(CRYPTOCURRENCIES.length);
+    private final AtomicLongArray versions = new AtomicLongArray(CRYPTOCURRENCIES.length);
+
+    @Value("${neobridge.crypto.price.max-age:PT5M}")
+    private Duration maxAge;
+
+    private long maxAgeMillis;
+
+    @PostConstruct
+    public void init() {
+        maxAgeMillis = maxAge.toMillis();
+        for (Cryptocurrency cryptocurrency : CRYPTOCURRENCIES) {
+            quotes.set(cryptocurrency.ordinal(), PriceQuote.empty(cryptocurrency));
+        }
+        logger.info("Price board initialised for {} cryptocurrencies with max price age {}", CRYPTOCURRENCIES.length, maxAge);
+    }
+
+    /**
+     * Apply a tick. Ticks older than the current price are dropped; ticks in
+     * other fiat currencies are converted to USD, or ignored without an FX rate.
+     *
+     * @return whether the board changed
+     */
+    public boolean apply(PriceTick tick) {
+        if (!USD.equals(tick.getQuoteCurrency()) && !EUR.equals(tick.getQuoteCurrency())) {
+            BigDecimal usdRate = fxRateService.findRate(tick.getQuoteCurrency(), USD).orElse(null);
+            if (usdRate == null) {
+                return false;
+            }
+            tick = new PriceTick(tick.getCryptocurrency(), USD, tick.getPrice().multiply(usdRate, MathContext.DECIMAL64),
+                                 tick.getTimestamp());
+        }
+        int slot = tick.getCryptocurrency().ordinal();
+        while (true) {
+            PriceQuote current = quotes.get(slot);
+            PriceQuote next = current.with(tick);
+            if (next == current) {
+                return false;
+            }
+            if (quotes.compareAndSet(slot, current, next)) {
+                versions.incrementAndGet(slot);
+                dirty.set(slot, 1);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Apply a batch of ticks.
+     *
+     * @return number of ticks that changed the board
+     */
+    public int apply(Collection<PriceTick> ticks) {
+        int applied = 0;
+        for (PriceTick tick : ticks) {
+            if (apply(tick)) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Latest quote if both sides are fresh, or if one side is fresh and the
+     * other can be derived from it at the current FX rate; otherwise {@code null}.
+     */
+    public PriceQuote getQuote(Cryptocurrency cryptocurrency) {
+        PriceQuote quote = quotes.get(cryptocurrency.ordinal());
+        long now = System.currentTimeMillis();
+        boolean usdFresh = quote.isUsdFresh(now, maxAgeMillis);
+        boolean eurFresh = quote.isEurFresh(now, maxAgeMillis);
+        if (usdFresh && eurFresh) {
+            return quote;
+        }
+        if (usdFresh) {
+            BigDecimal rate = fxRateService.findRate(USD, EUR).orElse(null);
+            return rate == null ? null : new PriceQuote(cryptocurrency, quote.getPriceUsd(), quote.getUsdAsOf(),
+                quote.getPriceUsd().multiply(rate, MathContext.DECIMAL64), quote.getUsdAsOf());
+        }
+        if (eurFresh) {
+            BigDecimal rate = fxRateService.findRate(EUR, USD).orElse(null);
+            return rate == null ? null : new PriceQuote(cryptocurrency,
+                quote.getPriceEur().multiply(rate, MathContext.DECIMAL64), quote.getEurAsOf(), quote.getPriceEur(), quote.getEurAsOf());
+        }
+        return null;
+    }
+
+    /**
+     * Number of changes applied to a cryptocurrency's quote so far. Lets
+     * consumers other than revaluation detect price changes without draining.
+     */
+    public long getVersion(Cryptocurrency cryptocurrency) {
+        return versions.get(cryptocurrency.ordinal());
+    }
+
+    /**
+     * Cryptocurrencies whose price changed since the last drain, clearing their flags.
+     */
+    public List<Cryptocurrency> drainDirty() {
+        List<Cryptocurrency> drained = new ArrayList<>();
+        for (int i = 0; i < CRYPTOCURRENCIES.length; i++) {
+            if (dirty.get(i) == 1 && dirty.getAndSet(i, 0) == 1) {
+                drained.add(CRYPTOCURRENCIES[i]);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Flag a cryptocurrency for revaluation again, e.g. after a throttled or failed run.
+     */
+    public void markDirty(Cryptocurrency cryptocurrency) {
+        dirty.set(cryptocurrency.ordinal(), 1);
+    }
+
+    public long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+}
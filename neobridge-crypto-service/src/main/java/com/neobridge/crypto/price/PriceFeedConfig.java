@@ -0,0 +1,35 @@
+package com.neobridge.crypto.price;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Price feed configuration. When {@code neobridge.crypto.price.replay-file} is
+ * set, the price board is seeded from a recorded feed, which is how local
+ * development and tests run without a live price source.
+ */
+@Configuration
+public class PriceFeedConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceFeedConfig.class);
+
+    @Bean
+    @ConditionalOnProperty(name = "neobridge.crypto.price.replay-file")
+    public ReplayPriceFeed replayPriceFeed(PriceBoard priceBoard,
+                                           @Value("${neobridge.crypto.price.replay-file}") Resource replayFile) throws IOException {
+        ReplayPriceFeed feed = new ReplayPriceFeed(priceBoard,
+            ReplayPriceFeed.read(new InputStreamReader(replayFile.getInputStream(), StandardCharsets.UTF_8)));
+        int replayed = feed.replayAll();
+        logger.info("Seeded price board with {} recorded ticks from {}", replayed, replayFile);
+        return feed;
+    }
+}
@@ -0,0 +1,54 @@
+package com.neobridge.crypto.price;
+
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Feeds the crypto price topic into the local {@link PriceBoard}.
+ * Every instance needs every price, so each one consumes with its own
+ * consumer group, starting from the latest ticks whenever partitions are
+ * assigned. The group id is derived from the host name so a restarted
+ * instance rejoins its previous group instead of leaving an orphaned one
+ * behind; set {@code neobridge.crypto.price.consumer-group} explicitly where
+ * host names are not stable.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceFeedListener implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceFeedListener.class);
+
+    @Autowired
+    private PriceBoard priceBoard;
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        // A rejoined group would otherwise replay every tick published while the instance was down
+        callback.seekToEnd(assignments.keySet());
+    }
+
+    @KafkaListener(
+        topics = "${neobridge.crypto.price.topic:neobridge.crypto.prices}",
+        groupId = "${neobridge.crypto.price.consumer-group:${spring.application.name:neobridge}-prices-${HOSTNAME:local}}",
+        properties = {
+            "auto.offset.reset=latest",
+            "spring.json.value.default.type=com.neobridge.crypto.price.PriceTick"
+        }
+    )
+    public void onPriceTick(PriceTick tick) {
+        if (tick.getCryptocurrency() == null || tick.getQuoteCurrency() == null
+                || tick.getPrice() == null || tick.getTimestamp() == null) {
+            logger.warn("Ignoring malformed price tick: {}", tick);
+            return;
+        }
+        priceBoard.apply(tick);
+    }
+}
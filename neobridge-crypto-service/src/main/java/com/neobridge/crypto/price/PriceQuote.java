@@ -0,0 +1,109 @@
+package com.neobridge.crypto.price;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+
+/**
+ * Latest USD and EUR prices of one cryptocurrency. Immutable; the price board
+ * replaces the whole quote on every tick. A side is {@code null} until its
+ * first tick arrives.
+ */
+public final class PriceQuote {
+
+    /**
+     * Scale of persisted fiat values (precision 19, scale 4 columns).
+     */
+    public static final int FIAT_SCALE = 4;
+
+    private final Cryptocurrency cryptocurrency;
+    private final BigDecimal priceUsd;
+    private final Instant usdAsOf;
+    private final BigDecimal priceEur;
+    private final Instant eurAsOf;
+
+    PriceQuote(Cryptocurrency cryptocurrency, BigDecimal priceUsd, Instant usdAsOf, BigDecimal priceEur, Instant eurAsOf) {
+        this.cryptocurrency = cryptocurrency;
+        this.priceUsd = priceUsd;
+        this.usdAsOf = usdAsOf;
+        this.priceEur = priceEur;
+        this.eurAsOf = eurAsOf;
+    }
+
+    static PriceQuote empty(Cryptocurrency cryptocurrency) {
+        return new PriceQuote(cryptocurrency, null, null, null, null);
+    }
+
+    /**
+     * This quote with the tick applied, or {@code this} if the tick is older than the side it updates.
+     */
+    PriceQuote with(PriceTick tick) {
+        if ("USD".equals(tick.getQuoteCurrency())) {
+            if (usdAsOf != null && tick.getTimestamp().isBefore(usdAsOf)) {
+                return this;
+            }
+            return new PriceQuote(cryptocurrency, tick.getPrice(), tick.getTimestamp(), priceEur, eurAsOf);
+        }
+        if (eurAsOf != null && tick.getTimestamp().isBefore(eurAsOf)) {
+            return this;
+        }
+        return new PriceQuote(cryptocurrency, priceUsd, usdAsOf, tick.getPrice(), tick.getTimestamp());
+    }
+
+    /**
+     * Whether both sides are known and no older than {@code maxAgeMillis}.
+     */
+    public boolean isFresh(long now, long maxAgeMillis) {
+        return isUsdFresh(now, maxAgeMillis) && isEurFresh(now, maxAgeMillis);
+    }
+
+    boolean isUsdFresh(long now, long maxAgeMillis) {
+        return usdAsOf != null && now - usdAsOf.toEpochMilli() <= maxAgeMillis;
+    }
+
+    boolean isEurFresh(long now, long maxAgeMillis) {
+        return eurAsOf != null && now - eurAsOf.toEpochMilli() <= maxAgeMillis;
+    }
+
+    public BigDecimal valueUsd(BigDecimal amount) {
+        return amount.multiply(priceUsd).setScale(FIAT_SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    public BigDecimal valueEur(BigDecimal amount) {
+        return amount.multiply(priceEur).setScale(FIAT_SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Time of the older side.
+     */
+    public Instant getAsOf() {
+        return usdAsOf.isBefore(eurAsOf) ? usdAsOf : eurAsOf;
+    }
+
+    public Cryptocurrency getCryptocurrency() {
+        return cryptocurrency;
+    }
+
+    public BigDecimal getPriceUsd() {
+        return priceUsd;
+    }
+
+    public BigDecimal getPriceEur() {
+        return priceEur;
+    }
+
+    public Instant getUsdAsOf() {
+        return usdAsOf;
+    }
+
+    public Instant getEurAsOf() {
+        return eurAsOf;
+    }
+
+    @Override
+    public String toString() {
+        return cryptocurrency + "{USD=" + priceUsd + "@" + usdAsOf + ", EUR=" + priceEur + "@" + eurAsOf + "}";
+    }
+}
@@ -0,0 +1,81 @@
+package com.neobridge.crypto.price;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A single crypto price tick as published on the price feed topic.
+ * The price is the amount of {@code quoteCurrency} for one unit of {@code cryptocurrency}.
+ */
+public class PriceTick {
+
+    private Cryptocurrency cryptocurrency;
+    private String quoteCurrency;
+    private BigDecimal price;
+    private Instant timestamp;
+    private String source;
+
+    // Constructors
+    public PriceTick() {}
+
+    public PriceTick(Cryptocurrency cryptocurrency, String quoteCurrency, BigDecimal price, Instant timestamp) {
+        this.cryptocurrency = cryptocurrency;
+        this.quoteCurrency = quoteCurrency;
+        this.price = price;
+        this.timestamp = timestamp;
+    }
+
+    // Getters and Setters
+    public Cryptocurrency getCryptocurrency() {
+        return cryptocurrency;
+    }
+
+    public void setCryptocurrency(Cryptocurrency cryptocurrency) {
+        this.cryptocurrency = cryptocurrency;
+    }
+
+    public String getQuoteCurrency() {
+        return quoteCurrency;
+    }
+
+    public void setQuoteCurrency(String quoteCurrency) {
+        this.quoteCurrency = quoteCurrency;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceTick{" +
+                "cryptocurrency=" + cryptocurrency +
+                ", quoteCurrency='" + quoteCurrency + '\'' +
+                ", price=" + price +
+                ", timestamp=" + timestamp +
+                ", source='" + source + '\'' +
+                '}';
+    }
+}
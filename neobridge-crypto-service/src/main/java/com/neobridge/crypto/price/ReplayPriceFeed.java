@@ -0,0 +1,93 @@
+package com.neobridge.crypto.price;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Local stand-in for the crypto price topic. Replays recorded ticks from a CSV
+ * source ({@code timestamp,cryptocurrency,quote,price}, ISO-8601 timestamps,
+ * {@code #} comments) into a {@link PriceBoard}, either all at once or step by
+ * step. Timestamps are shifted so the last recorded tick lands at replay time.
+ */
+public class ReplayPriceFeed {
+
+    private final PriceBoard priceBoard;
+    private final List<PriceTick> ticks;
+    private int position;
+
+    public ReplayPriceFeed(PriceBoard priceBoard, List<PriceTick> ticks) {
+        this.priceBoard = priceBoard;
+        this.ticks = Collections.unmodifiableList(new ArrayList<>(ticks));
+    }
+
+    /**
+     * Parse recorded ticks from a CSV source.
+     */
+    public static List<PriceTick> read(Reader source) throws IOException {
+        List<PriceTick> ticks = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length < 4) {
+                    throw new IOException("Malformed price tick: " + line);
+                }
+                PriceTick tick = new PriceTick(Cryptocurrency.valueOf(fields[1].trim()), fields[2].trim(),
+                    new BigDecimal(fields[3].trim()), Instant.parse(fields[0].trim()));
+                tick.setSource("replay");
+                ticks.add(tick);
+            }
+        }
+        return ticks;
+    }
+
+    /**
+     * Replay every remaining tick.
+     */
+    public int replayAll() {
+        return replayNext(ticks.size() - position);
+    }
+
+    /**
+     * Replay the next {@code count} ticks.
+     */
+    public synchronized int replayNext(int count) {
+        int end = Math.min(ticks.size(), position + Math.max(0, count));
+        if (end == position) {
+            return 0;
+        }
+        long shift = System.currentTimeMillis() - ticks.get(ticks.size() - 1).getTimestamp().toEpochMilli();
+        for (PriceTick tick : ticks.subList(position, end)) {
+            PriceTick shifted = new PriceTick(tick.getCryptocurrency(), tick.getQuoteCurrency(), tick.getPrice(),
+                tick.getTimestamp().plusMillis(shift));
+            shifted.setSource(tick.getSource());
+            priceBoard.apply(shifted);
+        }
+        int replayed = end - position;
+        position = end;
+        return replayed;
+    }
+
+    /**
+     * Rewind to the first recorded tick.
+     */
+    public synchronized void rewind() {
+        position = 0;
+    }
+
+    public int remaining() {
+        return ticks.size() - position;
+    }
+}
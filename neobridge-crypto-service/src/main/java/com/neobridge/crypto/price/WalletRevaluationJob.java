@@ -0,0 +1,99 @@
+package com.neobridge.crypto.price;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persists wallet valuations from the price board in coalesced, throttled
+ * batches. Only cryptocurrencies whose price changed are revalued, each at most
+ * once per minimum interval with its latest price, in keyset-paged batches that
+ * commit independently so no transaction holds millions of row locks.
+ * Reads do not depend on this: responses value wallets from the live board.
+ */
+@Component
+public class WalletRevaluationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(WalletRevaluationJob.class);
+
+    private static final String REVALUE_BATCH_SQL =
+        "WITH batch AS (SELECT id FROM crypto_wallets WHERE cryptocurrency = ? AND deleted = false AND id > ? " +
+        "ORDER BY id LIMIT ?) " +
+        "UPDATE crypto_wallets w SET last_price_usd = ?, last_price_eur = ?, last_price_update = ?, " +
+        "fiat_value_usd = ROUND((w.balance + w.yield_balance + COALESCE(w.delegation_rewards, 0)) * ?, 4), " +
+        "fiat_value_eur = ROUND((w.balance + w.yield_balance + COALESCE(w.delegation_rewards, 0)) * ?, 4) " +
+        "FROM batch WHERE w.id = batch.id RETURNING w.id";
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    @Autowired
+    private PriceBoard priceBoard;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${neobridge.crypto.price.revaluation.min-interval:PT1M}")
+    private Duration minInterval;
+
+    @Value("${neobridge.crypto.price.revaluation.batch-size:5000}")
+    private int batchSize;
+
+    private final long[] lastRevaluedAt = new long[Cryptocurrency.values().length];
+
+    @Scheduled(fixedDelayString = "${neobridge.crypto.price.revaluation.interval:5000}")
+    public void revalue() {
+        long now = System.currentTimeMillis();
+        for (Cryptocurrency cryptocurrency : priceBoard.drainDirty()) {
+            int slot = cryptocurrency.ordinal();
+            PriceQuote quote = priceBoard.getQuote(cryptocurrency);
+            if (quote == null) {
+                continue; // nothing fresh to persist; the next tick flags it again
+            }
+            if (now - lastRevaluedAt[slot] < minInterval.toMillis()) {
+                priceBoard.markDirty(cryptocurrency);
+                continue;
+            }
+            try {
+                int wallets = revalue(quote);
+                lastRevaluedAt[slot] = now;
+                logger.debug("Revalued {} {} wallets at USD {} / EUR {}", wallets, cryptocurrency,
+                            quote.getPriceUsd(), quote.getPriceEur());
+            } catch (Exception e) {
+                priceBoard.markDirty(cryptocurrency);
+                logger.error("Revaluation of {} wallets failed: {}", cryptocurrency, e.getMessage(), e);
+            }
+        }
+    }
+
+    private int revalue(PriceQuote quote) {
+        Timestamp asOf = Timestamp.from(quote.getAsOf());
+        UUID after = MIN_ID;
+        int total = 0;
+        while (true) {
+            List<UUID> updated = jdbcTemplate.queryForList(REVALUE_BATCH_SQL, UUID.class,
+                quote.getCryptocurrency().name(), after, batchSize,
+                quote.getPriceUsd(), quote.getPriceEur(), asOf, quote.getPriceUsd(), quote.getPriceEur());
+            total += updated.size();
+            if (updated.size() < batchSize) {
+                return total;
+            }
+            after = updated.stream().max(WalletRevaluationJob::compareUnsigned).orElseThrow();
+        }
+    }
+
+    // PostgreSQL orders uuids byte-wise unsigned, unlike UUID.compareTo
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,190 @@
+package com.neobridge.crypto.staking;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.portfolio.WalletBalanceEvent;
+import com.neobridge.crypto.portfolio.WalletBalancePublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Distributes one epoch's staking rewards for one cryptocurrency without
+ * loading wallets. Every staker's {@code staked_balance} is snapshotted into
+ * {@code staking_rewards} in one statement. Rewards ({@code staked x rate})
+ * are then credited to {@code delegation_rewards} in keyset-ordered chunks, each
+ * a single statement that marks the ledger rows applied and updates the
+ * wallets, so every wallet is credited exactly once per epoch however often
+ * the run is retried. A lease on the epoch row keeps concurrent instances from
+ * working on the same epoch.
+ */
+@Service
+public class StakingRewardEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(StakingRewardEngine.class);
+
+    private static final int REWARD_SCALE = 18;
+
+    private static final String CREATE_EPOCH_SQL =
+        "INSERT INTO staking_epochs (cryptocurrency, epoch, rate, status, created_at) VALUES (?, ?, ?, 'SNAPSHOT', ?) " +
+        "ON CONFLICT (cryptocurrency, epoch) DO NOTHING";
+
+    private static final String CLAIM_EPOCH_SQL =
+        "UPDATE staking_epochs SET lease_owner = ?, lease_until = ? WHERE cryptocurrency = ? AND epoch = ? " +
+        "AND status <> 'COMPLETED' AND (lease_until IS NULL OR lease_until < ? OR lease_owner = ?) " +
+        "RETURNING status, rate";
+
+    private static final String SNAPSHOT_SQL =
+        "INSERT INTO staking_rewards (cryptocurrency, epoch, wallet_id, staked_balance, reward, applied) " +
+        "SELECT cryptocurrency, ?, id, staked_balance, 0, false FROM crypto_wallets " +
+        "WHERE cryptocurrency = ? AND staked_balance > 0 AND deleted = false AND status = 'ACTIVE' " +
+        "ON CONFLICT (cryptocurrency, epoch, wallet_id) DO NOTHING";
+
+    private static final String SNAPSHOT_TAKEN_SQL =
+        "UPDATE staking_epochs e SET status = 'APPLYING', wallets = s.wallets, total_staked = s.total_staked " +
+        "FROM (SELECT COUNT(*) AS wallets, COALESCE(SUM(staked_balance), 0) AS total_staked FROM staking_rewards " +
+        "WHERE cryptocurrency = ? AND epoch = ?) s WHERE e.cryptocurrency = ? AND e.epoch = ? AND e.lease_owner = ?";
+
+    // Marks a chunk applied and credits it in one statement; rows already applied are never selected again
+    private static final String APPLY_CHUNK_SQL =
+        "WITH chunk AS (SELECT wallet_id FROM staking_rewards WHERE cryptocurrency = ? AND epoch = ? " +
+        "AND applied = false AND wallet_id > ? ORDER BY wallet_id LIMIT ? FOR UPDATE), " +
+        "applied AS (UPDATE staking_rewards r SET applied = true, reward = ROUND(r.staked_balance * ?, " + REWARD_SCALE + ") " +
+        "FROM chunk c WHERE r.cryptocurrency = ? AND r.epoch = ? AND r.wallet_id = c.wallet_id " +
+        "RETURNING r.wallet_id, r.reward) " +
+        "UPDATE crypto_wallets w SET delegation_rewards = COALESCE(w.delegation_rewards, 0) + a.reward, " +
+        "updated_at = ?, version = w.version + 1 FROM applied a WHERE w.id = a.wallet_id " +
+        "RETURNING w.id, w.user_id, w.balance + w.yield_balance + COALESCE(w.delegation_rewards, 0), w.version";
+
+    private static final String LAST_WALLET_SQL =
+        "SELECT MAX(wallet_id) FROM staking_rewards WHERE cryptocurrency = ? AND epoch = ? AND applied = true";
+
+    private static final String RENEW_LEASE_SQL =
+        "UPDATE staking_epochs SET lease_until = ? WHERE cryptocurrency = ? AND epoch = ? AND lease_owner = ?";
+
+    private static final String COMPLETE_SQL =
+        "UPDATE staking_epochs e SET status = 'COMPLETED', completed_at = ?, lease_owner = NULL, lease_until = NULL, " +
+        "total_reward = (SELECT COALESCE(SUM(reward), 0) FROM staking_rewards WHERE cryptocurrency = ? AND epoch = ?) " +
+        "WHERE e.cryptocurrency = ? AND e.epoch = ? AND e.lease_owner = ? RETURNING total_reward";
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private WalletBalancePublisher walletBalancePublisher;
+
+    @Value("${neobridge.crypto.staking.rewards.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${neobridge.crypto.staking.rewards.lease:PT10M}")
+    private Duration lease;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * Distribute an epoch's rewards at {@code rate} per staked unit. The rate
+     * of the first attempt is kept for retries.
+     *
+     * @return wallets credited by this call, or -1 when the epoch is complete
+     *         or being distributed elsewhere
+     */
+    public int distribute(Cryptocurrency cryptocurrency, LocalDate epoch, BigDecimal rate) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Date epochDate = Date.valueOf(epoch);
+        String crypto = cryptocurrency.name();
+
+        Map<String, Object> claimed = tx.execute(status -> {
+            Timestamp now = now();
+            jdbcTemplate.update(CREATE_EPOCH_SQL, crypto, epochDate, rate, now);
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(CLAIM_EPOCH_SQL, instanceId, leaseUntil(),
+                                                                       crypto, epochDate, now, instanceId);
+            return rows.isEmpty() ? null : rows.get(0);
+        });
+        if (claimed == null) {
+            return -1;
+        }
+        BigDecimal epochRate = (BigDecimal) claimed.get("rate");
+
+        if ("SNAPSHOT".equals(claimed.get("status"))) {
+            int stakers = tx.execute(status -> {
+                int rows = jdbcTemplate.update(SNAPSHOT_SQL, epochDate, crypto);
+                jdbcTemplate.update(SNAPSHOT_TAKEN_SQL, crypto, epochDate, crypto, epochDate, instanceId);
+                return rows;
+            });
+            logger.info("Snapshotted {} {} stakers for epoch {}", stakers, cryptocurrency, epoch);
+        }
+
+        // Resume after the last applied wallet of an interrupted run
+        UUID resumeAfter = jdbcTemplate.queryForObject(LAST_WALLET_SQL, UUID.class, crypto, epochDate);
+        UUID after = resumeAfter != null ? resumeAfter : MIN_ID;
+        int credited = 0;
+        while (true) {
+            UUID from = after;
+            List<WalletBalanceEvent> events = tx.execute(status -> {
+                if (jdbcTemplate.update(RENEW_LEASE_SQL, leaseUntil(), crypto, epochDate, instanceId) == 0) {
+                    throw new IllegalStateException("Lost lease on " + cryptocurrency + " epoch " + epoch);
+                }
+                Timestamp now = now();
+                return jdbcTemplate.query(APPLY_CHUNK_SQL, (rs, rowNum) -> {
+                    WalletBalanceEvent event = new WalletBalanceEvent();
+                    event.setWalletId(rs.getObject(1, UUID.class));
+                    event.setUserId(rs.getObject(2, UUID.class));
+                    event.setCryptocurrency(cryptocurrency);
+                    event.setTotalBalance(rs.getBigDecimal(3));
+                    event.setVersion(rs.getLong(4));
+                    event.setOccurredAt(now.toInstant());
+                    return event;
+                }, crypto, epochDate, from, chunkSize, epochRate, crypto, epochDate, now);
+            });
+            if (events.isEmpty()) {
+                break;
+            }
+            for (WalletBalanceEvent event : events) {
+                walletBalancePublisher.publish(event);
+            }
+            credited += events.size();
+            after = events.stream().map(WalletBalanceEvent::getWalletId).max(StakingRewardEngine::compareUnsigned).orElseThrow();
+        }
+
+        BigDecimal totalReward = tx.execute(status -> jdbcTemplate.queryForObject(COMPLETE_SQL, BigDecimal.class, now(),
+            crypto, epochDate, crypto, epochDate, instanceId));
+        logger.info("Distributed {} {} staking rewards for epoch {} to {} wallets", totalReward, cryptocurrency, epoch,
+                   credited);
+        return credited;
+    }
+
+    private Timestamp leaseUntil() {
+        return Timestamp.from(Instant.now().plus(lease));
+    }
+
+    private static Timestamp now() {
+        return Timestamp.from(Instant.now());
+    }
+
+    // PostgreSQL orders uuids byte-wise unsigned, unlike UUID.compareTo
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
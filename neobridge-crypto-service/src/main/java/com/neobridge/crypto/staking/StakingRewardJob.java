@@ -0,0 +1,89 @@
+package com.neobridge.crypto.staking;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Distributes the previous day's staking rewards for every cryptocurrency
+ * with a configured APR, one cryptocurrency per worker since their wallets
+ * never overlap. Runs repeat harmlessly: completed epochs are skipped and
+ * interrupted ones resume where they stopped.
+ */
+@Component
+@ConditionalOnProperty(name = "neobridge.crypto.scheduling.staking_rewards.enabled", havingValue = "true", matchIfMissing = true)
+public class StakingRewardJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(StakingRewardJob.class);
+
+    private static final BigDecimal DAYS_PER_YEAR = BigDecimal.valueOf(365);
+
+    @Autowired
+    private StakingRewardEngine stakingRewardEngine;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${neobridge.crypto.staking.rewards.parallelism:4}")
+    private int parallelism;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${neobridge.crypto.scheduling.staking_rewards.cron:0 0 * * * *}")
+    public void distributeRewards() {
+        LocalDate epoch = LocalDate.now().minusDays(1);
+        List<Cryptocurrency> cryptocurrencies = new ArrayList<>();
+        List<Future<Integer>> results = new ArrayList<>();
+        for (Cryptocurrency cryptocurrency : Cryptocurrency.values()) {
+            BigDecimal apr = environment.getProperty("neobridge.crypto.staking." +
+                cryptocurrency.getDisplayName().toLowerCase(Locale.ROOT) + ".apr", BigDecimal.class);
+            if (apr == null || apr.signum() <= 0) {
+                continue;
+            }
+            BigDecimal rate = apr.divide(DAYS_PER_YEAR, MathContext.DECIMAL64);
+            cryptocurrencies.add(cryptocurrency);
+            results.add(executor.submit(() -> stakingRewardEngine.distribute(cryptocurrency, epoch, rate)));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                results.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                logger.error("Staking reward distribution for {} epoch {} failed: {}", cryptocurrencies.get(i), epoch,
+                            e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+}
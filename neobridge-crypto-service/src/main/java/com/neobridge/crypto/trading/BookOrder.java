@@ -0,0 +1,35 @@
+package com.neobridge.crypto.trading;
+
+import java.util.UUID;
+
+/**
+ * A limit order inside an {@link OrderBook}. Identity and wallets are final
+ * and may be read from any thread; the remaining quantity and the level links
+ * belong to the matching thread.
+ */
+final class BookOrder {
+
+    final UUID id;
+    final UUID userId;
+    final UUID baseWalletId;
+    final UUID quoteWalletId;
+    final OrderSide side;
+    final long price;
+    final long quantity;
+
+    long remaining;
+    PriceLevel level;
+    BookOrder prev;
+    BookOrder next;
+
+    BookOrder(UUID id, UUID userId, UUID baseWalletId, UUID quoteWalletId, OrderSide side, long price, long quantity) {
+        this.id = id;
+        this.userId = userId;
+        this.baseWalletId = baseWalletId;
+        this.quoteWalletId = quoteWalletId;
+        this.side = side;
+        this.price = price;
+        this.quantity = quantity;
+        this.remaining = quantity;
+    }
+}
@@ -0,0 +1,46 @@
+package com.neobridge.crypto.trading;
+
+/**
+ * Outcome of matching that has to be settled against wallets, numbered per
+ * trading pair. A {@code FILL} trades {@code quantity} between a buy and a
+ * sell order at {@code price}; a {@code RELEASE} returns the funds still
+ * locked by a cancelled order, which is the only non-null order.
+ */
+final class Execution {
+
+    enum Type {
+        FILL,
+        RELEASE
+    }
+
+    final long sequence;
+    final Type type;
+    final BookOrder buy;
+    final BookOrder sell;
+    final long price;
+    final long quantity;
+    final OrderSide takerSide;
+
+    private Execution(long sequence, Type type, BookOrder buy, BookOrder sell, long price, long quantity,
+                      OrderSide takerSide) {
+        this.sequence = sequence;
+        this.type = type;
+        this.buy = buy;
+        this.sell = sell;
+        this.price = price;
+        this.quantity = quantity;
+        this.takerSide = takerSide;
+    }
+
+    static Execution fill(long sequence, BookOrder taker, BookOrder maker, long quantity) {
+        boolean takerBuys = taker.side == OrderSide.BUY;
+        return new Execution(sequence, Type.FILL, takerBuys ? taker : maker, takerBuys ? maker : taker,
+                             maker.price, quantity, taker.side);
+    }
+
+    static Execution release(long sequence, BookOrder order) {
+        boolean buy = order.side == OrderSide.BUY;
+        return new Execution(sequence, Type.RELEASE, buy ? order : null, buy ? null : order,
+                             order.price, order.remaining, null);
+    }
+}
@@ -0,0 +1,188 @@
+package com.neobridge.crypto.trading;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs one trading pair's order book on a dedicated thread. Producers hand
+ * commands over through a lock-free queue; the matching thread is the only
+ * writer of the book and the journal. Each command is journaled before it
+ * is matched, and the executions of a burst of commands are passed on to
+ * settlement only once the journal has been forced to disk, so nothing is
+ * settled that a restart could not replay. A full journal is compacted
+ * without waiting for settlement; the journal keeps what a restart would
+ * still need until settlement has caught up.
+ */
+final class MatchingEngine implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchingEngine.class);
+
+    private static final int IDLE_SPINS = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final OrderBook book;
+    private final OrderJournal journal;
+    private final TradeSettlement settlement;
+    private final int maxBurst;
+    private final ConcurrentLinkedQueue<Command> inbound = new ConcurrentLinkedQueue<>();
+    private final Timer matchLatency;
+    private final Counter ordersMatched;
+
+    private volatile Thread thread;
+    private volatile boolean parked;
+    private volatile boolean running = true;
+
+    MatchingEngine(OrderBook book, OrderJournal journal, TradeSettlement settlement, int maxBurst,
+                   MeterRegistry meterRegistry) {
+        this.book = book;
+        this.journal = journal;
+        this.settlement = settlement;
+        this.maxBurst = maxBurst;
+        String pair = book.getPair().getSymbol();
+        this.matchLatency = Timer.builder("neobridge.trading.match.latency")
+            .description("Time from order submission until it has been matched")
+            .tag("pair", pair)
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .register(meterRegistry);
+        this.ordersMatched = Counter.builder("neobridge.trading.orders")
+            .tag("pair", pair)
+            .register(meterRegistry);
+    }
+
+    void place(BookOrder order) {
+        enqueue(new Command(order, order.id));
+    }
+
+    void cancel(UUID orderId) {
+        enqueue(new Command(null, orderId));
+    }
+
+    void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    private void enqueue(Command command) {
+        if (!running) {
+            throw new IllegalStateException("Matching engine for " + book.getPair() + " is stopped");
+        }
+        inbound.offer(command);
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        try {
+            loop(new ArrayList<>());
+        } catch (RuntimeException e) {
+            running = false;
+            logger.error("Matching engine for {} failed: {}", book.getPair(), e.getMessage(), e);
+        }
+        settlement.stop();
+        logger.info("Matching engine for {} stopped with {} resting orders", book.getPair(), book.size());
+    }
+
+    private void loop(List<Execution> executions) {
+        int burst = 0;
+        int idle = 0;
+        while (running || !inbound.isEmpty()) {
+            Command command = inbound.poll();
+            if (command == null) {
+                if (burst > 0) {
+                    executions = publish(executions);
+                    burst = 0;
+                } else if (++idle > IDLE_SPINS) {
+                    parked = true;
+                    if (inbound.isEmpty() && running) {
+                        LockSupport.parkNanos(PARK_NANOS);
+                    }
+                    parked = false;
+                } else {
+                    Thread.onSpinWait();
+                }
+                continue;
+            }
+            idle = 0;
+            if (!journal.hasRoom()) {
+                executions = publish(executions);
+                compact();
+            }
+            if (command.order != null) {
+                journal.appendPlace(command.order);
+                book.place(command.order, executions);
+                ordersMatched.increment();
+            } else {
+                journal.appendCancel(command.orderId);
+                book.cancel(command.orderId, executions);
+            }
+            matchLatency.record(System.nanoTime() - command.submittedAt, TimeUnit.NANOSECONDS);
+            if (++burst >= maxBurst) {
+                executions = publish(executions);
+                burst = 0;
+            }
+        }
+        publish(executions);
+    }
+
+    private List<Execution> publish(List<Execution> executions) {
+        journal.force();
+        release();
+        if (executions.isEmpty()) {
+            return executions;
+        }
+        settlement.submit(executions);
+        return new ArrayList<>();
+    }
+
+    /**
+     * Start a fresh journal from the resting orders. The full one is kept as a
+     * segment until its executions have been settled.
+     */
+    private void compact() {
+        try {
+            journal.compact(book.getExecutionSequence(), book::forEachResting);
+            logger.info("Compacted {} order journal to {} resting orders, {} segments awaiting settlement",
+                        book.getPair(), book.size(), journal.release(settlement.getSettledSequence()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compact order journal of " + book.getPair(), e);
+        }
+    }
+
+    private void release() {
+        try {
+            journal.release(settlement.getSettledSequence());
+        } catch (IOException e) {
+            // Retried on the next publish; a stale segment only costs disk and replay time
+            logger.warn("Failed to release {} order journal segment: {}", book.getPair(), e.getMessage());
+        }
+    }
+
+    private static final class Command {
+
+        private final BookOrder order;
+        private final UUID orderId;
+        private final long submittedAt = System.nanoTime();
+
+        private Command(BookOrder order, UUID orderId) {
+            this.order = order;
+            this.orderId = orderId;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.neobridge.crypto.trading;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Price-time priority limit order book of one trading pair. Not thread-safe:
+ * it is only touched by the pair's matching thread, which is what lets
+ * matching run without locks. An incoming order trades against the best
+ * opposite prices, oldest order first, at the resting order's price; any
+ * remainder rests. Given the same inputs in the same order the book produces
+ * the same executions, which is what journal replay relies on.
+ */
+final class OrderBook {
+
+    private final TradingPair pair;
+    private final TreeMap<Long, PriceLevel> bids = new TreeMap<>(Collections.reverseOrder());
+    private final TreeMap<Long, PriceLevel> asks = new TreeMap<>();
+    private final Map<UUID, BookOrder> orders = new HashMap<>();
+    private long executionSequence;
+
+    OrderBook(TradingPair pair, long executionSequence) {
+        this.pair = pair;
+        this.executionSequence = executionSequence;
+    }
+
+    /**
+     * Match an incoming order and rest its remainder. Ids already resting are ignored.
+     */
+    void place(BookOrder taker, List<Execution> executions) {
+        if (orders.containsKey(taker.id)) {
+            return;
+        }
+        boolean buy = taker.side == OrderSide.BUY;
+        TreeMap<Long, PriceLevel> opposite = buy ? asks : bids;
+        while (taker.remaining > 0 && !opposite.isEmpty()) {
+            PriceLevel best = opposite.firstEntry().getValue();
+            if (buy ? best.price > taker.price : best.price < taker.price) {
+                break;
+            }
+            BookOrder maker = best.head;
+            while (maker != null && taker.remaining > 0) {
+                long quantity = Math.min(maker.remaining, taker.remaining);
+                executions.add(Execution.fill(++executionSequence, taker, maker, quantity));
+                BookOrder next = maker.next;
+                if (quantity == maker.remaining) {
+                    best.remove(maker);
+                    orders.remove(maker.id);
+                    maker.remaining = 0;
+                } else {
+                    maker.remaining -= quantity;
+                    best.quantity -= quantity;
+                }
+                taker.remaining -= quantity;
+                maker = next;
+            }
+            if (best.isEmpty()) {
+                opposite.pollFirstEntry();
+            }
+        }
+        if (taker.remaining > 0) {
+            TreeMap<Long, PriceLevel> own = buy ? bids : asks;
+            PriceLevel level = own.get(taker.price);
+            if (level == null) {
+                level = new PriceLevel(taker.price);
+                own.put(taker.price, level);
+            }
+            level.add(taker);
+            orders.put(taker.id, taker);
+        }
+    }
+
+    /**
+     * Remove a resting order and release what it still locks.
+     *
+     * @return false when the order is not resting, e.g. already filled
+     */
+    boolean cancel(UUID orderId, List<Execution> executions) {
+        BookOrder order = orders.remove(orderId);
+        if (order == null) {
+            return false;
+        }
+        PriceLevel level = order.level;
+        level.remove(order);
+        if (level.isEmpty()) {
+            (order.side == OrderSide.BUY ? bids : asks).remove(level.price);
+        }
+        executions.add(Execution.release(++executionSequence, order));
+        return true;
+    }
+
+    boolean contains(UUID orderId) {
+        return orders.containsKey(orderId);
+    }
+
+    /**
+     * Visit resting orders so that re-placing them in visiting order rebuilds
+     * the same book: levels do not cross, and within a level oldest comes first.
+     */
+    void forEachResting(Consumer<BookOrder> consumer) {
+        for (PriceLevel level : bids.values()) {
+            for (BookOrder order = level.head; order != null; order = order.next) {
+                consumer.accept(order);
+            }
+        }
+        for (PriceLevel level : asks.values()) {
+            for (BookOrder order = level.head; order != null; order = order.next) {
+                consumer.accept(order);
+            }
+        }
+    }
+
+    int size() {
+        return orders.size();
+    }
+
+    long getExecutionSequence() {
+        return executionSequence;
+    }
+
+    TradingPair getPair() {
+        return pair;
+    }
+}
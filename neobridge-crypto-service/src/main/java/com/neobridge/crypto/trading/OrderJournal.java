@@ -0,0 +1,303 @@
+package com.neobridge.crypto.trading;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Write-ahead journal of one order book's inputs in a memory-mapped file of
+ * fixed capacity. Records have a fixed size and their type byte is written
+ * last, so a record cut short by a crash reads as the end of the journal.
+ * The header carries the execution sequence the first record continues from;
+ * {@link #compact} starts a new file holding just the resting orders.
+ *
+ * <p>Compaction does not wait for settlement. The full file is kept beside
+ * the new one as a numbered segment, and segments are replayed ahead of the
+ * current file until {@link #release} learns that every execution they
+ * produce has been settled. Replay rebuilds the book from the oldest segment
+ * and skips the resting-order snapshot at the head of each later file, since
+ * the book already holds those orders by then.
+ */
+final class OrderJournal implements Closeable {
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 96;
+
+    private static final int MAGIC = 0x4E424F4A;
+    private static final int VERSION = 1;
+
+    private static final byte PLACE = 1;
+    private static final byte CANCEL = 2;
+
+    private final Path file;
+    private final int capacity;
+    private final List<Segment> segments = new ArrayList<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long executionBase;
+    private int position;
+    private int forcedPosition;
+
+    /**
+     * Handler for replayed records.
+     */
+    interface Replay {
+
+        void place(BookOrder order);
+
+        void cancel(UUID orderId);
+    }
+
+    private OrderJournal(Path file, int capacity) {
+        this.file = file;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Open the journal, creating an empty one when the file does not exist.
+     * Call {@link #replay} before appending.
+     */
+    static OrderJournal open(Path file, int capacity) throws IOException {
+        OrderJournal journal = new OrderJournal(file, capacity);
+        Path tmp = tmpFile(file);
+        if (!Files.exists(file) && Files.exists(tmp)) {
+            // Stopped between retaining the full file and moving the compacted one in, which was synced first
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+        }
+        if (Files.exists(file)) {
+            journal.findSegments();
+            journal.map(file);
+            if (journal.buffer.getInt(0) != MAGIC || journal.buffer.getInt(4) != VERSION) {
+                journal.close();
+                throw new IOException("Not an order journal: " + file);
+            }
+            journal.executionBase = journal.buffer.getLong(8);
+        } else {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            writeEmpty(file, capacity, 0L).close();
+            journal.map(file);
+        }
+        journal.position = HEADER_SIZE;
+        return journal;
+    }
+
+    /**
+     * Feed every complete record of the retained segments and the current file
+     * to the handler and position the journal after the last one.
+     */
+    void replay(Replay handler) throws IOException {
+        boolean first = true;
+        for (Segment segment : segments) {
+            try (FileChannel segmentChannel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+                MappedByteBuffer records = segmentChannel.map(FileChannel.MapMode.READ_ONLY, 0, segmentChannel.size());
+                replay(records, first ? 0 : records.getInt(16), handler);
+            }
+            first = false;
+        }
+        int at = replay(buffer, first ? 0 : buffer.getInt(16), handler);
+        position = at;
+        forcedPosition = at;
+    }
+
+    private static int replay(ByteBuffer records, int skip, Replay handler) {
+        int at = HEADER_SIZE + skip * RECORD_SIZE;
+        while (at + RECORD_SIZE <= records.limit()) {
+            byte type = records.get(at);
+            if (type == PLACE) {
+                handler.place(readOrder(records, at));
+            } else if (type == CANCEL) {
+                handler.cancel(new UUID(records.getLong(at + 8), records.getLong(at + 16)));
+            } else {
+                break;
+            }
+            at += RECORD_SIZE;
+        }
+        return at;
+    }
+
+    boolean hasRoom() {
+        return position + RECORD_SIZE <= buffer.limit();
+    }
+
+    void appendPlace(BookOrder order) {
+        int at = position;
+        buffer.put(at + 1, (byte) order.side.ordinal());
+        putUuid(at + 8, order.id);
+        putUuid(at + 24, order.userId);
+        putUuid(at + 40, order.baseWalletId);
+        putUuid(at + 56, order.quoteWalletId);
+        buffer.putLong(at + 72, order.price);
+        buffer.putLong(at + 80, order.remaining);
+        buffer.put(at, PLACE);
+        position += RECORD_SIZE;
+    }
+
+    void appendCancel(UUID orderId) {
+        int at = position;
+        putUuid(at + 8, orderId);
+        buffer.put(at, CANCEL);
+        position += RECORD_SIZE;
+    }
+
+    /**
+     * Flush the records appended since the last call to the storage device.
+     */
+    void force() {
+        if (position > forcedPosition) {
+            buffer.force(forcedPosition, position - forcedPosition);
+            forcedPosition = position;
+        }
+    }
+
+    /**
+     * Continue in a new file holding only the given resting orders, starting
+     * from {@code executionSequence}. The new file is written and synced
+     * beside the current one, which is then kept as the newest segment.
+     */
+    void compact(long executionSequence, Consumer<Consumer<BookOrder>> resting) throws IOException {
+        Path tmp = tmpFile(file);
+        OrderJournal next = writeEmpty(tmp, capacity, executionSequence);
+        resting.accept(order -> {
+            if (!next.hasRoom()) {
+                throw new IllegalStateException("Resting orders exceed journal capacity of " + file);
+            }
+            next.appendPlace(order);
+        });
+        next.buffer.putInt(16, (next.position - HEADER_SIZE) / RECORD_SIZE);
+        next.force();
+        next.close();
+        close();
+        long number = segments.isEmpty() ? 1 : segments.get(segments.size() - 1).number + 1;
+        Path retained = file.resolveSibling(file.getFileName() + "." + number);
+        Files.move(file, retained, StandardCopyOption.ATOMIC_MOVE);
+        segments.add(new Segment(retained, number, executionBase));
+        Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+        map(file);
+        executionBase = executionSequence;
+        position = next.position;
+        forcedPosition = next.position;
+    }
+
+    /**
+     * Delete the oldest segments whose executions have all been settled,
+     * returning how many are still retained. A segment produces executions up
+     * to the base of the file after it, and only the oldest can go, so replay
+     * always starts from a complete book.
+     */
+    int release(long settledSequence) throws IOException {
+        while (!segments.isEmpty()) {
+            long end = segments.size() > 1 ? segments.get(1).executionBase : executionBase;
+            if (settledSequence < end) {
+                break;
+            }
+            Files.deleteIfExists(segments.get(0).path);
+            segments.remove(0);
+        }
+        return segments.size();
+    }
+
+    /**
+     * Execution sequence that replay continues from: the base of the oldest
+     * retained segment, or of the current file when none is retained.
+     */
+    long getExecutionBase() {
+        return segments.isEmpty() ? executionBase : segments.get(0).executionBase;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private static OrderJournal writeEmpty(Path file, int capacity, long executionBase) throws IOException {
+        OrderJournal journal = new OrderJournal(file, capacity);
+        Files.deleteIfExists(file);
+        journal.map(file);
+        journal.buffer.putInt(0, MAGIC);
+        journal.buffer.putInt(4, VERSION);
+        journal.buffer.putLong(8, executionBase);
+        journal.buffer.force(0, HEADER_SIZE);
+        journal.executionBase = executionBase;
+        journal.position = HEADER_SIZE;
+        return journal;
+    }
+
+    private void findSegments() throws IOException {
+        String prefix = file.getFileName() + ".";
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(file.toAbsolutePath().getParent(), prefix + "*")) {
+            for (Path path : stream) {
+                String suffix = path.getFileName().toString().substring(prefix.length());
+                if (suffix.isEmpty() || !suffix.chars().allMatch(Character::isDigit)) {
+                    continue;
+                }
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                try (FileChannel segmentChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    segmentChannel.read(header, 0);
+                }
+                if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                    throw new IOException("Not an order journal segment: " + path);
+                }
+                segments.add(new Segment(path, Long.parseLong(suffix), header.getLong(8)));
+            }
+        }
+        segments.sort(Comparator.comparingLong(segment -> segment.number));
+    }
+
+    private static Path tmpFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    private void map(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(channel.size(), HEADER_SIZE + (long) (capacity - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private static BookOrder readOrder(ByteBuffer buffer, int at) {
+        return new BookOrder(
+            new UUID(buffer.getLong(at + 8), buffer.getLong(at + 16)),
+            new UUID(buffer.getLong(at + 24), buffer.getLong(at + 32)),
+            new UUID(buffer.getLong(at + 40), buffer.getLong(at + 48)),
+            new UUID(buffer.getLong(at + 56), buffer.getLong(at + 64)),
+            buffer.get(at + 1) == 0 ? OrderSide.BUY : OrderSide.SELL,
+            buffer.getLong(at + 72),
+            buffer.getLong(at + 80));
+    }
+
+    private void putUuid(int at, UUID id) {
+        buffer.putLong(at, id.getMostSignificantBits());
+        buffer.putLong(at + 8, id.getLeastSignificantBits());
+    }
+
+    /**
+     * A compacted-away file kept until its executions have been settled.
+     */
+    private static final class Segment {
+
+        private final Path path;
+        private final long number;
+        private final long executionBase;
+
+        private Segment(Path path, long number, long executionBase) {
+            this.path = path;
+            this.number = number;
+            this.executionBase = executionBase;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.neobridge.crypto.trading;
+
+/**
+ * Side of an order; buyers pay the quote currency for the base currency.
+ */
+public enum OrderSide {
+    BUY,
+    SELL
+}
@@ -0,0 +1,52 @@
+package com.neobridge.crypto.trading;
+
+/**
+ * Orders resting at one price, oldest first, as an intrusive linked list so
+ * that cancelling from the middle is O(1).
+ */
+final class PriceLevel {
+
+    final long price;
+
+    BookOrder head;
+    BookOrder tail;
+    long quantity;
+
+    PriceLevel(long price) {
+        this.price = price;
+    }
+
+    void add(BookOrder order) {
+        order.level = this;
+        order.prev = tail;
+        order.next = null;
+        if (tail == null) {
+            head = order;
+        } else {
+            tail.next = order;
+        }
+        tail = order;
+        quantity += order.remaining;
+    }
+
+    void remove(BookOrder order) {
+        if (order.prev == null) {
+            head = order.next;
+        } else {
+            order.prev.next = order.next;
+        }
+        if (order.next == null) {
+            tail = order.prev;
+        } else {
+            order.next.prev = order.prev;
+        }
+        quantity -= order.remaining;
+        order.level = null;
+        order.prev = null;
+        order.next = null;
+    }
+
+    boolean isEmpty() {
+        return head == null;
+    }
+}
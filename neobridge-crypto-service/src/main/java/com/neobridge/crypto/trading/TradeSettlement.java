@@ -0,0 +1,260 @@
+package com.neobridge.crypto.trading;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.portfolio.WalletBalanceEvent;
+import com.neobridge.crypto.portfolio.WalletBalancePublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settles one trading pair's executions against wallets in batches, on its
+ * own thread so the matching thread never waits for the database. Each batch
+ * is one transaction: wallet deltas are summed per wallet and applied in
+ * ascending wallet id order, trades are recorded, order progress is updated
+ * and the pair's settled sequence advances, which is what makes replaying
+ * the journal after a crash settle every execution exactly once.
+ *
+ * <p>Per fill of {@code q} at price {@code p}, for a buy order limited at {@code l}:
+ * the buyer's quote wallet unlocks {@code l*q} and is debited {@code p*q}, the
+ * buyer's base wallet is credited {@code q}, the seller's base wallet unlocks
+ * and is debited {@code q} and the seller's quote wallet is credited {@code p*q}.
+ */
+final class TradeSettlement implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TradeSettlement.class);
+
+    private static final String UPDATE_WALLET_SQL =
+        "UPDATE crypto_wallets SET balance = balance + ?, available_balance = available_balance + ?, " +
+        "locked_balance = locked_balance + ?, transaction_count = transaction_count + ?, " +
+        "last_transaction_date = CASE WHEN ? > 0 THEN ? ELSE last_transaction_date END, updated_at = ?, " +
+        "version = version + 1 WHERE id = ?";
+
+    private static final String SELECT_BALANCES_SQL =
+        "SELECT id, user_id, cryptocurrency, balance + yield_balance + COALESCE(delegation_rewards, 0), version " +
+        "FROM crypto_wallets WHERE id IN (%s)";
+
+    private static final String INSERT_TRADE_SQL =
+        "INSERT INTO trading_trades (pair, sequence, buy_order_id, sell_order_id, price, quantity, taker_side, executed_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (pair, sequence) DO NOTHING";
+
+    private static final String UPDATE_ORDER_SQL =
+        "UPDATE trading_orders SET filled_quantity = filled_quantity + ?, status = CASE WHEN ? THEN 'CANCELLED' " +
+        "WHEN filled_quantity + ? >= quantity THEN 'FILLED' ELSE 'PARTIALLY_FILLED' END, updated_at = ? WHERE id = ?";
+
+    private static final String ADVANCE_SQL =
+        "INSERT INTO trading_settlements (pair, settled_sequence, updated_at) VALUES (?, ?, ?) " +
+        "ON CONFLICT (pair) DO UPDATE SET settled_sequence = EXCLUDED.settled_sequence, updated_at = EXCLUDED.updated_at " +
+        "WHERE trading_settlements.settled_sequence < EXCLUDED.settled_sequence";
+
+    private static final long RETRY_MILLIS = 1000;
+
+    private final TradingPair pair;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WalletBalancePublisher walletBalancePublisher;
+    private final int maxBatch;
+    private final BlockingQueue<List<Execution>> queue = new LinkedBlockingQueue<>();
+
+    private volatile long settledSequence;
+    private volatile boolean running = true;
+
+    TradeSettlement(TradingPair pair, long settledSequence, JdbcTemplate jdbcTemplate,
+                    TransactionTemplate transactionTemplate, WalletBalancePublisher walletBalancePublisher, int maxBatch) {
+        this.pair = pair;
+        this.settledSequence = settledSequence;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.walletBalancePublisher = walletBalancePublisher;
+        this.maxBatch = maxBatch;
+    }
+
+    /**
+     * Queue executions for settlement; they must already be durable in the journal.
+     */
+    void submit(List<Execution> executions) {
+        queue.add(executions);
+    }
+
+    long getSettledSequence() {
+        return settledSequence;
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        List<Execution> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                List<Execution> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.addAll(first);
+                List<Execution> more;
+                while (batch.size() < maxBatch && (more = queue.poll()) != null) {
+                    batch.addAll(more);
+                }
+                settleWithRetry(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void settleWithRetry(List<Execution> batch) throws InterruptedException {
+        while (true) {
+            try {
+                settle(batch);
+                return;
+            } catch (Exception e) {
+                // Executions are already matched and journaled; they can only be settled, never dropped
+                logger.error("Settling {} {} executions failed, retrying: {}", batch.size(), pair, e.getMessage(), e);
+                Thread.sleep(RETRY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Settle executions in one transaction, skipping those settled before.
+     */
+    void settle(List<Execution> executions) {
+        long settled = settledSequence;
+        List<Execution> pending = new ArrayList<>(executions.size());
+        for (Execution execution : executions) {
+            if (execution.sequence > settled) {
+                pending.add(execution);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, WalletDelta> wallets = new TreeMap<>();
+        Map<UUID, OrderDelta> orders = new HashMap<>();
+        List<Object[]> trades = new ArrayList<>();
+        Timestamp now = Timestamp.from(Instant.now());
+        for (Execution execution : pending) {
+            BigDecimal quantity = pair.quantity(execution.quantity);
+            if (execution.type == Execution.Type.FILL) {
+                BigDecimal notional = pair.notional(execution.price, execution.quantity);
+                BigDecimal reserved = pair.notional(execution.buy.price, execution.quantity);
+                delta(wallets, execution.buy.quoteWalletId).apply(notional.negate(), reserved.subtract(notional), reserved.negate(), 1);
+                delta(wallets, execution.buy.baseWalletId).apply(quantity, quantity, BigDecimal.ZERO, 1);
+                delta(wallets, execution.sell.baseWalletId).apply(quantity.negate(), BigDecimal.ZERO, quantity.negate(), 1);
+                delta(wallets, execution.sell.quoteWalletId).apply(notional, notional, BigDecimal.ZERO, 1);
+                orders.computeIfAbsent(execution.buy.id, id -> new OrderDelta()).filled(quantity);
+                orders.computeIfAbsent(execution.sell.id, id -> new OrderDelta()).filled(quantity);
+                trades.add(new Object[] {
+                    pair.getSymbol(), execution.sequence, execution.buy.id, execution.sell.id,
+                    pair.price(execution.price), quantity, execution.takerSide.name(), now
+                });
+            } else if (execution.buy != null) {
+                BigDecimal reserved = pair.notional(execution.price, execution.quantity);
+                delta(wallets, execution.buy.quoteWalletId).apply(BigDecimal.ZERO, reserved, reserved.negate(), 0);
+                orders.computeIfAbsent(execution.buy.id, id -> new OrderDelta()).cancelled = true;
+            } else {
+                delta(wallets, execution.sell.baseWalletId).apply(BigDecimal.ZERO, quantity, quantity.negate(), 0);
+                orders.computeIfAbsent(execution.sell.id, id -> new OrderDelta()).cancelled = true;
+            }
+        }
+
+        List<Object[]> walletRows = new ArrayList<>(wallets.size());
+        for (Map.Entry<UUID, WalletDelta> entry : wallets.entrySet()) {
+            WalletDelta delta = entry.getValue();
+            walletRows.add(new Object[] {
+                delta.balance, delta.available, delta.locked, delta.transactions, delta.transactions, now, now, entry.getKey()
+            });
+        }
+        List<Object[]> orderRows = new ArrayList<>(orders.size());
+        for (Map.Entry<UUID, OrderDelta> entry : orders.entrySet()) {
+            OrderDelta delta = entry.getValue();
+            orderRows.add(new Object[] {delta.filled, delta.cancelled, delta.filled, now, entry.getKey()});
+        }
+        long last = pending.get(pending.size() - 1).sequence;
+
+        List<WalletBalanceEvent> events = transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_WALLET_SQL, walletRows);
+            if (!trades.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_TRADE_SQL, trades);
+            }
+            jdbcTemplate.batchUpdate(UPDATE_ORDER_SQL, orderRows);
+            jdbcTemplate.update(ADVANCE_SQL, pair.getSymbol(), last, now);
+            return balances(wallets.keySet());
+        });
+        settledSequence = last;
+
+        for (WalletBalanceEvent event : events) {
+            walletBalancePublisher.publish(event);
+        }
+        logger.debug("Settled {} {} executions up to {}", pending.size(), pair, last);
+    }
+
+    private List<WalletBalanceEvent> balances(Iterable<UUID> walletIds) {
+        List<Object> args = new ArrayList<>();
+        for (UUID walletId : walletIds) {
+            args.add(walletId);
+        }
+        String sql = String.format(SELECT_BALANCES_SQL, String.join(", ", Collections.nCopies(args.size(), "?")));
+        Instant now = Instant.now();
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            WalletBalanceEvent event = new WalletBalanceEvent();
+            event.setWalletId(rs.getObject(1, UUID.class));
+            event.setUserId(rs.getObject(2, UUID.class));
+            event.setCryptocurrency(Cryptocurrency.valueOf(rs.getString(3)));
+            event.setTotalBalance(rs.getBigDecimal(4));
+            event.setVersion(rs.getLong(5));
+            event.setOccurredAt(now);
+            return event;
+        }, args.toArray());
+    }
+
+    private static WalletDelta delta(Map<UUID, WalletDelta> wallets, UUID walletId) {
+        return wallets.computeIfAbsent(walletId, id -> new WalletDelta());
+    }
+
+    private static final class WalletDelta {
+
+        private BigDecimal balance = BigDecimal.ZERO;
+        private BigDecimal available = BigDecimal.ZERO;
+        private BigDecimal locked = BigDecimal.ZERO;
+        private int transactions;
+
+        private void apply(BigDecimal balance, BigDecimal available, BigDecimal locked, int transactions) {
+            this.balance = this.balance.add(balance);
+            this.available = this.available.add(available);
+            this.locked = this.locked.add(locked);
+            this.transactions += transactions;
+        }
+    }
+
+    private static final class OrderDelta {
+
+        private BigDecimal filled = BigDecimal.ZERO;
+        private boolean cancelled;
+
+        private void filled(BigDecimal quantity) {
+            filled = filled.add(quantity);
+        }
+    }
+}
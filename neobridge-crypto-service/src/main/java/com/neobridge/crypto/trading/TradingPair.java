@@ -0,0 +1,109 @@
+package com.neobridge.crypto.trading;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * A market such as {@code ETH-USDT}: the base currency is traded, prices are
+ * quoted in the quote currency. The engine works on prices in ticks and
+ * quantities in lots, i.e. amounts scaled to {@code priceScale} and
+ * {@code quantityScale} decimals as longs.
+ */
+public final class TradingPair {
+
+    // crypto_wallets balances carry 18 decimals
+    private static final int MAX_NOTIONAL_SCALE = 18;
+
+    private final String symbol;
+    private final Cryptocurrency base;
+    private final Cryptocurrency quote;
+    private final int priceScale;
+    private final int quantityScale;
+
+    public TradingPair(Cryptocurrency base, Cryptocurrency quote, int priceScale, int quantityScale) {
+        if (base == quote) {
+            throw new IllegalArgumentException("Trading pair needs two different currencies: " + base);
+        }
+        if (priceScale < 0 || quantityScale < 0 || priceScale + quantityScale > MAX_NOTIONAL_SCALE) {
+            throw new IllegalArgumentException("Price and quantity scales must add up to at most " + MAX_NOTIONAL_SCALE);
+        }
+        this.symbol = base.name() + "-" + quote.name();
+        this.base = base;
+        this.quote = quote;
+        this.priceScale = priceScale;
+        this.quantityScale = quantityScale;
+    }
+
+    /**
+     * Parse a {@code BASE-QUOTE} symbol.
+     */
+    public static TradingPair parse(String symbol, int priceScale, int quantityScale) {
+        String[] parts = symbol.trim().toUpperCase(Locale.ROOT).split("-");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid trading pair: " + symbol);
+        }
+        return new TradingPair(Cryptocurrency.valueOf(parts[0]), Cryptocurrency.valueOf(parts[1]),
+                               priceScale, quantityScale);
+    }
+
+    public long toTicks(BigDecimal price) {
+        return toUnits(price, priceScale, "Price");
+    }
+
+    public long toLots(BigDecimal quantity) {
+        return toUnits(quantity, quantityScale, "Quantity");
+    }
+
+    public BigDecimal price(long ticks) {
+        return BigDecimal.valueOf(ticks, priceScale);
+    }
+
+    public BigDecimal quantity(long lots) {
+        return BigDecimal.valueOf(lots, quantityScale);
+    }
+
+    /**
+     * Quote currency amount of {@code lots} at {@code ticks}, exact.
+     */
+    public BigDecimal notional(long ticks, long lots) {
+        return price(ticks).multiply(quantity(lots));
+    }
+
+    private static long toUnits(BigDecimal amount, int scale, String name) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        try {
+            return amount.movePointRight(scale).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(name + " must have at most " + scale + " decimals: " + amount);
+        }
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public Cryptocurrency getBase() {
+        return base;
+    }
+
+    public Cryptocurrency getQuote() {
+        return quote;
+    }
+
+    public int getPriceScale() {
+        return priceScale;
+    }
+
+    public int getQuantityScale() {
+        return quantityScale;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -0,0 +1,359 @@
+package com.neobridge.crypto.trading;
+
+import com.neobridge.crypto.dto.CryptoOrderRequest;
+import com.neobridge.crypto.portfolio.WalletBalancePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Internal order matching for the configured trading pairs. Placing an order
+ * locks the funds it may spend and records it in one transaction, then hands
+ * it to the pair's {@link MatchingEngine}; fills are settled asynchronously by
+ * {@link TradeSettlement}. Each pair's book lives in memory on a single
+ * instance, so matching is enabled on exactly one instance.
+ *
+ * <p>On startup the journal is replayed to rebuild each book, executions not
+ * yet settled are settled, and orders that were recorded but never reached
+ * the journal are rejected and their funds released.
+ */
+@Service
+public class TradingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TradingService.class);
+
+    private static final String LOCK_FUNDS_SQL =
+        "UPDATE crypto_wallets SET available_balance = available_balance - ?, locked_balance = locked_balance + ?, " +
+        "updated_at = ?, version = version + 1 WHERE id = ? AND user_id = ? AND cryptocurrency = ? " +
+        "AND status = 'ACTIVE' AND deleted = false AND available_balance >= ?";
+
+    private static final String WALLET_OWNED_SQL =
+        "SELECT COUNT(*) FROM crypto_wallets WHERE id = ? AND user_id = ? AND cryptocurrency = ? " +
+        "AND status = 'ACTIVE' AND deleted = false";
+
+    private static final String INSERT_ORDER_SQL =
+        "INSERT INTO trading_orders (id, user_id, pair, side, price, quantity, filled_quantity, status, " +
+        "base_wallet_id, quote_wallet_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, 'OPEN', ?, ?, ?, ?)";
+
+    private static final String SELECT_ORDER_SQL =
+        "SELECT id, user_id, pair, side, price, quantity, filled_quantity, status, created_at, updated_at " +
+        "FROM trading_orders WHERE id = ?";
+
+    private static final String SETTLED_SQL =
+        "SELECT settled_sequence FROM trading_settlements WHERE pair = ?";
+
+    private static final String OPEN_ORDERS_SQL =
+        "SELECT id, side, price, quantity - filled_quantity, base_wallet_id, quote_wallet_id FROM trading_orders " +
+        "WHERE pair = ? AND status IN ('OPEN', 'PARTIALLY_FILLED')";
+
+    private static final String RELEASE_FUNDS_SQL =
+        "UPDATE crypto_wallets SET available_balance = available_balance + ?, locked_balance = locked_balance - ?, " +
+        "updated_at = ?, version = version + 1 WHERE id = ?";
+
+    private static final String REJECT_ORDER_SQL =
+        "UPDATE trading_orders SET status = 'REJECTED', updated_at = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private WalletBalancePublisher walletBalancePublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${neobridge.crypto.trading.enabled:false}")
+    private boolean enabled;
+
+    @Value("${neobridge.crypto.trading.pairs:}")
+    private List<String> pairSymbols;
+
+    @Value("${neobridge.crypto.trading.price-scale:2}")
+    private int defaultPriceScale;
+
+    @Value("${neobridge.crypto.trading.quantity-scale:8}")
+    private int defaultQuantityScale;
+
+    @Value("${neobridge.crypto.trading.journal-dir:data/trading}")
+    private String journalDir;
+
+    @Value("${neobridge.crypto.trading.journal-size:67108864}")
+    private int journalSize;
+
+    @Value("${neobridge.crypto.trading.max-burst:256}")
+    private int maxBurst;
+
+    @Value("${neobridge.crypto.trading.settlement-batch:1000}")
+    private int settlementBatch;
+
+    private final Map<String, Market> markets = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        for (String symbol : pairSymbols) {
+            if (symbol.isBlank()) {
+                continue;
+            }
+            String key = symbol.trim().toLowerCase(Locale.ROOT);
+            TradingPair pair = TradingPair.parse(symbol,
+                environment.getProperty("neobridge.crypto.trading." + key + ".price-scale", Integer.class, defaultPriceScale),
+                environment.getProperty("neobridge.crypto.trading." + key + ".quantity-scale", Integer.class, defaultQuantityScale));
+            try {
+                markets.put(pair.getSymbol(), open(pair));
+            } catch (Exception e) {
+                logger.error("Failed to open trading pair {}: {}", pair, e.getMessage(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Market market : markets.values()) {
+            market.engine.stop();
+        }
+        for (Market market : markets.values()) {
+            try {
+                market.engineThread.join();
+                market.settlementThread.join();
+                market.journal.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                logger.warn("Failed to close {} order journal: {}", market.pair, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Lock the order's funds, record it and submit it for matching.
+     */
+    public TradingOrder placeOrder(CryptoOrderRequest request) {
+        Market market = market(request.getPair());
+        TradingPair pair = market.pair;
+        long price = pair.toTicks(request.getPrice());
+        long quantity = pair.toLots(request.getQuantity());
+        boolean buy = request.getSide() == OrderSide.BUY;
+
+        // Buyers lock the quote amount at their limit, sellers the base quantity
+        BigDecimal lockAmount = buy ? pair.notional(price, quantity) : pair.quantity(quantity);
+        UUID lockWallet = buy ? request.getQuoteWalletId() : request.getBaseWalletId();
+        UUID receiveWallet = buy ? request.getBaseWalletId() : request.getQuoteWalletId();
+        String lockCurrency = (buy ? pair.getQuote() : pair.getBase()).name();
+        String receiveCurrency = (buy ? pair.getBase() : pair.getQuote()).name();
+
+        UUID orderId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        transactionTemplate().executeWithoutResult(status -> {
+            Integer owned = jdbcTemplate.queryForObject(WALLET_OWNED_SQL, Integer.class,
+                                                        receiveWallet, request.getUserId(), receiveCurrency);
+            if (owned == null || owned == 0) {
+                throw new IllegalArgumentException("No active " + receiveCurrency + " wallet " + receiveWallet +
+                                                   " for user " + request.getUserId());
+            }
+            int locked = jdbcTemplate.update(LOCK_FUNDS_SQL, lockAmount, lockAmount, timestamp, lockWallet,
+                                             request.getUserId(), lockCurrency, lockAmount);
+            if (locked == 0) {
+                throw new IllegalStateException("Insufficient available " + lockCurrency + " in wallet " + lockWallet +
+                                                " for order of " + lockAmount);
+            }
+            jdbcTemplate.update(INSERT_ORDER_SQL, orderId, request.getUserId(), pair.getSymbol(), request.getSide().name(),
+                                pair.price(price), pair.quantity(quantity), request.getBaseWalletId(),
+                                request.getQuoteWalletId(), timestamp, timestamp);
+        });
+
+        market.engine.place(new BookOrder(orderId, request.getUserId(), request.getBaseWalletId(),
+                                          request.getQuoteWalletId(), request.getSide(), price, quantity));
+        logger.debug("Placed {} {} {} at {} as order {}", request.getSide(), pair.quantity(quantity), pair,
+                     pair.price(price), orderId);
+
+        TradingOrder order = new TradingOrder();
+        order.setId(orderId);
+        order.setUserId(request.getUserId());
+        order.setPair(pair.getSymbol());
+        order.setSide(request.getSide());
+        order.setPrice(pair.price(price));
+        order.setQuantity(pair.quantity(quantity));
+        order.setFilledQuantity(BigDecimal.ZERO);
+        order.setStatus("OPEN");
+        order.setCreatedAt(now);
+        order.setUpdatedAt(now);
+        return order;
+    }
+
+    /**
+     * Request cancellation of a user's order. The remainder is released once
+     * the cancellation has been matched and settled.
+     */
+    public TradingOrder cancelOrder(UUID orderId, UUID userId) {
+        TradingOrder order = getOrder(orderId);
+        if (!order.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("Order not found: " + orderId);
+        }
+        if (!"OPEN".equals(order.getStatus()) && !"PARTIALLY_FILLED".equals(order.getStatus())) {
+            throw new IllegalStateException("Order " + orderId + " is already " + order.getStatus());
+        }
+        market(order.getPair()).engine.cancel(orderId);
+        return order;
+    }
+
+    public TradingOrder getOrder(UUID orderId) {
+        try {
+            return jdbcTemplate.queryForObject(SELECT_ORDER_SQL, (rs, rowNum) -> mapOrder(rs), orderId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new IllegalArgumentException("Order not found: " + orderId);
+        }
+    }
+
+    private Market market(String symbol) {
+        if (!enabled) {
+            throw new IllegalStateException("Internal trading is not enabled on this instance");
+        }
+        Market market = markets.get(symbol.trim().toUpperCase(Locale.ROOT));
+        if (market == null) {
+            throw new IllegalArgumentException("Unknown trading pair: " + symbol);
+        }
+        return market;
+    }
+
+    private Market open(TradingPair pair) throws IOException {
+        TransactionTemplate tx = transactionTemplate();
+        List<Long> settled = jdbcTemplate.queryForList(SETTLED_SQL, Long.class, pair.getSymbol());
+        TradeSettlement settlement = new TradeSettlement(pair, settled.isEmpty() ? 0L : settled.get(0), jdbcTemplate,
+                                                         tx, walletBalancePublisher, settlementBatch);
+
+        OrderJournal journal = OrderJournal.open(Path.of(journalDir, pair.getSymbol() + ".journal"), journalSize);
+        OrderBook book = new OrderBook(pair, journal.getExecutionBase());
+        List<Execution> executions = new ArrayList<>();
+        journal.replay(new OrderJournal.Replay() {
+            @Override
+            public void place(BookOrder order) {
+                book.place(order, executions);
+            }
+
+            @Override
+            public void cancel(UUID orderId) {
+                book.cancel(orderId, executions);
+            }
+        });
+        for (int from = 0; from < executions.size(); from += settlementBatch) {
+            settlement.settle(executions.subList(from, Math.min(executions.size(), from + settlementBatch)));
+        }
+        journal.compact(book.getExecutionSequence(), book::forEachResting);
+        journal.release(settlement.getSettledSequence());
+        int rejected = rejectUnjournaled(pair, book);
+
+        MatchingEngine engine = new MatchingEngine(book, journal, settlement, maxBurst, meterRegistry);
+        Market market = new Market(pair, engine, journal, new Thread(engine, "matching-" + pair.getSymbol()),
+                                   new Thread(settlement, "settlement-" + pair.getSymbol()));
+        market.settlementThread.start();
+        market.engineThread.start();
+        logger.info("Opened trading pair {} with {} resting orders after replaying {} executions, rejected {}",
+                   pair, book.size(), executions.size(), rejected);
+        return market;
+    }
+
+    /**
+     * Reject orders that were recorded but never journaled, releasing their funds.
+     */
+    private int rejectUnjournaled(TradingPair pair, OrderBook book) {
+        return transactionTemplate().execute(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> releases = new ArrayList<>();
+            List<Object[]> rejects = new ArrayList<>();
+            jdbcTemplate.query(OPEN_ORDERS_SQL, rs -> {
+                UUID orderId = rs.getObject(1, UUID.class);
+                if (book.contains(orderId)) {
+                    return;
+                }
+                boolean buy = OrderSide.valueOf(rs.getString(2)) == OrderSide.BUY;
+                BigDecimal remaining = rs.getBigDecimal(4);
+                BigDecimal amount = buy ? rs.getBigDecimal(3).multiply(remaining) : remaining;
+                UUID wallet = rs.getObject(buy ? 6 : 5, UUID.class);
+                releases.add(new Object[] {amount, amount, now, wallet});
+                rejects.add(new Object[] {now, orderId});
+            }, pair.getSymbol());
+            if (!rejects.isEmpty()) {
+                jdbcTemplate.batchUpdate(RELEASE_FUNDS_SQL, releases);
+                jdbcTemplate.batchUpdate(REJECT_ORDER_SQL, rejects);
+                logger.warn("Rejected {} {} orders that never reached the order journal", rejects.size(), pair);
+            }
+            return rejects.size();
+        });
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tx;
+    }
+
+    private static TradingOrder mapOrder(ResultSet rs) throws SQLException {
+        TradingOrder order = new TradingOrder();
+        order.setId(rs.getObject(1, UUID.class));
+        order.setUserId(rs.getObject(2, UUID.class));
+        order.setPair(rs.getString(3));
+        order.setSide(OrderSide.valueOf(rs.getString(4)));
+        order.setPrice(rs.getBigDecimal(5));
+        order.setQuantity(rs.getBigDecimal(6));
+        order.setFilledQuantity(rs.getBigDecimal(7));
+        order.setStatus(rs.getString(8));
+        order.setCreatedAt(rs.getTimestamp(9).toLocalDateTime());
+        order.setUpdatedAt(rs.getTimestamp(10).toLocalDateTime());
+        return order;
+    }
+
+    private static final class Market {
+
+        private final TradingPair pair;
+        private final MatchingEngine engine;
+        private final OrderJournal journal;
+        private final Thread engineThread;
+        private final Thread settlementThread;
+
+        private Market(TradingPair pair, MatchingEngine engine, OrderJournal journal, Thread engineThread,
+                       Thread settlementThread) {
+            this.pair = pair;
+            this.engine = engine;
+            this.journal = journal;
+            this.engineThread = engineThread;
+            this.settlementThread = settlementThread;
+        }
+    }
+}
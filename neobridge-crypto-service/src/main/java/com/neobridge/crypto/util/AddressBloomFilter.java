@@ -0,0 +1,121 @@
+package com.neobridge.crypto.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over wallet addresses. Answers "definitely not ours" for almost
+ * every foreign address without touching the exact set behind it. Sized for an
+ * expected number of addresses and false-positive rate; bits are set
+ * atomically, so addresses can be added while other threads query.
+ *
+ * <p>The filter is blocked: all of an address's bits fall in one 512-bit
+ * block, a single cache line, so a lookup costs one cache miss however many
+ * bits it probes. Bit positions within the block are independent 9-bit
+ * slices of a mixed hash. Blocks fill unevenly, which raises the
+ * false-positive rate, so the filter is sized for a third of the configured
+ * rate at the cost of about a sixth more bits.
+ */
+public final class AddressBloomFilter {
+
+    private static final int BLOCK_BITS = 512;
+    private static final int BLOCK_WORDS = BLOCK_BITS / Long.SIZE;
+    private static final int BIT_INDEX_BITS = 9;
+    private static final int PROBES_PER_WORD = Long.SIZE / BIT_INDEX_BITS;
+    // Beyond this many bits per address a block fills faster than it discriminates
+    private static final int MAX_HASHES = 8;
+    private static final double BLOCKING_PENALTY = 3;
+
+    private final AtomicLongArray words;
+    private final long blockCount;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+
+    public AddressBloomFilter(long expectedAddresses, double falsePositiveRate) {
+        long expected = Math.max(1, expectedAddresses);
+        double rate = falsePositiveRate / BLOCKING_PENALTY;
+        long bits = (long) Math.ceil(-expected * Math.log(rate) / (Math.log(2) * Math.log(2)));
+        long blocks = Math.min((Integer.MAX_VALUE - 8) / BLOCK_WORDS, Math.max(1, (bits + BLOCK_BITS - 1) / BLOCK_BITS));
+        this.words = new AtomicLongArray((int) blocks * BLOCK_WORDS);
+        this.blockCount = blocks;
+        this.bitCount = blocks * BLOCK_BITS;
+        this.hashCount = Math.max(1, Math.min(MAX_HASHES, (int) Math.round((double) bitCount / expected * Math.log(2))));
+        this.capacity = expected;
+    }
+
+    public void put(String address) {
+        long hash = hash64(address);
+        int base = block(hash);
+        long seed = hash ^ 0x9E3779B97F4A7C15L;
+        long probe = 0;
+        for (int i = 0; i < hashCount; i++) {
+            if (i % PROBES_PER_WORD == 0) {
+                seed = mix(seed);
+                probe = seed;
+            }
+            int bit = (int) probe & (BLOCK_BITS - 1);
+            probe >>>= BIT_INDEX_BITS;
+            int word = base + (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String address) {
+        long hash = hash64(address);
+        int base = block(hash);
+        long seed = hash ^ 0x9E3779B97F4A7C15L;
+        long probe = 0;
+        for (int i = 0; i < hashCount; i++) {
+            if (i % PROBES_PER_WORD == 0) {
+                seed = mix(seed);
+                probe = seed;
+            }
+            int bit = (int) probe & (BLOCK_BITS - 1);
+            probe >>>= BIT_INDEX_BITS;
+            if ((words.get(base + (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of addresses the filter was sized for; beyond it the
+     * false-positive rate degrades and the filter should be rebuilt larger.
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getSizeInBytes() {
+        return bitCount >>> 3;
+    }
+
+    // First word of the address's block; maps the hash's top 32 bits onto the blocks without a division
+    private int block(long hash) {
+        return (int) ((hash >>> 32) * blockCount >>> 32) * BLOCK_WORDS;
+    }
+
+    // FNV-1a over the UTF-16 chars, finished with a 64-bit avalanche
+    static long hash64(String address) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < address.length(); i++) {
+            hash ^= address.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,187 @@
+package com.neobridge.crypto.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * Compact map from wallet address to wallet id with a 16-bit tag, for tens
+ * of millions of addresses. Addresses are not stored: each is reduced to a
+ * 111-bit SHA-256 fingerprint, and an entry is four longs in one flat
+ * open-addressing array (fingerprint, wallet id) with the tag in spare
+ * fingerprint bits, i.e. 32 bytes per slot and no objects per entry. The
+ * fingerprint is cryptographic so that nobody can craft a foreign address
+ * that passes for one of ours.
+ *
+ * <p>Writers are serialised; readers never lock. A slot's first word is
+ * written last with release semantics and read with acquire semantics, so a
+ * reader sees either an empty slot or a complete entry. Growing builds a new
+ * array and publishes it, leaving the old one intact for readers still on it.
+ *
+ * <p>Sized for 50M addresses at load factor 0.8 the array is 62.5M slots, or
+ * 2 GB of heap in one allocation. Growing doubles it while the old array is
+ * still live, so the heap briefly needs about three times the table; size
+ * the table up front for the expected address count to avoid that.
+ */
+public final class AddressTable {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(AddressTable::sha256);
+
+    private static final int WORDS = 4;
+    private static final long TAG_MASK = 0xFFFFL;
+    private static final int MAX_SLOTS = (Integer.MAX_VALUE - 8) / WORDS;
+
+    private final double loadFactor;
+    private volatile long[] slots;
+    private int size;
+
+    public AddressTable(long expectedAddresses, double loadFactor) {
+        this.loadFactor = loadFactor;
+        this.slots = new long[slotCountFor(expectedAddresses) * WORDS];
+    }
+
+    /**
+     * Fingerprint of an address, already normalized by the caller.
+     */
+    public static long[] fingerprint(String address) {
+        MessageDigest digest = SHA_256.get();
+        byte[] hash = digest.digest(address.getBytes(StandardCharsets.UTF_8));
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 8; i++) {
+            high = (high << 8) | (hash[i] & 0xFF);
+            low = (low << 8) | (hash[i + 8] & 0xFF);
+        }
+        // Low bit of the first word marks the slot used, low 16 bits of the second hold the tag
+        return new long[] {high | 1L, low & ~TAG_MASK};
+    }
+
+    /**
+     * Map an address fingerprint to a wallet. An address keeps the wallet it
+     * was first mapped to; entries are never rewritten under readers.
+     */
+    public synchronized void put(long[] fingerprint, UUID walletId, int tag) {
+        if (size + 1 > (long) (slotCount(slots) * loadFactor)) {
+            grow();
+        }
+        if (insert(slots, fingerprint[0], fingerprint[1] | (tag & TAG_MASK), walletId)) {
+            size++;
+        }
+    }
+
+    /**
+     * The wallet the address maps to, or {@code null}.
+     */
+    public Entry find(long[] fingerprint) {
+        long[] table = slots;
+        int count = slotCount(table);
+        int slot = home(fingerprint[0], count);
+        while (true) {
+            int at = slot * WORDS;
+            long word = (long) SLOTS.getAcquire(table, at);
+            if (word == 0) {
+                return null;
+            }
+            if (word == fingerprint[0] && (table[at + 1] & ~TAG_MASK) == fingerprint[1]) {
+                return new Entry(new UUID(table[at + 2], table[at + 3]), (int) (table[at + 1] & TAG_MASK));
+            }
+            if (++slot == count) {
+                slot = 0;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long getSizeInBytes() {
+        return (long) slots.length * Long.BYTES;
+    }
+
+    // Allocates twice the current array before releasing it: peak heap is about 3x the table
+    private void grow() {
+        long[] current = slots;
+        int count = slotCount(current);
+        if (count >= MAX_SLOTS) {
+            throw new IllegalStateException("Address table is full at " + size + " addresses");
+        }
+        long[] grown = new long[(int) Math.min(MAX_SLOTS, count * 2L) * WORDS];
+        for (int slot = 0; slot < count; slot++) {
+            int at = slot * WORDS;
+            if (current[at] != 0) {
+                insert(grown, current[at], current[at + 1], new UUID(current[at + 2], current[at + 3]));
+            }
+        }
+        slots = grown;
+    }
+
+    private static boolean insert(long[] table, long first, long second, UUID walletId) {
+        int count = slotCount(table);
+        int slot = home(first, count);
+        while (true) {
+            int at = slot * WORDS;
+            long word = table[at];
+            if (word == 0) {
+                table[at + 1] = second;
+                table[at + 2] = walletId.getMostSignificantBits();
+                table[at + 3] = walletId.getLeastSignificantBits();
+                SLOTS.setRelease(table, at, first);
+                return true;
+            }
+            if (word == first && (table[at + 1] & ~TAG_MASK) == (second & ~TAG_MASK)) {
+                return false;
+            }
+            if (++slot == count) {
+                slot = 0;
+            }
+        }
+    }
+
+    // Maps the fingerprint's top 32 bits onto [0, count) without a division
+    private static int home(long first, int count) {
+        return (int) (((first >>> 32) * count) >>> 32);
+    }
+
+    private static int slotCount(long[] table) {
+        return table.length / WORDS;
+    }
+
+    private int slotCountFor(long expectedAddresses) {
+        return (int) Math.min(MAX_SLOTS, Math.max(16, (long) Math.ceil(Math.max(1, expectedAddresses) / loadFactor)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    /**
+     * A wallet id with the tag it was stored under.
+     */
+    public static final class Entry {
+
+        private final UUID walletId;
+        private final int tag;
+
+        private Entry(UUID walletId, int tag) {
+            this.walletId = walletId;
+            this.tag = tag;
+        }
+
+        public UUID getWalletId() {
+            return walletId;
+        }
+
+        public int getTag() {
+            return tag;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.neobridge.crypto.utxo;
+
+import java.util.List;
+
+/**
+ * Inputs chosen to fund a payment, in satoshis. {@code change} is zero when
+ * the excess was too small for a change output and went to the fee.
+ */
+public class CoinSelection {
+
+    private final List<Outpoint> inputs;
+    private final long inputValue;
+    private final long target;
+    private final long fee;
+    private final long change;
+    private final String algorithm;
+
+    public CoinSelection(List<Outpoint> inputs, long inputValue, long target, long fee, long change, String algorithm) {
+        this.inputs = inputs;
+        this.inputValue = inputValue;
+        this.target = target;
+        this.fee = fee;
+        this.change = change;
+        this.algorithm = algorithm;
+    }
+
+    public List<Outpoint> getInputs() {
+        return inputs;
+    }
+
+    public long getInputValue() {
+        return inputValue;
+    }
+
+    public long getTarget() {
+        return target;
+    }
+
+    public long getFee() {
+        return fee;
+    }
+
+    public long getChange() {
+        return change;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+}
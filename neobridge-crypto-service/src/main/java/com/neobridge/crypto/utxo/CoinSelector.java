@@ -0,0 +1,262 @@
+package com.neobridge.crypto.utxo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Coin selection over a wallet's {@link UtxoSet}, following Bitcoin Core:
+ * branch-and-bound first looks for an input set whose effective value (value
+ * minus the fee to spend it) lands within the cost of a change output of the
+ * target, so no change is needed; otherwise a knapsack search picks the best
+ * approximation with change, or the smallest single output that covers the
+ * target. Sizes are P2WPKH virtual bytes, fee rates in sat/vB.
+ */
+@Component
+public class CoinSelector {
+
+    @Value("${neobridge.crypto.utxo.selection.input-vbytes:68}")
+    private int inputVbytes;
+
+    @Value("${neobridge.crypto.utxo.selection.output-vbytes:31}")
+    private int outputVbytes;
+
+    @Value("${neobridge.crypto.utxo.selection.overhead-vbytes:11}")
+    private int overheadVbytes;
+
+    @Value("${neobridge.crypto.utxo.selection.min-change:5000}")
+    private long minChange;
+
+    @Value("${neobridge.crypto.utxo.selection.max-inputs:500}")
+    private int maxInputs;
+
+    @Value("${neobridge.crypto.utxo.selection.bnb-tries:100000}")
+    private int bnbTries;
+
+    @Value("${neobridge.crypto.utxo.selection.knapsack-iterations:1000}")
+    private int knapsackIterations;
+
+    @Value("${neobridge.crypto.utxo.selection.knapsack-candidates:2000}")
+    private int knapsackCandidates;
+
+    /**
+     * Select unreserved inputs with at least {@code minConfirmations} to pay
+     * {@code target} satoshis to one output.
+     *
+     * @return the selection, or {@code null} when the wallet cannot fund it
+     */
+    CoinSelection select(UtxoSet utxos, long target, long feeRate, int minConfirmations, int tipHeight) {
+        long inputFee = feeRate * inputVbytes;
+        long costOfChange = feeRate * outputVbytes + inputFee;
+        long needed = target + feeRate * (overheadVbytes + outputVbytes);
+
+        // Candidates by descending effective value; outputs that cost more than they are worth are skipped
+        long now = System.currentTimeMillis();
+        List<Integer> candidates = new ArrayList<>();
+        for (int slot = 0; slot < utxos.size(); slot++) {
+            if (utxos.value(slot) > inputFee && !utxos.isReserved(slot, now)
+                    && utxos.confirmations(slot, tipHeight) >= minConfirmations) {
+                candidates.add(slot);
+            }
+        }
+        candidates.sort((a, b) -> Long.compare(utxos.value(b), utxos.value(a)));
+        int[] slots = new int[candidates.size()];
+        long[] effective = new long[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = candidates.get(i);
+            effective[i] = utxos.value(slots[i]) - inputFee;
+        }
+
+        int[] chosen = branchAndBound(effective, needed, costOfChange);
+        String algorithm = "bnb";
+        if (chosen == null) {
+            chosen = knapsack(effective, needed + feeRate * outputVbytes);
+            algorithm = "knapsack";
+        }
+        if (chosen == null || chosen.length > maxInputs) {
+            return null;
+        }
+
+        List<Outpoint> inputs = new ArrayList<>(chosen.length);
+        long inputValue = 0;
+        for (int index : chosen) {
+            inputs.add(utxos.outpoint(slots[index]));
+            inputValue += utxos.value(slots[index]);
+        }
+        long feeWithoutChange = feeRate * (overheadVbytes + outputVbytes + (long) chosen.length * inputVbytes);
+        long change = inputValue - target - feeWithoutChange - feeRate * outputVbytes;
+        if (change < minChange) {
+            return new CoinSelection(inputs, inputValue, target, inputValue - target, 0, algorithm);
+        }
+        return new CoinSelection(inputs, inputValue, target, feeWithoutChange + feeRate * outputVbytes, change, algorithm);
+    }
+
+    /**
+     * Depth-first search over include/omit decisions, largest first, for a
+     * subset with effective value in {@code [needed, needed + costOfChange]},
+     * keeping the one with the least excess.
+     */
+    private int[] branchAndBound(long[] effective, long needed, long costOfChange) {
+        int n = effective.length;
+        long available = 0;
+        for (long value : effective) {
+            available += value;
+        }
+        if (available < needed) {
+            return null;
+        }
+        int[] stack = new int[n];
+        int stackSize = 0;
+        int depth = 0;
+        long value = 0;
+        int[] best = null;
+        long bestExcess = Long.MAX_VALUE;
+
+        for (int tries = 0; tries < bnbTries; tries++) {
+            boolean backtrack;
+            if (value + available < needed || value > needed + costOfChange) {
+                backtrack = true;
+            } else if (value >= needed) {
+                if (value - needed < bestExcess) {
+                    bestExcess = value - needed;
+                    best = Arrays.copyOf(stack, stackSize);
+                    if (bestExcess == 0) {
+                        break;
+                    }
+                }
+                backtrack = true;
+            } else {
+                backtrack = stackSize >= maxInputs;
+            }
+
+            if (backtrack) {
+                // Restore the omitted outputs after the last included one, then omit that one instead
+                while (depth > 0 && (stackSize == 0 || stack[stackSize - 1] != depth - 1)) {
+                    available += effective[--depth];
+                }
+                if (depth == 0) {
+                    break;
+                }
+                stackSize--;
+                value -= effective[depth - 1];
+            } else {
+                available -= effective[depth];
+                value += effective[depth];
+                stack[stackSize++] = depth;
+                depth++;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Randomised subset-sum approximation used when no changeless match
+     * exists, comparing the best subset of smaller outputs against the
+     * smallest single output that covers the target.
+     */
+    private int[] knapsack(long[] effective, long needed) {
+        long targetWithChange = needed + minChange;
+        int lowestLarger = -1;
+        List<Integer> smaller = new ArrayList<>();
+        long smallerTotal = 0;
+        for (int i = 0; i < effective.length; i++) {
+            if (effective[i] == needed) {
+                return new int[] {i};
+            }
+            if (effective[i] < targetWithChange) {
+                if (smaller.size() < knapsackCandidates) {
+                    smaller.add(i); // largest first, so the cap keeps the most useful ones
+                    smallerTotal += effective[i];
+                }
+            } else if (lowestLarger < 0 || effective[i] < effective[lowestLarger]) {
+                lowestLarger = i;
+            }
+        }
+        if (smallerTotal == needed) {
+            return smaller.stream().mapToInt(Integer::intValue).toArray();
+        }
+        if (smallerTotal < needed) {
+            return lowestLarger >= 0 ? new int[] {lowestLarger} : null;
+        }
+
+        long[] values = new long[smaller.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = effective[smaller.get(i)];
+        }
+        boolean[] best = approximateBestSubset(values, smallerTotal, needed);
+        long bestValue = sum(values, best);
+        if (bestValue != needed && smallerTotal >= targetWithChange) {
+            best = approximateBestSubset(values, smallerTotal, targetWithChange);
+            bestValue = sum(values, best);
+        }
+        if (lowestLarger >= 0 && ((bestValue != needed && bestValue < targetWithChange)
+                                  || effective[lowestLarger] <= bestValue)) {
+            return new int[] {lowestLarger};
+        }
+        List<Integer> chosen = new ArrayList<>();
+        for (int i = 0; i < best.length; i++) {
+            if (best[i]) {
+                chosen.add(smaller.get(i));
+            }
+        }
+        return chosen.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private boolean[] approximateBestSubset(long[] values, long total, long target) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean[] best = new boolean[values.length];
+        Arrays.fill(best, true);
+        long bestValue = total;
+        boolean[] included = new boolean[values.length];
+        for (int rep = 0; rep < knapsackIterations && bestValue != target; rep++) {
+            Arrays.fill(included, false);
+            long value = 0;
+            boolean reachedTarget = false;
+            for (int pass = 0; pass < 2 && !reachedTarget; pass++) {
+                for (int i = 0; i < values.length; i++) {
+                    // First pass picks randomly, second pass fills in what the first left out
+                    if (pass == 0 ? random.nextBoolean() : !included[i]) {
+                        value += values[i];
+                        included[i] = true;
+                        if (value >= target) {
+                            reachedTarget = true;
+                            if (value < bestValue) {
+                                bestValue = value;
+                                System.arraycopy(included, 0, best, 0, values.length);
+                            }
+                            value -= values[i];
+                            included[i] = false;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private static long sum(long[] values, boolean[] included) {
+        long total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (included[i]) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    int getInputVbytes() {
+        return inputVbytes;
+    }
+
+    int getOutputVbytes() {
+        return outputVbytes;
+    }
+
+    int getOverheadVbytes() {
+        return overheadVbytes;
+    }
+}
@@ -0,0 +1,83 @@
+package com.neobridge.crypto.utxo;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request to merge a wallet's small outputs into one output back to itself,
+ * published when fees are low. The inputs are reserved for the transaction
+ * builder until the reservation expires.
+ */
+public class ConsolidationRequest {
+
+    private UUID walletId;
+    private BlockchainNetwork network;
+    private List<Outpoint> inputs;
+    private long inputValueSats;
+    private long feeSats;
+    private long feeRate;
+    private Instant requestedAt;
+
+    // Constructors
+    public ConsolidationRequest() {}
+
+    // Getters and Setters
+    public UUID getWalletId() {
+        return walletId;
+    }
+
+    public void setWalletId(UUID walletId) {
+        this.walletId = walletId;
+    }
+
+    public BlockchainNetwork getNetwork() {
+        return network;
+    }
+
+    public void setNetwork(BlockchainNetwork network) {
+        this.network = network;
+    }
+
+    public List<Outpoint> getInputs() {
+        return inputs;
+    }
+
+    public void setInputs(List<Outpoint> inputs) {
+        this.inputs = inputs;
+    }
+
+    public long getInputValueSats() {
+        return inputValueSats;
+    }
+
+    public void setInputValueSats(long inputValueSats) {
+        this.inputValueSats = inputValueSats;
+    }
+
+    public long getFeeSats() {
+        return feeSats;
+    }
+
+    public void setFeeSats(long feeSats) {
+        this.feeSats = feeSats;
+    }
+
+    public long getFeeRate() {
+        return feeRate;
+    }
+
+    public void setFeeRate(long feeRate) {
+        this.feeRate = feeRate;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    public void setRequestedAt(Instant requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+}
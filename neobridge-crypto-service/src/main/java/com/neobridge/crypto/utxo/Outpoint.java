@@ -0,0 +1,43 @@
+package com.neobridge.crypto.utxo;
+
+import java.util.Objects;
+
+/**
+ * Reference to a transaction output: transaction id (hex) and output index.
+ */
+public final class Outpoint {
+
+    private final String txid;
+    private final int vout;
+
+    public Outpoint(String txid, int vout) {
+        this.txid = txid;
+        this.vout = vout;
+    }
+
+    public String getTxid() {
+        return txid;
+    }
+
+    public int getVout() {
+        return vout;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Outpoint)) return false;
+        Outpoint other = (Outpoint) o;
+        return vout == other.vout && txid.equals(other.txid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(txid, vout);
+    }
+
+    @Override
+    public String toString() {
+        return txid + ":" + vout;
+    }
+}
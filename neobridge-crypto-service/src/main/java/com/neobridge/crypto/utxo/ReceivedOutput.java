@@ -0,0 +1,38 @@
+package com.neobridge.crypto.utxo;
+
+import java.util.UUID;
+
+/**
+ * An output paid to one of our wallets, to be added to its unspent set.
+ * {@code blockHeight} is 0 while unconfirmed.
+ */
+public final class ReceivedOutput {
+
+    private final UUID walletId;
+    private final Outpoint outpoint;
+    private final long valueSats;
+    private final int blockHeight;
+
+    public ReceivedOutput(UUID walletId, Outpoint outpoint, long valueSats, int blockHeight) {
+        this.walletId = walletId;
+        this.outpoint = outpoint;
+        this.valueSats = valueSats;
+        this.blockHeight = blockHeight;
+    }
+
+    public UUID getWalletId() {
+        return walletId;
+    }
+
+    public Outpoint getOutpoint() {
+        return outpoint;
+    }
+
+    public long getValueSats() {
+        return valueSats;
+    }
+
+    public int getBlockHeight() {
+        return blockHeight;
+    }
+}
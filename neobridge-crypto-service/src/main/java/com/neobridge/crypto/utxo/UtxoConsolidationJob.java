@@ -0,0 +1,128 @@
+package com.neobridge.crypto.utxo;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.fee.FeeEstimate;
+import com.neobridge.crypto.fee.FeeOracle;
+import com.neobridge.crypto.fee.FeeSpeed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Schedules UTXO consolidation for wallets that accumulated many outputs,
+ * while fees are low: spending many small outputs later, at withdrawal time,
+ * costs more and can exceed input limits. The smallest outputs worth more
+ * than twice their spending cost are reserved and handed to the transaction
+ * builder as a {@link ConsolidationRequest}.
+ */
+@Component
+public class UtxoConsolidationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(UtxoConsolidationJob.class);
+
+    private static final String CROWDED_WALLETS_SQL =
+        "SELECT u.wallet_id, w.network FROM wallet_utxos u JOIN crypto_wallets w ON w.id = u.wallet_id " +
+        "WHERE u.status = 'AVAILABLE' AND w.network = ? GROUP BY u.wallet_id, w.network HAVING COUNT(*) > ? LIMIT ?";
+
+    @Autowired
+    private UtxoIndex utxoIndex;
+
+    @Autowired
+    private CoinSelector coinSelector;
+
+    @Autowired
+    private FeeOracle feeOracle;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${neobridge.crypto.utxo.consolidation.topic:neobridge.crypto.utxo-consolidations}")
+    private String topic;
+
+    @Value("${neobridge.crypto.utxo.consolidation.min-utxos:200}")
+    private int minUtxos;
+
+    @Value("${neobridge.crypto.utxo.consolidation.max-inputs:400}")
+    private int maxInputs;
+
+    @Value("${neobridge.crypto.utxo.consolidation.max-fee-rate:5}")
+    private long maxFeeRate;
+
+    @Value("${neobridge.crypto.utxo.consolidation.wallets-per-run:100}")
+    private int walletsPerRun;
+
+    @Scheduled(cron = "${neobridge.crypto.utxo.consolidation.cron:0 0 * * * *}")
+    public void consolidate() {
+        for (BlockchainNetwork network : BlockchainNetwork.values()) {
+            if (!UtxoIndex.isUtxoNetwork(network)) {
+                continue;
+            }
+            FeeEstimate estimate = feeOracle.getEstimate(network);
+            if (estimate == null || estimate.isFallback()) {
+                continue; // no live fee data to judge by
+            }
+            long feeRate = Math.max(1, estimate.getGasPrice(FeeSpeed.SLOW).longValue());
+            if (feeRate > maxFeeRate) {
+                logger.debug("Skipping {} consolidation at {} sat/vB", network, feeRate);
+                continue;
+            }
+            try {
+                List<UUID> walletIds = jdbcTemplate.query(CROWDED_WALLETS_SQL,
+                    (rs, rowNum) -> rs.getObject(1, UUID.class), network.name(), minUtxos, walletsPerRun);
+                for (UUID walletId : walletIds) {
+                    consolidate(walletId, network, feeRate);
+                }
+            } catch (Exception e) {
+                logger.error("UTXO consolidation on {} failed: {}", network, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void consolidate(UUID walletId, BlockchainNetwork network, long feeRate) {
+        long inputCost = feeRate * coinSelector.getInputVbytes();
+        List<Outpoint> candidates = utxoIndex.smallestSpendable(walletId, network, maxInputs, inputCost * 2);
+        if (candidates.size() < 2) {
+            return;
+        }
+        List<Outpoint> inputs = utxoIndex.reserve(walletId, candidates);
+        long inputValue = 0;
+        for (long value : utxoIndex.values(walletId, inputs)) {
+            inputValue += value;
+        }
+        long fee = feeRate * (coinSelector.getOverheadVbytes() + coinSelector.getOutputVbytes()
+                              + (long) inputs.size() * coinSelector.getInputVbytes());
+        if (inputs.size() < 2 || inputValue <= fee) {
+            utxoIndex.release(walletId, inputs);
+            return;
+        }
+
+        ConsolidationRequest request = new ConsolidationRequest();
+        request.setWalletId(walletId);
+        request.setNetwork(network);
+        request.setInputs(inputs);
+        request.setInputValueSats(inputValue);
+        request.setFeeSats(fee);
+        request.setFeeRate(feeRate);
+        request.setRequestedAt(Instant.now());
+        try {
+            kafkaTemplate.send(topic, walletId.toString(), request);
+            logger.info("Requested consolidation of {} outputs ({} sats) in wallet {} at {} sat/vB", inputs.size(),
+                       inputValue, walletId, feeRate);
+        } catch (Exception e) {
+            utxoIndex.release(walletId, inputs);
+            logger.error("Failed to publish consolidation of wallet {}: {}", walletId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.neobridge.crypto.utxo;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of unspent outputs per Bitcoin-family wallet, backed by
+ * {@code wallet_utxos}. Every row change records the writing transaction id
+ * and a sequence value, and a wallet's cached {@link UtxoSet} catches up
+ * before each use by reading changes in (transaction id, sequence) order below
+ * the oldest transaction still running. Sequence values are taken before
+ * commit, so a lower one can become visible after a higher one; reading only
+ * finished transactions means the cursor never passes a change that has yet
+ * to commit, at the cost of lagging behind a long-running transaction. Selected
+ * inputs are reserved in the database with an expiry, so concurrent
+ * withdrawals never pick the same outputs and an abandoned withdrawal frees
+ * them again, also when the cache lags.
+ */
+@Service
+public class UtxoIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UtxoIndex.class);
+
+    static final BigDecimal SATOSHIS_PER_COIN = BigDecimal.valueOf(100_000_000L);
+
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private static final String VISIBLE_XMIN = "(pg_snapshot_xmin(pg_current_snapshot())::text)::bigint";
+
+    // Updates must set both; inserts take them from the column defaults
+    private static final String NEW_CHANGE =
+        "change_seq = nextval('wallet_utxo_change_seq'), change_txid = (pg_current_xact_id()::text)::bigint";
+
+    private static final String CHANGES_SQL =
+        "SELECT txid, vout, value_sats, block_height, status, reserved_until, change_txid, change_seq FROM wallet_utxos " +
+        "WHERE wallet_id = ? AND (change_txid, change_seq) > (?, ?) AND change_txid < " + VISIBLE_XMIN + " " +
+        "ORDER BY change_txid, change_seq";
+
+    private static final String ADD_SQL =
+        "INSERT INTO wallet_utxos (wallet_id, txid, vout, value_sats, block_height, status, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, 'AVAILABLE', ?, ?) ON CONFLICT (wallet_id, txid, vout) DO UPDATE SET " +
+        "block_height = EXCLUDED.block_height, status = CASE WHEN wallet_utxos.status = 'ORPHANED' THEN 'AVAILABLE' " +
+        "ELSE wallet_utxos.status END, " + NEW_CHANGE + ", updated_at = EXCLUDED.updated_at";
+
+    private static final String RESERVE_SQL =
+        "UPDATE wallet_utxos SET status = 'RESERVED', reserved_until = ?, " + NEW_CHANGE + ", " +
+        "updated_at = ? WHERE wallet_id = ? AND txid = ? AND vout = ? " +
+        "AND (status = 'AVAILABLE' OR (status = 'RESERVED' AND reserved_until < ?))";
+
+    private static final String SET_STATUS_SQL =
+        "UPDATE wallet_utxos SET status = ?, reserved_until = NULL, " + NEW_CHANGE + ", " +
+        "updated_at = ? WHERE wallet_id = ? AND txid = ? AND vout = ? AND status = ?";
+
+    private static final String ORPHAN_DEPOSITS_SQL =
+        "UPDATE wallet_utxos u SET status = 'ORPHANED', reserved_until = NULL, " + NEW_CHANGE + ", " +
+        "updated_at = ? FROM crypto_deposits d " +
+        "WHERE d.network = ? AND d.block_height > ? AND d.status IN ('ORPHANED', 'REORGED') " +
+        "AND u.wallet_id = d.wallet_id AND u.txid = d.tx_hash AND u.vout = d.output_index AND u.status <> 'SPENT'";
+
+    private static final String TIP_HEIGHT_SQL =
+        "SELECT block_height FROM deposit_scan_cursors WHERE network = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CoinSelector coinSelector;
+
+    @Value("${neobridge.crypto.utxo.reservation-ttl:PT10M}")
+    private Duration reservationTtl;
+
+    @Value("${neobridge.crypto.utxo.min-confirmations:3}")
+    private int minConfirmations;
+
+    private final ConcurrentHashMap<UUID, WalletUtxos> wallets = new ConcurrentHashMap<>();
+
+    public static boolean isUtxoNetwork(BlockchainNetwork network) {
+        return network == BlockchainNetwork.BITCOIN || network == BlockchainNetwork.LITECOIN
+            || network == BlockchainNetwork.BITCOIN_CASH;
+    }
+
+    public static long toSatoshis(BigDecimal amount) {
+        return amount.multiply(SATOSHIS_PER_COIN).setScale(0, RoundingMode.DOWN).longValueExact();
+    }
+
+    /**
+     * Select and reserve inputs paying {@code targetSats} at {@code feeRate}
+     * sat/vB. The caller must {@link #spend} or {@link #release} them.
+     *
+     * @return the selection, or {@code null} when the wallet cannot fund it
+     */
+    public CoinSelection selectAndReserve(UUID walletId, BlockchainNetwork network, long targetSats, long feeRate) {
+        int tipHeight = tipHeight(network);
+        for (int attempt = 1; attempt <= MAX_RESERVE_ATTEMPTS; attempt++) {
+            WalletUtxos wallet = sync(walletId);
+            long now = System.currentTimeMillis();
+            long until = now + reservationTtl.toMillis();
+            CoinSelection selection;
+            synchronized (wallet) {
+                selection = coinSelector.select(wallet.utxos, targetSats, feeRate, minConfirmations, tipHeight);
+                if (selection == null) {
+                    return null;
+                }
+                for (Outpoint input : selection.getInputs()) {
+                    wallet.utxos.setReservedUntil(wallet.utxos.indexOf(input.getTxid(), input.getVout()), until);
+                }
+            }
+            List<Outpoint> reserved = reserve(walletId, selection.getInputs(), now, until);
+            if (reserved.size() == selection.getInputs().size()) {
+                logger.debug("Reserved {} inputs ({}) for {} sats from wallet {}", reserved.size(),
+                            selection.getAlgorithm(), targetSats, walletId);
+                return selection;
+            }
+            // Taken or spent elsewhere, possibly by a change the cache skipped: give back ours and reload
+            release(walletId, reserved);
+            wallets.remove(walletId);
+        }
+        return null;
+    }
+
+    /**
+     * Reserve specific outputs, e.g. the smallest ones for a consolidation.
+     *
+     * @return the outputs actually reserved
+     */
+    public List<Outpoint> reserve(UUID walletId, List<Outpoint> outpoints) {
+        long now = System.currentTimeMillis();
+        return reserve(walletId, outpoints, now, now + reservationTtl.toMillis());
+    }
+
+    /**
+     * Mark reserved outputs spent once their transaction is broadcast.
+     */
+    public void spend(UUID walletId, List<Outpoint> outpoints) {
+        setStatus(walletId, outpoints, "RESERVED", "SPENT");
+    }
+
+    /**
+     * Return reserved outputs to the spendable set.
+     */
+    public void release(UUID walletId, List<Outpoint> outpoints) {
+        setStatus(walletId, outpoints, "RESERVED", "AVAILABLE");
+    }
+
+    /**
+     * Record received outputs, e.g. deposits or our own change. Outputs
+     * orphaned by a reorg become spendable again when re-added.
+     */
+    public void add(List<ReceivedOutput> outputs) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(outputs.size());
+        for (ReceivedOutput output : outputs) {
+            rows.add(new Object[] {output.getWalletId(), output.getOutpoint().getTxid(), output.getOutpoint().getVout(),
+                                   output.getValueSats(), output.getBlockHeight(), now, now});
+        }
+        jdbcTemplate.batchUpdate(ADD_SQL, rows);
+    }
+
+    /**
+     * Withdraw outputs of deposits a reorg orphaned above {@code forkHeight}.
+     */
+    public int orphanDeposits(BlockchainNetwork network, long forkHeight) {
+        return jdbcTemplate.update(ORPHAN_DEPOSITS_SQL, Timestamp.from(Instant.now()), network.name(), forkHeight);
+    }
+
+    /**
+     * Up to {@code limit} of the wallet's smallest spendable outputs worth
+     * more than {@code minValueSats}, smallest first.
+     */
+    public List<Outpoint> smallestSpendable(UUID walletId, BlockchainNetwork network, int limit, long minValueSats) {
+        int tipHeight = tipHeight(network);
+        WalletUtxos wallet = sync(walletId);
+        long now = System.currentTimeMillis();
+        synchronized (wallet) {
+            List<Integer> slots = new ArrayList<>();
+            for (int slot = 0; slot < wallet.utxos.size(); slot++) {
+                if (wallet.utxos.value(slot) > minValueSats && !wallet.utxos.isReserved(slot, now)
+                        && wallet.utxos.confirmations(slot, tipHeight) >= minConfirmations) {
+                    slots.add(slot);
+                }
+            }
+            slots.sort(Comparator.comparingLong(wallet.utxos::value));
+            List<Outpoint> outpoints = new ArrayList<>(Math.min(limit, slots.size()));
+            for (int i = 0; i < slots.size() && i < limit; i++) {
+                outpoints.add(wallet.utxos.outpoint(slots.get(i)));
+            }
+            return outpoints;
+        }
+    }
+
+    /**
+     * Value in satoshis of each outpoint, in order; 0 for unknown ones.
+     */
+    public long[] values(UUID walletId, List<Outpoint> outpoints) {
+        WalletUtxos wallet = sync(walletId);
+        long[] values = new long[outpoints.size()];
+        synchronized (wallet) {
+            for (int i = 0; i < values.length; i++) {
+                int slot = wallet.utxos.indexOf(outpoints.get(i).getTxid(), outpoints.get(i).getVout());
+                values[i] = slot >= 0 ? wallet.utxos.value(slot) : 0;
+            }
+        }
+        return values;
+    }
+
+    public int count(UUID walletId) {
+        WalletUtxos wallet = sync(walletId);
+        synchronized (wallet) {
+            return wallet.utxos.size();
+        }
+    }
+
+    private List<Outpoint> reserve(UUID walletId, List<Outpoint> outpoints, long now, long until) {
+        Timestamp nowTs = new Timestamp(now);
+        Timestamp untilTs = new Timestamp(until);
+        List<Object[]> rows = new ArrayList<>(outpoints.size());
+        for (Outpoint outpoint : outpoints) {
+            rows.add(new Object[] {untilTs, nowTs, walletId, outpoint.getTxid(), outpoint.getVout(), nowTs});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(RESERVE_SQL, rows);
+        List<Outpoint> reserved = new ArrayList<>(outpoints.size());
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 1) {
+                reserved.add(outpoints.get(i));
+            }
+        }
+        return reserved;
+    }
+
+    private void setStatus(UUID walletId, List<Outpoint> outpoints, String from, String to) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(outpoints.size());
+        for (Outpoint outpoint : outpoints) {
+            rows.add(new Object[] {to, now, walletId, outpoint.getTxid(), outpoint.getVout(), from});
+        }
+        jdbcTemplate.batchUpdate(SET_STATUS_SQL, rows);
+    }
+
+    /**
+     * Bring the cached set up to date with rows changed since it was last read.
+     */
+    private WalletUtxos sync(UUID walletId) {
+        WalletUtxos wallet = wallets.computeIfAbsent(walletId, id -> new WalletUtxos());
+        synchronized (wallet) {
+            long now = System.currentTimeMillis();
+            int[] applied = {0};
+            jdbcTemplate.query(CHANGES_SQL, rs -> {
+                String txid = rs.getString(1);
+                int vout = rs.getInt(2);
+                String status = rs.getString(5);
+                if ("AVAILABLE".equals(status) || "RESERVED".equals(status)) {
+                    wallet.utxos.put(txid, vout, rs.getLong(3), rs.getInt(4));
+                    Timestamp reservedUntil = rs.getTimestamp(6);
+                    long until = "RESERVED".equals(status) && reservedUntil != null ? reservedUntil.getTime() : 0;
+                    wallet.utxos.setReservedUntil(wallet.utxos.indexOf(txid, vout), until > now ? until : 0);
+                } else {
+                    wallet.utxos.remove(txid, vout);
+                }
+                wallet.lastTxid = rs.getLong(7);
+                wallet.lastChange = rs.getLong(8);
+                applied[0]++;
+            }, walletId, wallet.lastTxid, wallet.lastChange);
+            if (applied[0] > 1000) {
+                logger.debug("Applied {} UTXO changes to wallet {}, {} unspent", applied[0], walletId, wallet.utxos.size());
+            }
+        }
+        return wallet;
+    }
+
+    private int tipHeight(BlockchainNetwork network) {
+        List<Long> heights = jdbcTemplate.queryForList(TIP_HEIGHT_SQL, Long.class, network.name());
+        return heights.isEmpty() ? 0 : heights.get(0).intValue();
+    }
+
+    private static final class WalletUtxos {
+
+        private final UtxoSet utxos = new UtxoSet(64);
+        private long lastTxid;
+        private long lastChange;
+    }
+}
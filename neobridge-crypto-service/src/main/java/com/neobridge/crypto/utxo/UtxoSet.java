@@ -0,0 +1,205 @@
+package com.neobridge.crypto.utxo;
+
+import java.util.Arrays;
+
+/**
+ * Unspent outputs of one wallet in primitive arrays. Outputs are stored
+ * densely (transaction id as four longs, output index, value in satoshis,
+ * block height, reservation expiry) so selection scans plain arrays, and an
+ * open-addressing table maps outpoints to their slot. Removal moves the last
+ * output into the freed slot. About 70 bytes per output; not thread-safe.
+ */
+final class UtxoSet {
+
+    private static final int FREE = -1;
+
+    private long[] txids;
+    private int[] vouts;
+    private long[] values;
+    private int[] heights;
+    private long[] reservedUntil;
+    private int size;
+
+    private int[] table;
+    private int mask;
+
+    UtxoSet(int expected) {
+        int capacity = Math.max(16, expected);
+        txids = new long[capacity * 4];
+        vouts = new int[capacity];
+        values = new long[capacity];
+        heights = new int[capacity];
+        reservedUntil = new long[capacity];
+        allocateTable(capacity);
+    }
+
+    /**
+     * Add an output, or update its height and value if already present.
+     */
+    void put(String txid, int vout, long value, int height) {
+        long t0 = parse(txid, 0), t1 = parse(txid, 1), t2 = parse(txid, 2), t3 = parse(txid, 3);
+        int existing = find(t0, t1, t2, t3, vout);
+        if (existing != FREE) {
+            values[existing] = value;
+            heights[existing] = height;
+            return;
+        }
+        if (size == vouts.length) {
+            grow();
+        }
+        int slot = size++;
+        txids[slot * 4] = t0;
+        txids[slot * 4 + 1] = t1;
+        txids[slot * 4 + 2] = t2;
+        txids[slot * 4 + 3] = t3;
+        vouts[slot] = vout;
+        values[slot] = value;
+        heights[slot] = height;
+        reservedUntil[slot] = 0;
+        insert(slot);
+        if (size * 4L > table.length * 3L) {
+            allocateTable(table.length);
+            for (int i = 0; i < size; i++) {
+                insert(i);
+            }
+        }
+    }
+
+    boolean remove(String txid, int vout) {
+        int slot = find(parse(txid, 0), parse(txid, 1), parse(txid, 2), parse(txid, 3), vout);
+        if (slot == FREE) {
+            return false;
+        }
+        delete(slot);
+        int last = --size;
+        if (slot != last) {
+            delete(last);
+            System.arraycopy(txids, last * 4, txids, slot * 4, 4);
+            vouts[slot] = vouts[last];
+            values[slot] = values[last];
+            heights[slot] = heights[last];
+            reservedUntil[slot] = reservedUntil[last];
+            insert(slot);
+        }
+        return true;
+    }
+
+    /**
+     * Slot of an outpoint, or -1.
+     */
+    int indexOf(String txid, int vout) {
+        return find(parse(txid, 0), parse(txid, 1), parse(txid, 2), parse(txid, 3), vout);
+    }
+
+    /**
+     * Reserve an output until the given epoch millis; 0 releases it.
+     */
+    void setReservedUntil(int slot, long until) {
+        reservedUntil[slot] = until;
+    }
+
+    boolean isReserved(int slot, long now) {
+        return reservedUntil[slot] > now;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long value(int slot) {
+        return values[slot];
+    }
+
+    int height(int slot) {
+        return heights[slot];
+    }
+
+    /**
+     * Confirmations at the given chain tip; unconfirmed outputs have height 0.
+     */
+    int confirmations(int slot, int tipHeight) {
+        return heights[slot] <= 0 ? 0 : tipHeight - heights[slot] + 1;
+    }
+
+    Outpoint outpoint(int slot) {
+        StringBuilder txid = new StringBuilder(64);
+        for (int i = 0; i < 4; i++) {
+            String part = Long.toHexString(txids[slot * 4 + i]);
+            txid.append("0".repeat(16 - part.length())).append(part);
+        }
+        return new Outpoint(txid.toString(), vouts[slot]);
+    }
+
+    long totalValue() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    private int find(long t0, long t1, long t2, long t3, int vout) {
+        for (int pos = hash(t0, vout) & mask; ; pos = (pos + 1) & mask) {
+            int slot = table[pos];
+            if (slot == FREE) {
+                return FREE;
+            }
+            int base = slot * 4;
+            if (vouts[slot] == vout && txids[base] == t0 && txids[base + 1] == t1
+                    && txids[base + 2] == t2 && txids[base + 3] == t3) {
+                return slot;
+            }
+        }
+    }
+
+    private void insert(int slot) {
+        int pos = hash(txids[slot * 4], vouts[slot]) & mask;
+        while (table[pos] != FREE) {
+            pos = (pos + 1) & mask;
+        }
+        table[pos] = slot;
+    }
+
+    // Linear-probing delete with backward shift, so lookups never need tombstones
+    private void delete(int slot) {
+        int pos = hash(txids[slot * 4], vouts[slot]) & mask;
+        while (table[pos] != slot) {
+            pos = (pos + 1) & mask;
+        }
+        int hole = pos;
+        for (int next = (hole + 1) & mask; table[next] != FREE; next = (next + 1) & mask) {
+            int home = hash(txids[table[next] * 4], vouts[table[next]]) & mask;
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = FREE;
+    }
+
+    private void grow() {
+        int capacity = vouts.length * 2;
+        txids = Arrays.copyOf(txids, capacity * 4);
+        vouts = Arrays.copyOf(vouts, capacity);
+        values = Arrays.copyOf(values, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        reservedUntil = Arrays.copyOf(reservedUntil, capacity);
+    }
+
+    private void allocateTable(int capacity) {
+        int length = Integer.highestOneBit(Math.max(16, capacity * 2 - 1)) << 1;
+        table = new int[length];
+        Arrays.fill(table, FREE);
+        mask = length - 1;
+    }
+
+    private static int hash(long t0, int vout) {
+        long h = (t0 ^ (vout * 0x9E3779B97F4A7C15L)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long parse(String txid, int part) {
+        return Long.parseUnsignedLong(txid.substring(part * 16, part * 16 + 16), 16);
+    }
+}
@@ -0,0 +1,91 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Refill reserves index ranges until the pool reaches its high watermark,
+ * and gives up for the run when a range derives to nothing.
+ */
+class AddressPoolTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final AddressDeriver deriver = mock(AddressDeriver.class);
+    private final AtomicLong cursor = new AtomicLong();
+    private AddressPool pool;
+
+    @AfterEach
+    void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void refillDerivesUpToTheHighWatermark() {
+        when(deriver.derive(anyLong())).thenAnswer(invocation -> {
+            long index = invocation.getArgument(0);
+            return new DerivedAddress(index, "0xaddress" + index, "02key" + index, "m/44'/60'/0'/0/" + index);
+        });
+        pool = pool(10);
+
+        pool.refill();
+
+        assertThat(cursor.get()).isEqualTo(50 - 10);
+        verify(jdbcTemplate, times(2)).batchUpdate(contains("INSERT INTO address_pool"), anyList());
+    }
+
+    @Test
+    void refillStopsWhenNothingIsDerived() {
+        when(deriver.derive(anyLong())).thenReturn(null);
+        pool = pool(0);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> pool.refill());
+
+        assertThat(cursor.get()).isEqualTo(20);
+    }
+
+    private AddressPool pool(int available) {
+        when(deriver.getNetwork()).thenReturn(BlockchainNetwork.ETHEREUM);
+        when(jdbcTemplate.queryForObject(contains("COUNT(*)"), eq(Integer.class), any())).thenReturn(available);
+        when(jdbcTemplate.queryForObject(contains("RETURNING next_index"), eq(Long.class), any(), any(), any()))
+            .thenAnswer(invocation -> cursor.addAndGet((Integer) invocation.getArgument(2)));
+        @SuppressWarnings("unchecked")
+        ObjectProvider<AddressDeriver> derivers = mock(ObjectProvider.class);
+        when(derivers.orderedStream()).thenAnswer(invocation -> Stream.of(deriver));
+
+        AddressPool addressPool = new AddressPool();
+        ReflectionTestUtils.setField(addressPool, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(addressPool, "environment", new MockEnvironment());
+        ReflectionTestUtils.setField(addressPool, "addressDerivers", derivers);
+        ReflectionTestUtils.setField(addressPool, "defaultPath", "m/44'/60'/0'/0/");
+        ReflectionTestUtils.setField(addressPool, "lowWatermark", 20);
+        ReflectionTestUtils.setField(addressPool, "highWatermark", 50);
+        ReflectionTestUtils.setField(addressPool, "batchSize", 20);
+        ReflectionTestUtils.setField(addressPool, "leaseSize", 10);
+        ReflectionTestUtils.setField(addressPool, "threads", 1);
+        addressPool.init();
+        return addressPool;
+    }
+}
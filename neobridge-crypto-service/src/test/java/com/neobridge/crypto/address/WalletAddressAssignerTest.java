@@ -0,0 +1,85 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.entity.CryptoWallet.WalletType;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * New wallets without an address take one from the pool when they are
+ * persisted, and are announced only once their transaction commits.
+ */
+class WalletAddressAssignerTest {
+
+    private final AddressPool addressPool = mock(AddressPool.class);
+    private final WalletCreatedPublisher publisher = mock(WalletCreatedPublisher.class);
+    private final WalletAddressAssigner assigner = new WalletAddressAssigner();
+
+    WalletAddressAssignerTest() {
+        ReflectionTestUtils.setField(assigner, "addressPool", addressPool);
+        ReflectionTestUtils.setField(assigner, "walletCreatedPublisher", publisher);
+        when(addressPool.supports(BlockchainNetwork.ETHEREUM)).thenReturn(true);
+        when(addressPool.take(BlockchainNetwork.ETHEREUM))
+            .thenReturn(new DerivedAddress(7, "0xpooled", "02pooled", "m/44'/60'/0'/0/7"));
+        doCallRealMethod().when(addressPool).applyTo(any());
+    }
+
+    @Test
+    void walletWithoutAddressTakesOneFromThePool() {
+        CryptoWallet wallet = wallet(null, BlockchainNetwork.ETHEREUM);
+
+        assigner.assignAddress(wallet);
+
+        assertThat(wallet.getWalletAddress()).isEqualTo("0xpooled");
+        assertThat(wallet.getPublicKey()).isEqualTo("02pooled");
+        assertThat(wallet.getDerivationPath()).isEqualTo("m/44'/60'/0'/0/7");
+    }
+
+    @Test
+    void givenAddressesAndNetworksWithoutPoolAreLeftAlone() {
+        CryptoWallet imported = wallet("0ximported", BlockchainNetwork.ETHEREUM);
+        CryptoWallet unpooled = wallet(null, BlockchainNetwork.BITCOIN);
+
+        assigner.assignAddress(imported);
+        assigner.assignAddress(unpooled);
+
+        assertThat(imported.getWalletAddress()).isEqualTo("0ximported");
+        assertThat(unpooled.getWalletAddress()).isNull();
+        verify(addressPool, never()).take(any());
+    }
+
+    @Test
+    void walletIsAnnouncedAfterCommit() {
+        CryptoWallet wallet = wallet("0xnew", BlockchainNetwork.ETHEREUM);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assigner.announce(wallet);
+            verify(publisher, never()).publish(any());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(publisher).publish(wallet);
+    }
+
+    private static CryptoWallet wallet(String address, BlockchainNetwork network) {
+        return new CryptoWallet(UUID.randomUUID(), "Deposits", address, Cryptocurrency.ETH, network, WalletType.HOT_WALLET);
+    }
+}
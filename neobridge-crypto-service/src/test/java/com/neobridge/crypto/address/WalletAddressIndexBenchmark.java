@@ -0,0 +1,80 @@
+package com.neobridge.crypto.address;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.util.AddressBloomFilter;
+import com.neobridge.crypto.util.AddressTable;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Nanoseconds per address lookup against 1M indexed wallets: foreign
+ * addresses, which the bloom filter turns away without hashing them with
+ * SHA-256, and our own addresses, which go on to the address table.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class WalletAddressIndexBenchmark {
+
+    private static final int WALLETS = 1_000_000;
+    private static final int LOOKUPS = 1_000_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void negativeAndPositiveLookups() {
+        WalletAddressIndex index = new WalletAddressIndex();
+        ReflectionTestUtils.setField(index, "table", new AddressTable(WALLETS, 0.8));
+        ReflectionTestUtils.setField(index, "bloomFilter", new AddressBloomFilter(WALLETS * 2L, 0.001));
+
+        Random random = new Random(42);
+        String[] ours = new String[WALLETS];
+        for (int i = 0; i < WALLETS; i++) {
+            ours[i] = address(random);
+            index.add(UUID.randomUUID(), ours[i], BlockchainNetwork.ETHEREUM, Cryptocurrency.ETH);
+        }
+        String[] foreign = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            foreign[i] = address(random);
+        }
+
+        int falsePositives = 0;
+        long negativeNanos = Long.MAX_VALUE;
+        long positiveNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long started = System.nanoTime();
+            falsePositives = 0;
+            for (String address : foreign) {
+                if (index.match(address) != null) {
+                    falsePositives++;
+                }
+            }
+            negativeNanos = Math.min(negativeNanos, System.nanoTime() - started);
+
+            started = System.nanoTime();
+            int found = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                if (index.match(ours[i]) != null) {
+                    found++;
+                }
+            }
+            positiveNanos = Math.min(positiveNanos, System.nanoTime() - started);
+            assertThat(found).isEqualTo(LOOKUPS);
+        }
+
+        System.out.printf("Address lookups over %d wallets: %.0f ns foreign, %.0f ns ours, %d foreign matched%n",
+                          WALLETS, (double) negativeNanos / LOOKUPS, (double) positiveNanos / LOOKUPS, falsePositives);
+        // A bloom filter false positive still misses in the table, so no foreign address ever matches
+        assertThat(falsePositives).isZero();
+        assertThat(negativeNanos).isPositive();
+    }
+
+    private static String address(Random random) {
+        return String.format("0x%016x%016x%08x", random.nextLong(), random.nextLong(), random.nextInt());
+    }
+}
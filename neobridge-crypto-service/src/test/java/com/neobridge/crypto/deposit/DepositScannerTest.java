@@ -0,0 +1,218 @@
+package com.neobridge.crypto.deposit;
+
+import com.neobridge.crypto.address.WalletAddressIndex;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.portfolio.WalletBalanceEvent;
+import com.neobridge.crypto.portfolio.WalletBalancePublisher;
+import com.neobridge.crypto.utxo.UtxoIndex;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Deposit detection and crediting against a {@link SimulatedChainClient} and
+ * PostgreSQL, including reorganisations. Skipped without Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DepositScannerTest {
+
+    private static final int CONFIRMATIONS = 3;
+    private static final String ADDRESS = "0x52908400098527886e0f7030069857d2e4169ee7";
+
+    // Only the columns the scanner and address index touch; the service table is created by Hibernate
+    private static final String WALLETS_SQL =
+        "CREATE TABLE crypto_wallets (id UUID PRIMARY KEY, user_id UUID NOT NULL, wallet_address VARCHAR(255), " +
+        "network VARCHAR(30) NOT NULL, cryptocurrency VARCHAR(20) NOT NULL, status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE', " +
+        "balance DECIMAL(30,18) NOT NULL DEFAULT 0, available_balance DECIMAL(30,18) NOT NULL DEFAULT 0, " +
+        "yield_balance DECIMAL(30,18) NOT NULL DEFAULT 0, delegation_rewards DECIMAL(30,18), " +
+        "transaction_count INTEGER, last_transaction_date TIMESTAMP, created_at TIMESTAMP NOT NULL DEFAULT now(), " +
+        "updated_at TIMESTAMP, version BIGINT NOT NULL DEFAULT 0, deleted BOOLEAN NOT NULL DEFAULT false)";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static DataSourceTransactionManager transactionManager;
+
+    private SimulatedChainClient chain;
+    private WalletBalancePublisher publisher;
+    private DepositScanner scanner;
+    private UUID walletId;
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate.execute(WALLETS_SQL);
+        jdbcTemplate.execute(Files.readString(Path.of("..", "database", "migrations", "V7__Crypto_Deposits.sql")));
+    }
+
+    @AfterAll
+    static void closeDataSource() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE crypto_wallets, crypto_deposits, deposit_scan_cursors, deposit_blocks");
+        walletId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO crypto_wallets (id, user_id, wallet_address, network, cryptocurrency) " +
+                            "VALUES (?, ?, ?, 'ETHEREUM', 'ETH')", walletId, UUID.randomUUID(), ADDRESS);
+
+        WalletAddressIndex addressIndex = new WalletAddressIndex();
+        ReflectionTestUtils.setField(addressIndex, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(addressIndex, "dataSource", dataSource);
+        ReflectionTestUtils.setField(addressIndex, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(addressIndex, "expectedAddresses", 1000L);
+        ReflectionTestUtils.setField(addressIndex, "falsePositiveRate", 0.001);
+        ReflectionTestUtils.setField(addressIndex, "loadFactor", 0.8);
+        ReflectionTestUtils.setField(addressIndex, "fetchSize", 100);
+        addressIndex.load();
+
+        chain = new SimulatedChainClient(BlockchainNetwork.ETHEREUM);
+        for (int i = 0; i < 5; i++) {
+            chain.mine();
+        }
+        publisher = mock(WalletBalancePublisher.class);
+
+        scanner = new DepositScanner();
+        ReflectionTestUtils.setField(scanner, "walletAddressIndex", addressIndex);
+        ReflectionTestUtils.setField(scanner, "walletBalancePublisher", publisher);
+        ReflectionTestUtils.setField(scanner, "utxoIndex", mock(UtxoIndex.class));
+        ReflectionTestUtils.setField(scanner, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(scanner, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(scanner, "environment", new MockEnvironment());
+        ReflectionTestUtils.setField(scanner, "batchBlocks", 50);
+        ReflectionTestUtils.setField(scanner, "reorgWindow", 128);
+        ReflectionTestUtils.setField(scanner, "defaultConfirmations", CONFIRMATIONS);
+        ReflectionTestUtils.setField(scanner, "startHeight", -1L);
+        scanner.scan(chain); // start at the tip
+    }
+
+    @Test
+    void creditsOnceConfirmationDepthIsReached() {
+        chain.send(ADDRESS, Cryptocurrency.ETH, new BigDecimal("1.5"));
+        chain.mine();
+        scanner.scan(chain);
+        chain.mine();
+        scanner.scan(chain);
+
+        assertThat(deposit("status")).isEqualTo("PENDING");
+        assertThat(deposit("confirmations")).isEqualTo(2);
+        assertThat(balance()).isZero();
+
+        chain.mine();
+        scanner.scan(chain);
+        scanner.scan(chain);
+
+        assertThat(deposit("status")).isEqualTo("CREDITED");
+        assertThat(balance()).isEqualByComparingTo("1.5");
+        verify(publisher, times(1)).publish(any(WalletBalanceEvent.class));
+    }
+
+    @Test
+    void confirmationsCountFromTheVerifiedCursorNotTheReportedTip() {
+        chain.send(ADDRESS, Cryptocurrency.ETH, new BigDecimal("2"));
+        chain.mine();
+        // A node reporting a tip far ahead of the blocks it can serve
+        ChainClient ahead = new ChainClient() {
+            @Override
+            public BlockchainNetwork getNetwork() {
+                return chain.getNetwork();
+            }
+
+            @Override
+            public long getHeadHeight() {
+                return chain.getHeadHeight() + 100;
+            }
+
+            @Override
+            public List<ChainBlock> getBlocks(long fromHeight, int count) {
+                return chain.getBlocks(fromHeight, count);
+            }
+        };
+        scanner.scan(ahead);
+
+        assertThat(deposit("status")).isEqualTo("PENDING");
+        assertThat(deposit("confirmations")).isEqualTo(1);
+        assertThat(balance()).isZero();
+    }
+
+    @Test
+    void reorgDropsPendingDepositLeftOutOfTheFork() {
+        chain.send(ADDRESS, Cryptocurrency.ETH, BigDecimal.ONE);
+        chain.mine();
+        scanner.scan(chain);
+
+        chain.reorg(1, false);
+        for (int i = 0; i < CONFIRMATIONS; i++) {
+            chain.mine();
+        }
+        scanner.scan(chain);
+
+        assertThat(deposit("status")).isEqualTo("ORPHANED");
+        assertThat(balance()).isZero();
+        verify(publisher, never()).publish(any(WalletBalanceEvent.class));
+    }
+
+    @Test
+    void reorgKeepingTheTransferCreditsItOnceAtItsNewHeight() {
+        chain.send(ADDRESS, Cryptocurrency.ETH, BigDecimal.ONE);
+        String minedIn = chain.mine().getHash();
+        scanner.scan(chain);
+
+        chain.reorg(1, true);
+        scanner.scan(chain);
+        assertThat(deposit("status")).isEqualTo("PENDING");
+        assertThat(deposit("block_hash")).isNotEqualTo(minedIn);
+
+        for (int i = 0; i < CONFIRMATIONS; i++) {
+            chain.mine();
+            scanner.scan(chain);
+        }
+
+        assertThat(deposit("status")).isEqualTo("CREDITED");
+        assertThat(balance()).isEqualByComparingTo("1");
+        verify(publisher, times(1)).publish(any(WalletBalanceEvent.class));
+    }
+
+    private Object deposit(String column) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM crypto_deposits WHERE wallet_id = ?",
+                                           Object.class, walletId);
+    }
+
+    private BigDecimal balance() {
+        return jdbcTemplate.queryForObject("SELECT balance FROM crypto_wallets WHERE id = ?", BigDecimal.class, walletId);
+    }
+}
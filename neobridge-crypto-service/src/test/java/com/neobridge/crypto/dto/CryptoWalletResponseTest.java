@@ -0,0 +1,89 @@
+package com.neobridge.crypto.dto;
+
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.crypto.entity.CryptoWallet;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.price.PriceBoard;
+import com.neobridge.crypto.price.ReplayPriceFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CryptoWalletResponseTest {
+
+    private PriceBoard priceBoard;
+    private ReplayPriceFeed feed;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FxRateService fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "baseCurrency", "EUR");
+        ReflectionTestUtils.setField(fxRateService, "maxAge", Duration.ofMinutes(5));
+        fxRateService.init();
+
+        priceBoard = new PriceBoard();
+        ReflectionTestUtils.setField(priceBoard, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(priceBoard, "maxAge", Duration.ofMinutes(5));
+        priceBoard.init();
+
+        try (InputStreamReader sample = new InputStreamReader(
+                getClass().getResourceAsStream("/prices/ticks-sample.csv"), StandardCharsets.UTF_8)) {
+            feed = new ReplayPriceFeed(priceBoard, ReplayPriceFeed.read(sample));
+        }
+    }
+
+    @Test
+    void valuesWalletAtReplayedLivePrice() {
+        feed.replayAll();
+        CryptoWallet wallet = wallet(Cryptocurrency.BTC, "0.5");
+
+        CryptoWalletResponse response = CryptoWalletResponse.fromCryptoWallet(wallet, priceBoard.getQuote(Cryptocurrency.BTC));
+
+        assertThat(response.getLastPriceUsd()).isEqualByComparingTo("45118.75");
+        assertThat(response.getFiatValueUsd()).isEqualByComparingTo("22559.375");
+        assertThat(response.getFiatValueEur()).isEqualByComparingTo("20611.05");
+        assertThat(response.getLastPriceUpdate()).isAfter(LocalDateTime.now().minusMinutes(1));
+    }
+
+    @Test
+    void followsTheFeedTickByTick() {
+        CryptoWallet wallet = wallet(Cryptocurrency.ETH, "2");
+
+        feed.replayNext(10);
+        BigDecimal opening = CryptoWalletResponse.fromCryptoWallet(wallet, priceBoard.getQuote(Cryptocurrency.ETH))
+            .getFiatValueUsd();
+        feed.replayAll();
+        BigDecimal latest = CryptoWalletResponse.fromCryptoWallet(wallet, priceBoard.getQuote(Cryptocurrency.ETH))
+            .getFiatValueUsd();
+
+        assertThat(opening).isEqualByComparingTo("4770.24");
+        assertThat(latest).isEqualByComparingTo("4772.80");
+    }
+
+    @Test
+    void fallsBackToPersistedValuationWithoutQuote() {
+        feed.replayAll();
+        CryptoWallet wallet = wallet(Cryptocurrency.ADA, "1000"); // not in the recording
+
+        CryptoWalletResponse response = CryptoWalletResponse.fromCryptoWallet(wallet, priceBoard.getQuote(Cryptocurrency.ADA));
+
+        assertThat(response.getFiatValueUsd()).isEqualByComparingTo("123.45");
+        assertThat(response.getLastPriceUsd()).isEqualByComparingTo(wallet.getLastPriceUsd());
+    }
+
+    private static CryptoWallet wallet(Cryptocurrency cryptocurrency, String balance) {
+        CryptoWallet wallet = new CryptoWallet();
+        wallet.setCryptocurrency(cryptocurrency);
+        wallet.setBalance(new BigDecimal(balance));
+        wallet.setFiatValueUsd(new BigDecimal("123.45")); // persisted by the last revaluation
+        return wallet;
+    }
+}
@@ -0,0 +1,137 @@
+package com.neobridge.crypto.evm;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.fee.FeeOracle;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Withdrawals submitted per second through the pipeline against a
+ * {@link SimulatedEvmClient}, with many transactions in flight per hot
+ * wallet: nonce allocation, signing, recording in {@code evm_transactions}
+ * and broadcast. Afterwards every wallet's transactions must mine in one
+ * block, i.e. without nonce gaps. Runs against a PostgreSQL container and is
+ * skipped without Docker.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class EvmTransactionPipelineBenchmark {
+
+    private static final int BROADCAST_THREADS = 16;
+    private static final int WALLETS = 8;
+    private static final int TRANSACTIONS_PER_WALLET = 1000;
+
+    private static final String WALLETS_SQL =
+        "CREATE TABLE crypto_wallets (id UUID PRIMARY KEY, nonce BIGINT, updated_at TIMESTAMP)";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        dataSource.setMaximumPoolSize(BROADCAST_THREADS);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute(WALLETS_SQL);
+        jdbcTemplate.execute(Files.readString(Path.of("..", "database", "migrations", "V8__Evm_Transactions.sql")));
+    }
+
+    @AfterAll
+    static void closeDataSource() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void submitWithdrawals() {
+        SimulatedEvmClient evm = new SimulatedEvmClient(BlockchainNetwork.ETHEREUM);
+        ObjectProvider<EvmClient> clients = mock(ObjectProvider.class);
+        when(clients.iterator()).thenAnswer(invocation -> List.<EvmClient>of(evm).iterator());
+        ObjectProvider<EvmSigner> signers = mock(ObjectProvider.class);
+        when(signers.getIfAvailable()).thenReturn(evm);
+
+        NonceManager nonceManager = new NonceManager();
+        ReflectionTestUtils.setField(nonceManager, "jdbcTemplate", jdbcTemplate);
+        EvmTransactionPipeline pipeline = new EvmTransactionPipeline();
+        ReflectionTestUtils.setField(pipeline, "nonceManager", nonceManager);
+        ReflectionTestUtils.setField(pipeline, "evmClients", clients);
+        ReflectionTestUtils.setField(pipeline, "evmSigner", signers);
+        ReflectionTestUtils.setField(pipeline, "feeOracle", mock(FeeOracle.class)); // no fee data: wallet fees
+        ReflectionTestUtils.setField(pipeline, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(pipeline, "broadcastThreads", BROADCAST_THREADS);
+        ReflectionTestUtils.setField(pipeline, "stuckAfter", Duration.ofMinutes(3));
+        pipeline.init();
+
+        List<CryptoWallet> wallets = new ArrayList<>(WALLETS);
+        for (int i = 0; i < WALLETS; i++) {
+            wallets.add(hotWallet(i));
+        }
+        try {
+            long started = System.nanoTime();
+            List<CompletableFuture<String>> submitted = new ArrayList<>(WALLETS * TRANSACTIONS_PER_WALLET);
+            for (int i = 0; i < TRANSACTIONS_PER_WALLET; i++) {
+                for (CryptoWallet wallet : wallets) {
+                    submitted.add(pipeline.submit(wallet, "0x52908400098527886e0f7030069857d2e4169ee7",
+                                                  BigInteger.valueOf(1_000_000L + i), null));
+                }
+            }
+            CompletableFuture.allOf(submitted.toArray(new CompletableFuture[0])).join();
+            double perSecond = submitted.size() * 1e9 / (System.nanoTime() - started);
+
+            int mined = evm.mine(Integer.MAX_VALUE);
+            System.out.printf("EVM withdrawals, %d wallets, %d broadcast threads: %.0f tx/sec submitted, %d mined%n",
+                              WALLETS, BROADCAST_THREADS, perSecond, mined);
+            assertThat(perSecond).isPositive();
+            assertThat(mined).isEqualTo(WALLETS * TRANSACTIONS_PER_WALLET);
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    private static CryptoWallet hotWallet(int index) {
+        CryptoWallet wallet = new CryptoWallet();
+        wallet.setId(UUID.randomUUID());
+        wallet.setNetwork(BlockchainNetwork.ETHEREUM);
+        wallet.setWalletAddress(String.format("0x%040x", index + 1));
+        wallet.setIsHotWallet(true);
+        wallet.setGasLimit(21000L);
+        wallet.setMaxFeePerGas(new BigDecimal("30000000000"));
+        wallet.setMaxPriorityFeePerGas(new BigDecimal("1000000000"));
+        jdbcTemplate.update("INSERT INTO crypto_wallets (id, nonce) VALUES (?, 0)", wallet.getId());
+        return wallet;
+    }
+}
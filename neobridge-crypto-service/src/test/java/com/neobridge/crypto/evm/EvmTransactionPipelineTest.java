@@ -0,0 +1,194 @@
+package com.neobridge.crypto.evm;
+
+import com.neobridge.crypto.entity.CryptoWallet;
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.fee.FeeEstimate;
+import com.neobridge.crypto.fee.FeeOracle;
+import com.neobridge.crypto.fee.FeeQuote;
+import com.neobridge.crypto.fee.FeeSpeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class EvmTransactionPipelineTest {
+
+    private static final String FROM = "0x8ba1f109551bd432803012645ac136ddd64dba72";
+    private static final String TO = "0x52908400098527886e0f7030069857d2e4169ee7";
+
+    private final UUID walletId = UUID.randomUUID();
+
+    private SimulatedEvmClient evm;
+    private JdbcTemplate jdbcTemplate;
+    private ObjectProvider<EvmSigner> signers;
+    private FeeOracle feeOracle;
+    private EvmTransactionPipeline pipeline;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        evm = new SimulatedEvmClient(BlockchainNetwork.ETHEREUM);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        signers = mock(ObjectProvider.class);
+        feeOracle = mock(FeeOracle.class);
+        ObjectProvider<EvmClient> clients = mock(ObjectProvider.class);
+        when(clients.iterator()).thenAnswer(invocation -> List.<EvmClient>of(evm).iterator());
+
+        pipeline = new EvmTransactionPipeline();
+        ReflectionTestUtils.setField(pipeline, "nonceManager", mock(NonceManager.class));
+        ReflectionTestUtils.setField(pipeline, "evmClients", clients);
+        ReflectionTestUtils.setField(pipeline, "evmSigner", signers);
+        ReflectionTestUtils.setField(pipeline, "feeOracle", feeOracle);
+        ReflectionTestUtils.setField(pipeline, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(pipeline, "broadcastThreads", 1);
+        pipeline.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void freshSampleSetsTheFees() {
+        quote(false, false);
+
+        EvmTransaction sent = submit(hotWallet("30000000000", "1000000000"));
+
+        assertThat(sent.getMaxFeePerGas()).isEqualTo(new BigInteger("40000000000"));
+        assertThat(sent.getMaxPriorityFeePerGas()).isEqualTo(new BigInteger("2000000000"));
+    }
+
+    @Test
+    void staleSampleDefersToTheWalletsFees() {
+        quote(true, false);
+
+        EvmTransaction sent = submit(hotWallet("30000000000", "1000000000"));
+
+        assertThat(sent.getMaxFeePerGas()).isEqualTo(new BigInteger("30000000000"));
+        assertThat(sent.getMaxPriorityFeePerGas()).isEqualTo(new BigInteger("1000000000"));
+    }
+
+    @Test
+    void fallbackIsUsedWhenTheWalletHasNoFees() {
+        quote(true, true);
+
+        EvmTransaction sent = submit(hotWallet("0", null));
+
+        assertThat(sent.getMaxFeePerGas()).isEqualTo(new BigInteger("40000000000"));
+        assertThat(sent.getMaxPriorityFeePerGas()).isEqualTo(new BigInteger("2000000000"));
+    }
+
+    @Test
+    void noFeeDataAtAllIsRejected() {
+        assertThatThrownBy(() -> pipeline.submit(hotWallet("0", "0"), TO, BigInteger.ONE, null))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void recoveryWithoutSignerLeavesPendingTransactionsAlone() {
+        assertThatCode(pipeline::recover).doesNotThrowAnyException();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void recoveryCarriesOnPastATransactionThatFailsToSign() throws Exception {
+        pending(0, 1, 2);
+        when(signers.getIfAvailable()).thenReturn(transaction -> {
+            if (transaction.getNonce() == 1) {
+                throw new IllegalStateException("HSM unavailable");
+            }
+            return evm.sign(transaction);
+        });
+
+        assertThatCode(pipeline::recover).doesNotThrowAnyException();
+
+        assertThat(evm.getPendingCount(FROM)).isEqualTo(2);
+    }
+
+    private void quote(boolean stale, boolean fallback) {
+        FeeQuote quote = new FeeQuote();
+        quote.setNetwork(BlockchainNetwork.ETHEREUM);
+        quote.setSpeed(FeeSpeed.STANDARD);
+        quote.setMaxFeePerGas(new BigInteger("40000000000"));
+        quote.setMaxPriorityFeePerGas(new BigInteger("2000000000"));
+        quote.setStale(stale);
+        quote.setFallback(fallback);
+        when(feeOracle.getEstimate(BlockchainNetwork.ETHEREUM)).thenReturn(mock(FeeEstimate.class));
+        when(feeOracle.quote(eq(BlockchainNetwork.ETHEREUM), eq(FeeSpeed.STANDARD))).thenReturn(quote);
+    }
+
+    private EvmTransaction submit(CryptoWallet wallet) {
+        AtomicReference<EvmTransaction> signed = new AtomicReference<>();
+        when(signers.getIfAvailable()).thenReturn(transaction -> {
+            signed.set(transaction);
+            return evm.sign(transaction);
+        });
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+
+        pipeline.submit(wallet, TO, BigInteger.ONE, null).join();
+        return signed.get();
+    }
+
+    private CryptoWallet hotWallet(String maxFeePerGas, String maxPriorityFeePerGas) {
+        CryptoWallet wallet = new CryptoWallet();
+        wallet.setId(walletId);
+        wallet.setNetwork(BlockchainNetwork.ETHEREUM);
+        wallet.setWalletAddress(FROM);
+        wallet.setMaxFeePerGas(maxFeePerGas != null ? new BigDecimal(maxFeePerGas) : null);
+        wallet.setMaxPriorityFeePerGas(maxPriorityFeePerGas != null ? new BigDecimal(maxPriorityFeePerGas) : null);
+        return wallet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pending(long... nonces) throws Exception {
+        List<ResultSet> rows = new ArrayList<>();
+        for (long nonce : nonces) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getObject(1, UUID.class)).thenReturn(walletId);
+            when(rs.getString(2)).thenReturn(BlockchainNetwork.ETHEREUM.name());
+            when(rs.getString(3)).thenReturn(FROM);
+            when(rs.getString(4)).thenReturn(TO);
+            when(rs.getLong(5)).thenReturn(nonce);
+            when(rs.getBigDecimal(6)).thenReturn(BigDecimal.ONE);
+            when(rs.getLong(7)).thenReturn(21000L);
+            when(rs.getBigDecimal(8)).thenReturn(new BigDecimal("30000000000"));
+            when(rs.getBigDecimal(9)).thenReturn(new BigDecimal("1000000000"));
+            when(rs.getString(11)).thenReturn("0x" + nonce);
+            when(rs.getTimestamp(12)).thenReturn(Timestamp.from(Instant.now()));
+            rows.add(rs);
+        }
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            List<Object> mapped = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                mapped.add(mapper.mapRow(rows.get(i), i));
+            }
+            return mapped;
+        });
+    }
+}
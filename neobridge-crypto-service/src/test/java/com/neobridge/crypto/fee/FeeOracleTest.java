@@ -0,0 +1,161 @@
+package com.neobridge.crypto.fee;
+
+import com.neobridge.crypto.entity.CryptoWallet.BlockchainNetwork;
+import com.neobridge.crypto.evm.NonceManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fee tiers are percentiles of recently paid fees, EIP-1559 max fees add a
+ * multiple of the base fee, and networks without samples are quoted from the
+ * configured gas defaults.
+ */
+class FeeOracleTest {
+
+    private final List<BlockFeeSample> samples = new ArrayList<>();
+    private final Set<UUID> signingWallets = Set.of(UUID.randomUUID());
+
+    private JdbcTemplate jdbcTemplate;
+    private NonceManager nonceManager;
+    private FeeOracle oracle;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        FeeSource source = mock(FeeSource.class);
+        when(source.getNetwork()).thenReturn(BlockchainNetwork.ETHEREUM);
+        when(source.sampleRecentBlocks(20)).thenAnswer(invocation -> List.copyOf(samples));
+        ObjectProvider<FeeSource> sources = mock(ObjectProvider.class);
+        when(sources.orderedStream()).thenAnswer(invocation -> Stream.of(source));
+        jdbcTemplate = mock(JdbcTemplate.class);
+        nonceManager = mock(NonceManager.class);
+        when(nonceManager.getWalletIds()).thenReturn(signingWallets);
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("neobridge.crypto.gas.polygon.default_price", "30000000000")
+            .withProperty("neobridge.crypto.gas.polygon.priority_fee", "2000000000");
+
+        oracle = new FeeOracle();
+        ReflectionTestUtils.setField(oracle, "feeSources", sources);
+        ReflectionTestUtils.setField(oracle, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(oracle, "environment", environment);
+        ReflectionTestUtils.setField(oracle, "nonceManager", nonceManager);
+        ReflectionTestUtils.setField(oracle, "sampleBlocks", 20);
+        ReflectionTestUtils.setField(oracle, "percentiles", new int[] {10, 50, 90});
+        ReflectionTestUtils.setField(oracle, "baseFeeMultiplier", 2);
+        ReflectionTestUtils.setField(oracle, "maxAge", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(oracle, "walletUpdateInterval", Duration.ZERO);
+        ReflectionTestUtils.setField(oracle, "walletUpdateChangePercent", 10);
+        oracle.init();
+    }
+
+    @Test
+    void tiersArePercentilesOfFeesPaidAcrossTheSampledBlocks() {
+        samples.add(new BlockFeeSample(100, 40, new long[] {7, 1, 5, 3, 9}));
+        samples.add(new BlockFeeSample(101, 50, new long[] {2, 10, 4, 8, 6}));
+
+        oracle.sampleAll();
+
+        // Ten fees 1..10: the 10th, 50th and 90th percentiles are the 1st, 5th and 9th of them
+        FeeEstimate estimate = oracle.getEstimate(BlockchainNetwork.ETHEREUM);
+        assertThat(estimate.isFallback()).isFalse();
+        assertThat(estimate.getBlockHeight()).isEqualTo(101);
+        assertThat(estimate.getMaxPriorityFeePerGas(FeeSpeed.SLOW)).isEqualTo(BigInteger.valueOf(1));
+        assertThat(estimate.getMaxPriorityFeePerGas(FeeSpeed.STANDARD)).isEqualTo(BigInteger.valueOf(5));
+        assertThat(estimate.getMaxPriorityFeePerGas(FeeSpeed.FAST)).isEqualTo(BigInteger.valueOf(9));
+    }
+
+    @Test
+    void maxFeeLeavesRoomForTheLatestBaseFeeToGrow() {
+        samples.add(new BlockFeeSample(100, 40, new long[] {3}));
+        samples.add(new BlockFeeSample(101, 50, new long[] {3}));
+
+        oracle.sampleAll();
+
+        FeeQuote quote = oracle.quote(BlockchainNetwork.ETHEREUM, FeeSpeed.STANDARD);
+        assertThat(quote.getMaxFeePerGas()).isEqualTo(BigInteger.valueOf(2 * 50 + 3));
+        assertThat(quote.getMaxPriorityFeePerGas()).isEqualTo(BigInteger.valueOf(3));
+        assertThat(quote.getGasPrice()).isEqualTo(BigInteger.valueOf(50 + 3));
+        assertThat(quote.isStale()).isFalse();
+        assertThat(quote.isFallback()).isFalse();
+    }
+
+    @Test
+    void legacyBlocksQuoteThePaidGasPrice() {
+        samples.add(new BlockFeeSample(100, -1, new long[] {20, 30, 40}));
+
+        oracle.sampleAll();
+
+        FeeQuote quote = oracle.quote(BlockchainNetwork.ETHEREUM, FeeSpeed.FAST);
+        assertThat(oracle.getEstimate(BlockchainNetwork.ETHEREUM).isLegacy()).isTrue();
+        assertThat(quote.getMaxFeePerGas()).isEqualTo(BigInteger.valueOf(40));
+        assertThat(quote.getGasPrice()).isEqualTo(BigInteger.valueOf(40));
+    }
+
+    @Test
+    void unsampledNetworksAreQuotedFromTheConfiguredDefaults() {
+        FeeQuote quote = oracle.quote(BlockchainNetwork.POLYGON, FeeSpeed.FAST);
+
+        assertThat(quote.isFallback()).isTrue();
+        assertThat(quote.isStale()).isTrue();
+        assertThat(quote.getMaxPriorityFeePerGas()).isEqualTo(new BigInteger("2000000000"));
+        assertThat(quote.getMaxFeePerGas()).isEqualTo(new BigInteger("32000000000"));
+        assertThatThrownBy(() -> oracle.quote(BlockchainNetwork.ETHEREUM, FeeSpeed.FAST))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onlySigningWalletsAreUpdatedAndOnlyWhenTheFeeMoved() {
+        samples.add(new BlockFeeSample(100, 50, new long[] {3}));
+        oracle.sampleAll();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(1);
+        assertThat(rows.getValue().get(0))
+            .containsExactly(new BigDecimal(103), new BigDecimal(3), new BigDecimal(53), rows.getValue().get(0)[3],
+                             signingWallets.iterator().next(), "ETHEREUM");
+
+        // 103 -> 105 is under the 10% threshold; 103 -> 123 is not
+        samples.set(0, new BlockFeeSample(101, 51, new long[] {3}));
+        oracle.sampleAll();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        samples.set(0, new BlockFeeSample(102, 60, new long[] {3}));
+        oracle.sampleAll();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void nothingIsWrittenWithoutSigningWallets() {
+        when(nonceManager.getWalletIds()).thenReturn(Set.of());
+        samples.add(new BlockFeeSample(100, 50, new long[] {3}));
+
+        oracle.sampleAll();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+}
@@ -0,0 +1,83 @@
+package com.neobridge.crypto.portfolio;
+
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.price.PriceBoard;
+import com.neobridge.crypto.price.PriceTick;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortfolioAggregatorTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID walletId = UUID.randomUUID();
+
+    private PortfolioAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        FxRateService fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "baseCurrency", "EUR");
+        ReflectionTestUtils.setField(fxRateService, "maxAge", Duration.ofMinutes(5));
+        fxRateService.init();
+
+        PriceBoard priceBoard = new PriceBoard();
+        ReflectionTestUtils.setField(priceBoard, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(priceBoard, "maxAge", Duration.ofMinutes(5));
+        priceBoard.init();
+        Instant now = Instant.now();
+        priceBoard.apply(new PriceTick(Cryptocurrency.BTC, "USD", new BigDecimal("60000"), now));
+        priceBoard.apply(new PriceTick(Cryptocurrency.BTC, "EUR", new BigDecimal("55000"), now));
+
+        aggregator = new PortfolioAggregator();
+        ReflectionTestUtils.setField(aggregator, "priceBoard", priceBoard);
+        ReflectionTestUtils.setField(aggregator, "maxStaleness", Duration.ofSeconds(10));
+    }
+
+    @Test
+    void olderBalanceNeverReplacesNewerOne() {
+        aggregator.apply(event(7, "2.0", false));
+        // A wallet row read before the event committed arrives afterwards
+        aggregator.apply(event(6, "1.0", false));
+
+        assertThat(aggregator.getValuation(userId).getTotalUsd()).isEqualByComparingTo("120000");
+    }
+
+    @Test
+    void redeliveredBalanceIsHarmless() {
+        aggregator.apply(event(3, "0.5", false));
+        aggregator.apply(event(3, "0.5", false));
+
+        assertThat(aggregator.getValuation(userId).getTotalUsd()).isEqualByComparingTo("30000");
+    }
+
+    @Test
+    void closedWalletIsNotResurrectedByOlderBalance() {
+        aggregator.apply(event(4, "1.0", false));
+        aggregator.apply(event(5, "1.0", true));
+        aggregator.apply(event(4, "1.0", false));
+
+        assertThat(aggregator.getValuation(userId).getPositions()).isEmpty();
+        assertThat(aggregator.getValuation(userId).getTotalUsd()).isZero();
+    }
+
+    private WalletBalanceEvent event(long version, String totalBalance, boolean closed) {
+        WalletBalanceEvent event = new WalletBalanceEvent();
+        event.setWalletId(walletId);
+        event.setUserId(userId);
+        event.setCryptocurrency(Cryptocurrency.BTC);
+        event.setTotalBalance(new BigDecimal(totalBalance));
+        event.setVersion(version);
+        event.setClosed(closed);
+        event.setOccurredAt(Instant.now());
+        return event;
+    }
+}
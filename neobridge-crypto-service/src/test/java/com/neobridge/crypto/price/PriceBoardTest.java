@@ -0,0 +1,76 @@
+package com.neobridge.crypto.price;
+
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.common.fx.FxRateUpdate;
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceBoardTest {
+
+    private FxRateService fxRateService;
+    private PriceBoard priceBoard;
+
+    @BeforeEach
+    void setUp() {
+        fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "baseCurrency", "EUR");
+        ReflectionTestUtils.setField(fxRateService, "maxAge", Duration.ofMinutes(5));
+        fxRateService.init();
+
+        priceBoard = new PriceBoard();
+        ReflectionTestUtils.setField(priceBoard, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(priceBoard, "maxAge", Duration.ofMinutes(5));
+        priceBoard.init();
+    }
+
+    @Test
+    void servesQuoteWhenBothSidesAreFresh() {
+        Instant now = Instant.now();
+        priceBoard.apply(new PriceTick(Cryptocurrency.BTC, "USD", new BigDecimal("60000"), now));
+        priceBoard.apply(new PriceTick(Cryptocurrency.BTC, "EUR", new BigDecimal("55000"), now));
+
+        PriceQuote quote = priceBoard.getQuote(Cryptocurrency.BTC);
+
+        assertThat(quote.getPriceEur()).isEqualByComparingTo("55000");
+        assertThat(priceBoard.drainDirty()).containsExactly(Cryptocurrency.BTC);
+    }
+
+    @Test
+    void derivesMissingSideThroughFx() {
+        fxRateService.apply(new FxRateUpdate("EUR", "USD", new BigDecimal("1.20"), Instant.now()));
+        priceBoard.apply(new PriceTick(Cryptocurrency.ETH, "USD", new BigDecimal("3000"), Instant.now()));
+
+        PriceQuote quote = priceBoard.getQuote(Cryptocurrency.ETH);
+
+        assertThat(quote.getPriceUsd()).isEqualByComparingTo("3000");
+        assertThat(quote.getPriceEur()).isEqualByComparingTo("2500");
+    }
+
+    @Test
+    void convertsOtherFiatTicksToUsd() {
+        fxRateService.apply(new FxRateUpdate("EUR", "USD", new BigDecimal("1.20"), Instant.now()));
+        fxRateService.apply(new FxRateUpdate("EUR", "GBP", new BigDecimal("0.80"), Instant.now()));
+
+        assertThat(priceBoard.apply(new PriceTick(Cryptocurrency.SOL, "GBP", new BigDecimal("100"), Instant.now()))).isTrue();
+
+        assertThat(priceBoard.getQuote(Cryptocurrency.SOL).getPriceUsd()).isEqualByComparingTo("150");
+    }
+
+    @Test
+    void withholdsQuoteWithoutFreshSideOrRate() {
+        priceBoard.apply(new PriceTick(Cryptocurrency.ADA, "USD", new BigDecimal("0.50"), Instant.now()));
+        priceBoard.apply(new PriceTick(Cryptocurrency.DOT, "USD", new BigDecimal("7"), Instant.now().minusSeconds(900)));
+
+        assertThat(priceBoard.getQuote(Cryptocurrency.ADA)).isNull();
+        assertThat(priceBoard.getQuote(Cryptocurrency.DOT)).isNull();
+        assertThat(priceBoard.apply(new PriceTick(Cryptocurrency.ADA, "JPY", new BigDecimal("75"), Instant.now()))).isFalse();
+    }
+}
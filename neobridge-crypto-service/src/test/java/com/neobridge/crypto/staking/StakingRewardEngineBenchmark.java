@@ -0,0 +1,116 @@
+package com.neobridge.crypto.staking;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.portfolio.WalletBalancePublisher;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Wallets credited per second by one epoch distribution over 200,000 stakers
+ * at several chunk sizes: the snapshot statement, then the keyset-ordered
+ * apply chunks with their lease renewals. Each epoch must credit every staker
+ * once and total exactly staked x rate. Runs against a PostgreSQL container
+ * and is skipped without Docker.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class StakingRewardEngineBenchmark {
+
+    private static final int STAKERS = 200_000;
+    private static final BigDecimal RATE = new BigDecimal("0.000123287671232877");
+
+    // Only the columns the reward statements touch; the service table is created by Hibernate
+    private static final String WALLETS_SQL =
+        "CREATE TABLE crypto_wallets (id UUID PRIMARY KEY, user_id UUID NOT NULL, cryptocurrency VARCHAR(20) NOT NULL, " +
+        "status VARCHAR(20) NOT NULL, staked_balance DECIMAL(30,18) NOT NULL DEFAULT 0, " +
+        "balance DECIMAL(30,18) NOT NULL DEFAULT 0, yield_balance DECIMAL(30,18) NOT NULL DEFAULT 0, " +
+        "delegation_rewards DECIMAL(30,18), updated_at TIMESTAMP, version BIGINT NOT NULL DEFAULT 0, " +
+        "deleted BOOLEAN NOT NULL DEFAULT false)";
+
+    private static final String STAKERS_SQL =
+        "INSERT INTO crypto_wallets (id, user_id, cryptocurrency, status, staked_balance, balance) " +
+        "SELECT gen_random_uuid(), gen_random_uuid(), 'ETH', 'ACTIVE', (1 + random() * 31)::numeric(30,18), 1 " +
+        "FROM generate_series(1, ?)";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute(WALLETS_SQL);
+        jdbcTemplate.execute(Files.readString(Path.of("..", "database", "migrations", "V10__Staking_Rewards.sql")));
+        jdbcTemplate.update(STAKERS_SQL, STAKERS);
+        jdbcTemplate.execute("ANALYZE crypto_wallets");
+    }
+
+    @AfterAll
+    static void closeDataSource() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void distributeEpochs() {
+        LocalDate epoch = LocalDate.of(2026, 1, 1);
+        BigDecimal expectedReward = jdbcTemplate.queryForObject(
+            "SELECT SUM(ROUND(staked_balance * ?, 18)) FROM crypto_wallets", BigDecimal.class, RATE);
+        for (int chunkSize : new int[] {1000, 5000, 20000}) {
+            StakingRewardEngine engine = engine(chunkSize);
+            epoch = epoch.plusDays(1);
+
+            long started = System.nanoTime();
+            int credited = engine.distribute(Cryptocurrency.ETH, epoch, RATE);
+            double perSecond = credited * 1e9 / (System.nanoTime() - started);
+
+            BigDecimal totalReward = jdbcTemplate.queryForObject(
+                "SELECT total_reward FROM staking_epochs WHERE cryptocurrency = 'ETH' AND epoch = ?",
+                BigDecimal.class, Date.valueOf(epoch));
+            System.out.printf("Staking epoch over %d stakers, chunks of %d: %.0f wallets/sec%n", STAKERS, chunkSize,
+                              perSecond);
+            assertThat(credited).isEqualTo(STAKERS);
+            assertThat(totalReward).isEqualByComparingTo(expectedReward);
+            // A completed epoch is never distributed twice
+            assertThat(engine.distribute(Cryptocurrency.ETH, epoch, RATE)).isEqualTo(-1);
+        }
+    }
+
+    private static StakingRewardEngine engine(int chunkSize) {
+        StakingRewardEngine engine = new StakingRewardEngine();
+        ReflectionTestUtils.setField(engine, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(engine, "transactionManager", new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(engine, "walletBalancePublisher", mock(WalletBalancePublisher.class));
+        ReflectionTestUtils.setField(engine, "chunkSize", chunkSize);
+        ReflectionTestUtils.setField(engine, "lease", Duration.ofMinutes(10));
+        return engine;
+    }
+}
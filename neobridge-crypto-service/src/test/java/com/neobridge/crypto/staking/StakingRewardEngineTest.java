@@ -0,0 +1,195 @@
+package com.neobridge.crypto.staking;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import com.neobridge.crypto.portfolio.WalletBalanceEvent;
+import com.neobridge.crypto.portfolio.WalletBalancePublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs an epoch twice against an in-memory stand-in for the epoch, reward
+ * ledger and wallet rows, and checks that every staker is credited exactly
+ * once whether the first run completed or failed part-way.
+ */
+class StakingRewardEngineTest {
+
+    private static final LocalDate EPOCH = LocalDate.of(2026, 1, 1);
+    private static final BigDecimal RATE = new BigDecimal("0.000123287671232877");
+
+    // Small positive ids, so that UUID order and PostgreSQL's unsigned order agree
+    private final TreeMap<UUID, BigDecimal> staked = new TreeMap<>();
+    private final TreeMap<UUID, BigDecimal> rewards = new TreeMap<>();
+    private final TreeSet<UUID> applied = new TreeSet<>();
+    private final Map<UUID, BigDecimal> delegationRewards = new HashMap<>();
+
+    private String epochStatus;
+    private BigDecimal epochRate;
+    private String leaseOwner;
+    private int snapshots;
+    private int chunks;
+    private int failChunk = -1;
+
+    private WalletBalancePublisher publisher;
+    private StakingRewardEngine engine;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            staked.put(new UUID(0L, i), BigDecimal.valueOf(i * 10L));
+        }
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(this::update);
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class))).thenAnswer(this::claim);
+        when(jdbcTemplate.queryForObject(anyString(), any(Class.class), any(Object[].class))).thenAnswer(this::queryForObject);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(this::applyChunk);
+        publisher = mock(WalletBalancePublisher.class);
+
+        engine = new StakingRewardEngine();
+        ReflectionTestUtils.setField(engine, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(engine, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(engine, "walletBalancePublisher", publisher);
+        ReflectionTestUtils.setField(engine, "chunkSize", 2);
+        ReflectionTestUtils.setField(engine, "lease", Duration.ofMinutes(10));
+    }
+
+    @Test
+    void completedEpochIsNotDistributedAgain() {
+        assertThat(engine.distribute(Cryptocurrency.ETH, EPOCH, RATE)).isEqualTo(5);
+        assertThat(engine.distribute(Cryptocurrency.ETH, EPOCH, RATE)).isEqualTo(-1);
+
+        assertCreditedOnce();
+        assertThat(epochStatus).isEqualTo("COMPLETED");
+        verify(publisher, times(5)).publish(any(WalletBalanceEvent.class));
+    }
+
+    @Test
+    void retryAfterAFailedChunkCreditsOnlyTheRemainingWallets() {
+        failChunk = 2;
+        assertThatThrownBy(() -> engine.distribute(Cryptocurrency.ETH, EPOCH, RATE))
+            .isInstanceOf(QueryTimeoutException.class);
+        assertThat(applied).containsExactly(new UUID(0L, 1), new UUID(0L, 2));
+
+        // The retry keeps the snapshot and the rate of the first attempt
+        assertThat(engine.distribute(Cryptocurrency.ETH, EPOCH, RATE.multiply(BigDecimal.TEN))).isEqualTo(3);
+
+        assertCreditedOnce();
+        assertThat(snapshots).isEqualTo(1);
+        ArgumentCaptor<WalletBalanceEvent> events = ArgumentCaptor.forClass(WalletBalanceEvent.class);
+        verify(publisher, times(5)).publish(events.capture());
+        assertThat(events.getAllValues()).extracting(WalletBalanceEvent::getWalletId)
+            .containsExactlyElementsOf(staked.keySet());
+    }
+
+    private void assertCreditedOnce() {
+        assertThat(delegationRewards).hasSameSizeAs(staked);
+        staked.forEach((walletId, balance) -> assertThat(delegationRewards.get(walletId))
+            .isEqualByComparingTo(balance.multiply(RATE).setScale(18, RoundingMode.HALF_UP)));
+    }
+
+    private int update(InvocationOnMock invocation) {
+        String sql = invocation.getArgument(0);
+        if (sql.startsWith("INSERT INTO staking_epochs")) {
+            if (epochStatus == null) {
+                epochStatus = "SNAPSHOT";
+                epochRate = invocation.getArgument(3);
+            }
+            return 1;
+        }
+        if (sql.startsWith("INSERT INTO staking_rewards")) {
+            snapshots++;
+            int inserted = 0;
+            for (Map.Entry<UUID, BigDecimal> staker : staked.entrySet()) {
+                if (rewards.putIfAbsent(staker.getKey(), staker.getValue()) == null) {
+                    inserted++;
+                }
+            }
+            return inserted;
+        }
+        if (sql.contains("SET status = 'APPLYING'")) {
+            epochStatus = "APPLYING";
+            return 1;
+        }
+        if (sql.startsWith("UPDATE staking_epochs SET lease_until")) {
+            return invocation.getArgument(4).equals(leaseOwner) ? 1 : 0;
+        }
+        throw new IllegalArgumentException(sql);
+    }
+
+    private List<Map<String, Object>> claim(InvocationOnMock invocation) {
+        String owner = invocation.getArgument(1);
+        if ("COMPLETED".equals(epochStatus) || (leaseOwner != null && !leaseOwner.equals(owner))) {
+            return List.of();
+        }
+        leaseOwner = owner;
+        return List.of(Map.of("status", epochStatus, "rate", epochRate));
+    }
+
+    private Object queryForObject(InvocationOnMock invocation) {
+        String sql = invocation.getArgument(0);
+        if (sql.startsWith("SELECT MAX(wallet_id)")) {
+            return applied.isEmpty() ? null : applied.last();
+        }
+        // Completing the epoch
+        epochStatus = "COMPLETED";
+        leaseOwner = null;
+        return delegationRewards.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private List<Object> applyChunk(InvocationOnMock invocation) throws Exception {
+        if (++chunks == failChunk) {
+            throw new QueryTimeoutException("canceling statement due to statement timeout");
+        }
+        RowMapper<Object> mapper = invocation.getArgument(1);
+        UUID after = invocation.getArgument(4);
+        int limit = invocation.getArgument(5);
+        BigDecimal rate = invocation.getArgument(6);
+        List<Object> credited = new ArrayList<>();
+        for (Map.Entry<UUID, BigDecimal> row : rewards.tailMap(after, false).entrySet()) {
+            if (credited.size() == limit) {
+                break;
+            }
+            if (!applied.add(row.getKey())) {
+                continue;
+            }
+            BigDecimal reward = row.getValue().multiply(rate).setScale(18, RoundingMode.HALF_UP);
+            BigDecimal total = delegationRewards.merge(row.getKey(), reward, BigDecimal::add);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getObject(1, UUID.class)).thenReturn(row.getKey());
+            when(rs.getObject(2, UUID.class)).thenReturn(UUID.randomUUID());
+            when(rs.getBigDecimal(3)).thenReturn(total);
+            when(rs.getLong(4)).thenReturn(1L);
+            credited.add(mapper.mapRow(rs, credited.size()));
+        }
+        return credited;
+    }
+}
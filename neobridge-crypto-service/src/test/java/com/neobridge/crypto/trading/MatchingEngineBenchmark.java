@@ -0,0 +1,161 @@
+package com.neobridge.crypto.trading;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Orders matched per second and p99 match latency with a journal small
+ * enough to be compacted every few thousand orders while settlement is
+ * stalled, as it is when the database is slow. Matching has to carry on
+ * regardless, and a replay of the retained segments afterwards has to
+ * reproduce every execution.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class MatchingEngineBenchmark {
+
+    private static final TradingPair PAIR = new TradingPair(Cryptocurrency.BTC, Cryptocurrency.USDT, 2, 8);
+    private static final int JOURNAL_SIZE = 1 << 20;
+    private static final int FLOOD_ORDERS = 500_000;
+    private static final int PACED_ORDERS = 200_000;
+    private static final int PACED_RATE = 50_000;
+    private static final int PACED_BATCH = 50;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void matchWhileSettlementIsStalled() throws Exception {
+        Path file = dir.resolve(PAIR.getSymbol() + ".journal");
+        Run flood = run(file, FLOOD_ORDERS, 0);
+        System.out.printf("Flooded %d orders with settlement stalled: %.0f orders/sec, %d journal segments retained%n",
+                          FLOOD_ORDERS, flood.ordersPerSecond, flood.segments);
+
+        Run paced = run(dir.resolve("paced").resolve(PAIR.getSymbol() + ".journal"), PACED_ORDERS, PACED_RATE);
+        System.out.printf("Paced %d orders at %d/sec with settlement stalled: p50 %.1f us, p99 %.1f us, max %.1f us%n",
+                          PACED_ORDERS, PACED_RATE, paced.p50Nanos / 1e3, paced.p99Nanos / 1e3, paced.maxNanos / 1e3);
+
+        assertThat(flood.ordersPerSecond).isPositive();
+        assertThat(flood.segments).isPositive();
+        assertThat(paced.p99Nanos).isPositive();
+
+        // Nothing was settled, so a restart replays every execution from the oldest segment
+        OrderJournal journal = OrderJournal.open(file, JOURNAL_SIZE);
+        OrderBook rebuilt = new OrderBook(PAIR, journal.getExecutionBase());
+        List<Execution> executions = new ArrayList<>();
+        journal.replay(new OrderJournal.Replay() {
+            @Override
+            public void place(BookOrder order) {
+                rebuilt.place(order, executions);
+            }
+
+            @Override
+            public void cancel(UUID orderId) {
+                rebuilt.cancel(orderId, executions);
+            }
+        });
+        journal.close();
+        assertThat(journal.getExecutionBase()).isZero();
+        assertThat(rebuilt.getExecutionSequence()).isEqualTo(flood.executionSequence);
+        assertThat(executions).hasSize((int) flood.executionSequence);
+        assertThat(rebuilt.size()).isEqualTo(flood.resting);
+    }
+
+    private static Run run(Path file, int orders, int perSecond) throws Exception {
+        OrderJournal journal = OrderJournal.open(file, JOURNAL_SIZE);
+        OrderBook book = new OrderBook(PAIR, journal.getExecutionBase());
+        journal.replay(new OrderJournal.Replay() {
+            @Override
+            public void place(BookOrder order) {}
+
+            @Override
+            public void cancel(UUID orderId) {}
+        });
+        // Never started: settlement makes no progress for the whole run
+        TradeSettlement settlement = new TradeSettlement(PAIR, 0L, null, null, null, 1000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MatchingEngine engine = new MatchingEngine(book, journal, settlement, 256, registry);
+        Thread thread = new Thread(engine, "matching-benchmark");
+        thread.start();
+
+        // Generated up front so that random order ids do not limit the rate orders are offered at
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BookOrder[] generated = new BookOrder[orders];
+        for (int i = 0; i < orders; i++) {
+            generated[i] = order(random);
+        }
+        long started = System.nanoTime();
+        long interval = perSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / perSecond : 0;
+        for (int i = 0; i < orders; i++) {
+            if (interval > 0 && i % PACED_BATCH == 0) {
+                // Parked rather than spun, so the producer leaves the matching thread its core
+                long wait = started + i * interval - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            engine.place(generated[i]);
+        }
+        engine.stop();
+        thread.join();
+        long elapsed = System.nanoTime() - started;
+
+        Run run = new Run();
+        run.ordersPerSecond = orders * 1e9 / elapsed;
+        HistogramSnapshot latency = registry.get("neobridge.trading.match.latency").timer().takeSnapshot();
+        for (ValueAtPercentile percentile : latency.percentileValues()) {
+            if (percentile.percentile() == 0.5) {
+                run.p50Nanos = percentile.value(TimeUnit.NANOSECONDS);
+            } else if (percentile.percentile() == 0.99) {
+                run.p99Nanos = percentile.value(TimeUnit.NANOSECONDS);
+            }
+        }
+        run.maxNanos = latency.max(TimeUnit.NANOSECONDS);
+        run.executionSequence = book.getExecutionSequence();
+        run.resting = book.size();
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            run.segments = files.filter(path -> !path.equals(file)).count();
+        }
+        journal.close();
+        return run;
+    }
+
+    /**
+     * Buys and sells overlapping around the same price, so most orders fill
+     * and the resting book stays small enough for each compacted journal.
+     */
+    private static BookOrder order(ThreadLocalRandom random) {
+        OrderSide side = random.nextBoolean() ? OrderSide.BUY : OrderSide.SELL;
+        long price = side == OrderSide.BUY ? 10_000 + random.nextInt(5) : 10_000 - random.nextInt(5);
+        return new BookOrder(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), side,
+                             price, 1 + random.nextInt(10));
+    }
+
+    private static final class Run {
+
+        private double ordersPerSecond;
+        private double p50Nanos;
+        private double p99Nanos;
+        private double maxNanos;
+        private long executionSequence;
+        private int resting;
+        private long segments;
+    }
+}
@@ -0,0 +1,129 @@
+package com.neobridge.crypto.trading;
+
+import com.neobridge.crypto.entity.CryptoWallet.Cryptocurrency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compaction keeps the full journal as a segment until settlement catches up,
+ * so a restart with unsettled executions replays every one of them.
+ */
+class OrderJournalTest {
+
+    private static final TradingPair PAIR = new TradingPair(Cryptocurrency.BTC, Cryptocurrency.USDT, 2, 8);
+    private static final int CAPACITY = OrderJournal.HEADER_SIZE + 16 * OrderJournal.RECORD_SIZE;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void restartReplaysExecutionsOfCompactedSegments() throws IOException {
+        Path file = dir.resolve("BTC-USDT.journal");
+        OrderJournal journal = OrderJournal.open(file, CAPACITY);
+        OrderBook book = new OrderBook(PAIR, journal.getExecutionBase());
+        List<Execution> executions = new ArrayList<>();
+        place(journal, book, executions, order(OrderSide.SELL, 10));
+        place(journal, book, executions, order(OrderSide.BUY, 4));
+        journal.compact(book.getExecutionSequence(), book::forEachResting);
+        place(journal, book, executions, order(OrderSide.BUY, 6));
+        journal.force();
+        journal.close();
+
+        assertThat(executions).extracting(execution -> execution.sequence).containsExactly(1L, 2L);
+        assertThat(file.resolveSibling("BTC-USDT.journal.1")).exists();
+
+        // Nothing settled: the replay starts from the retained segment
+        List<Execution> replayed = reopen(file, 0);
+        assertThat(replayed).extracting(execution -> execution.sequence).containsExactly(1L, 2L);
+        assertThat(replayed).extracting(execution -> execution.quantity).containsExactly(4L, 6L);
+    }
+
+    @Test
+    void releaseDeletesSegmentsOnceTheirExecutionsAreSettled() throws IOException {
+        Path file = dir.resolve("BTC-USDT.journal");
+        OrderJournal journal = OrderJournal.open(file, CAPACITY);
+        OrderBook book = new OrderBook(PAIR, journal.getExecutionBase());
+        List<Execution> executions = new ArrayList<>();
+        place(journal, book, executions, order(OrderSide.SELL, 10));
+        place(journal, book, executions, order(OrderSide.BUY, 4));
+        journal.compact(book.getExecutionSequence(), book::forEachResting);
+        place(journal, book, executions, order(OrderSide.BUY, 1));
+        journal.compact(book.getExecutionSequence(), book::forEachResting);
+
+        assertThat(journal.release(0)).isEqualTo(2);
+        assertThat(journal.release(1)).isEqualTo(1);
+        assertThat(file.resolveSibling("BTC-USDT.journal.1")).doesNotExist();
+        assertThat(journal.getExecutionBase()).isEqualTo(1);
+        assertThat(journal.release(2)).isZero();
+        assertThat(journal.getExecutionBase()).isEqualTo(2);
+        journal.close();
+
+        // The current file alone holds the resting remainder
+        OrderJournal reopened = OrderJournal.open(file, CAPACITY);
+        OrderBook rebuilt = new OrderBook(PAIR, reopened.getExecutionBase());
+        reopened.replay(replayInto(rebuilt, new ArrayList<>()));
+        reopened.close();
+        assertThat(rebuilt.size()).isEqualTo(1);
+        assertThat(rebuilt.getExecutionSequence()).isEqualTo(2);
+    }
+
+    @Test
+    void openFinishesCompactionInterruptedBeforeTheNewFileWasMovedIn() throws IOException {
+        Path file = dir.resolve("BTC-USDT.journal");
+        OrderJournal journal = OrderJournal.open(file, CAPACITY);
+        OrderBook book = new OrderBook(PAIR, journal.getExecutionBase());
+        List<Execution> executions = new ArrayList<>();
+        place(journal, book, executions, order(OrderSide.SELL, 10));
+        place(journal, book, executions, order(OrderSide.BUY, 4));
+        journal.compact(book.getExecutionSequence(), book::forEachResting);
+        journal.close();
+        Files.move(file, file.resolveSibling("BTC-USDT.journal.tmp"));
+
+        List<Execution> replayed = reopen(file, 0);
+        assertThat(replayed).extracting(execution -> execution.sequence).containsExactly(1L);
+        assertThat(file).exists();
+    }
+
+    private static List<Execution> reopen(Path file, long settledSequence) throws IOException {
+        OrderJournal journal = OrderJournal.open(file, CAPACITY);
+        OrderBook book = new OrderBook(PAIR, journal.getExecutionBase());
+        List<Execution> executions = new ArrayList<>();
+        journal.replay(replayInto(book, executions));
+        journal.release(settledSequence);
+        journal.close();
+        return executions;
+    }
+
+    private static OrderJournal.Replay replayInto(OrderBook book, List<Execution> executions) {
+        return new OrderJournal.Replay() {
+            @Override
+            public void place(BookOrder order) {
+                book.place(order, executions);
+            }
+
+            @Override
+            public void cancel(UUID orderId) {
+                book.cancel(orderId, executions);
+            }
+        };
+    }
+
+    private static void place(OrderJournal journal, OrderBook book, List<Execution> executions, BookOrder order) {
+        journal.appendPlace(order);
+        book.place(order, executions);
+    }
+
+    private static BookOrder order(OrderSide side, long quantity) {
+        return new BookOrder(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), side,
+                             10_000, quantity);
+    }
+}
@@ -0,0 +1,42 @@
+package com.neobridge.crypto.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Blocking all of an address's bits into one cache line keeps the filter
+ * free of false negatives and close to its configured false-positive rate.
+ */
+class AddressBloomFilterTest {
+
+    private static final int ADDRESSES = 200_000;
+
+    @Test
+    void neverMissesAnAddedAddressAndStaysNearItsFalsePositiveRate() {
+        AddressBloomFilter filter = new AddressBloomFilter(ADDRESSES, 0.001);
+        Random random = new Random(7);
+        String[] added = new String[ADDRESSES];
+        for (int i = 0; i < ADDRESSES; i++) {
+            added[i] = address(random);
+            filter.put(added[i]);
+        }
+
+        for (String address : added) {
+            assertThat(filter.mightContain(address)).isTrue();
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < ADDRESSES; i++) {
+            if (filter.mightContain(address(random))) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / ADDRESSES).isLessThan(0.001);
+    }
+
+    private static String address(Random random) {
+        return String.format("0x%016x%016x%08x", random.nextLong(), random.nextLong(), random.nextInt());
+    }
+}
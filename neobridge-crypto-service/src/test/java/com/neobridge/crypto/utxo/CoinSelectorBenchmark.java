@@ -0,0 +1,83 @@
+package com.neobridge.crypto.utxo;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Coin selection latency over a wallet with 100,000 unspent outputs, for
+ * targets that branch-and-bound can usually match without change and for
+ * ones that fall through to the knapsack search. Values are spread from dust
+ * to a few coins the way a busy deposit wallet accumulates them.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class CoinSelectorBenchmark {
+
+    private static final int UTXOS = 100_000;
+    private static final int SELECTIONS = 100;
+    private static final int TIP_HEIGHT = 850_000;
+    private static final long FEE_RATE = 12;
+
+    @Test
+    void selectFromLargeWallet() {
+        UtxoSet utxos = new UtxoSet(64);
+        Random random = new Random(42);
+        byte[] txid = new byte[32];
+        long started = System.nanoTime();
+        for (int i = 0; i < UTXOS; i++) {
+            random.nextBytes(txid);
+            // Log-uniform between 1,000 sats and 5 BTC
+            long value = (long) Math.pow(10, 3 + random.nextDouble() * Math.log10(500_000));
+            utxos.put(HexFormat.of().formatHex(txid), random.nextInt(4), value, TIP_HEIGHT - random.nextInt(50_000));
+        }
+        System.out.printf("Indexed %d UTXOs in %.0f ms, %d sats total%n", utxos.size(),
+                          (System.nanoTime() - started) / 1e6, utxos.totalValue());
+
+        CoinSelector selector = selector();
+        for (long target : new long[] {50_000L, 2_500_000L, 150_000_000L, 2_000_000_000L}) {
+            select(selector, utxos, target, SELECTIONS / 10); // warm-up
+            long[] latencies = new long[SELECTIONS];
+            String algorithm = null;
+            int inputs = 0;
+            for (int i = 0; i < SELECTIONS; i++) {
+                long t0 = System.nanoTime();
+                CoinSelection selection = selector.select(utxos, target + i, FEE_RATE, 1, TIP_HEIGHT);
+                latencies[i] = System.nanoTime() - t0;
+                assertThat(selection).isNotNull();
+                algorithm = selection.getAlgorithm();
+                inputs = selection.getInputs().size();
+            }
+            Arrays.sort(latencies);
+            System.out.printf("Select %,d sats at %d sat/vB: %s, %d inputs, p50 %.2f ms, p99 %.2f ms%n", target,
+                              FEE_RATE, algorithm, inputs, latencies[SELECTIONS / 2] / 1e6,
+                              latencies[SELECTIONS * 99 / 100] / 1e6);
+            assertThat(latencies[0]).isPositive();
+        }
+    }
+
+    private static void select(CoinSelector selector, UtxoSet utxos, long target, int times) {
+        for (int i = 0; i < times; i++) {
+            selector.select(utxos, target + i, FEE_RATE, 1, TIP_HEIGHT);
+        }
+    }
+
+    private static CoinSelector selector() {
+        CoinSelector selector = new CoinSelector();
+        ReflectionTestUtils.setField(selector, "inputVbytes", 68);
+        ReflectionTestUtils.setField(selector, "outputVbytes", 31);
+        ReflectionTestUtils.setField(selector, "overheadVbytes", 11);
+        ReflectionTestUtils.setField(selector, "minChange", 5000L);
+        ReflectionTestUtils.setField(selector, "maxInputs", 500);
+        ReflectionTestUtils.setField(selector, "bnbTries", 100_000);
+        ReflectionTestUtils.setField(selector, "knapsackIterations", 1000);
+        ReflectionTestUtils.setField(selector, "knapsackCandidates", 2000);
+        return selector;
+    }
+}
@@ -0,0 +1,106 @@
+package com.neobridge.crypto.utxo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Selection at 1 sat/vB, where spending an input costs 68 sats, a change
+ * output 31 sats and the transaction with its one payment output 42 sats.
+ */
+class CoinSelectorTest {
+
+    private static final int TIP_HEIGHT = 1_000;
+    private static final long FEE_RATE = 1;
+
+    private final CoinSelector selector = selector();
+
+    @Test
+    void branchAndBoundFindsAChangelessExactMatch() {
+        UtxoSet utxos = new UtxoSet(4);
+        utxos.put(txid(1), 0, 100_000, 900);
+        utxos.put(txid(2), 0, 10_068, 900);
+        utxos.put(txid(3), 0, 5_068, 900);
+        utxos.put(txid(4), 0, 3_068, 900);
+
+        // 10,000 + 5,000 sats of effective value pay exactly 14,958 plus the 42 sats overhead
+        CoinSelection selection = selector.select(utxos, 14_958, FEE_RATE, 1, TIP_HEIGHT);
+
+        assertThat(selection.getAlgorithm()).isEqualTo("bnb");
+        assertThat(selection.getInputs()).containsExactlyInAnyOrder(new Outpoint(txid(2), 0), new Outpoint(txid(3), 0));
+        assertThat(selection.getChange()).isZero();
+        assertThat(selection.getFee()).isEqualTo(42 + 2 * 68);
+    }
+
+    @Test
+    void knapsackPaysChangeWhenNoChangelessMatchExists() {
+        UtxoSet utxos = new UtxoSet(1);
+        utxos.put(txid(1), 0, 100_000, 900);
+
+        CoinSelection selection = selector.select(utxos, 50_000, FEE_RATE, 1, TIP_HEIGHT);
+
+        assertThat(selection.getAlgorithm()).isEqualTo("knapsack");
+        assertThat(selection.getInputs()).containsExactly(new Outpoint(txid(1), 0));
+        assertThat(selection.getFee()).isEqualTo(42 + 68 + 31);
+        assertThat(selection.getChange()).isEqualTo(100_000 - 50_000 - 141);
+    }
+
+    @Test
+    void insufficientFundsSelectNothing() {
+        UtxoSet utxos = new UtxoSet(2);
+        utxos.put(txid(1), 0, 10_000, 900);
+        utxos.put(txid(2), 0, 20_000, 900);
+
+        assertThat(selector.select(utxos, 50_000, FEE_RATE, 1, TIP_HEIGHT)).isNull();
+    }
+
+    @Test
+    void changeBelowTheMinimumIsLeftToTheFee() {
+        UtxoSet utxos = new UtxoSet(1);
+        utxos.put(txid(1), 0, 54_000, 900);
+
+        // 3,859 sats of change would be under the 5,000 sats minimum
+        CoinSelection selection = selector.select(utxos, 50_000, FEE_RATE, 1, TIP_HEIGHT);
+
+        assertThat(selection.getInputs()).containsExactly(new Outpoint(txid(1), 0));
+        assertThat(selection.getChange()).isZero();
+        assertThat(selection.getFee()).isEqualTo(4_000);
+    }
+
+    @Test
+    void reservedAndUnconfirmedOutputsAreNotSpent() {
+        UtxoSet utxos = new UtxoSet(3);
+        utxos.put(txid(1), 0, 500_000, 900);
+        utxos.put(txid(2), 0, 400_000, 0);
+        utxos.put(txid(3), 0, 100_000, 900);
+        utxos.setReservedUntil(utxos.indexOf(txid(1), 0), System.currentTimeMillis() + 60_000);
+
+        CoinSelection selection = selector.select(utxos, 50_000, FEE_RATE, 1, TIP_HEIGHT);
+
+        assertThat(selection.getInputs()).containsExactly(new Outpoint(txid(3), 0));
+        assertThat(selector.select(utxos, 200_000, FEE_RATE, 1, TIP_HEIGHT)).isNull();
+
+        // An expired reservation makes the output spendable again
+        utxos.setReservedUntil(utxos.indexOf(txid(1), 0), 0);
+        assertThat(selector.select(utxos, 200_000, FEE_RATE, 1, TIP_HEIGHT).getInputs())
+            .containsExactly(new Outpoint(txid(1), 0));
+    }
+
+    private static String txid(int n) {
+        return String.format("%064x", n);
+    }
+
+    private static CoinSelector selector() {
+        CoinSelector selector = new CoinSelector();
+        ReflectionTestUtils.setField(selector, "inputVbytes", 68);
+        ReflectionTestUtils.setField(selector, "outputVbytes", 31);
+        ReflectionTestUtils.setField(selector, "overheadVbytes", 11);
+        ReflectionTestUtils.setField(selector, "minChange", 5000L);
+        ReflectionTestUtils.setField(selector, "maxInputs", 500);
+        ReflectionTestUtils.setField(selector, "bnbTries", 100_000);
+        ReflectionTestUtils.setField(selector, "knapsackIterations", 1000);
+        ReflectionTestUtils.setField(selector, "knapsackCandidates", 2000);
+        return selector;
+    }
+}
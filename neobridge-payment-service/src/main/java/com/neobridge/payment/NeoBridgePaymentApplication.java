@@ -11,7 +11,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * Main Spring Boot application class for the NeoBridge Payment Service.
  * Provides payment processing, settlement, and compliance features.
  */
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.neobridge.payment", "com.neobridge.common.fx", "com.neobridge.common.stream"})
 @EnableJpaAuditing
 @EnableKafka
 @EnableCaching
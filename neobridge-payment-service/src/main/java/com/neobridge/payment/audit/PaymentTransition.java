@@ -0,0 +1,45 @@
+package com.neobridge.payment.audit;
+
+import com.neobridge.payment.entity.Payment.PaymentStatus;
+
+import java.time.Instant;
+
+/**
+ * One payment status transition from the append-only event log.
+ * {@code fromStatus} is {@code null} for the creation entry.
+ */
+public class PaymentTransition {
+
+    private final PaymentStatus fromStatus;
+    private final PaymentStatus toStatus;
+    private final String code;
+    private final Instant occurredAt;
+
+    public PaymentTransition(PaymentStatus fromStatus, PaymentStatus toStatus, String code, Instant occurredAt) {
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.code = code;
+        this.occurredAt = occurredAt;
+    }
+
+    public PaymentStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public PaymentStatus getToStatus() {
+        return toStatus;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return fromStatus + "->" + toStatus + "@" + occurredAt;
+    }
+}
@@ -0,0 +1,104 @@
+package com.neobridge.payment.audit;
+
+import com.neobridge.payment.entity.Payment;
+import com.neobridge.payment.entity.Payment.PaymentStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only log of payment status transitions in the day-partitioned
+ * {@code payment_transitions} table. Statuses are stored by name, so adding
+ * a status never changes the meaning of rows already written.
+ * Transitions recorded inside a transaction are buffered and written in one
+ * batch just before it commits, so they land atomically with the state change.
+ */
+@Repository
+public class PaymentTransitionLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentTransitionLog.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO payment_transitions (payment_id, occurred_at, from_status, to_status, code) VALUES (?, ?, ?, ?, ?)";
+
+    // occurred_at bound prunes the scan to partitions since the payment was created
+    private static final String TIMELINE_SQL =
+        "SELECT from_status, to_status, code, occurred_at FROM payment_transitions " +
+        "WHERE payment_id = ? AND occurred_at >= ? ORDER BY occurred_at, id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Record a transition of the payment from {@code from} to its current status.
+     * No-op when the status did not change.
+     */
+    public void record(Payment payment, PaymentStatus from, String code) {
+        if (from == payment.getStatus()) {
+            return;
+        }
+        Object[] row = {
+            payment.getId(),
+            Timestamp.from(Instant.now()),
+            from != null ? from.name() : null,
+            payment.getStatus().name(),
+            code
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(INSERT_SQL, row);
+            return;
+        }
+        pendingRows().add(row);
+    }
+
+    /**
+     * All transitions of a payment, oldest first.
+     *
+     * @param since lower bound on transition time, normally the payment's creation time
+     */
+    public List<PaymentTransition> timeline(UUID paymentId, Instant since) {
+        return jdbcTemplate.query(TIMELINE_SQL, (rs, rowNum) -> map(rs), paymentId, Timestamp.from(since));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pendingRows() {
+        List<Object[]> pending = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Object[]> rows = new ArrayList<>(4);
+            TransactionSynchronizationManager.bindResource(this, rows);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                    logger.debug("Appended {} payment transitions", rows.size());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PaymentTransitionLog.this);
+                }
+            });
+            pending = rows;
+        }
+        return pending;
+    }
+
+    private static PaymentTransition map(ResultSet rs) throws SQLException {
+        String from = rs.getString(1);
+        PaymentStatus fromStatus = from != null ? PaymentStatus.valueOf(from) : null;
+        return new PaymentTransition(fromStatus, PaymentStatus.valueOf(rs.getString(2)), rs.getString(3),
+                                     rs.getTimestamp(4).toInstant());
+    }
+}
@@ -0,0 +1,87 @@
+package com.neobridge.payment.audit;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Keeps daily partitions of {@code payment_transitions} created ahead of time
+ * and, when a retention is configured, drops partitions that fell out of it.
+ * Dropping a whole day is a metadata operation, unlike deleting rows.
+ */
+@Component
+public class PaymentTransitionPartitions {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentTransitionPartitions.class);
+
+    private static final String PREFIX = "payment_transitions_";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String PARTITIONS_SQL =
+        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+        "WHERE i.inhparent = 'payment_transitions'::regclass";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${neobridge.payment.transitions.days-ahead:7}")
+    private int daysAhead;
+
+    @Value("${neobridge.payment.transitions.retention-days:0}")
+    private int retentionDays;
+
+    @PostConstruct
+    public void init() {
+        maintain();
+    }
+
+    /**
+     * Create the partitions for today and the coming days, then drop expired ones.
+     */
+    @Scheduled(cron = "${neobridge.payment.transitions.maintenance-cron:0 15 0 * * *}")
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+        try {
+            for (int day = 0; day <= daysAhead; day++) {
+                createPartition(today.plusDays(day));
+            }
+            if (retentionDays > 0) {
+                dropPartitionsBefore(today.minusDays(retentionDays));
+            }
+        } catch (Exception e) {
+            logger.error("Payment transition partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void createPartition(LocalDate day) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + PREFIX + day.format(SUFFIX) +
+                             " PARTITION OF payment_transitions FOR VALUES FROM ('" + day +
+                             "') TO ('" + day.plusDays(1) + "')");
+    }
+
+    private void dropPartitionsBefore(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class);
+        for (String partition : partitions) {
+            LocalDate day;
+            try {
+                day = LocalDate.parse(partition.substring(PREFIX.length()), SUFFIX);
+            } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+                continue; // default partition
+            }
+            if (day.isBefore(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                logger.info("Dropped payment transition partition {}", partition);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.neobridge.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fee structure configuration bound from {@code neobridge.payment.fees}.
+ * Keys are the short payment type names used across the payment configuration
+ * (domestic, international, sepa, ...) plus an optional {@code default} rule.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "neobridge.payment")
+public class PaymentFeeProperties {
+
+    private Map<String, FeeRuleProperties> fees = new HashMap<>();
+
+    public Map<String, FeeRuleProperties> getFees() {
+        return fees;
+    }
+
+    public void setFees(Map<String, FeeRuleProperties> fees) {
+        this.fees = fees;
+    }
+
+    /**
+     * A single fee rule. Unset fields in priority and currency overrides
+     * inherit the value of the enclosing rule.
+     */
+    public static class FeeRuleProperties {
+
+        private BigDecimal percentage;
+        private BigDecimal fixed;
+        private BigDecimal min;
+        private BigDecimal max;
+        private String currency;
+        private List<TierProperties> tiers = new ArrayList<>();
+        private Map<String, FeeRuleProperties> priorities = new HashMap<>();
+        private Map<String, FeeRuleProperties> currencies = new HashMap<>();
+
+        public BigDecimal getPercentage() {
+            return percentage;
+        }
+
+        public void setPercentage(BigDecimal percentage) {
+            this.percentage = percentage;
+        }
+
+        public BigDecimal getFixed() {
+            return fixed;
+        }
+
+        public void setFixed(BigDecimal fixed) {
+            this.fixed = fixed;
+        }
+
+        public BigDecimal getMin() {
+            return min;
+        }
+
+        public void setMin(BigDecimal min) {
+            this.min = min;
+        }
+
+        public BigDecimal getMax() {
+            return max;
+        }
+
+        public void setMax(BigDecimal max) {
+            this.max = max;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public void setCurrency(String currency) {
+            this.currency = currency;
+        }
+
+        public List<TierProperties> getTiers() {
+            return tiers;
+        }
+
+        public void setTiers(List<TierProperties> tiers) {
+            this.tiers = tiers;
+        }
+
+        public Map<String, FeeRuleProperties> getPriorities() {
+            return priorities;
+        }
+
+        public void setPriorities(Map<String, FeeRuleProperties> priorities) {
+            this.priorities = priorities;
+        }
+
+        public Map<String, FeeRuleProperties> getCurrencies() {
+            return currencies;
+        }
+
+        public void setCurrencies(Map<String, FeeRuleProperties> currencies) {
+            this.currencies = currencies;
+        }
+    }
+
+    /**
+     * Amount tier: applies to payments of at least {@code from}, replacing the
+     * percentage and fixed components of the rule it belongs to.
+     */
+    public static class TierProperties {
+
+        private BigDecimal from;
+        private BigDecimal percentage;
+        private BigDecimal fixed;
+
+        public BigDecimal getFrom() {
+            return from;
+        }
+
+        public void setFrom(BigDecimal from) {
+            this.from = from;
+        }
+
+        public BigDecimal getPercentage() {
+            return percentage;
+        }
+
+        public void setPercentage(BigDecimal percentage) {
+            this.percentage = percentage;
+        }
+
+        public BigDecimal getFixed() {
+            return fixed;
+        }
+
+        public void setFixed(BigDecimal fixed) {
+            this.fixed = fixed;
+        }
+    }
+}
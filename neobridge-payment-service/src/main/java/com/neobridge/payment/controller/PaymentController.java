@@ -0,0 +1,206 @@
+package com.neobridge.payment.controller;
+
+import com.neobridge.common.response.ApiResponse;
+import com.neobridge.common.stream.StreamFormat;
+import com.neobridge.payment.audit.PaymentTransition;
+import com.neobridge.payment.dto.FeeQuoteRequest;
+import com.neobridge.payment.dto.FeeQuoteResponse;
+import com.neobridge.payment.dto.PaymentPage;
+import com.neobridge.payment.dto.PaymentProjection;
+import com.neobridge.payment.exception.PaymentNotFoundException;
+import com.neobridge.payment.projection.PaymentView;
+import com.neobridge.payment.reconciliation.ReconciliationSummary;
+import com.neobridge.payment.reconciliation.StatementFormat;
+import com.neobridge.payment.service.PaymentService;
+import com.neobridge.payment.service.ReconciliationService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for payment reads in the NeoBridge platform.
+ * Responses carry only the fields of the requested view, or the
+ * comma-separated {@code fields} selection when given.
+ */
+@RestController
+@RequestMapping("/api/v1/payments")
+@CrossOrigin(origins = "*")
+public class PaymentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentController.class);
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    /**
+     * Get a payment by ID.
+     */
+    @GetMapping("/{paymentId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PaymentProjection>> getPayment(
+            @PathVariable UUID paymentId,
+            @RequestParam(defaultValue = "DETAIL") PaymentView view,
+            @RequestParam(required = false) String fields) {
+        logger.debug("Fetching payment by ID: {}", paymentId);
+
+        try {
+            PaymentProjection payment = paymentService.getPaymentView(paymentId, view, fields);
+            return ResponseEntity.ok(ApiResponse.success(payment, "Payment retrieved successfully"));
+        } catch (PaymentNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("Payment not found: " + e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error fetching payment: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to retrieve payment: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get the status timeline of a payment, oldest transition first.
+     */
+    @GetMapping("/{paymentId}/timeline")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<PaymentTransition>>> getPaymentTimeline(@PathVariable UUID paymentId) {
+        logger.debug("Fetching timeline for payment: {}", paymentId);
+
+        try {
+            List<PaymentTransition> timeline = paymentService.getPaymentTimeline(paymentId);
+            return ResponseEntity.ok(ApiResponse.success(timeline, "Payment timeline retrieved successfully"));
+        } catch (PaymentNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("Payment not found: " + e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error fetching payment timeline: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to retrieve payment timeline: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get a page of a user's payment history, newest first. Pass the returned
+     * {@code nextCursor} back as {@code cursor} to fetch the following page.
+     */
+    @GetMapping("/user/{userId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PaymentPage>> getUserPayments(
+            @PathVariable UUID userId,
+            @RequestParam(defaultValue = "SUMMARY") PaymentView view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        logger.debug("Fetching payment history for user: {}", userId);
+
+        try {
+            PaymentPage page = paymentService.getUserPaymentHistory(userId, view, fields, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(page, "Payments retrieved successfully"));
+        } catch (Exception e) {
+            logger.error("Error fetching user payments: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to retrieve payments: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Stream a user's full payment history, newest first, as a chunked JSON
+     * array or as newline-delimited JSON.
+     */
+    @GetMapping("/user/{userId}/stream")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<?> streamUserPayments(
+            @PathVariable UUID userId,
+            @RequestParam(defaultValue = "SUMMARY") PaymentView view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "JSON") StreamFormat format) {
+        logger.debug("Streaming payments for user: {}", userId);
+
+        try {
+            StreamingResponseBody body = paymentService.streamUserPayments(userId, view, fields, format);
+            return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+        } catch (Exception e) {
+            logger.error("Error streaming user payments: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to stream payments: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Quote fees for a batch of prospective payments, e.g. the rows of a batch
+     * upload, against one fee schedule version.
+     */
+    @PostMapping("/fees/quote")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<FeeQuoteResponse>>> quoteFees(
+            @RequestBody List<@Valid FeeQuoteRequest> requests) {
+        logger.debug("Quoting fees for {} payments", requests.size());
+
+        try {
+            List<FeeQuoteResponse> quotes = paymentService.quoteFees(requests);
+            return ResponseEntity.ok(ApiResponse.success(quotes, "Fees quoted successfully"));
+        } catch (Exception e) {
+            logger.error("Error quoting fees: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to quote fees: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Reconcile an uploaded bank statement against the payments booked for
+     * the given value dates. The upload is spooled to a temporary file so the
+     * statement is streamed from disk rather than held in memory.
+     */
+    @PostMapping(value = "/reconciliation", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ReconciliationSummary>> reconcile(
+            @RequestParam("statement") MultipartFile statement,
+            @RequestParam StatementFormat format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        logger.info("Reconciling uploaded {} statement {} for {} to {}",
+                   format, statement.getOriginalFilename(), fromDate, toDate);
+
+        Path upload = null;
+        try {
+            upload = Files.createTempFile("statement-", ".tmp");
+            statement.transferTo(upload);
+            ReconciliationSummary summary = reconciliationService.reconcile(upload, format, fromDate, toDate);
+            return ResponseEntity.ok(ApiResponse.success(summary, "Statement reconciled successfully"));
+        } catch (Exception e) {
+            logger.error("Error reconciling statement: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Failed to reconcile statement: " + e.getMessage()));
+        } finally {
+            deleteUpload(upload);
+        }
+    }
+
+    private void deleteUpload(Path upload) {
+        if (upload == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            logger.warn("Failed to delete statement upload {}: {}", upload, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.neobridge.payment.dto;
+
+import com.neobridge.payment.entity.Payment.PaymentPriority;
+import com.neobridge.payment.entity.Payment.PaymentType;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a single fee preview line, e.g. one row of a batch upload.
+ */
+public class FeeQuoteRequest {
+
+    @NotNull(message = "Payment type is required")
+    private PaymentType paymentType;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be at least 0.01")
+    private BigDecimal amount;
+
+    @NotBlank(message = "Currency is required")
+    @Size(max = 3, message = "Currency must be 3 characters")
+    private String currency;
+
+    private PaymentPriority priority = PaymentPriority.NORMAL;
+
+    // Constructors
+    public FeeQuoteRequest() {}
+
+    public FeeQuoteRequest(PaymentType paymentType, BigDecimal amount, String currency, PaymentPriority priority) {
+        this.paymentType = paymentType;
+        this.amount = amount;
+        this.currency = currency;
+        this.priority = priority;
+    }
+
+    // Getters and Setters
+    public PaymentType getPaymentType() {
+        return paymentType;
+    }
+
+    public void setPaymentType(PaymentType paymentType) {
+        this.paymentType = paymentType;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public PaymentPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(PaymentPriority priority) {
+        this.priority = priority;
+    }
+}
@@ -0,0 +1,90 @@
+package com.neobridge.payment.dto;
+
+import com.neobridge.payment.entity.Payment.PaymentPriority;
+import com.neobridge.payment.entity.Payment.PaymentType;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a fee preview line returned by the bulk fee quote API.
+ */
+public class FeeQuoteResponse {
+
+    private PaymentType paymentType;
+    private PaymentPriority priority;
+    private BigDecimal amount;
+    private String currency;
+    private BigDecimal feeAmount;
+    private BigDecimal totalAmount;
+    private long scheduleVersion;
+
+    // Constructors
+    public FeeQuoteResponse() {}
+
+    public FeeQuoteResponse(FeeQuoteRequest request, BigDecimal feeAmount, long scheduleVersion) {
+        this.paymentType = request.getPaymentType();
+        this.priority = request.getPriority();
+        this.amount = request.getAmount();
+        this.currency = request.getCurrency();
+        this.feeAmount = feeAmount;
+        this.totalAmount = request.getAmount().add(feeAmount);
+        this.scheduleVersion = scheduleVersion;
+    }
+
+    // Getters and Setters
+    public PaymentType getPaymentType() {
+        return paymentType;
+    }
+
+    public void setPaymentType(PaymentType paymentType) {
+        this.paymentType = paymentType;
+    }
+
+    public PaymentPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(PaymentPriority priority) {
+        this.priority = priority;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getFeeAmount() {
+        return feeAmount;
+    }
+
+    public void setFeeAmount(BigDecimal feeAmount) {
+        this.feeAmount = feeAmount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public long getScheduleVersion() {
+        return scheduleVersion;
+    }
+
+    public void setScheduleVersion(long scheduleVersion) {
+        this.scheduleVersion = scheduleVersion;
+    }
+}
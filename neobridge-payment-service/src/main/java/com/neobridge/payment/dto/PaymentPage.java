@@ -0,0 +1,48 @@
+package com.neobridge.payment.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated payment listing. {@code nextCursor} is
+ * {@code null} on the last page.
+ */
+public class PaymentPage {
+
+    private List<PaymentProjection> items;
+    private String nextCursor;
+    private int size;
+
+    // Constructors
+    public PaymentPage() {}
+
+    public PaymentPage(List<PaymentProjection> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = items.size();
+    }
+
+    // Getters and Setters
+    public List<PaymentProjection> getItems() {
+        return items;
+    }
+
+    public void setItems(List<PaymentProjection> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -22,6 +22,7 @@ import java.util.UUID;
     @Index(name = "idx_payments_status", columnList = "status"),
     @Index(name = "idx_payments_payment_type", columnList = "payment_type"),
     @Index(name = "idx_payments_created_at", columnList = "created_at"),
+    @Index(name = "idx_payments_user_created", columnList = "user_id, created_at, id"),
     @Index(name = "idx_payments_reference", columnList = "reference")
 })
 public class Payment extends BaseEntity {
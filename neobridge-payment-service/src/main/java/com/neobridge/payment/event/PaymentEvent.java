@@ -0,0 +1,184 @@
+package com.neobridge.payment.event;
+
+import com.neobridge.payment.entity.Payment;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Payment lifecycle event as published on the payment events topic.
+ * Events are keyed by {@code userId} so a user's events stay ordered within a partition.
+ */
+public class PaymentEvent {
+
+    private EventType eventType;
+    private UUID id;
+    private String paymentId;
+    private UUID userId;
+    private Payment.PaymentType paymentType;
+    private Payment.PaymentStatus status;
+    private Payment.PaymentDirection direction;
+    private BigDecimal amount;
+    private String currency;
+    private String counterparty;
+    private Instant occurredAt;
+    private String origin;
+
+    // Constructors
+    public PaymentEvent() {}
+
+    public static PaymentEvent of(EventType eventType, Payment payment) {
+        PaymentEvent event = new PaymentEvent();
+        event.setEventType(eventType);
+        event.setId(payment.getId());
+        event.setPaymentId(payment.getPaymentId());
+        event.setUserId(payment.getUserId());
+        event.setPaymentType(payment.getPaymentType());
+        event.setStatus(payment.getStatus());
+        event.setDirection(payment.getDirection());
+        event.setAmount(payment.getAmount());
+        event.setCurrency(payment.getCurrency());
+        event.setCounterparty(counterpartyKey(payment.getCounterpartyIban(), payment.getCounterpartyAccount()));
+        event.setOccurredAt(Instant.now());
+        return event;
+    }
+
+    /**
+     * Normalised counterparty identifier: IBAN when known, otherwise the account number.
+     */
+    public static String counterpartyKey(String iban, String account) {
+        String key = iban != null && !iban.isBlank() ? iban : account;
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+        return key.replace(" ", "").toUpperCase();
+    }
+
+    // Getters and Setters
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(EventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getPaymentId() {
+        return paymentId;
+    }
+
+    public void setPaymentId(String paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public Payment.PaymentType getPaymentType() {
+        return paymentType;
+    }
+
+    public void setPaymentType(Payment.PaymentType paymentType) {
+        this.paymentType = paymentType;
+    }
+
+    public Payment.PaymentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Payment.PaymentStatus status) {
+        this.status = status;
+    }
+
+    public Payment.PaymentDirection getDirection() {
+        return direction;
+    }
+
+    public void setDirection(Payment.PaymentDirection direction) {
+        this.direction = direction;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public String getCounterparty() {
+        return counterparty;
+    }
+
+    public void setCounterparty(String counterparty) {
+        this.counterparty = counterparty;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public String toString() {
+        return "PaymentEvent{" +
+                "eventType=" + eventType +
+                ", paymentId='" + paymentId + '\'' +
+                ", userId=" + userId +
+                ", status=" + status +
+                ", amount=" + amount +
+                ", currency='" + currency + '\'' +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+
+    public enum EventType {
+        CREATED("Payment created"),
+        COMPLETED("Payment completed"),
+        CANCELLED("Payment cancelled"),
+        STATUS_CHANGED("Payment status changed");
+
+        private final String displayName;
+
+        EventType(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+}
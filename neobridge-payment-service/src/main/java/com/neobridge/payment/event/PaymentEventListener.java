@@ -0,0 +1,52 @@
+package com.neobridge.payment.event;
+
+import com.neobridge.payment.service.VelocityService;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Feeds payment events into the local velocity aggregates.
+ * Fraud scoring runs on any instance, so each one consumes every partition
+ * with its own consumer group, starting from the last restored velocity
+ * snapshot. The group id is derived from the host name so a restarted
+ * instance rejoins its previous group instead of leaving an orphaned one
+ * behind; set {@code neobridge.payment.velocity.consumer-group} explicitly
+ * where host names are not stable.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentEventListener implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentEventListener.class);
+
+    @Autowired
+    private VelocityService velocityService;
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        long replayFrom = velocityService.getReplayFrom();
+        logger.info("Replaying payment events for velocity from {}", Instant.ofEpochMilli(replayFrom));
+        callback.seekToTimestamp(assignments.keySet(), replayFrom);
+    }
+
+    @KafkaListener(
+        topics = "${neobridge.payment.events-topic:neobridge.payment.events}",
+        groupId = "${neobridge.payment.velocity.consumer-group:${spring.application.name:neobridge-payment-service}-velocity-${HOSTNAME:local}}",
+        properties = {"spring.json.value.default.type=com.neobridge.payment.event.PaymentEvent"}
+    )
+    public void onPaymentEvent(PaymentEvent event) {
+        if (velocityService.isLocal(event)) {
+            return; // already recorded when published
+        }
+        velocityService.record(event);
+    }
+}
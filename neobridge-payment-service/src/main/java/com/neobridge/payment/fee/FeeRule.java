@@ -0,0 +1,100 @@
+package com.neobridge.payment.fee;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Compiled, immutable fee rule. All amounts are held as longs in units of
+ * 10^-{@value #SCALE} (the scale of monetary columns on {@code payments}) and
+ * percentages as parts per 10^8, so evaluation is pure long arithmetic.
+ * Fixed fees, min/max bounds and tier floors are denominated in the rule
+ * currency; a rule without a currency applies its amounts as-is.
+ */
+public final class FeeRule {
+
+    public static final int SCALE = 4;
+
+    static final long RATE_SCALE = 100_000_000L;
+
+    static final FeeRule FREE = new FeeRule(null, new long[] {0L}, new long[] {0L}, new long[] {0L}, 0L, Long.MAX_VALUE);
+
+    private final String currency;
+
+    private final long[] tierFloors;
+    private final long[] tierRates;
+    private final long[] tierFixed;
+    private final long minFee;
+    private final long maxFee;
+
+    FeeRule(String currency, long[] tierFloors, long[] tierRates, long[] tierFixed, long minFee, long maxFee) {
+        this.currency = currency;
+        this.tierFloors = tierFloors;
+        this.tierRates = tierRates;
+        this.tierFixed = tierFixed;
+        this.minFee = minFee;
+        this.maxFee = maxFee;
+    }
+
+    /**
+     * Fee for an amount in the rule currency, at the scale of monetary columns on {@code payments}.
+     */
+    public BigDecimal fee(BigDecimal amount) {
+        return fromUnits(feeUnits(toUnits(amount)));
+    }
+
+    /**
+     * Fee in scaled units for an amount in scaled units.
+     */
+    public long feeUnits(long amountUnits) {
+        int tier = tierFor(amountUnits);
+        long fee = tierFixed[tier] + applyRate(amountUnits, tierRates[tier]);
+        if (fee < minFee) {
+            return minFee;
+        }
+        return Math.min(fee, maxFee);
+    }
+
+    /**
+     * Currency the fixed, min/max and tier amounts are denominated in, or null.
+     */
+    public String getCurrency() {
+        return currency;
+    }
+
+    private int tierFor(long amountUnits) {
+        // Tiers are few and ascending; a linear scan beats binary search below ~8 entries
+        int tier = 0;
+        for (int i = 1; i < tierFloors.length && tierFloors[i] <= amountUnits; i++) {
+            tier = i;
+        }
+        return tier;
+    }
+
+    private static long applyRate(long amountUnits, long rate) {
+        if (rate == 0L) {
+            return 0L;
+        }
+        long product = amountUnits * rate;
+        if (Math.multiplyHigh(amountUnits, rate) == 0L && product >= 0L) {
+            return (product + RATE_SCALE / 2) / RATE_SCALE;
+        }
+        // Beyond long range: fall back to exact decimal arithmetic
+        return BigDecimal.valueOf(amountUnits)
+            .multiply(BigDecimal.valueOf(rate))
+            .divide(BigDecimal.valueOf(RATE_SCALE), 0, RoundingMode.HALF_UP)
+            .longValueExact();
+    }
+
+    static long toUnits(BigDecimal amount) {
+        // setScale returns the same instance when the scale already matches
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).scaleByPowerOfTen(SCALE).longValueExact();
+    }
+
+    static long toRate(BigDecimal percentage) {
+        return percentage.multiply(BigDecimal.valueOf(RATE_SCALE)).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    static BigDecimal fromUnits(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+}
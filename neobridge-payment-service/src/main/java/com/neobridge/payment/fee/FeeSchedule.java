@@ -0,0 +1,162 @@
+package com.neobridge.payment.fee;
+
+import com.neobridge.payment.config.PaymentFeeProperties.FeeRuleProperties;
+import com.neobridge.payment.config.PaymentFeeProperties.TierProperties;
+import com.neobridge.payment.entity.Payment.PaymentPriority;
+import com.neobridge.payment.entity.Payment.PaymentType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable fee lookup table compiled from the configured fee rules.
+ * Rules are resolved once per (payment type, priority) slot, with optional
+ * per-currency overrides, so a lookup is an array index plus a map probe.
+ * Amounts in a resolved rule are in {@link FeeRule#getCurrency()}.
+ */
+public final class FeeSchedule {
+
+    static final String DEFAULT_RULE_KEY = "default";
+
+    private static final int PRIORITIES = PaymentPriority.values().length;
+
+    private final Slot[] slots;
+    private final long version;
+
+    private FeeSchedule(Slot[] slots, long version) {
+        this.slots = slots;
+        this.version = version;
+    }
+
+    /**
+     * Compile a schedule from fee rule definitions keyed by short payment type name.
+     */
+    public static FeeSchedule compile(Map<String, FeeRuleProperties> definitions, long version) {
+        PaymentType[] types = PaymentType.values();
+        PaymentPriority[] priorities = PaymentPriority.values();
+        FeeRuleProperties fallback = definitions.get(DEFAULT_RULE_KEY);
+
+        Slot[] slots = new Slot[types.length * PRIORITIES];
+        for (PaymentType type : types) {
+            FeeRuleProperties base = definitions.getOrDefault(ruleKey(type), fallback);
+            for (PaymentPriority priority : priorities) {
+                slots[type.ordinal() * PRIORITIES + priority.ordinal()] = compileSlot(base, priority);
+            }
+        }
+        return new FeeSchedule(slots, version);
+    }
+
+    /**
+     * Short configuration key for a payment type, e.g. DOMESTIC_TRANSFER -> domestic.
+     */
+    public static String ruleKey(PaymentType type) {
+        String name = type.name();
+        int suffix = name.lastIndexOf('_');
+        if (suffix > 0 && (name.endsWith("_TRANSFER") || name.endsWith("_PAYMENT"))) {
+            name = name.substring(0, suffix);
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Resolve the rule for a payment; never null.
+     */
+    public FeeRule ruleFor(PaymentType type, PaymentPriority priority, String currency) {
+        PaymentPriority effectivePriority = priority != null ? priority : PaymentPriority.NORMAL;
+        Slot slot = slots[type.ordinal() * PRIORITIES + effectivePriority.ordinal()];
+        if (currency != null) {
+            FeeRule rule = slot.byCurrency.get(currency);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        return slot.fallback;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private static Slot compileSlot(FeeRuleProperties base, PaymentPriority priority) {
+        if (base == null) {
+            return new Slot(Map.of(), FeeRule.FREE);
+        }
+        FeeRuleProperties priorityOverride = base.getPriorities().get(priority.name().toLowerCase(Locale.ROOT));
+        FeeRuleProperties effective = merge(base, priorityOverride);
+
+        Map<String, FeeRuleProperties> currencyOverrides = new HashMap<>(base.getCurrencies());
+        if (priorityOverride != null) {
+            currencyOverrides.putAll(priorityOverride.getCurrencies());
+        }
+
+        Map<String, FeeRule> byCurrency = new HashMap<>();
+        currencyOverrides.forEach((currency, override) -> {
+            String code = currency.toUpperCase(Locale.ROOT);
+            FeeRuleProperties merged = merge(effective, override);
+            if (override.getCurrency() == null) {
+                // Amounts in a currency override are in that currency unless stated otherwise
+                merged.setCurrency(code);
+            }
+            byCurrency.put(code, compileRule(merged));
+        });
+        return new Slot(Map.copyOf(byCurrency), compileRule(effective));
+    }
+
+    private static FeeRuleProperties merge(FeeRuleProperties base, FeeRuleProperties override) {
+        if (override == null) {
+            return base;
+        }
+        FeeRuleProperties merged = new FeeRuleProperties();
+        merged.setPercentage(override.getPercentage() != null ? override.getPercentage() : base.getPercentage());
+        merged.setFixed(override.getFixed() != null ? override.getFixed() : base.getFixed());
+        merged.setMin(override.getMin() != null ? override.getMin() : base.getMin());
+        merged.setMax(override.getMax() != null ? override.getMax() : base.getMax());
+        merged.setCurrency(override.getCurrency() != null ? override.getCurrency() : base.getCurrency());
+        merged.setTiers(!override.getTiers().isEmpty() ? override.getTiers() : base.getTiers());
+        return merged;
+    }
+
+    private static FeeRule compileRule(FeeRuleProperties rule) {
+        long baseRate = rule.getPercentage() != null ? FeeRule.toRate(rule.getPercentage()) : 0L;
+        long baseFixed = rule.getFixed() != null ? FeeRule.toUnits(rule.getFixed()) : 0L;
+
+        List<TierProperties> tiers = new ArrayList<>(rule.getTiers());
+        tiers.removeIf(tier -> tier.getFrom() == null || tier.getFrom().signum() <= 0);
+        tiers.sort(Comparator.comparing(TierProperties::getFrom));
+
+        long[] floors = new long[tiers.size() + 1];
+        long[] rates = new long[tiers.size() + 1];
+        long[] fixed = new long[tiers.size() + 1];
+        rates[0] = baseRate;
+        fixed[0] = baseFixed;
+        for (int i = 0; i < tiers.size(); i++) {
+            TierProperties tier = tiers.get(i);
+            floors[i + 1] = FeeRule.toUnits(tier.getFrom());
+            rates[i + 1] = tier.getPercentage() != null ? FeeRule.toRate(tier.getPercentage()) : baseRate;
+            fixed[i + 1] = tier.getFixed() != null ? FeeRule.toUnits(tier.getFixed()) : baseFixed;
+        }
+
+        long min = rule.getMin() != null ? FeeRule.toUnits(rule.getMin()) : 0L;
+        long max = rule.getMax() != null ? FeeRule.toUnits(rule.getMax()) : Long.MAX_VALUE;
+        if (max < min) {
+            throw new IllegalArgumentException("Fee rule max " + rule.getMax() + " is below min " + rule.getMin());
+        }
+        String currency = rule.getCurrency() != null ? rule.getCurrency().toUpperCase(Locale.ROOT) : null;
+        return new FeeRule(currency, floors, rates, fixed, min, max);
+    }
+
+    private static final class Slot {
+
+        private final Map<String, FeeRule> byCurrency;
+        private final FeeRule fallback;
+
+        private Slot(Map<String, FeeRule> byCurrency, FeeRule fallback) {
+            this.byCurrency = byCurrency;
+            this.fallback = fallback;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.neobridge.payment.projection;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position in a {@code created_at DESC, id DESC} listing,
+ * encoded as URL-safe base64 of {@code epochMicros:id}.
+ */
+public final class PaymentCursor {
+
+    private final Instant createdAt;
+    private final UUID id;
+
+    public PaymentCursor(Instant createdAt, UUID id) {
+        this.createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+        this.id = id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, createdAt);
+        String raw = micros + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static PaymentCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        int separator = raw.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        long micros = Long.parseLong(raw, 0, separator, 10);
+        return new PaymentCursor(Instant.EPOCH.plus(micros, ChronoUnit.MICROS),
+                                 UUID.fromString(raw.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,142 @@
+package com.neobridge.payment.projection;
+
+import com.neobridge.payment.dto.PaymentProjection;
+import com.neobridge.payment.entity.Payment.ComplianceStatus;
+import com.neobridge.payment.entity.Payment.PaymentDirection;
+import com.neobridge.payment.entity.Payment.PaymentMethod;
+import com.neobridge.payment.entity.Payment.PaymentPriority;
+import com.neobridge.payment.entity.Payment.PaymentStatus;
+import com.neobridge.payment.entity.Payment.PaymentType;
+import com.neobridge.payment.entity.Payment.RiskLevel;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Selectable payment fields: the JSON property name, the {@code payments}
+ * column it is read from, and how the value is copied onto a
+ * {@link PaymentProjection}. Enums without {@code @Enumerated} on the entity
+ * are stored by ordinal.
+ */
+public enum PaymentField {
+    ID("id", "id", (rs, i, p) -> p.setId(rs.getObject(i, UUID.class))),
+    PAYMENT_ID("paymentId", "payment_id", (rs, i, p) -> p.setPaymentId(rs.getString(i))),
+    USER_ID("userId", "user_id", (rs, i, p) -> p.setUserId(rs.getObject(i, UUID.class))),
+    SOURCE_ACCOUNT_ID("sourceAccountId", "source_account_id", (rs, i, p) -> p.setSourceAccountId(rs.getObject(i, UUID.class))),
+    DESTINATION_ACCOUNT_ID("destinationAccountId", "destination_account_id", (rs, i, p) -> p.setDestinationAccountId(rs.getObject(i, UUID.class))),
+    PAYMENT_TYPE("paymentType", "payment_type", (rs, i, p) -> p.setPaymentType(named(PaymentType.class, rs.getString(i)))),
+    PAYMENT_METHOD("paymentMethod", "payment_method", (rs, i, p) -> p.setPaymentMethod(named(PaymentMethod.class, rs.getString(i)))),
+    STATUS("status", "status", (rs, i, p) -> p.setStatus(named(PaymentStatus.class, rs.getString(i)))),
+    DIRECTION("direction", "direction", (rs, i, p) -> p.setDirection(named(PaymentDirection.class, rs.getString(i)))),
+    AMOUNT("amount", "amount", (rs, i, p) -> p.setAmount(rs.getBigDecimal(i))),
+    CURRENCY("currency", "currency", (rs, i, p) -> p.setCurrency(rs.getString(i))),
+    EXCHANGE_RATE("exchangeRate", "exchange_rate", (rs, i, p) -> p.setExchangeRate(rs.getBigDecimal(i))),
+    ORIGINAL_AMOUNT("originalAmount", "original_amount", (rs, i, p) -> p.setOriginalAmount(rs.getBigDecimal(i))),
+    ORIGINAL_CURRENCY("originalCurrency", "original_currency", (rs, i, p) -> p.setOriginalCurrency(rs.getString(i))),
+    FEE_AMOUNT("feeAmount", "fee_amount", (rs, i, p) -> p.setFeeAmount(rs.getBigDecimal(i))),
+    FEE_CURRENCY("feeCurrency", "fee_currency", (rs, i, p) -> p.setFeeCurrency(rs.getString(i))),
+    TOTAL_AMOUNT("totalAmount", "total_amount", (rs, i, p) -> p.setTotalAmount(rs.getBigDecimal(i))),
+    REFERENCE("reference", "reference", (rs, i, p) -> p.setReference(rs.getString(i))),
+    EXTERNAL_REFERENCE("externalReference", "external_reference", (rs, i, p) -> p.setExternalReference(rs.getString(i))),
+    DESCRIPTION("description", "description", (rs, i, p) -> p.setDescription(rs.getString(i))),
+    COUNTERPARTY_NAME("counterpartyName", "counterparty_name", (rs, i, p) -> p.setCounterpartyName(rs.getString(i))),
+    COUNTERPARTY_ACCOUNT("counterpartyAccount", "counterparty_account", (rs, i, p) -> p.setCounterpartyAccount(rs.getString(i))),
+    COUNTERPARTY_BANK("counterpartyBank", "counterparty_bank", (rs, i, p) -> p.setCounterpartyBank(rs.getString(i))),
+    COUNTERPARTY_SWIFT("counterpartySwift", "counterparty_swift", (rs, i, p) -> p.setCounterpartySwift(rs.getString(i))),
+    COUNTERPARTY_IBAN("counterpartyIban", "counterparty_iban", (rs, i, p) -> p.setCounterpartyIban(rs.getString(i))),
+    COUNTERPARTY_BIC("counterpartyBic", "counterparty_bic", (rs, i, p) -> p.setCounterpartyBic(rs.getString(i))),
+    COUNTERPARTY_ROUTING("counterpartyRouting", "counterparty_routing", (rs, i, p) -> p.setCounterpartyRouting(rs.getString(i))),
+    PRIORITY("priority", "priority", (rs, i, p) -> p.setPriority(ordinal(PaymentPriority.values(), rs, i))),
+    SCHEDULED_DATE("scheduledDate", "scheduled_date", (rs, i, p) -> p.setScheduledDate(localDateTime(rs, i))),
+    PROCESSING_DATE("processingDate", "processing_date", (rs, i, p) -> p.setProcessingDate(localDateTime(rs, i))),
+    SETTLEMENT_DATE("settlementDate", "settlement_date", (rs, i, p) -> p.setSettlementDate(localDateTime(rs, i))),
+    COMPLETION_DATE("completionDate", "completion_date", (rs, i, p) -> p.setCompletionDate(localDateTime(rs, i))),
+    FAILURE_DATE("failureDate", "failure_date", (rs, i, p) -> p.setFailureDate(localDateTime(rs, i))),
+    FAILURE_REASON("failureReason", "failure_reason", (rs, i, p) -> p.setFailureReason(rs.getString(i))),
+    FAILURE_CODE("failureCode", "failure_code", (rs, i, p) -> p.setFailureCode(rs.getString(i))),
+    RETRY_COUNT("retryCount", "retry_count", (rs, i, p) -> p.setRetryCount(rs.getObject(i, Integer.class))),
+    MAX_RETRIES("maxRetries", "max_retries", (rs, i, p) -> p.setMaxRetries(rs.getObject(i, Integer.class))),
+    NEXT_RETRY_DATE("nextRetryDate", "next_retry_date", (rs, i, p) -> p.setNextRetryDate(localDateTime(rs, i))),
+    METADATA("metadata", "metadata", (rs, i, p) -> p.setMetadata(rs.getString(i))),
+    COMPLIANCE_DATA("complianceData", "compliance_data", (rs, i, p) -> p.setComplianceData(rs.getString(i))),
+    COMPLIANCE_STATUS("complianceStatus", "compliance_status", (rs, i, p) -> p.setComplianceStatus(ordinal(ComplianceStatus.values(), rs, i))),
+    FRAUD_SCORE("fraudScore", "fraud_score", (rs, i, p) -> p.setFraudScore(rs.getObject(i, Integer.class))),
+    RISK_LEVEL("riskLevel", "risk_level", (rs, i, p) -> p.setRiskLevel(ordinal(RiskLevel.values(), rs, i))),
+    IS_URGENT("isUrgent", "is_urgent", (rs, i, p) -> p.setIsUrgent(rs.getObject(i, Boolean.class))),
+    IS_BATCH_PAYMENT("isBatchPayment", "is_batch_payment", (rs, i, p) -> p.setIsBatchPayment(rs.getObject(i, Boolean.class))),
+    BATCH_ID("batchId", "batch_id", (rs, i, p) -> p.setBatchId(rs.getString(i))),
+    BATCH_SEQUENCE("batchSequence", "batch_sequence", (rs, i, p) -> p.setBatchSequence(rs.getObject(i, Integer.class))),
+    CREATED_AT("createdAt", "created_at", (rs, i, p) -> p.setCreatedAt(instant(rs, i))),
+    UPDATED_AT("updatedAt", "updated_at", (rs, i, p) -> p.setUpdatedAt(instant(rs, i)));
+
+    private static final Map<String, PaymentField> BY_JSON_NAME = new HashMap<>();
+
+    static {
+        for (PaymentField field : values()) {
+            BY_JSON_NAME.put(field.jsonName, field);
+        }
+    }
+
+    private final String jsonName;
+    private final String column;
+    private final Reader reader;
+
+    PaymentField(String jsonName, String column, Reader reader) {
+        this.jsonName = jsonName;
+        this.column = column;
+        this.reader = reader;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * Copy this field from the given result set column onto the projection.
+     */
+    public void read(ResultSet rs, int index, PaymentProjection projection) throws SQLException {
+        reader.read(rs, index, projection);
+    }
+
+    /**
+     * Field for a JSON property name, or {@code null} if there is none.
+     */
+    public static PaymentField fromJsonName(String jsonName) {
+        return BY_JSON_NAME.get(jsonName);
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+
+        void read(ResultSet rs, int index, PaymentProjection projection) throws SQLException;
+    }
+
+    private static <E extends Enum<E>> E named(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+
+    private static <E extends Enum<E>> E ordinal(E[] values, ResultSet rs, int index) throws SQLException {
+        int ordinal = rs.getInt(index);
+        return rs.wasNull() ? null : values[ordinal];
+    }
+
+    private static LocalDateTime localDateTime(ResultSet rs, int index) throws SQLException {
+        Timestamp value = rs.getTimestamp(index);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
+    private static Instant instant(ResultSet rs, int index) throws SQLException {
+        Timestamp value = rs.getTimestamp(index);
+        return value != null ? value.toInstant() : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.neobridge.payment.projection;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.neobridge.payment.projection.PaymentField.*;
+
+/**
+ * Predefined payment projections. {@code DETAIL} carries every column except
+ * the free-form {@code metadata} and {@code complianceData} text, which are
+ * only returned when selected explicitly.
+ */
+public enum PaymentView {
+    SUMMARY("Summary", EnumSet.of(
+        ID, PAYMENT_ID, PAYMENT_TYPE, STATUS, DIRECTION, AMOUNT, CURRENCY, FEE_AMOUNT, TOTAL_AMOUNT,
+        REFERENCE, COUNTERPARTY_NAME, COMPLETION_DATE, CREATED_AT)),
+    DETAIL("Detail", EnumSet.of(
+        ID, PAYMENT_ID, USER_ID, SOURCE_ACCOUNT_ID, DESTINATION_ACCOUNT_ID, PAYMENT_TYPE, PAYMENT_METHOD,
+        STATUS, DIRECTION, AMOUNT, CURRENCY, EXCHANGE_RATE, ORIGINAL_AMOUNT, ORIGINAL_CURRENCY, FEE_AMOUNT,
+        FEE_CURRENCY, TOTAL_AMOUNT, REFERENCE, EXTERNAL_REFERENCE, DESCRIPTION, COUNTERPARTY_NAME,
+        COUNTERPARTY_ACCOUNT, COUNTERPARTY_BANK, COUNTERPARTY_SWIFT, COUNTERPARTY_IBAN, COUNTERPARTY_BIC,
+        COUNTERPARTY_ROUTING, PRIORITY, SCHEDULED_DATE, PROCESSING_DATE, SETTLEMENT_DATE, COMPLETION_DATE,
+        FAILURE_DATE, FAILURE_REASON, FAILURE_CODE, RETRY_COUNT, MAX_RETRIES, NEXT_RETRY_DATE,
+        COMPLIANCE_STATUS, FRAUD_SCORE, RISK_LEVEL, IS_URGENT, IS_BATCH_PAYMENT, BATCH_ID, BATCH_SEQUENCE,
+        CREATED_AT, UPDATED_AT));
+
+    private final String displayName;
+    private final Set<PaymentField> fields;
+
+    PaymentView(String displayName, EnumSet<PaymentField> fields) {
+        this.displayName = displayName;
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public Set<PaymentField> getFields() {
+        return fields;
+    }
+}
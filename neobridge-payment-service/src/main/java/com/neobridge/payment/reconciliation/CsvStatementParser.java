@@ -0,0 +1,61 @@
+package com.neobridge.payment.reconciliation;
+
+/**
+ * Parser for delimited statement exports: {@code valueDate,amount,currency,reference[,description]}.
+ * Negative amounts are debits. A header line and {@code ;} delimiters are accepted.
+ */
+public class CsvStatementParser implements StatementParser {
+
+    private static final int FIELDS = 4;
+
+    private final int[] bounds = new int[FIELDS + 1];
+
+    @Override
+    public void onLine(long lineNumber, CharSequence line, Sink sink) {
+        if (line.length() == 0 || !Character.isDigit(line.charAt(0))) {
+            return; // blank line or header
+        }
+        try {
+            char delimiter = StatementFields.indexOf(line, ";", 0) >= 0 ? ';' : ',';
+            split(line, delimiter);
+
+            long valueDate = StatementFields.parseIsoDate(line, bounds[0], bounds[1] - 1);
+            int amountStart = bounds[1];
+            boolean credit = line.charAt(amountStart) != '-';
+            if (!credit || line.charAt(amountStart) == '+') {
+                amountStart++;
+            }
+            long amount = StatementFields.parseUnits(line, amountStart, bounds[2] - 1);
+            String currency = StatementFields.trimmed(line, bounds[2], bounds[3] - 1);
+            String reference = StatementFields.trimmed(line, bounds[3], bounds[4]);
+
+            sink.entry(new StatementEntry(lineNumber, reference, null, amount, currency, valueDate, credit));
+        } catch (RuntimeException e) {
+            sink.exception(lineNumber, e.getMessage(), line);
+        }
+    }
+
+    @Override
+    public void finish(Sink sink) {
+        // Single-line records; nothing is buffered
+    }
+
+    private void split(CharSequence line, char delimiter) {
+        bounds[0] = 0;
+        bounds[FIELDS] = line.length();
+        int field = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) != delimiter) {
+                continue;
+            }
+            if (field == FIELDS) {
+                bounds[FIELDS] = i; // description follows; not used for matching
+                break;
+            }
+            bounds[field++] = i + 1;
+        }
+        if (field < FIELDS) {
+            throw new IllegalArgumentException("Expected at least " + FIELDS + " fields");
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.neobridge.payment.reconciliation;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a statement file line by line through memory-mapped windows.
+ * Only one window is mapped at a time and lines are decoded into a single
+ * reusable buffer, so heap use is independent of file size. Statement files
+ * are ASCII / ISO-8859-1; bytes are widened to chars without a charset decoder.
+ */
+public class MappedLineReader {
+
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final Path file;
+    private final int windowSize;
+
+    public MappedLineReader(Path file) {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedLineReader(Path file, int windowSize) {
+        this.file = file;
+        this.windowSize = windowSize;
+    }
+
+    public interface LineHandler {
+
+        void onLine(long lineNumber, CharSequence line);
+    }
+
+    /**
+     * Stream every line to the handler, returning the number of lines read.
+     */
+    public long forEachLine(LineHandler handler) throws IOException {
+        StringBuilder line = new StringBuilder(256);
+        long lineNumber = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long windowStart = 0;
+
+            while (windowStart < size) {
+                long length = Math.min(windowSize, size - windowStart);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+                boolean lastWindow = windowStart + length == size;
+                int lineStart = 0;
+
+                for (int i = 0; i < length; i++) {
+                    if (window.get(i) == '\n') {
+                        handler.onLine(++lineNumber, decode(window, lineStart, i, line));
+                        lineStart = i + 1;
+                    }
+                }
+
+                if (lastWindow) {
+                    if (lineStart < length) {
+                        handler.onLine(++lineNumber, decode(window, lineStart, (int) length, line));
+                    }
+                    break;
+                }
+                if (lineStart == 0) {
+                    throw new IOException("Statement line at byte " + windowStart + " does not fit in a " + windowSize + " byte window");
+                }
+                // Remap from the start of the incomplete trailing line
+                windowStart += lineStart;
+            }
+        }
+        return lineNumber;
+    }
+
+    private static CharSequence decode(MappedByteBuffer window, int start, int end, StringBuilder line) {
+        if (end > start && window.get(end - 1) == '\r') {
+            end--;
+        }
+        line.setLength(0);
+        for (int i = start; i < end; i++) {
+            line.append((char) (window.get(i) & 0xFF));
+        }
+        return line;
+    }
+}
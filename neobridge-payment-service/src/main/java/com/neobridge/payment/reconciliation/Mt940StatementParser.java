@@ -0,0 +1,139 @@
+package com.neobridge.payment.reconciliation;
+
+/**
+ * Incremental MT940 parser. Statement lines ({@code :61:}) are held until the
+ * following information field ({@code :86:}) and any continuation lines have
+ * been read, so the end-to-end reference can be taken from the narrative when
+ * the customer reference is {@code NONREF}.
+ */
+public class Mt940StatementParser implements StatementParser {
+
+    private static final String NO_REFERENCE = "NONREF";
+    private static final String END_TO_END_TAG = "EREF+";
+
+    private String currency;
+
+    private long pendingLine;
+    private String pendingReference;
+    private String pendingBankReference;
+    private long pendingAmount;
+    private long pendingValueDate;
+    private boolean pendingCredit;
+    private final StringBuilder pendingInfo = new StringBuilder();
+    private boolean inInfo;
+
+    @Override
+    public void onLine(long lineNumber, CharSequence line, Sink sink) {
+        if (line.length() == 0 || line.charAt(0) == '-') {
+            return; // blank lines and block terminators
+        }
+        if (line.charAt(0) != ':') {
+            // Continuation of the previous field; only the narrative matters for matching
+            if (inInfo) {
+                pendingInfo.append(line);
+            }
+            return;
+        }
+
+        if (StatementFields.startsWith(line, ":86:")) {
+            inInfo = pendingLine > 0;
+            if (inInfo) {
+                pendingInfo.append(line, 4, line.length());
+            }
+            return;
+        }
+
+        flush(sink);
+        try {
+            if (StatementFields.startsWith(line, ":60F:") || StatementFields.startsWith(line, ":60M:")) {
+                currency = StatementFields.trimmed(line, 12, 15);
+            } else if (StatementFields.startsWith(line, ":61:")) {
+                parseStatementLine(lineNumber, line);
+            }
+        } catch (RuntimeException e) {
+            sink.exception(lineNumber, e.getMessage(), line);
+        }
+    }
+
+    @Override
+    public void finish(Sink sink) {
+        flush(sink);
+    }
+
+    private void parseStatementLine(long lineNumber, CharSequence line) {
+        if (currency == null) {
+            throw new IllegalStateException("Statement line before opening balance");
+        }
+        int p = 4;
+        long valueDate = StatementFields.parseYyMmDd(line, p);
+        p += 6;
+        if (StatementFields.isDigits(line, p, p + 4)) {
+            p += 4; // optional entry date
+        }
+
+        boolean reversal = line.charAt(p) == 'R';
+        if (reversal) {
+            p++;
+        }
+        char mark = line.charAt(p++);
+        if (mark != 'C' && mark != 'D') {
+            throw new IllegalArgumentException("Invalid debit/credit mark '" + mark + "'");
+        }
+        if (Character.isLetter(line.charAt(p))) {
+            p++; // funds code
+        }
+
+        int amountStart = p;
+        while (p < line.length() && (Character.isDigit(line.charAt(p)) || line.charAt(p) == ',')) {
+            p++;
+        }
+        long amount = StatementFields.parseUnits(line, amountStart, p);
+
+        p += 4; // transaction type identification, e.g. NTRF
+        if (p > line.length()) {
+            throw new IllegalArgumentException("Truncated statement line");
+        }
+        int bankSeparator = StatementFields.indexOf(line, "//", p);
+        int referenceEnd = bankSeparator >= 0 ? bankSeparator : line.length();
+
+        pendingLine = lineNumber;
+        pendingReference = StatementFields.trimmed(line, p, referenceEnd);
+        pendingBankReference = bankSeparator >= 0 ? StatementFields.trimmed(line, bankSeparator + 2, line.length()) : null;
+        pendingAmount = amount;
+        pendingValueDate = valueDate;
+        pendingCredit = reversal != (mark == 'C');
+        pendingInfo.setLength(0);
+    }
+
+    private void flush(Sink sink) {
+        inInfo = false;
+        if (pendingLine == 0) {
+            return;
+        }
+        String reference = pendingReference;
+        if (reference == null || NO_REFERENCE.equals(reference)) {
+            reference = endToEndReference();
+        }
+        if (reference == null) {
+            reference = pendingBankReference;
+        }
+        sink.entry(new StatementEntry(pendingLine, reference, pendingBankReference, pendingAmount,
+            currency, pendingValueDate, pendingCredit));
+        pendingLine = 0;
+        pendingInfo.setLength(0);
+    }
+
+    private String endToEndReference() {
+        int start = StatementFields.indexOf(pendingInfo, END_TO_END_TAG, 0);
+        if (start < 0) {
+            return null;
+        }
+        start += END_TO_END_TAG.length();
+        int end = start;
+        while (end < pendingInfo.length() && pendingInfo.charAt(end) != '?' && pendingInfo.charAt(end) != '+'
+               && !Character.isWhitespace(pendingInfo.charAt(end))) {
+            end++;
+        }
+        return StatementFields.trimmed(pendingInfo, start, end);
+    }
+}
@@ -0,0 +1,229 @@
+package com.neobridge.payment.reconciliation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Hash index of the payments a statement is reconciled against, keyed by
+ * normalised {@code reference} and {@code external_reference}. Each payment is
+ * held once in a compact form; heap use scales with the payments in the
+ * reconciliation window, not with the size of the statement.
+ */
+public class PaymentIndex {
+
+    private final Map<String, Node> byReference = new HashMap<>();
+    private final List<IndexedPayment> payments = new ArrayList<>();
+    private final long amountToleranceUnits;
+    private final int dateToleranceDays;
+
+    public PaymentIndex(long amountToleranceUnits, int dateToleranceDays) {
+        this.amountToleranceUnits = amountToleranceUnits;
+        this.dateToleranceDays = dateToleranceDays;
+    }
+
+    public void add(UUID id, String paymentId, String reference, String externalReference,
+                    long amountUnits, String currency, long bookedDate, boolean inbound) {
+        IndexedPayment payment = new IndexedPayment(id, paymentId, amountUnits, currency, bookedDate, inbound);
+        payments.add(payment);
+        link(reference, payment);
+        if (externalReference != null && !externalReference.equalsIgnoreCase(reference)) {
+            link(externalReference, payment);
+        }
+    }
+
+    /**
+     * Match a statement entry, marking the matched payment so it cannot be matched twice.
+     */
+    public MatchResult match(StatementEntry entry) {
+        Node candidates = lookup(entry.getReference());
+        if (candidates == null) {
+            candidates = lookup(entry.getBankReference());
+        }
+        if (candidates == null) {
+            return MatchResult.unknown();
+        }
+
+        IndexedPayment closest = null;
+        BreakReason closestReason = BreakReason.DUPLICATE;
+        for (Node node = candidates; node != null; node = node.next) {
+            IndexedPayment payment = node.payment;
+            if (payment.matched) {
+                continue;
+            }
+            BreakReason reason = compare(entry, payment);
+            if (reason == null) {
+                payment.matched = true;
+                return MatchResult.matched(payment);
+            }
+            if (closest == null || reason.ordinal() > closestReason.ordinal()) {
+                closest = payment;
+                closestReason = reason;
+            }
+        }
+        return MatchResult.broken(closest, closestReason);
+    }
+
+    /**
+     * Visit payments booked in the epoch-day range that no statement entry matched.
+     */
+    public void forEachUnmatched(long fromDay, long toDay, Consumer<IndexedPayment> consumer) {
+        for (IndexedPayment payment : payments) {
+            if (!payment.matched && payment.bookedDate >= fromDay && payment.bookedDate <= toDay) {
+                consumer.accept(payment);
+            }
+        }
+    }
+
+    public int size() {
+        return payments.size();
+    }
+
+    private BreakReason compare(StatementEntry entry, IndexedPayment payment) {
+        // Ordered from least to most similar so the closest candidate can be reported
+        if (entry.getCurrency() == null || !entry.getCurrency().equalsIgnoreCase(payment.currency)) {
+            return BreakReason.CURRENCY_MISMATCH;
+        }
+        if (entry.isCredit() != payment.inbound) {
+            return BreakReason.DIRECTION_MISMATCH;
+        }
+        if (Math.abs(entry.getAmountUnits() - payment.amountUnits) > amountToleranceUnits) {
+            return BreakReason.AMOUNT_MISMATCH;
+        }
+        if (Math.abs(entry.getValueDate() - payment.bookedDate) > dateToleranceDays) {
+            return BreakReason.DATE_MISMATCH;
+        }
+        return null;
+    }
+
+    private void link(String reference, IndexedPayment payment) {
+        String key = normalise(reference);
+        if (key != null) {
+            byReference.put(key, new Node(payment, byReference.get(key)));
+        }
+    }
+
+    private Node lookup(String reference) {
+        String key = normalise(reference);
+        return key != null ? byReference.get(key) : null;
+    }
+
+    private static String normalise(String reference) {
+        if (reference == null) {
+            return null;
+        }
+        String key = reference.trim();
+        return key.isEmpty() ? null : key.toUpperCase(Locale.ROOT);
+    }
+
+    public enum BreakReason {
+        DUPLICATE,
+        CURRENCY_MISMATCH,
+        DIRECTION_MISMATCH,
+        AMOUNT_MISMATCH,
+        DATE_MISMATCH,
+        MISSING_FROM_STATEMENT
+    }
+
+    /**
+     * Compact view of a payment for matching.
+     */
+    public static final class IndexedPayment {
+
+        private final UUID id;
+        private final String paymentId;
+        private final long amountUnits;
+        private final String currency;
+        private final long bookedDate;
+        private final boolean inbound;
+        private boolean matched;
+
+        private IndexedPayment(UUID id, String paymentId, long amountUnits, String currency, long bookedDate, boolean inbound) {
+            this.id = id;
+            this.paymentId = paymentId;
+            this.amountUnits = amountUnits;
+            this.currency = currency;
+            this.bookedDate = bookedDate;
+            this.inbound = inbound;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getPaymentId() {
+            return paymentId;
+        }
+
+        public long getAmountUnits() {
+            return amountUnits;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public long getBookedDate() {
+            return bookedDate;
+        }
+    }
+
+    /**
+     * Outcome of matching one statement entry.
+     */
+    public static final class MatchResult {
+
+        private static final MatchResult UNKNOWN = new MatchResult(null, null);
+
+        private final IndexedPayment payment;
+        private final BreakReason breakReason;
+
+        private MatchResult(IndexedPayment payment, BreakReason breakReason) {
+            this.payment = payment;
+            this.breakReason = breakReason;
+        }
+
+        static MatchResult unknown() {
+            return UNKNOWN;
+        }
+
+        static MatchResult matched(IndexedPayment payment) {
+            return new MatchResult(payment, null);
+        }
+
+        static MatchResult broken(IndexedPayment closest, BreakReason reason) {
+            return new MatchResult(closest, reason);
+        }
+
+        public boolean isMatched() {
+            return payment != null && breakReason == null;
+        }
+
+        public boolean isUnknownReference() {
+            return this == UNKNOWN;
+        }
+
+        public IndexedPayment getPayment() {
+            return payment;
+        }
+
+        public BreakReason getBreakReason() {
+            return breakReason;
+        }
+    }
+
+    private static final class Node {
+
+        private final IndexedPayment payment;
+        private final Node next;
+
+        private Node(IndexedPayment payment, Node next) {
+            this.payment = payment;
+            this.next = next;
+        }
+    }
+}
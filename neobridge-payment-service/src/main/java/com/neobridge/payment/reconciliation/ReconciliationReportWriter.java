@@ -0,0 +1,128 @@
+package com.neobridge.payment.reconciliation;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Streams match, break and exception reports as CSV files into a run directory.
+ * Rows are written as they are produced; nothing is accumulated in memory.
+ */
+public class ReconciliationReportWriter implements Closeable {
+
+    public static final String MATCHES_FILE = "matches.csv";
+    public static final String BREAKS_FILE = "breaks.csv";
+    public static final String EXCEPTIONS_FILE = "exceptions.csv";
+
+    private static final int MAX_EXCERPT_LENGTH = 200;
+
+    private final Path directory;
+    private final BufferedWriter matches;
+    private final BufferedWriter breaks;
+    private final BufferedWriter exceptions;
+
+    private long matchCount;
+    private long breakCount;
+    private long exceptionCount;
+
+    public ReconciliationReportWriter(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.matches = open(MATCHES_FILE, "line,reference,payment_id,amount,currency,value_date,booked_date");
+        this.breaks = open(BREAKS_FILE, "type,line,reference,payment_id,statement_amount,payment_amount,currency,value_date,booked_date");
+        this.exceptions = open(EXCEPTIONS_FILE, "line,reason,content");
+    }
+
+    public void match(StatementEntry entry, PaymentIndex.IndexedPayment payment) {
+        write(matches, entry.getLineNumber(), entry.getReference(), payment.getPaymentId(),
+            amount(entry.getAmountUnits()), entry.getCurrency(),
+            LocalDate.ofEpochDay(entry.getValueDate()), LocalDate.ofEpochDay(payment.getBookedDate()));
+        matchCount++;
+    }
+
+    public void statementBreak(StatementEntry entry, PaymentIndex.IndexedPayment payment, PaymentIndex.BreakReason reason) {
+        write(breaks, reason, entry.getLineNumber(), entry.getReference(),
+            payment != null ? payment.getPaymentId() : "",
+            amount(entry.getAmountUnits()), payment != null ? amount(payment.getAmountUnits()) : "",
+            entry.getCurrency(), LocalDate.ofEpochDay(entry.getValueDate()),
+            payment != null ? LocalDate.ofEpochDay(payment.getBookedDate()) : "");
+        breakCount++;
+    }
+
+    public void missingFromStatement(PaymentIndex.IndexedPayment payment) {
+        write(breaks, PaymentIndex.BreakReason.MISSING_FROM_STATEMENT, "", "", payment.getPaymentId(),
+            "", amount(payment.getAmountUnits()), payment.getCurrency(), "",
+            LocalDate.ofEpochDay(payment.getBookedDate()));
+        breakCount++;
+    }
+
+    public void exception(long lineNumber, String reason, CharSequence line) {
+        CharSequence excerpt = line.length() > MAX_EXCERPT_LENGTH ? line.subSequence(0, MAX_EXCERPT_LENGTH) : line;
+        write(exceptions, lineNumber, reason, excerpt);
+        exceptionCount++;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getMatchCount() {
+        return matchCount;
+    }
+
+    public long getBreakCount() {
+        return breakCount;
+    }
+
+    public long getExceptionCount() {
+        return exceptionCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (matches; breaks; exceptions) {
+            // Closing flushes each report
+        }
+    }
+
+    private BufferedWriter open(String name, String header) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(directory.resolve(name), StandardCharsets.UTF_8);
+        writer.write(header);
+        writer.newLine();
+        return writer;
+    }
+
+    private static String amount(long units) {
+        return BigDecimal.valueOf(units, StatementFields.AMOUNT_SCALE).toPlainString();
+    }
+
+    private static void write(BufferedWriter writer, Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeValue(writer, values[i] != null ? values[i].toString() : "");
+            }
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeValue(BufferedWriter writer, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,127 @@
+package com.neobridge.payment.reconciliation;
+
+import java.time.LocalDate;
+
+/**
+ * Outcome of one reconciliation run.
+ */
+public class ReconciliationSummary {
+
+    private String runId;
+    private String statementFile;
+    private StatementFormat format;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private long linesRead;
+    private long entries;
+    private int paymentsIndexed;
+    private long matched;
+    private long breaks;
+    private long exceptions;
+    private long durationMillis;
+    private String reportDirectory;
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public String getStatementFile() {
+        return statementFile;
+    }
+
+    public void setStatementFile(String statementFile) {
+        this.statementFile = statementFile;
+    }
+
+    public StatementFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(StatementFormat format) {
+        this.format = format;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    public void setLinesRead(long linesRead) {
+        this.linesRead = linesRead;
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    public void setEntries(long entries) {
+        this.entries = entries;
+    }
+
+    public int getPaymentsIndexed() {
+        return paymentsIndexed;
+    }
+
+    public void setPaymentsIndexed(int paymentsIndexed) {
+        this.paymentsIndexed = paymentsIndexed;
+    }
+
+    public long getMatched() {
+        return matched;
+    }
+
+    public void setMatched(long matched) {
+        this.matched = matched;
+    }
+
+    public long getBreaks() {
+        return breaks;
+    }
+
+    public void setBreaks(long breaks) {
+        this.breaks = breaks;
+    }
+
+    public long getExceptions() {
+        return exceptions;
+    }
+
+    public void setExceptions(long exceptions) {
+        this.exceptions = exceptions;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public String getReportDirectory() {
+        return reportDirectory;
+    }
+
+    public void setReportDirectory(String reportDirectory) {
+        this.reportDirectory = reportDirectory;
+    }
+}
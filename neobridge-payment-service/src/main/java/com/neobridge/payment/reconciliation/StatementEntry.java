@@ -0,0 +1,55 @@
+package com.neobridge.payment.reconciliation;
+
+/**
+ * One booked line of a bank statement. Amounts are in units of 10^-4 to match
+ * the scale of monetary columns on {@code payments}; dates are epoch days.
+ */
+public class StatementEntry {
+
+    private final long lineNumber;
+    private final String reference;
+    private final String bankReference;
+    private final long amountUnits;
+    private final String currency;
+    private final long valueDate;
+    private final boolean credit;
+
+    public StatementEntry(long lineNumber, String reference, String bankReference, long amountUnits,
+                          String currency, long valueDate, boolean credit) {
+        this.lineNumber = lineNumber;
+        this.reference = reference;
+        this.bankReference = bankReference;
+        this.amountUnits = amountUnits;
+        this.currency = currency;
+        this.valueDate = valueDate;
+        this.credit = credit;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public String getBankReference() {
+        return bankReference;
+    }
+
+    public long getAmountUnits() {
+        return amountUnits;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public long getValueDate() {
+        return valueDate;
+    }
+
+    public boolean isCredit() {
+        return credit;
+    }
+}
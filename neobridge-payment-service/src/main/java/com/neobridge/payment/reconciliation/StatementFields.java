@@ -0,0 +1,128 @@
+package com.neobridge.payment.reconciliation;
+
+import java.time.LocalDate;
+
+/**
+ * Field decoding helpers shared by the statement parsers. They work directly
+ * on the reusable line buffer to avoid substring allocation per field.
+ */
+final class StatementFields {
+
+    static final int AMOUNT_SCALE = 4;
+
+    private StatementFields() {}
+
+    /**
+     * Parse an unsigned decimal amount ({@code ,} or {@code .} as separator) into 10^-4 units.
+     */
+    static long parseUnits(CharSequence s, int from, int to) {
+        if (from >= to) {
+            throw new NumberFormatException("Empty amount");
+        }
+        long units = 0;
+        int fractionDigits = -1;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c == ',' || c == '.') {
+                if (fractionDigits >= 0) {
+                    throw new NumberFormatException("Multiple decimal separators in amount");
+                }
+                fractionDigits = 0;
+            } else if (c >= '0' && c <= '9') {
+                if (fractionDigits >= AMOUNT_SCALE) {
+                    continue; // statements never carry more than 4 decimals; ignore excess digits
+                }
+                units = Math.multiplyExact(units, 10L) + (c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else {
+                throw new NumberFormatException("Invalid character '" + c + "' in amount");
+            }
+        }
+        for (int i = Math.max(fractionDigits, 0); i < AMOUNT_SCALE; i++) {
+            units = Math.multiplyExact(units, 10L);
+        }
+        return units;
+    }
+
+    static int parseDigits(CharSequence s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Expected digit at position " + i);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    static boolean isDigits(CharSequence s, int from, int to) {
+        if (to > s.length()) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Epoch day of a {@code YYMMDD} date.
+     */
+    static long parseYyMmDd(CharSequence s, int from) {
+        return LocalDate.of(2000 + parseDigits(s, from, from + 2), parseDigits(s, from + 2, from + 4),
+            parseDigits(s, from + 4, from + 6)).toEpochDay();
+    }
+
+    /**
+     * Epoch day of a {@code YYYY-MM-DD} date.
+     */
+    static long parseIsoDate(CharSequence s, int from, int to) {
+        if (to - from != 10 || s.charAt(from + 4) != '-' || s.charAt(from + 7) != '-') {
+            throw new NumberFormatException("Expected YYYY-MM-DD date");
+        }
+        return LocalDate.of(parseDigits(s, from, from + 4), parseDigits(s, from + 5, from + 7),
+            parseDigits(s, from + 8, from + 10)).toEpochDay();
+    }
+
+    static String trimmed(CharSequence s, int from, int to) {
+        while (from < to && Character.isWhitespace(s.charAt(from))) {
+            from++;
+        }
+        while (to > from && Character.isWhitespace(s.charAt(to - 1))) {
+            to--;
+        }
+        return from == to ? null : s.subSequence(from, to).toString();
+    }
+
+    static boolean startsWith(CharSequence s, String prefix) {
+        if (s.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int indexOf(CharSequence s, String needle, int from) {
+        int last = s.length() - needle.length();
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < needle.length(); j++) {
+                if (s.charAt(i + j) != needle.charAt(j)) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
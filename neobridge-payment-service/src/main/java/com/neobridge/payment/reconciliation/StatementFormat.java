@@ -0,0 +1,19 @@
+package com.neobridge.payment.reconciliation;
+
+/**
+ * Supported bank statement file formats.
+ */
+public enum StatementFormat {
+    MT940("SWIFT MT940 customer statement"),
+    CSV("Delimited statement export (valueDate,amount,currency,reference[,description])");
+
+    private final String displayName;
+
+    StatementFormat(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,55 @@
+package com.neobridge.payment.reconciliation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Matches parsed statement entries against a {@link PaymentIndex} and streams
+ * each outcome to the report writer as it is produced.
+ */
+public class StatementMatcher implements StatementParser.Sink {
+
+    private final PaymentIndex index;
+    private final ReconciliationReportWriter reports;
+    private long entries;
+
+    public StatementMatcher(PaymentIndex index, ReconciliationReportWriter reports) {
+        this.index = index;
+        this.reports = reports;
+    }
+
+    /**
+     * Read and match the whole statement file, then report payments booked in
+     * the epoch-day range that the statement did not contain. Returns the
+     * number of lines read.
+     */
+    public long run(Path statementFile, StatementParser parser, long fromDay, long toDay) throws IOException {
+        long lines = new MappedLineReader(statementFile)
+            .forEachLine((lineNumber, line) -> parser.onLine(lineNumber, line, this));
+        parser.finish(this);
+        index.forEachUnmatched(fromDay, toDay, reports::missingFromStatement);
+        return lines;
+    }
+
+    @Override
+    public void entry(StatementEntry entry) {
+        entries++;
+        PaymentIndex.MatchResult result = index.match(entry);
+        if (result.isMatched()) {
+            reports.match(entry, result.getPayment());
+        } else if (result.isUnknownReference()) {
+            reports.exception(entry.getLineNumber(), "Unknown reference " + entry.getReference(), "");
+        } else {
+            reports.statementBreak(entry, result.getPayment(), result.getBreakReason());
+        }
+    }
+
+    @Override
+    public void exception(long lineNumber, String reason, CharSequence line) {
+        reports.exception(lineNumber, reason, line);
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+}
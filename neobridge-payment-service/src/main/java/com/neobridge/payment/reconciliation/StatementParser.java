@@ -0,0 +1,23 @@
+package com.neobridge.payment.reconciliation;
+
+/**
+ * Incremental statement parser. Lines are pushed one at a time; the parser
+ * reports complete entries and unparseable input to the given sink and keeps
+ * no more state than the record currently being assembled.
+ */
+public interface StatementParser {
+
+    void onLine(long lineNumber, CharSequence line, Sink sink);
+
+    /**
+     * Flush any record still being assembled at end of input.
+     */
+    void finish(Sink sink);
+
+    interface Sink {
+
+        void entry(StatementEntry entry);
+
+        void exception(long lineNumber, String reason, CharSequence line);
+    }
+}
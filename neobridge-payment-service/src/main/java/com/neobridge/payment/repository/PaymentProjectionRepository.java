@@ -0,0 +1,128 @@
+package com.neobridge.payment.repository;
+
+import com.neobridge.payment.dto.PaymentProjection;
+import com.neobridge.payment.projection.PaymentCursor;
+import com.neobridge.payment.projection.PaymentField;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Column-selective payment reads. Only the requested columns are selected and
+ * mapped straight onto {@link PaymentProjection}, bypassing entity hydration
+ * and the persistence context.
+ */
+@Repository
+public class PaymentProjectionRepository {
+
+    // Keyset columns, always selected first so the next cursor can be built
+    private static final String KEY_COLUMNS = "id, created_at";
+    private static final int FIRST_FIELD_COLUMN = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Up to {@code limit} payments of a user, newest first, strictly after
+     * {@code after} when given. Callers ask for one row more than the page
+     * size to learn whether another page follows.
+     */
+    public List<Row> findUserPage(UUID userId, Set<PaymentField> fields, PaymentCursor after, int limit) {
+        StringBuilder sql = select(fields).append(" WHERE user_id = ? AND deleted = false");
+        if (after != null) {
+            sql.append(" AND (created_at, id) < (?, ?)");
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+
+        List<Row> rows = new ArrayList<>(Math.min(limit, 256));
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString());
+            statement.setFetchSize(limit);
+            int parameter = 1;
+            statement.setObject(parameter++, userId);
+            if (after != null) {
+                statement.setTimestamp(parameter++, Timestamp.from(after.getCreatedAt()));
+                statement.setObject(parameter++, after.getId());
+            }
+            statement.setInt(parameter, limit);
+            return statement;
+        }, rs -> {
+            rows.add(new Row(map(rs, fields), new PaymentCursor(rs.getTimestamp(2).toInstant(), rs.getObject(1, UUID.class))));
+        });
+        return rows;
+    }
+
+    /**
+     * A single payment by internal ID with only the selected fields.
+     */
+    public Optional<PaymentProjection> findById(UUID id, Set<PaymentField> fields) {
+        String sql = select(fields).append(" WHERE id = ? AND deleted = false").toString();
+        List<PaymentProjection> found = jdbcTemplate.query(sql, (rs, rowNum) -> map(rs, fields), id);
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    /**
+     * Query listing all payments of a user, newest first, with the user ID as
+     * its only parameter. Rows map with {@link #rowMapper(Set)}.
+     */
+    public String userHistoryQuery(Set<PaymentField> fields) {
+        return select(fields).append(" WHERE user_id = ? AND deleted = false ORDER BY created_at DESC, id DESC").toString();
+    }
+
+    /**
+     * Maps rows selected for the given fields onto projections.
+     */
+    public RowMapper<PaymentProjection> rowMapper(Set<PaymentField> fields) {
+        return (rs, rowNum) -> map(rs, fields);
+    }
+
+    private static StringBuilder select(Set<PaymentField> fields) {
+        StringBuilder sql = new StringBuilder(64 + fields.size() * 24).append("SELECT ").append(KEY_COLUMNS);
+        for (PaymentField field : fields) {
+            sql.append(", ").append(field.getColumn());
+        }
+        return sql.append(" FROM payments");
+    }
+
+    private static PaymentProjection map(ResultSet rs, Set<PaymentField> fields) throws SQLException {
+        PaymentProjection projection = new PaymentProjection();
+        int column = FIRST_FIELD_COLUMN;
+        for (PaymentField field : fields) {
+            field.read(rs, column++, projection);
+        }
+        return projection;
+    }
+
+    /**
+     * A projected payment together with its keyset position.
+     */
+    public static final class Row {
+
+        private final PaymentProjection projection;
+        private final PaymentCursor cursor;
+
+        private Row(PaymentProjection projection, PaymentCursor cursor) {
+            this.projection = projection;
+            this.cursor = cursor;
+        }
+
+        public PaymentProjection getProjection() {
+            return projection;
+        }
+
+        public PaymentCursor getCursor() {
+            return cursor;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.neobridge.payment.screening;
+
+import java.util.List;
+
+/**
+ * One designated party from a sanctions or PEP list.
+ */
+public class SanctionsEntry {
+
+    private final String id;
+    private final EntryType type;
+    private final String name;
+    private final List<String> aliases;
+    private final List<String> identifiers;
+    private final String program;
+
+    public SanctionsEntry(String id, EntryType type, String name, List<String> aliases,
+                          List<String> identifiers, String program) {
+        this.id = id;
+        this.type = type;
+        this.name = name;
+        this.aliases = aliases;
+        this.identifiers = identifiers;
+        this.program = program;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public EntryType getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getAliases() {
+        return aliases;
+    }
+
+    /**
+     * IBANs and BICs associated with the party.
+     */
+    public List<String> getIdentifiers() {
+        return identifiers;
+    }
+
+    public String getProgram() {
+        return program;
+    }
+
+    public enum EntryType {
+        INDIVIDUAL("Individual"),
+        ENTITY("Entity"),
+        PEP("Politically Exposed Person"),
+        VESSEL("Vessel");
+
+        private final String displayName;
+
+        EntryType(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.neobridge.payment.screening;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Loads a consolidated sanctions/PEP list exported as pipe-delimited lines:
+ * {@code id|type|name|alias;alias|iban-or-bic;...|program}. Blank lines and
+ * lines starting with {@code #} are skipped.
+ */
+public final class SanctionsListLoader {
+
+    private static final int FIELDS = 6;
+
+    private SanctionsListLoader() {
+    }
+
+    public static List<SanctionsEntry> load(Path file) throws IOException {
+        List<SanctionsEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\\|", -1);
+                if (fields.length < FIELDS || fields[2].isBlank()) {
+                    throw new IOException("Malformed sanctions list entry at line " + lineNumber + " of " + file);
+                }
+                SanctionsEntry.EntryType type;
+                try {
+                    type = SanctionsEntry.EntryType.valueOf(fields[1].trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Unknown entry type '" + fields[1] + "' at line " + lineNumber + " of " + file);
+                }
+                entries.add(new SanctionsEntry(fields[0].trim(), type, fields[2].trim(),
+                                               values(fields[3]), values(fields[4]), fields[5].trim()));
+            }
+        }
+        return entries;
+    }
+
+    private static List<String> values(String field) {
+        if (field.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(field.split(";")).map(String::trim).filter(v -> !v.isEmpty()).toList();
+    }
+}
@@ -0,0 +1,21 @@
+package com.neobridge.payment.screening;
+
+/**
+ * Payment field a screening match was found on.
+ */
+public enum ScreeningField {
+    COUNTERPARTY_NAME("Counterparty Name"),
+    COUNTERPARTY_BANK("Counterparty Bank"),
+    COUNTERPARTY_IBAN("Counterparty IBAN"),
+    COUNTERPARTY_BIC("Counterparty BIC");
+
+    private final String displayName;
+
+    ScreeningField(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
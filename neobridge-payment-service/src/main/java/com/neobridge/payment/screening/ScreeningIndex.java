@@ -0,0 +1,403 @@
+package com.neobridge.payment.screening;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable fuzzy-match index over one version of the sanctions list.
+ * <p>
+ * Every name and alias is a variant. Variants are indexed by their distinct
+ * character trigrams in compressed posting arrays, and by an order-independent
+ * phonetic key. A query only walks the rarest trigram postings that any
+ * candidate above the similarity gate must share (prefix filtering), verifies
+ * candidates by trigram overlap and scores survivors with token-wise
+ * Jaro-Winkler similarity. IBANs and BICs are matched exactly.
+ * <p>
+ * Postings of very common trigrams (e.g. from frequent given names) are not
+ * walked once a rarer posting has been, and candidates must share at least two
+ * of the rare trigrams, which bounds query cost. A name that resembles the
+ * query mostly through common trigrams is still found through its phonetic key.
+ */
+public final class ScreeningIndex {
+
+    /**
+     * Minimum trigram Dice coefficient for a candidate to be scored.
+     */
+    static final double CANDIDATE_DICE = 0.6;
+
+    private static final int PHONETIC_BONUS = 5;
+    private static final int MIN_POSTING_SCAN = 4_096;
+    private static final int MIN_RARE_SHARED = 2;
+    private static final int BIC_BANK_LENGTH = 8;
+
+    private static final ThreadLocal<CandidateCounter> CANDIDATES = ThreadLocal.withInitial(CandidateCounter::new);
+
+    private final long version;
+    private final SanctionsEntry[] entries;
+    private final int[] variantEntry;
+    private final String[] variantNames;
+    private final int[] variantGramOffsets;
+    private final int[] variantGrams;
+    private final int[] postingOffsets;
+    private final int[] postings;
+    private final Map<String, int[]> phonetic;
+    private final Map<String, int[]> identifiers;
+    private final int maxPostingScan;
+
+    private ScreeningIndex(long version, SanctionsEntry[] entries, int[] variantEntry, String[] variantNames,
+                           int[] variantGramOffsets, int[] variantGrams, int[] postingOffsets, int[] postings,
+                           Map<String, int[]> phonetic, Map<String, int[]> identifiers) {
+        this.version = version;
+        this.entries = entries;
+        this.variantEntry = variantEntry;
+        this.variantNames = variantNames;
+        this.variantGramOffsets = variantGramOffsets;
+        this.variantGrams = variantGrams;
+        this.postingOffsets = postingOffsets;
+        this.postings = postings;
+        this.phonetic = phonetic;
+        this.identifiers = identifiers;
+        this.maxPostingScan = Math.max(MIN_POSTING_SCAN, variantEntry.length / 256);
+    }
+
+    public static ScreeningIndex empty() {
+        return build(List.of(), 0);
+    }
+
+    public static ScreeningIndex build(List<SanctionsEntry> list, long version) {
+        SanctionsEntry[] entries = list.toArray(new SanctionsEntry[0]);
+
+        int variantCount = 0;
+        for (SanctionsEntry entry : entries) {
+            variantCount += 1 + entry.getAliases().size();
+        }
+
+        int[] variantEntry = new int[variantCount];
+        String[] variantNames = new String[variantCount];
+        int[][] grams = new int[variantCount][];
+        Map<String, List<Integer>> phoneticLists = new HashMap<>();
+        Map<String, List<Integer>> identifierLists = new HashMap<>();
+
+        int variant = 0;
+        int gramTotal = 0;
+        for (int e = 0; e < entries.length; e++) {
+            SanctionsEntry entry = entries[e];
+            for (int n = -1; n < entry.getAliases().size(); n++) {
+                String normalized = ScreeningText.normalize(n < 0 ? entry.getName() : entry.getAliases().get(n));
+                variantEntry[variant] = e;
+                variantNames[variant] = normalized;
+                grams[variant] = ScreeningText.grams(normalized);
+                gramTotal += grams[variant].length;
+                if (!normalized.isEmpty()) {
+                    phoneticLists.computeIfAbsent(ScreeningText.phoneticKey(normalized), k -> new ArrayList<>()).add(variant);
+                }
+                variant++;
+            }
+            for (String identifier : entry.getIdentifiers()) {
+                String key = normalizeIdentifier(identifier);
+                if (!key.isEmpty()) {
+                    identifierLists.computeIfAbsent(key, k -> new ArrayList<>()).add(e);
+                }
+            }
+        }
+
+        // Per-variant trigram sets, flattened
+        int[] variantGramOffsets = new int[variantCount + 1];
+        int[] variantGrams = new int[gramTotal];
+        int[] postingOffsets = new int[ScreeningText.GRAM_SPACE + 1];
+        int position = 0;
+        for (int v = 0; v < variantCount; v++) {
+            variantGramOffsets[v] = position;
+            for (int gram : grams[v]) {
+                variantGrams[position++] = gram;
+                postingOffsets[gram + 1]++;
+            }
+            grams[v] = null;
+        }
+        variantGramOffsets[variantCount] = position;
+
+        // Trigram postings in variant order
+        for (int g = 0; g < ScreeningText.GRAM_SPACE; g++) {
+            postingOffsets[g + 1] += postingOffsets[g];
+        }
+        int[] fill = Arrays.copyOf(postingOffsets, ScreeningText.GRAM_SPACE);
+        int[] postings = new int[gramTotal];
+        for (int v = 0; v < variantCount; v++) {
+            for (int p = variantGramOffsets[v]; p < variantGramOffsets[v + 1]; p++) {
+                postings[fill[variantGrams[p]]++] = v;
+            }
+        }
+
+        return new ScreeningIndex(version, entries, variantEntry, variantNames, variantGramOffsets, variantGrams,
+                                  postingOffsets, postings, toArrays(phoneticLists), toArrays(identifierLists));
+    }
+
+    /**
+     * Screen a counterparty's name, bank, IBAN and BIC, keeping the best
+     * {@code limit} matches at or above {@code threshold}.
+     */
+    public ScreeningResult screen(String name, String bank, String iban, String bic, int threshold, int limit) {
+        long started = System.nanoTime();
+        List<ScreeningMatch> matches = new ArrayList<>();
+        matches.addAll(screenIdentifier(iban, ScreeningField.COUNTERPARTY_IBAN));
+        matches.addAll(screenIdentifier(bic, ScreeningField.COUNTERPARTY_BIC));
+        matches.addAll(screenName(name, ScreeningField.COUNTERPARTY_NAME, threshold, limit));
+        matches.addAll(screenName(bank, ScreeningField.COUNTERPARTY_BANK, threshold, limit));
+        matches.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
+        if (matches.size() > limit) {
+            matches = new ArrayList<>(matches.subList(0, limit));
+        }
+        return new ScreeningResult(version, matches, System.nanoTime() - started);
+    }
+
+    /**
+     * Fuzzy-match a name, returning at most {@code limit} entries scoring at
+     * least {@code threshold}, best first.
+     */
+    public List<ScreeningMatch> screenName(String name, ScreeningField field, int threshold, int limit) {
+        if (name == null || name.isBlank()) {
+            return List.of();
+        }
+        String normalized = ScreeningText.normalize(name);
+        int[] queryGrams = ScreeningText.grams(normalized);
+        if (queryGrams.length == 0) {
+            return List.of();
+        }
+        String queryName = normalized;
+        Map<Integer, ScreeningMatch> best = new HashMap<>();
+        CandidateCounter candidates = CANDIDATES.get();
+        candidates.clear();
+
+        int[] samePhonetic = phonetic.get(ScreeningText.phoneticKey(normalized));
+        if (samePhonetic != null) {
+            for (int v : samePhonetic) {
+                candidates.exclude(v);
+                score(v, ScreeningText.overlap(queryGrams, variantGrams, variantGramOffsets[v], variantGramOffsets[v + 1]),
+                      queryGrams.length, queryName, true, name, field, threshold, best);
+            }
+        }
+
+        // A candidate with Dice >= gate shares at least minShared trigrams with the
+        // query, so it must appear in one of the (length - minShared + 1) rarest postings.
+        // Postings are walked rarest first, counting shared trigrams per candidate so
+        // variant data is only read for candidates that can still pass the gate.
+        int minShared = Math.max(1, (int) Math.ceil(CANDIDATE_DICE * queryGrams.length / (2 - CANDIDATE_DICE)));
+        long[] bySelectivity = new long[queryGrams.length];
+        for (int i = 0; i < queryGrams.length; i++) {
+            int gram = queryGrams[i];
+            bySelectivity[i] = ((long) (postingOffsets[gram + 1] - postingOffsets[gram]) << 32) | gram;
+        }
+        Arrays.sort(bySelectivity);
+        int scanned = 0;
+        while (scanned < queryGrams.length && (scanned == 0 || (int) (bySelectivity[scanned] >>> 32) <= maxPostingScan)) {
+            int gram = (int) bySelectivity[scanned++];
+            for (int p = postingOffsets[gram]; p < postingOffsets[gram + 1]; p++) {
+                candidates.increment(postings[p]);
+            }
+        }
+
+        // With common postings skipped the count bound is weak, so candidates must
+        // also share at least two of the walked (rare) trigrams
+        int unscanned = queryGrams.length - scanned;
+        int required = Math.max(minShared - unscanned, Math.min(MIN_RARE_SHARED, scanned));
+        for (int i = 0; i < candidates.size(); i++) {
+            int slot = candidates.slotAt(i);
+            int shared = candidates.countAt(slot);
+            if (shared < required) {
+                continue;
+            }
+            int v = candidates.keyAt(slot);
+            if (unscanned > 0) {
+                shared = ScreeningText.overlap(queryGrams, variantGrams, variantGramOffsets[v], variantGramOffsets[v + 1]);
+            }
+            score(v, shared, queryGrams.length, queryName, false, name, field, threshold, best);
+        }
+
+        return top(best, limit);
+    }
+
+    /**
+     * Exact match of an IBAN, or of a BIC at bank level (first eight characters).
+     */
+    public List<ScreeningMatch> screenIdentifier(String identifier, ScreeningField field) {
+        String key = normalizeIdentifier(identifier);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        int[] hits = identifiers.get(key);
+        if (hits == null && field == ScreeningField.COUNTERPARTY_BIC && key.length() > BIC_BANK_LENGTH) {
+            hits = identifiers.get(key.substring(0, BIC_BANK_LENGTH));
+        }
+        if (hits == null) {
+            return List.of();
+        }
+        List<ScreeningMatch> matches = new ArrayList<>(hits.length);
+        for (int e : hits) {
+            matches.add(new ScreeningMatch(entries[e], field, identifier, 100));
+        }
+        return matches;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public int getVariantCount() {
+        return variantEntry.length;
+    }
+
+    private void score(int v, int shared, int queryGramCount, String queryName, boolean samePhonetic, String screened,
+                       ScreeningField field, int threshold, Map<Integer, ScreeningMatch> best) {
+        int variantGramCount = variantGramOffsets[v + 1] - variantGramOffsets[v];
+        double dice = 2.0 * shared / (queryGramCount + variantGramCount);
+        if (dice < CANDIDATE_DICE && !samePhonetic) {
+            return;
+        }
+        double similarity = ScreeningText.nameSimilarity(queryName, variantNames[v]);
+        int score = (int) Math.round(similarity * 100);
+        if (samePhonetic) {
+            score = Math.min(100, score + PHONETIC_BONUS);
+        }
+        if (score < threshold) {
+            return;
+        }
+        int e = variantEntry[v];
+        ScreeningMatch current = best.get(e);
+        if (current == null || current.getScore() < score) {
+            best.put(e, new ScreeningMatch(entries[e], field, screened, score));
+        }
+    }
+
+    static List<ScreeningMatch> top(Map<Integer, ScreeningMatch> best, int limit) {
+        if (best.isEmpty()) {
+            return List.of();
+        }
+        List<ScreeningMatch> matches = new ArrayList<>(best.values());
+        matches.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    static String normalizeIdentifier(String identifier) {
+        if (identifier == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(identifier.length());
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, List<Integer>> lists) {
+        Map<String, int[]> arrays = new HashMap<>(lists.size() * 4 / 3 + 1);
+        for (Map.Entry<String, List<Integer>> entry : lists.entrySet()) {
+            arrays.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return arrays;
+    }
+
+    /**
+     * Per-thread open-addressing map from variant to shared trigram count.
+     * Slots are tagged with a generation number so clearing between queries is
+     * O(1), and the slots a query touched are listed so iterating candidates
+     * costs the number of candidates, not the capacity the table grew to for
+     * the largest query seen. Excluded variants (already scored) carry a large
+     * negative count.
+     */
+    private static final class CandidateCounter {
+
+        private static final int EXCLUDED = Integer.MIN_VALUE / 2;
+
+        private int[] keys = new int[4096];
+        private int[] counts = new int[4096];
+        private int[] generations = new int[4096];
+        private int[] touched = new int[2048];
+        private int generation;
+        private int size;
+
+        void clear() {
+            generation++;
+            size = 0;
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(generations, 0);
+                generation = 1;
+            }
+        }
+
+        void increment(int key) {
+            int slot = slotFor(key); // may grow the arrays
+            counts[slot]++;
+        }
+
+        void exclude(int key) {
+            int slot = slotFor(key);
+            counts[slot] = EXCLUDED;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Slot of the {@code i}-th distinct key touched since the last clear.
+         */
+        int slotAt(int i) {
+            return touched[i];
+        }
+
+        int keyAt(int slot) {
+            return keys[slot];
+        }
+
+        int countAt(int slot) {
+            return counts[slot];
+        }
+
+        private int slotFor(int key) {
+            if (size * 2 >= keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            int slot = (key * 0x9E3779B9) >>> 7 & mask;
+            while (generations[slot] == generation) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            counts[slot] = 0;
+            generations[slot] = generation;
+            touched[size++] = slot;
+            return slot;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            int[] oldTouched = touched;
+            int oldSize = size;
+            keys = new int[oldKeys.length * 2];
+            counts = new int[oldKeys.length * 2];
+            generations = new int[oldKeys.length * 2];
+            touched = new int[oldKeys.length];
+            size = 0;
+            for (int i = 0; i < oldSize; i++) {
+                int oldSlot = oldTouched[i];
+                int slot = slotFor(oldKeys[oldSlot]);
+                counts[slot] = oldCounts[oldSlot];
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.neobridge.payment.screening;
+
+/**
+ * A scored match of a payment field against a list entry. Scores run from 0
+ * to 100; identifier matches always score 100.
+ */
+public class ScreeningMatch {
+
+    private final SanctionsEntry entry;
+    private final ScreeningField field;
+    private final String screenedValue;
+    private final int score;
+
+    public ScreeningMatch(SanctionsEntry entry, ScreeningField field, String screenedValue, int score) {
+        this.entry = entry;
+        this.field = field;
+        this.screenedValue = screenedValue;
+        this.score = score;
+    }
+
+    public SanctionsEntry getEntry() {
+        return entry;
+    }
+
+    public ScreeningField getField() {
+        return field;
+    }
+
+    public String getScreenedValue() {
+        return screenedValue;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return entry.getId() + ":" + field + ":" + score;
+    }
+}
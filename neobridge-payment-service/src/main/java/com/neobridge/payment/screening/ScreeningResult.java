@@ -0,0 +1,56 @@
+package com.neobridge.payment.screening;
+
+import java.util.List;
+
+/**
+ * Outcome of screening one payment against a list version.
+ */
+public class ScreeningResult {
+
+    private final long listVersion;
+    private final List<ScreeningMatch> matches;
+    private final long elapsedNanos;
+
+    public ScreeningResult(long listVersion, List<ScreeningMatch> matches, long elapsedNanos) {
+        this.listVersion = listVersion;
+        this.matches = matches;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public boolean isHit() {
+        return !matches.isEmpty();
+    }
+
+    /**
+     * Highest match score, or 0 when there are no matches.
+     */
+    public int getTopScore() {
+        return matches.isEmpty() ? 0 : matches.get(0).getScore();
+    }
+
+    public long getListVersion() {
+        return listVersion;
+    }
+
+    /**
+     * Matches ordered by descending score.
+     */
+    public List<ScreeningMatch> getMatches() {
+        return matches;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Compact summary for {@code Payment.complianceData}.
+     */
+    public String toComplianceData() {
+        StringBuilder sb = new StringBuilder("screening:v").append(listVersion);
+        for (ScreeningMatch match : matches) {
+            sb.append(';').append(match);
+        }
+        return sb.toString();
+    }
+}
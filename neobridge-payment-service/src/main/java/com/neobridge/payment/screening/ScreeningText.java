@@ -0,0 +1,257 @@
+package com.neobridge.payment.screening;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Name normalisation, trigram, phonetic and similarity helpers shared by
+ * indexing and querying so both sides see names identically.
+ */
+final class ScreeningText {
+
+    /**
+     * Trigram alphabet: space, A-Z and 0-9.
+     */
+    static final int ALPHABET = 37;
+    static final int GRAM_SPACE = ALPHABET * ALPHABET * ALPHABET;
+
+    private static final double MIN_TOKEN_SIMILARITY = 0.8;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    // Legal forms and fillers that carry no identity
+    private static final Set<String> NOISE_TOKENS = Set.of(
+        "THE", "AND", "OF", "LTD", "LIMITED", "LLC", "INC", "CO", "CORP", "COMPANY",
+        "GMBH", "AG", "SA", "SAS", "BV", "NV", "PLC", "JSC", "PJSC", "OOO", "ZAO", "LLP");
+
+    private ScreeningText() {
+    }
+
+    /**
+     * Upper-case ASCII letters and digits separated by single spaces, without noise tokens.
+     */
+    static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        StringBuilder out = new StringBuilder(folded.length());
+        int tokenStart = 0;
+        for (int i = 0; i <= folded.length(); i++) {
+            char c = i < folded.length() ? Character.toUpperCase(folded.charAt(i)) : ' ';
+            boolean keep = (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            if (keep) {
+                out.append(c);
+                continue;
+            }
+            if (out.length() > tokenStart) {
+                if (NOISE_TOKENS.contains(out.substring(tokenStart))) {
+                    out.setLength(tokenStart);
+                } else {
+                    out.append(' ');
+                }
+            }
+            tokenStart = out.length();
+        }
+        if (out.length() > 0 && out.charAt(out.length() - 1) == ' ') {
+            out.setLength(out.length() - 1);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Distinct trigram codes of a normalised name, padded with a space on both sides, sorted.
+     */
+    static int[] grams(String normalized) {
+        int length = normalized.length() + 2;
+        if (length < 3) {
+            return new int[0];
+        }
+        int[] grams = new int[length - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (symbol(normalized, i - 1) * ALPHABET + symbol(normalized, i)) * ALPHABET + symbol(normalized, i + 1);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return distinct == grams.length ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Size of the intersection of two sorted code arrays.
+     */
+    static int overlap(int[] a, int[] b, int bFrom, int bTo) {
+        int i = 0;
+        int j = bFrom;
+        int shared = 0;
+        while (i < a.length && j < bTo) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Order-independent name similarity between 0 and 1: each token is paired
+     * with its closest token in the other name, weighted by length and averaged
+     * over both directions. Tokens without a close counterpart count as zero, so
+     * a shared common given name alone cannot make two names similar.
+     */
+    static double nameSimilarity(String a, String b) {
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        String[] aTokens = a.split(" ");
+        String[] bTokens = b.split(" ");
+        return (directedSimilarity(aTokens, bTokens) + directedSimilarity(bTokens, aTokens)) / 2;
+    }
+
+    /**
+     * Order-independent phonetic key: the sorted Soundex codes of each token.
+     */
+    static String phoneticKey(String normalized) {
+        if (normalized.isEmpty()) {
+            return "";
+        }
+        String[] tokens = normalized.split(" ");
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = soundex(tokens[i]);
+        }
+        Arrays.sort(tokens);
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * Jaro-Winkler similarity between 0 and 1.
+     */
+    static double jaroWinkler(String a, String b) {
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        int window = Math.max(0, Math.max(a.length(), b.length()) / 2 - 1);
+        boolean[] aMatched = new boolean[a.length()];
+        boolean[] bMatched = new boolean[b.length()];
+        int matches = 0;
+        for (int i = 0; i < a.length(); i++) {
+            int from = Math.max(0, i - window);
+            int to = Math.min(b.length(), i + window + 1);
+            for (int j = from; j < to; j++) {
+                if (!bMatched[j] && a.charAt(i) == b.charAt(j)) {
+                    aMatched[i] = true;
+                    bMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length(); i++) {
+            if (!aMatched[i]) {
+                continue;
+            }
+            while (!bMatched[j]) {
+                j++;
+            }
+            if (a.charAt(i) != b.charAt(j)) {
+                transpositions++;
+            }
+            j++;
+        }
+        double m = matches;
+        double jaro = (m / a.length() + m / b.length() + (m - transpositions / 2.0) / m) / 3.0;
+        int prefix = 0;
+        while (prefix < 4 && prefix < a.length() && prefix < b.length() && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1.0 - jaro);
+    }
+
+    private static double directedSimilarity(String[] from, String[] to) {
+        double weighted = 0;
+        int length = 0;
+        for (String token : from) {
+            double best = 0;
+            for (String other : to) {
+                best = Math.max(best, jaroWinkler(token, other));
+            }
+            if (best >= MIN_TOKEN_SIMILARITY) {
+                weighted += best * token.length();
+            }
+            length += token.length();
+        }
+        return length == 0 ? 0 : weighted / length;
+    }
+
+    private static int symbol(String s, int i) {
+        if (i < 0 || i >= s.length()) {
+            return 0;
+        }
+        char c = s.charAt(i);
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 1;
+        }
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 27;
+        }
+        return 0;
+    }
+
+    private static String soundex(String token) {
+        char first = token.charAt(0);
+        if (first >= '0' && first <= '9') {
+            return token;
+        }
+        StringBuilder code = new StringBuilder(4).append(first);
+        char last = soundexDigit(first);
+        for (int i = 1; i < token.length() && code.length() < 4; i++) {
+            char c = token.charAt(i);
+            char digit = soundexDigit(c);
+            if (digit != '0' && digit != last) {
+                code.append(digit);
+            }
+            // H and W do not separate letters with the same code
+            if (c != 'H' && c != 'W') {
+                last = digit;
+            }
+        }
+        while (code.length() < 4) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    private static char soundexDigit(char c) {
+        switch (c) {
+            case 'B': case 'F': case 'P': case 'V':
+                return '1';
+            case 'C': case 'G': case 'J': case 'K': case 'Q': case 'S': case 'X': case 'Z':
+                return '2';
+            case 'D': case 'T':
+                return '3';
+            case 'L':
+                return '4';
+            case 'M': case 'N':
+                return '5';
+            case 'R':
+                return '6';
+            default:
+                return '0';
+        }
+    }
+}
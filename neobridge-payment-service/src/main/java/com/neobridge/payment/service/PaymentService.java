@@ -1,18 +1,34 @@
 package com.neobridge.payment.service;
 
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.common.stream.JdbcStreamingService;
+import com.neobridge.common.stream.StreamFormat;
+import com.neobridge.payment.audit.PaymentTransition;
+import com.neobridge.payment.audit.PaymentTransitionLog;
+import com.neobridge.payment.dto.FeeQuoteRequest;
+import com.neobridge.payment.dto.FeeQuoteResponse;
 import com.neobridge.payment.dto.PaymentCreateRequest;
+import com.neobridge.payment.dto.PaymentPage;
+import com.neobridge.payment.dto.PaymentProjection;
 import com.neobridge.payment.dto.PaymentResponse;
 import com.neobridge.payment.entity.Payment;
+import com.neobridge.payment.event.PaymentEvent;
 import com.neobridge.payment.exception.PaymentNotFoundException;
 import com.neobridge.payment.exception.PaymentProcessingException;
 import com.neobridge.payment.exception.InvalidPaymentRequestException;
+import com.neobridge.payment.projection.PaymentCursor;
+import com.neobridge.payment.projection.PaymentField;
+import com.neobridge.payment.projection.PaymentView;
+import com.neobridge.payment.repository.PaymentProjectionRepository;
 import com.neobridge.payment.repository.PaymentRepository;
+import com.neobridge.payment.screening.ScreeningResult;
 import com.neobridge.payment.util.PaymentIdGenerator;
 import com.neobridge.payment.util.PaymentFeeCalculator;
 import com.neobridge.payment.util.PaymentValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
@@ -20,13 +36,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Service for managing payments in the NeoBridge platform.
@@ -50,9 +70,48 @@ public class PaymentService {
     @Autowired
     private PaymentValidator paymentValidator;
 
+    @Autowired
+    private PaymentProjectionRepository projectionRepository;
+
+    @Autowired
+    private PaymentTransitionLog transitionLog;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private JdbcStreamingService streamingService;
+
+    @Autowired
+    private VelocityService velocityService;
+
+    @Autowired
+    private ScreeningService screeningService;
+
     @Autowired
     private KafkaTemplate<String, Object> kafkaTemplate;
 
+    @Value("${neobridge.payment.events-topic:neobridge.payment.events}")
+    private String paymentEventsTopic;
+
+    @Value("${neobridge.payment.compliance.fraud.threshold:70}")
+    private int fraudThreshold;
+
+    @Value("${neobridge.payment.compliance.fraud.base-score:10}")
+    private int fraudBaseScore;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.risk.high-score:40}")
+    private int highRiskVelocityScore;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.risk.medium-score:1}")
+    private int mediumRiskVelocityScore;
+
+    @Value("${neobridge.payment.history.default-page-size:50}")
+    private int defaultHistoryPageSize;
+
+    @Value("${neobridge.payment.history.max-page-size:200}")
+    private int maxHistoryPageSize;
+
     /**
      * Create a new payment.
      */
@@ -67,7 +126,8 @@ public class PaymentService {
         String paymentId = paymentIdGenerator.generatePaymentId(request.getPaymentType());
 
         // Calculate fees
-        BigDecimal feeAmount = feeCalculator.calculateFee(request.getPaymentType(), request.getAmount(), request.getCurrency());
+        BigDecimal feeAmount = feeCalculator.calculateFee(request.getPaymentType(), request.getAmount(),
+                                                          request.getCurrency(), request.getPriority());
         String feeCurrency = request.getFeeCurrency() != null ? request.getFeeCurrency() : request.getCurrency();
 
         // Create payment entity
@@ -136,6 +196,14 @@ public class PaymentService {
         }
         if (request.getExchangeRate() != null) {
             payment.setExchangeRate(request.getExchangeRate());
+        } else if (request.getOriginalCurrency() != null && !request.getOriginalCurrency().equals(request.getCurrency())) {
+            // The rate is informational here; a payment is not held up by a missing feed rate
+            BigDecimal exchangeRate = fxRateService.findRate(request.getOriginalCurrency(), request.getCurrency()).orElse(null);
+            if (exchangeRate == null) {
+                logger.warn("No FX rate for {}/{}; payment {} is recorded without an exchange rate",
+                           request.getOriginalCurrency(), request.getCurrency(), paymentId);
+            }
+            payment.setExchangeRate(exchangeRate);
         }
         if (request.getOriginalCurrency() != null) {
             payment.setOriginalCurrency(request.getOriginalCurrency());
@@ -157,6 +225,7 @@ public class PaymentService {
 
         // Save payment
         Payment savedPayment = paymentRepository.save(payment);
+        transitionLog.record(savedPayment, null, null);
         logger.info("Payment created successfully: {}", paymentId);
 
         // Publish payment created event
@@ -165,6 +234,15 @@ public class PaymentService {
         return PaymentResponse.fromPayment(savedPayment);
     }
 
+    /**
+     * Quote fees for a batch of payments without creating them.
+     */
+    @Transactional(readOnly = true)
+    public List<FeeQuoteResponse> quoteFees(List<FeeQuoteRequest> requests) {
+        logger.debug("Quoting fees for {} payments", requests.size());
+        return feeCalculator.quoteFees(requests);
+    }
+
     /**
      * Get payment by ID.
      */
@@ -192,15 +270,16 @@ public class PaymentService {
     }
 
     /**
-     * Get all payments for a user.
+     * Stream all payments for a user, newest first, with only the columns of the
+     * requested view or field selection. Rows are written as they are read.
      */
-    public List<PaymentResponse> getUserPayments(UUID userId) {
-        logger.debug("Fetching payments for user: {}", userId);
-        
-        List<Payment> payments = paymentRepository.findByUserId(userId);
-        return payments.stream()
-            .map(PaymentResponse::fromPayment)
-            .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StreamingResponseBody streamUserPayments(UUID userId, PaymentView view, String fields, StreamFormat format) {
+        logger.debug("Streaming payments for user: {} (view {}, format {})", userId, view, format);
+
+        Set<PaymentField> selected = selectFields(view, fields);
+        return streamingService.stream("payments.user", format, projectionRepository.userHistoryQuery(selected),
+                                       projectionRepository.rowMapper(selected), userId);
     }
 
     /**
@@ -213,6 +292,56 @@ public class PaymentService {
         return payments.map(PaymentResponse::fromPayment);
     }
 
+    /**
+     * Get one page of a user's payment history, newest first, loading only the
+     * columns of the requested view or field selection.
+     */
+    @Transactional(readOnly = true)
+    public PaymentPage getUserPaymentHistory(UUID userId, PaymentView view, String fields, String cursor, Integer pageSize) {
+        int size = pageSize != null ? pageSize : defaultHistoryPageSize;
+        logger.debug("Fetching payment history for user: {} (view {}, size {})", userId, view, size);
+
+        if (size < 1 || size > maxHistoryPageSize) {
+            throw new InvalidPaymentRequestException("Page size must be between 1 and " + maxHistoryPageSize);
+        }
+        Set<PaymentField> selected = selectFields(view, fields);
+        PaymentCursor after = decodeCursor(cursor);
+
+        List<PaymentProjectionRepository.Row> rows = projectionRepository.findUserPage(userId, selected, after, size + 1);
+        boolean hasMore = rows.size() > size;
+        int count = hasMore ? size : rows.size();
+        List<PaymentProjection> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(rows.get(i).getProjection());
+        }
+        String nextCursor = hasMore ? rows.get(count - 1).getCursor().encode() : null;
+        return new PaymentPage(items, nextCursor);
+    }
+
+    /**
+     * Get a payment by ID, loading only the columns of the requested view or field selection.
+     */
+    @Transactional(readOnly = true)
+    public PaymentProjection getPaymentView(UUID paymentId, PaymentView view, String fields) {
+        logger.debug("Fetching payment view {} for ID: {}", view, paymentId);
+
+        return projectionRepository.findById(paymentId, selectFields(view, fields))
+            .orElseThrow(() -> new PaymentNotFoundException("Payment not found with ID: " + paymentId));
+    }
+
+    /**
+     * Get the status timeline of a payment, oldest transition first.
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentTransition> getPaymentTimeline(UUID paymentId) {
+        logger.debug("Fetching status timeline for payment: {}", paymentId);
+
+        PaymentProjection payment = projectionRepository.findById(paymentId, EnumSet.of(PaymentField.CREATED_AT))
+            .orElseThrow(() -> new PaymentNotFoundException("Payment not found with ID: " + paymentId));
+        // Small margin for created_at being rounded to the column precision
+        return transitionLog.timeline(paymentId, payment.getCreatedAt().minusSeconds(1));
+    }
+
     /**
      * Process payment.
      */
@@ -230,11 +359,21 @@ public class PaymentService {
         try {
             // Mark as processing
             payment.markAsProcessing();
+            transitionLog.record(payment, Payment.PaymentStatus.PENDING, null);
             
             // Perform compliance check
             if (payment.getComplianceStatus() == Payment.ComplianceStatus.PENDING) {
                 performComplianceCheck(payment);
             }
+            if (payment.getComplianceStatus() != Payment.ComplianceStatus.APPROVED) {
+                // Held for manual review; not a processing failure
+                payment.markAsUnderReview();
+                transitionLog.record(payment, Payment.PaymentStatus.PROCESSING, "COMPLIANCE_REVIEW");
+                Payment heldPayment = paymentRepository.save(payment);
+                publishPaymentStatusChangedEvent(heldPayment);
+                logger.info("Payment held for compliance review: {}", paymentId);
+                return PaymentResponse.fromPayment(heldPayment);
+            }
             
             // Perform fraud check
             if (payment.getFraudScore() == 0) {
@@ -247,6 +386,7 @@ public class PaymentService {
             // Mark as completed
             payment.markAsCompleted();
             payment.setSettlementDate(LocalDateTime.now());
+            transitionLog.record(payment, Payment.PaymentStatus.PROCESSING, null);
             
             Payment updatedPayment = paymentRepository.save(payment);
             
@@ -258,7 +398,9 @@ public class PaymentService {
             
         } catch (Exception e) {
             logger.error("Error processing payment: {}", e.getMessage(), e);
+            Payment.PaymentStatus previousStatus = payment.getStatus();
             payment.markAsFailed("Processing failed: " + e.getMessage(), "PROCESSING_ERROR");
+            transitionLog.record(payment, previousStatus, payment.getFailureCode());
             paymentRepository.save(payment);
             throw new PaymentProcessingException("Failed to process payment: " + e.getMessage());
         }
@@ -278,7 +420,9 @@ public class PaymentService {
             throw new PaymentProcessingException("Cannot cancel completed payment");
         }
         
+        Payment.PaymentStatus previousStatus = payment.getStatus();
         payment.markAsCancelled();
+        transitionLog.record(payment, previousStatus, null);
         Payment updatedPayment = paymentRepository.save(payment);
         
         // Publish payment cancelled event
@@ -302,8 +446,10 @@ public class PaymentService {
             throw new PaymentProcessingException("Payment cannot be retried");
         }
         
+        Payment.PaymentStatus previousStatus = payment.getStatus();
         payment.incrementRetryCount();
         payment.setStatus(Payment.PaymentStatus.PENDING);
+        transitionLog.record(payment, previousStatus, "RETRY");
         payment.setNextRetryDate(LocalDateTime.now().plusMinutes(5));
         
         Payment updatedPayment = paymentRepository.save(payment);
@@ -322,7 +468,9 @@ public class PaymentService {
         Payment payment = paymentRepository.findById(paymentId)
             .orElseThrow(() -> new PaymentNotFoundException("Payment not found with ID: " + paymentId));
         
+        Payment.PaymentStatus previousStatus = payment.getStatus();
         payment.setStatus(newStatus);
+        transitionLog.record(payment, previousStatus, null);
         
         if (newStatus == Payment.PaymentStatus.COMPLETED) {
             payment.setCompletionDate(LocalDateTime.now());
@@ -393,27 +541,41 @@ public class PaymentService {
 
     // Private helper methods
     private Payment.RiskLevel assessRiskLevel(PaymentCreateRequest request) {
-        // Simple risk assessment logic
-        if (request.getIsUrgent() != null && request.getIsUrgent()) {
+        int velocityScore = velocityService.velocityScore(request.getUserId(),
+            PaymentEvent.counterpartyKey(request.getCounterpartyIban(), request.getCounterpartyAccount()));
+        if ((request.getIsUrgent() != null && request.getIsUrgent()) || velocityScore >= highRiskVelocityScore) {
             return Payment.RiskLevel.HIGH;
         }
         if (request.getPaymentType() == Payment.PaymentType.INTERNATIONAL_TRANSFER ||
-            request.getPaymentType() == Payment.PaymentType.SWIFT_TRANSFER) {
+            request.getPaymentType() == Payment.PaymentType.SWIFT_TRANSFER || velocityScore >= mediumRiskVelocityScore) {
             return Payment.RiskLevel.MEDIUM;
         }
         return Payment.RiskLevel.LOW;
     }
 
     private void performComplianceCheck(Payment payment) {
-        // TODO: Implement compliance check logic
         logger.debug("Performing compliance check for payment: {}", payment.getPaymentId());
+        ScreeningResult screening = screeningService.screenPayment(payment);
+        payment.setComplianceData(screening.toComplianceData());
+        if (screening.isHit()) {
+            logger.warn("Sanctions screening matches for payment {}: {}", payment.getPaymentId(), screening.getMatches());
+            payment.setComplianceStatus(Payment.ComplianceStatus.UNDER_REVIEW);
+            payment.setRiskLevel(Payment.RiskLevel.HIGH);
+            return;
+        }
         payment.setComplianceStatus(Payment.ComplianceStatus.APPROVED);
     }
 
     private void performFraudCheck(Payment payment) {
-        // TODO: Implement fraud check logic
         logger.debug("Performing fraud check for payment: {}", payment.getPaymentId());
-        payment.setFraudScore(10); // Low risk score
+        String counterparty = PaymentEvent.counterpartyKey(payment.getCounterpartyIban(), payment.getCounterpartyAccount());
+        int fraudScore = Math.min(100, fraudBaseScore + velocityService.velocityScore(payment.getUserId(), counterparty));
+        payment.setFraudScore(fraudScore);
+        if (fraudScore > fraudThreshold) {
+            logger.warn("Payment {} exceeds fraud threshold with score {}: user velocity {}",
+                       payment.getPaymentId(), fraudScore, velocityService.getUserVelocity(payment.getUserId()));
+            payment.setRiskLevel(Payment.RiskLevel.HIGH);
+        }
     }
 
     private void processPaymentByType(Payment payment) {
@@ -477,24 +639,57 @@ public class PaymentService {
         logger.debug("Processing generic payment: {}", payment.getPaymentId());
     }
 
+    private static Set<PaymentField> selectFields(PaymentView view, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return view.getFields();
+        }
+        Set<PaymentField> selected = EnumSet.noneOf(PaymentField.class);
+        for (String name : fields.split(",")) {
+            PaymentField field = PaymentField.fromJsonName(name.trim());
+            if (field == null) {
+                throw new InvalidPaymentRequestException("Unknown payment field: " + name.trim());
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+
+    private static PaymentCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return PaymentCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPaymentRequestException("Invalid payment history cursor");
+        }
+    }
+
     // Event publishing methods
     private void publishPaymentCreatedEvent(Payment payment) {
-        // TODO: Implement Kafka event publishing
-        logger.debug("Payment created event would be published for payment: {}", payment.getPaymentId());
+        PaymentEvent event = PaymentEvent.of(PaymentEvent.EventType.CREATED, payment);
+        velocityService.recordLocal(event);
+        publishPaymentEvent(event);
     }
 
     private void publishPaymentCompletedEvent(Payment payment) {
-        // TODO: Implement Kafka event publishing
-        logger.debug("Payment completed event would be published for payment: {}", payment.getPaymentId());
+        publishPaymentEvent(PaymentEvent.of(PaymentEvent.EventType.COMPLETED, payment));
     }
 
     private void publishPaymentCancelledEvent(Payment payment) {
-        // TODO: Implement Kafka event publishing
-        logger.debug("Payment cancelled event would be published for payment: {}", payment.getPaymentId());
+        publishPaymentEvent(PaymentEvent.of(PaymentEvent.EventType.CANCELLED, payment));
     }
 
     private void publishPaymentStatusChangedEvent(Payment payment) {
-        // TODO: Implement Kafka event publishing
-        logger.debug("Payment status changed event would be published for payment: {}", payment.getPaymentId());
+        publishPaymentEvent(PaymentEvent.of(PaymentEvent.EventType.STATUS_CHANGED, payment));
+    }
+
+    private void publishPaymentEvent(PaymentEvent event) {
+        try {
+            kafkaTemplate.send(paymentEventsTopic, event.getUserId().toString(), event);
+            logger.debug("Published {} event for payment: {}", event.getEventType(), event.getPaymentId());
+        } catch (Exception e) {
+            logger.error("Failed to publish {} event for payment {}: {}", event.getEventType(), event.getPaymentId(), e.getMessage());
+        }
     }
 }
@@ -0,0 +1,147 @@
+package com.neobridge.payment.service;
+
+import com.neobridge.payment.exception.PaymentProcessingException;
+import com.neobridge.payment.reconciliation.CsvStatementParser;
+import com.neobridge.payment.reconciliation.Mt940StatementParser;
+import com.neobridge.payment.reconciliation.PaymentIndex;
+import com.neobridge.payment.reconciliation.ReconciliationReportWriter;
+import com.neobridge.payment.reconciliation.ReconciliationSummary;
+import com.neobridge.payment.reconciliation.StatementFormat;
+import com.neobridge.payment.reconciliation.StatementMatcher;
+import com.neobridge.payment.reconciliation.StatementParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Service for reconciling payments against bank statement files.
+ * Statements are streamed through a memory-mapped reader and matched one entry
+ * at a time against an in-memory index of the payments booked in the
+ * statement window, so heap use does not grow with statement size.
+ */
+@Service
+public class ReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReconciliationService.class);
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // Payments that can have reached the bank; booking date is the latest known lifecycle date
+    private static final String PAYMENT_WINDOW_SQL =
+        "SELECT id, payment_id, reference, external_reference, amount, currency, direction, " +
+        "COALESCE(settlement_date, completion_date, processing_date, created_at) AS booked_at " +
+        "FROM payments " +
+        "WHERE created_at >= ? AND created_at < ? " +
+        "AND status IN ('PROCESSING', 'AUTHORIZED', 'COMPLETED')";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${neobridge.payment.reconciliation.report-dir:reconciliation}")
+    private String reportDir;
+
+    @Value("${neobridge.payment.reconciliation.amount-tolerance:0.00}")
+    private BigDecimal amountTolerance;
+
+    @Value("${neobridge.payment.reconciliation.date-tolerance-days:2}")
+    private int dateToleranceDays;
+
+    @Value("${neobridge.payment.reconciliation.lookback-days:5}")
+    private int lookbackDays;
+
+    /**
+     * Reconcile a statement file covering the given value dates.
+     */
+    @Transactional(readOnly = true)
+    public ReconciliationSummary reconcile(Path statementFile, StatementFormat format, LocalDate fromDate, LocalDate toDate) {
+        long started = System.currentTimeMillis();
+        String runId = fromDate.format(RUN_ID_FORMAT) + "-" + toDate.format(RUN_ID_FORMAT) + "-" +
+                       UUID.randomUUID().toString().substring(0, 8);
+        logger.info("Reconciling {} statement {} for {} to {}, run {}", format, statementFile, fromDate, toDate, runId);
+
+        PaymentIndex index = loadPayments(fromDate, toDate);
+        StatementParser parser = format == StatementFormat.MT940 ? new Mt940StatementParser() : new CsvStatementParser();
+
+        ReconciliationSummary summary = new ReconciliationSummary();
+        summary.setRunId(runId);
+        summary.setStatementFile(statementFile.toString());
+        summary.setFormat(format);
+        summary.setFromDate(fromDate);
+        summary.setToDate(toDate);
+        summary.setPaymentsIndexed(index.size());
+
+        Path runDirectory = Paths.get(reportDir, runId);
+        try (ReconciliationReportWriter reports = new ReconciliationReportWriter(runDirectory)) {
+            StatementMatcher matcher = new StatementMatcher(index, reports);
+            long lines = matcher.run(statementFile, parser, fromDate.toEpochDay(), toDate.toEpochDay());
+
+            summary.setLinesRead(lines);
+            summary.setEntries(matcher.getEntries());
+            summary.setMatched(reports.getMatchCount());
+            summary.setBreaks(reports.getBreakCount());
+            summary.setExceptions(reports.getExceptionCount());
+            summary.setReportDirectory(reports.getDirectory().toAbsolutePath().toString());
+        } catch (IOException | UncheckedIOException e) {
+            // Report rows are written from inside the line callbacks, so write failures arrive unchecked
+            String reason = e instanceof UncheckedIOException unchecked ? unchecked.getCause().getMessage() : e.getMessage();
+            logger.error("Reconciliation run {} failed: {}", runId, reason);
+            throw new PaymentProcessingException("Failed to reconcile statement: " + reason);
+        }
+
+        summary.setDurationMillis(System.currentTimeMillis() - started);
+        logger.info("Reconciliation run {} completed in {} ms: {} entries, {} matched, {} breaks, {} exceptions",
+                   runId, summary.getDurationMillis(), summary.getEntries(), summary.getMatched(),
+                   summary.getBreaks(), summary.getExceptions());
+        return summary;
+    }
+
+    /**
+     * Stream payments for the statement window into a compact index with a
+     * cursor-sized fetch, widening the window by the date tolerance and the
+     * settlement lookback.
+     */
+    private PaymentIndex loadPayments(LocalDate fromDate, LocalDate toDate) {
+        long toleranceUnits = amountTolerance.movePointRight(4).longValueExact();
+        PaymentIndex index = new PaymentIndex(toleranceUnits, dateToleranceDays);
+
+        Timestamp windowStart = Timestamp.valueOf(fromDate.minusDays(dateToleranceDays + lookbackDays).atStartOfDay());
+        Timestamp windowEnd = Timestamp.valueOf(toDate.plusDays(dateToleranceDays + 1L).atStartOfDay());
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(PAYMENT_WINDOW_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setTimestamp(1, windowStart);
+            statement.setTimestamp(2, windowEnd);
+            return statement;
+        }, rs -> {
+            index.add(rs.getObject("id", UUID.class),
+                      rs.getString("payment_id"),
+                      rs.getString("reference"),
+                      rs.getString("external_reference"),
+                      rs.getBigDecimal("amount").movePointRight(4).longValue(),
+                      rs.getString("currency"),
+                      rs.getTimestamp("booked_at").toLocalDateTime().toLocalDate().toEpochDay(),
+                      "INBOUND".equals(rs.getString("direction")));
+        });
+
+        logger.debug("Indexed {} payments between {} and {}", index.size(), windowStart, windowEnd);
+        return index;
+    }
+}
@@ -0,0 +1,162 @@
+package com.neobridge.payment.service;
+
+import com.neobridge.payment.entity.Payment;
+import com.neobridge.payment.screening.ScreeningIndex;
+import com.neobridge.payment.screening.ScreeningResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service for bulk re-screening of open payments after a sanctions list change.
+ * Payments are streamed through a JDBC cursor in chunks; each chunk is screened
+ * in parallel. Results are cached per distinct counterparty in a bounded LRU
+ * map, so repeat counterparties are usually screened once per run while heap
+ * use stays flat however many distinct counterparties are open. New hits are
+ * moved to compliance review with batched updates.
+ */
+@Service
+public class RescreeningService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RescreeningService.class);
+
+    private static final int FETCH_SIZE = 5_000;
+    private static final int CHUNK_SIZE = 5_000;
+
+    // Payments that have not yet left the platform; compliance_status is mapped by ordinal
+    private static final String OPEN_PAYMENTS_SQL =
+        "SELECT id, counterparty_name, counterparty_bank, counterparty_iban, " +
+        "COALESCE(counterparty_bic, counterparty_swift) AS counterparty_bic " +
+        "FROM payments " +
+        "WHERE status IN ('PENDING', 'PROCESSING', 'AUTHORIZED', 'SUSPENDED', 'UNDER_REVIEW', 'COMPLIANCE_CHECK', 'FRAUD_CHECK') " +
+        "AND compliance_status IN (?, ?)";
+
+    private static final String FLAG_PAYMENT_SQL =
+        "UPDATE payments SET compliance_status = ?, compliance_data = ?, updated_at = CURRENT_TIMESTAMP " +
+        "WHERE id = ? AND compliance_status IN (?, ?)";
+
+    private static final int PENDING = Payment.ComplianceStatus.PENDING.ordinal();
+    private static final int APPROVED = Payment.ComplianceStatus.APPROVED.ordinal();
+    private static final int UNDER_REVIEW = Payment.ComplianceStatus.UNDER_REVIEW.ordinal();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${neobridge.payment.compliance.screening.rescreen-cache-size:100000}")
+    private int cacheSize;
+
+    /**
+     * Re-screen all open payments against the given list version.
+     *
+     * @return number of payments moved to compliance review
+     */
+    @Transactional
+    public int rescreen(ScreeningIndex index, int threshold, int maxMatches) {
+        long started = System.currentTimeMillis();
+        Map<String, ScreeningResult> screened = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ScreeningResult> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        List<OpenPayment> chunk = new ArrayList<>(CHUNK_SIZE);
+        int[] totals = new int[3];
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(OPEN_PAYMENTS_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setInt(1, PENDING);
+            statement.setInt(2, APPROVED);
+            return statement;
+        }, rs -> {
+            chunk.add(new OpenPayment(rs.getObject("id", UUID.class), rs.getString("counterparty_name"),
+                                      rs.getString("counterparty_bank"), rs.getString("counterparty_iban"),
+                                      rs.getString("counterparty_bic")));
+            if (chunk.size() == CHUNK_SIZE) {
+                processChunk(chunk, index, threshold, maxMatches, screened, totals);
+                chunk.clear();
+            }
+        });
+        processChunk(chunk, index, threshold, maxMatches, screened, totals);
+
+        logger.info("Re-screened {} open payments ({} counterparty screens) against list version {} in {} ms: {} flagged",
+                   totals[0], totals[2], index.getVersion(), System.currentTimeMillis() - started, totals[1]);
+        return totals[1];
+    }
+
+    /**
+     * Screen one chunk and flag its hits, adding payments, flagged payments and
+     * counterparty screens to {@code totals}.
+     */
+    private void processChunk(List<OpenPayment> chunk, ScreeningIndex index, int threshold, int maxMatches,
+                              Map<String, ScreeningResult> screened, int[] totals) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        // Resolve every payment in the chunk before anything is evicted
+        Map<String, ScreeningResult> results = new HashMap<>();
+        List<OpenPayment> unseen = new ArrayList<>();
+        for (OpenPayment payment : chunk) {
+            if (results.containsKey(payment.key)) {
+                continue;
+            }
+            ScreeningResult cached = screened.get(payment.key);
+            results.put(payment.key, cached);
+            if (cached == null) {
+                unseen.add(payment);
+            }
+        }
+        unseen.parallelStream().forEach(payment -> payment.result =
+            index.screen(payment.name, payment.bank, payment.iban, payment.bic, threshold, maxMatches));
+        for (OpenPayment payment : unseen) {
+            results.put(payment.key, payment.result);
+            screened.put(payment.key, payment.result);
+        }
+
+        List<Object[]> flagged = new ArrayList<>();
+        for (OpenPayment payment : chunk) {
+            ScreeningResult result = results.get(payment.key);
+            if (result.isHit()) {
+                flagged.add(new Object[] {UNDER_REVIEW, result.toComplianceData(), payment.id, PENDING, APPROVED});
+            }
+        }
+        if (!flagged.isEmpty()) {
+            jdbcTemplate.batchUpdate(FLAG_PAYMENT_SQL, flagged);
+        }
+        totals[0] += chunk.size();
+        totals[1] += flagged.size();
+        totals[2] += unseen.size();
+    }
+
+    private static final class OpenPayment {
+
+        private final UUID id;
+        private final String name;
+        private final String bank;
+        private final String iban;
+        private final String bic;
+        private final String key;
+        private ScreeningResult result;
+
+        private OpenPayment(UUID id, String name, String bank, String iban, String bic) {
+            this.id = id;
+            this.name = name;
+            this.bank = bank;
+            this.iban = iban;
+            this.bic = bic;
+            this.key = name + '|' + bank + '|' + iban + '|' + bic;
+        }
+    }
+}
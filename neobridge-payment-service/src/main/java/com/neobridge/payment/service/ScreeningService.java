@@ -0,0 +1,214 @@
+package com.neobridge.payment.service;
+
+import com.neobridge.payment.entity.Payment;
+import com.neobridge.payment.screening.SanctionsListLoader;
+import com.neobridge.payment.screening.ScreeningIndex;
+import com.neobridge.payment.screening.ScreeningResult;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Service for sanctions and PEP screening of payment counterparties.
+ * Screening runs against an immutable {@link ScreeningIndex} published through
+ * a volatile reference; a list reload builds the next index off to the side,
+ * swaps it in atomically and re-screens open payments against it.
+ * <p>
+ * List versions are kept in Redis keyed by a digest of the list content, so
+ * every instance and every restart reports the same version for the same
+ * list, and a list that changed while no instance was running is still
+ * re-screened once.
+ */
+@Service
+public class ScreeningService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScreeningService.class);
+
+    private static final String VERSIONS_KEY = "neobridge:payment:screening:list";
+    private static final String LATEST_VERSION_FIELD = "latest";
+    private static final String RESCREENED_VERSION_FIELD = "rescreened";
+    private static final String DIGEST_FIELD_PREFIX = "digest:";
+
+    @Autowired
+    private RescreeningService rescreeningService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${neobridge.payment.compliance.screening.list-file:}")
+    private String listFile;
+
+    @Value("${neobridge.payment.compliance.screening.required:true}")
+    private boolean required;
+
+    @Value("${neobridge.payment.compliance.screening.threshold:85}")
+    private int threshold;
+
+    @Value("${neobridge.payment.compliance.screening.max-matches:10}")
+    private int maxMatches;
+
+    @Value("${neobridge.payment.compliance.screening.rescreen-on-reload:true}")
+    private boolean rescreenOnReload;
+
+    private volatile ScreeningIndex index = ScreeningIndex.empty();
+
+    private long listModifiedAt;
+
+    private volatile long localRescreenedVersion;
+
+    @PostConstruct
+    public void init() {
+        if (listFile.isEmpty()) {
+            if (required) {
+                throw new IllegalStateException("Sanctions screening is required but no list file is configured " +
+                                                "(neobridge.payment.compliance.screening.list-file)");
+            }
+            logger.error("No sanctions list configured; screening is DISABLED and every payment will be approved");
+            return;
+        }
+        try {
+            load(Paths.get(listFile));
+        } catch (IOException e) {
+            if (required) {
+                throw new IllegalStateException("Failed to load sanctions list " + listFile, e);
+            }
+            logger.error("Failed to load sanctions list {}; screening is DISABLED until it loads: {}",
+                        listFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Screen counterparty name, bank, IBAN and BIC against the current list.
+     */
+    public ScreeningResult screen(String name, String bank, String iban, String bic) {
+        return index.screen(name, bank, iban, bic, threshold, maxMatches);
+    }
+
+    /**
+     * Screen a payment's counterparty.
+     */
+    public ScreeningResult screenPayment(Payment payment) {
+        return screen(payment.getCounterpartyName(), payment.getCounterpartyBank(),
+                      payment.getCounterpartyIban(),
+                      payment.getCounterpartyBic() != null ? payment.getCounterpartyBic() : payment.getCounterpartySwift());
+    }
+
+    /**
+     * Reload the list if the file changed, then re-screen open payments unless
+     * this list version has already been re-screened.
+     */
+    @Scheduled(fixedDelayString = "${neobridge.payment.compliance.screening.reload-interval:60000}")
+    public void reloadIfChanged() {
+        if (listFile.isEmpty()) {
+            logger.error("No sanctions list configured; screening is DISABLED and every payment will be approved");
+            return;
+        }
+        try {
+            Path path = Paths.get(listFile);
+            if (Files.getLastModifiedTime(path).toMillis() != listModifiedAt) {
+                load(path);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to reload sanctions list {}, keeping version {}: {}",
+                        listFile, index.getVersion(), e.getMessage());
+        }
+        ScreeningIndex current = index;
+        if (rescreenOnReload && current.getVersion() > 0 && current.getVersion() != rescreenedVersion()) {
+            rescreeningService.rescreen(current, threshold, maxMatches);
+            markRescreened(current.getVersion());
+        }
+    }
+
+    public ScreeningIndex getIndex() {
+        return index;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    private synchronized ScreeningIndex load(Path path) throws IOException {
+        long started = System.currentTimeMillis();
+        long modifiedAt = Files.getLastModifiedTime(path).toMillis();
+        long version = versionOf(digest(path));
+        ScreeningIndex reloaded = ScreeningIndex.build(SanctionsListLoader.load(path), version);
+        index = reloaded;
+        listModifiedAt = modifiedAt;
+        logger.info("Loaded sanctions list version {}: {} entries, {} names in {} ms",
+                   reloaded.getVersion(), reloaded.size(), reloaded.getVariantCount(),
+                   System.currentTimeMillis() - started);
+        return reloaded;
+    }
+
+    /**
+     * Version assigned to the list content with this digest, allocating the
+     * next version the first time any instance sees it. Falls back to the
+     * load time when Redis is unavailable, which at worst re-screens the same
+     * list once more when Redis is back.
+     */
+    private long versionOf(String digest) {
+        try {
+            HashOperations<String, String, String> versions = redisTemplate.opsForHash();
+            String field = DIGEST_FIELD_PREFIX + digest;
+            String known = versions.get(VERSIONS_KEY, field);
+            if (known == null) {
+                long next = versions.increment(VERSIONS_KEY, LATEST_VERSION_FIELD, 1);
+                versions.putIfAbsent(VERSIONS_KEY, field, Long.toString(next));
+                known = versions.get(VERSIONS_KEY, field); // another instance may have won
+            }
+            return Long.parseLong(known);
+        } catch (RuntimeException e) {
+            long local = System.currentTimeMillis();
+            logger.warn("Could not resolve persisted sanctions list version, using local version {}: {}",
+                       local, e.getMessage());
+            return local;
+        }
+    }
+
+    private long rescreenedVersion() {
+        try {
+            Object rescreened = redisTemplate.opsForHash().get(VERSIONS_KEY, RESCREENED_VERSION_FIELD);
+            return rescreened != null ? Long.parseLong(rescreened.toString()) : 0;
+        } catch (RuntimeException e) {
+            logger.warn("Could not read re-screened sanctions list version: {}", e.getMessage());
+            return localRescreenedVersion;
+        }
+    }
+
+    private void markRescreened(long version) {
+        localRescreenedVersion = version;
+        try {
+            redisTemplate.opsForHash().put(VERSIONS_KEY, RESCREENED_VERSION_FIELD, Long.toString(version));
+        } catch (RuntimeException e) {
+            logger.warn("Could not record re-screened sanctions list version {}: {}", version, e.getMessage());
+        }
+    }
+
+    private static String digest(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            for (int read; (read = in.read(buffer)) > 0; ) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.neobridge.payment.service;
+
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.payment.event.PaymentEvent;
+import com.neobridge.payment.velocity.VelocityStats;
+import com.neobridge.payment.velocity.VelocityStore;
+import com.neobridge.payment.velocity.VelocityWindow;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for payment velocity aggregates used in inline fraud scoring.
+ * Counts and amounts per user and per counterparty are kept in sharded
+ * in-memory sliding windows fed by payment events, and periodically
+ * snapshotted to Redis so a restarted instance only replays events since the
+ * last snapshot. Replay may count a payment twice around the snapshot point,
+ * which errs on the side of a higher score. Amounts that cannot be converted
+ * into the FX base currency are counted without their amount rather than
+ * summed in a foreign currency.
+ */
+@Service
+public class VelocityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VelocityService.class);
+
+    private static final String SNAPSHOT_KEY_PREFIX = "neobridge:payment:velocity:";
+    private static final String TAKEN_AT_FIELD = "taken-at";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Value("${neobridge.payment.velocity.shards:64}")
+    private int shardCount;
+
+    @Value("${neobridge.payment.velocity.snapshot-enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.user.max-per-minute:5}")
+    private int userMaxPerMinute;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.user.max-per-hour:30}")
+    private int userMaxPerHour;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.user.max-amount-per-day:50000.00}")
+    private BigDecimal userMaxAmountPerDay;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.counterparty.max-per-hour:20}")
+    private int counterpartyMaxPerHour;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.weights.user-per-minute:40}")
+    private int userPerMinuteWeight;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.weights.user-per-hour:15}")
+    private int userPerHourWeight;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.weights.user-amount-per-day:20}")
+    private int userAmountPerDayWeight;
+
+    @Value("${neobridge.payment.compliance.fraud.velocity.weights.counterparty-per-hour:15}")
+    private int counterpartyPerHourWeight;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private VelocityStore userStore;
+    private VelocityStore counterpartyStore;
+    private long userMaxAmountPerDayUnits;
+    private volatile long restoredAt;
+    private final AtomicLong unpricedEvents = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        resetStores();
+        userMaxAmountPerDayUnits = toUnits(userMaxAmountPerDay);
+        if (snapshotEnabled) {
+            restoreSnapshot();
+        }
+    }
+
+    /**
+     * Record a payment published by this instance. The event is tagged so the
+     * feed listener does not count it a second time.
+     */
+    public void recordLocal(PaymentEvent event) {
+        event.setOrigin(instanceId);
+        record(event);
+    }
+
+    /**
+     * Record a payment event from the feed. Only payment creation counts towards velocity.
+     */
+    public void record(PaymentEvent event) {
+        if (event.getEventType() != PaymentEvent.EventType.CREATED || event.getUserId() == null || event.getAmount() == null) {
+            return;
+        }
+        long at = event.getOccurredAt() != null ? event.getOccurredAt().toEpochMilli() : System.currentTimeMillis();
+        long amountUnits = toBaseUnits(event);
+        userStore.record(event.getUserId().toString(), at, amountUnits);
+        if (event.getCounterparty() != null) {
+            counterpartyStore.record(event.getCounterparty(), at, amountUnits);
+        }
+    }
+
+    public boolean isLocal(PaymentEvent event) {
+        return instanceId.equals(event.getOrigin());
+    }
+
+    public VelocityStats getUserVelocity(UUID userId) {
+        return userStore.stats(userId.toString(), System.currentTimeMillis());
+    }
+
+    public VelocityStats getCounterpartyVelocity(String counterparty) {
+        if (counterparty == null) {
+            return VelocityStats.EMPTY;
+        }
+        return counterpartyStore.stats(counterparty, System.currentTimeMillis());
+    }
+
+    /**
+     * Velocity contribution to the fraud score: the sum of the configured
+     * weights of every limit exceeded.
+     */
+    public int velocityScore(UUID userId, String counterparty) {
+        VelocityStats user = getUserVelocity(userId);
+        int score = 0;
+        if (user.getCount(VelocityWindow.ONE_MINUTE) > userMaxPerMinute) {
+            score += userPerMinuteWeight;
+        }
+        if (user.getCount(VelocityWindow.ONE_HOUR) > userMaxPerHour) {
+            score += userPerHourWeight;
+        }
+        if (user.getAmountUnits(VelocityWindow.ONE_DAY) > userMaxAmountPerDayUnits) {
+            score += userAmountPerDayWeight;
+        }
+        if (getCounterpartyVelocity(counterparty).getCount(VelocityWindow.ONE_HOUR) > counterpartyMaxPerHour) {
+            score += counterpartyPerHourWeight; // many payers converging on one account
+        }
+        return score;
+    }
+
+    /**
+     * Payments counted without their amount because no FX rate into the base
+     * currency was available when they were recorded.
+     */
+    public long getUnpricedEvents() {
+        return unpricedEvents.get();
+    }
+
+    /**
+     * Time from which the payment event feed must be replayed to rebuild state:
+     * the restored snapshot, or the longest window when starting cold.
+     */
+    public long getReplayFrom() {
+        long from = restoredAt;
+        return from > 0 ? from : System.currentTimeMillis() - VelocityWindow.ONE_DAY.getLengthMillis();
+    }
+
+    /**
+     * Evict idle keys and snapshot both stores to Redis. Each snapshot is
+     * written under an instance-private key and renamed over the live key, so
+     * readers see either the previous or the new snapshot, never a mix.
+     */
+    @Scheduled(fixedDelayString = "${neobridge.payment.velocity.snapshot-interval:30000}")
+    public void snapshot() {
+        if (!snapshotEnabled) {
+            return;
+        }
+        long takenAt = System.currentTimeMillis();
+        try {
+            for (VelocityStore store : new VelocityStore[] {userStore, counterpartyStore}) {
+                int evicted = store.evictIdle(takenAt);
+                Map<String, String> fields = new HashMap<>();
+                fields.put(TAKEN_AT_FIELD, Long.toString(takenAt));
+                for (int shard = 0; shard < store.getShardCount(); shard++) {
+                    fields.put(Integer.toString(shard), Base64.getEncoder().encodeToString(store.snapshotShard(shard)));
+                }
+                String key = SNAPSHOT_KEY_PREFIX + store.getName();
+                String stagingKey = key + ":" + instanceId;
+                redisTemplate.delete(stagingKey);
+                redisTemplate.opsForHash().putAll(stagingKey, fields);
+                redisTemplate.expire(stagingKey, Duration.ofMillis(VelocityWindow.ONE_DAY.getLengthMillis()));
+                // RENAME replaces the whole hash, so shards from a previous, larger shard count do not linger
+                redisTemplate.rename(stagingKey, key);
+                logger.debug("Snapshotted {} velocity keys for {} ({} evicted)", store.size(), store.getName(), evicted);
+            }
+        } catch (Exception e) {
+            logger.warn("Velocity snapshot failed: {}", e.getMessage());
+        }
+    }
+
+    private void restoreSnapshot() {
+        try {
+            long takenAt = Long.MAX_VALUE;
+            for (VelocityStore store : new VelocityStore[] {userStore, counterpartyStore}) {
+                Map<Object, Object> fields = redisTemplate.opsForHash().entries(SNAPSHOT_KEY_PREFIX + store.getName());
+                Object storeTakenAt = fields.remove(TAKEN_AT_FIELD);
+                if (storeTakenAt == null) {
+                    logger.info("No velocity snapshot for {}; rebuilding from payment events", store.getName());
+                    resetStores();
+                    return;
+                }
+                takenAt = Math.min(takenAt, Long.parseLong(storeTakenAt.toString()));
+                int restored = 0;
+                for (Object shard : fields.values()) {
+                    restored += store.restore(Base64.getDecoder().decode(shard.toString()));
+                }
+                logger.info("Restored {} velocity keys for {}", restored, store.getName());
+            }
+            restoredAt = takenAt;
+        } catch (Exception e) {
+            logger.warn("Could not restore velocity snapshot, rebuilding from payment events: {}", e.getMessage());
+            resetStores();
+        }
+    }
+
+    private void resetStores() {
+        userStore = new VelocityStore("user", shardCount);
+        counterpartyStore = new VelocityStore("counterparty", shardCount);
+    }
+
+    /**
+     * Event amount in base currency units, or 0 when it cannot be converted:
+     * summing a foreign amount as if it were base currency would distort the
+     * daily amount limit, so the payment only counts towards the count limits.
+     */
+    private long toBaseUnits(PaymentEvent event) {
+        String currency = event.getCurrency();
+        String base = fxRateService.getBaseCurrency();
+        if (currency == null || currency.equals(base)) {
+            return toUnits(event.getAmount());
+        }
+        Optional<BigDecimal> rate = fxRateService.findRate(currency, base);
+        if (rate.isEmpty()) {
+            long unpriced = unpricedEvents.incrementAndGet();
+            logger.warn("No {}/{} rate for payment {}; counted without its amount ({} unpriced so far)",
+                       currency, base, event.getPaymentId(), unpriced);
+            return 0;
+        }
+        return toUnits(event.getAmount().multiply(rate.get()));
+    }
+
+    private static long toUnits(BigDecimal amount) {
+        return amount.setScale(FxRateService.FIAT_SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValue();
+    }
+}
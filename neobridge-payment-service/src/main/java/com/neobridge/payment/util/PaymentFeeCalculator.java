@@ -0,0 +1,157 @@
+package com.neobridge.payment.util;
+
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.payment.config.PaymentFeeProperties;
+import com.neobridge.payment.config.PaymentFeeProperties.FeeRuleProperties;
+import com.neobridge.payment.dto.FeeQuoteRequest;
+import com.neobridge.payment.dto.FeeQuoteResponse;
+import com.neobridge.payment.entity.Payment.PaymentPriority;
+import com.neobridge.payment.entity.Payment.PaymentType;
+import com.neobridge.payment.fee.FeeRule;
+import com.neobridge.payment.fee.FeeSchedule;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calculates payment fees from a precompiled {@link FeeSchedule}.
+ * The schedule is swapped atomically on reload, so in-flight calculations
+ * always see one complete set of rules. Rules start from
+ * {@code neobridge.payment.fees} and are replaced from the optional schedule
+ * file whenever it changes.
+ */
+@Component
+public class PaymentFeeCalculator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentFeeCalculator.class);
+
+    @Autowired
+    private PaymentFeeProperties feeProperties;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Value("${neobridge.payment.fee-schedule.file:}")
+    private String scheduleFile;
+
+    private final AtomicLong versions = new AtomicLong();
+
+    private volatile FeeSchedule schedule;
+
+    private long scheduleModifiedAt;
+
+    @PostConstruct
+    public void init() {
+        reload(feeProperties.getFees());
+        reloadIfChanged();
+    }
+
+    /**
+     * Calculate the fee for a payment at normal priority.
+     */
+    public BigDecimal calculateFee(PaymentType paymentType, BigDecimal amount, String currency) {
+        return calculateFee(paymentType, amount, currency, PaymentPriority.NORMAL);
+    }
+
+    /**
+     * Calculate the fee for a payment, in the payment currency.
+     */
+    public BigDecimal calculateFee(PaymentType paymentType, BigDecimal amount, String currency, PaymentPriority priority) {
+        return fee(schedule, paymentType, priority, currency, amount);
+    }
+
+    /**
+     * Quote fees for a batch of payments against a single schedule version.
+     */
+    public List<FeeQuoteResponse> quoteFees(List<FeeQuoteRequest> requests) {
+        FeeSchedule snapshot = schedule;
+        List<FeeQuoteResponse> quotes = new ArrayList<>(requests.size());
+        for (FeeQuoteRequest request : requests) {
+            BigDecimal fee = fee(snapshot, request.getPaymentType(), request.getPriority(), request.getCurrency(), request.getAmount());
+            quotes.add(new FeeQuoteResponse(request, fee, snapshot.getVersion()));
+        }
+        return quotes;
+    }
+
+    /**
+     * Compile and install a new fee schedule. The previous schedule stays in
+     * effect if the definitions fail to compile.
+     */
+    public FeeSchedule reload(Map<String, FeeRuleProperties> definitions) {
+        FeeSchedule compiled = FeeSchedule.compile(definitions, versions.incrementAndGet());
+        schedule = compiled;
+        logger.info("Fee schedule version {} installed with {} rule definitions", compiled.getVersion(), definitions.size());
+        return compiled;
+    }
+
+    /**
+     * Reload the schedule file if it changed since it was last installed.
+     */
+    @Scheduled(fixedDelayString = "${neobridge.payment.fee-schedule.reload-interval:60000}")
+    public synchronized void reloadIfChanged() {
+        if (scheduleFile.isEmpty()) {
+            return;
+        }
+        try {
+            Path path = Paths.get(scheduleFile);
+            long modifiedAt = Files.getLastModifiedTime(path).toMillis();
+            if (modifiedAt == scheduleModifiedAt) {
+                return;
+            }
+            reload(readScheduleFile(path));
+            scheduleModifiedAt = modifiedAt;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to reload fee schedule {}, keeping version {}: {}",
+                        scheduleFile, schedule.getVersion(), e.getMessage());
+        }
+    }
+
+    /**
+     * Currently installed fee schedule.
+     */
+    public FeeSchedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Read fee rules from a YAML file laid out like {@code neobridge.payment},
+     * i.e. with the rules under a top-level {@code fees} key.
+     */
+    static Map<String, FeeRuleProperties> readScheduleFile(Path path) throws IOException {
+        Binder binder = new Binder(ConfigurationPropertySources.from(
+            new YamlPropertySourceLoader().load(path.toString(), new FileSystemResource(path))));
+        return binder.bind("fees", Bindable.mapOf(String.class, FeeRuleProperties.class))
+            .orElseThrow(() -> new IOException("No fees section in " + path));
+    }
+
+    private BigDecimal fee(FeeSchedule snapshot, PaymentType type, PaymentPriority priority, String currency, BigDecimal amount) {
+        FeeRule rule = snapshot.ruleFor(type, priority, currency);
+        String ruleCurrency = rule.getCurrency();
+        if (ruleCurrency == null || currency == null || ruleCurrency.equals(currency)) {
+            return rule.fee(amount);
+        }
+        // Fixed, min/max and tier amounts are in the rule currency, so price the
+        // payment there and convert the fee back into the payment currency
+        BigDecimal ruleAmount = fxRateService.convert(amount, currency, ruleCurrency, FeeRule.SCALE);
+        return fxRateService.convert(rule.fee(ruleAmount), ruleCurrency, currency, FeeRule.SCALE);
+    }
+}
@@ -0,0 +1,104 @@
+package com.neobridge.payment.velocity;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Bucketed payment count and amount for one key across all velocity windows.
+ * Buckets for every window live in flat arrays; a bucket is lazily reset when
+ * its slot is reused for a newer period. Not thread-safe; guarded by the owning
+ * {@link VelocityStore} shard.
+ */
+final class VelocityCounter {
+
+    private static final VelocityWindow[] WINDOWS = VelocityWindow.values();
+    private static final int[] OFFSETS = new int[WINDOWS.length];
+    private static final int SLOTS;
+
+    static {
+        int slots = 0;
+        for (VelocityWindow window : WINDOWS) {
+            OFFSETS[window.ordinal()] = slots;
+            slots += window.getBuckets();
+        }
+        SLOTS = slots;
+    }
+
+    private final long[] periods = new long[SLOTS];
+    private final int[] counts = new int[SLOTS];
+    private final long[] amounts = new long[SLOTS];
+    private long lastSeen;
+
+    void record(long at, long amountUnits) {
+        for (VelocityWindow window : WINDOWS) {
+            long period = at / window.getBucketMillis();
+            int slot = OFFSETS[window.ordinal()] + (int) (period % window.getBuckets());
+            if (periods[slot] > period) {
+                continue; // late event already outside this window
+            }
+            if (periods[slot] < period) {
+                periods[slot] = period;
+                counts[slot] = 0;
+                amounts[slot] = 0;
+            }
+            counts[slot]++;
+            amounts[slot] += amountUnits;
+        }
+        lastSeen = Math.max(lastSeen, at);
+    }
+
+    void sum(long now, int[] countOut, long[] amountOut) {
+        for (VelocityWindow window : WINDOWS) {
+            long current = now / window.getBucketMillis();
+            long oldest = current - window.getBuckets() + 1;
+            int offset = OFFSETS[window.ordinal()];
+            int count = 0;
+            long amount = 0;
+            for (int slot = offset; slot < offset + window.getBuckets(); slot++) {
+                if (periods[slot] >= oldest && periods[slot] <= current) {
+                    count += counts[slot];
+                    amount += amounts[slot];
+                }
+            }
+            countOut[window.ordinal()] = count;
+            amountOut[window.ordinal()] = amount;
+        }
+    }
+
+    long getLastSeen() {
+        return lastSeen;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(lastSeen);
+        int used = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (counts[slot] > 0) {
+                used++;
+            }
+        }
+        out.writeShort(used);
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (counts[slot] > 0) {
+                out.writeShort(slot);
+                out.writeLong(periods[slot]);
+                out.writeInt(counts[slot]);
+                out.writeLong(amounts[slot]);
+            }
+        }
+    }
+
+    static VelocityCounter readFrom(DataInput in) throws IOException {
+        VelocityCounter counter = new VelocityCounter();
+        counter.lastSeen = in.readLong();
+        int used = in.readShort();
+        for (int i = 0; i < used; i++) {
+            int slot = in.readShort();
+            counter.periods[slot] = in.readLong();
+            counter.counts[slot] = in.readInt();
+            counter.amounts[slot] = in.readLong();
+        }
+        return counter;
+    }
+}
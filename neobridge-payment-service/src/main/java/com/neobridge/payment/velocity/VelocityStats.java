@@ -0,0 +1,48 @@
+package com.neobridge.payment.velocity;
+
+import java.math.BigDecimal;
+
+/**
+ * Payment count and amount per velocity window for one key.
+ * Amounts are in the platform base currency.
+ */
+public class VelocityStats {
+
+    static final int AMOUNT_SCALE = 4;
+
+    public static final VelocityStats EMPTY =
+        new VelocityStats(new int[VelocityWindow.values().length], new long[VelocityWindow.values().length]);
+
+    private final int[] counts;
+    private final long[] amountUnits;
+
+    VelocityStats(int[] counts, long[] amountUnits) {
+        this.counts = counts;
+        this.amountUnits = amountUnits;
+    }
+
+    public int getCount(VelocityWindow window) {
+        return counts[window.ordinal()];
+    }
+
+    public long getAmountUnits(VelocityWindow window) {
+        return amountUnits[window.ordinal()];
+    }
+
+    public BigDecimal getAmount(VelocityWindow window) {
+        return BigDecimal.valueOf(amountUnits[window.ordinal()], AMOUNT_SCALE);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("VelocityStats{");
+        for (VelocityWindow window : VelocityWindow.values()) {
+            if (window.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(window.getDisplayName()).append('=')
+              .append(getCount(window)).append('/').append(getAmount(window));
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,151 @@
+package com.neobridge.payment.velocity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * In-memory sliding-window velocity aggregates keyed by user or counterparty.
+ * Keys are spread over independently locked shards so concurrent recording
+ * and lookups for different keys rarely contend.
+ */
+public class VelocityStore {
+
+    private final String name;
+    private final Shard[] shards;
+    private final int mask;
+
+    public VelocityStore(String name, int shardCount) {
+        if (Integer.bitCount(shardCount) != 1) {
+            throw new IllegalArgumentException("Shard count must be a power of two: " + shardCount);
+        }
+        this.name = name;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        this.mask = shardCount - 1;
+    }
+
+    /**
+     * Record a payment at the given time.
+     */
+    public void record(String key, long at, long amountUnits) {
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            shard.counters.computeIfAbsent(key, k -> new VelocityCounter()).record(at, amountUnits);
+        }
+    }
+
+    /**
+     * Current count and amount per window for the key.
+     */
+    public VelocityStats stats(String key, long now) {
+        int[] counts = new int[VelocityWindow.values().length];
+        long[] amounts = new long[counts.length];
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            VelocityCounter counter = shard.counters.get(key);
+            if (counter == null) {
+                return VelocityStats.EMPTY;
+            }
+            counter.sum(now, counts, amounts);
+        }
+        return new VelocityStats(counts, amounts);
+    }
+
+    /**
+     * Drop keys with no activity inside the longest window.
+     */
+    public int evictIdle(long now) {
+        long cutoff = now - VelocityWindow.ONE_DAY.getLengthMillis();
+        int evicted = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                Iterator<VelocityCounter> it = shard.counters.values().iterator();
+                while (it.hasNext()) {
+                    if (it.next().getLastSeen() < cutoff) {
+                        it.remove();
+                        evicted++;
+                    }
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Serialise one shard for snapshotting.
+     */
+    public byte[] snapshotShard(int index) {
+        Shard shard = shards[index];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            synchronized (shard) {
+                out.writeInt(shard.counters.size());
+                for (Map.Entry<String, VelocityCounter> entry : shard.counters.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().writeTo(out);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Load keys from a shard snapshot, replacing any existing state for them.
+     * Keys are re-sharded, so snapshots survive a change of shard count.
+     */
+    public int restore(byte[] snapshot) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String key = in.readUTF();
+                VelocityCounter counter = VelocityCounter.readFrom(in);
+                Shard shard = shardFor(key);
+                synchronized (shard) {
+                    shard.counters.put(key, counter);
+                }
+            }
+            return size;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                size += shard.counters.size();
+            }
+        }
+        return size;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    private Shard shardFor(String key) {
+        int h = key.hashCode();
+        return shards[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static final class Shard {
+
+        private final Map<String, VelocityCounter> counters = new HashMap<>();
+    }
+}
@@ -0,0 +1,37 @@
+package com.neobridge.payment.velocity;
+
+/**
+ * Sliding windows tracked for payment velocity. Each window is a ring of
+ * fixed-width buckets, so a window slides with bucket granularity.
+ */
+public enum VelocityWindow {
+    ONE_MINUTE("1 minute", 5_000L, 12),
+    ONE_HOUR("1 hour", 300_000L, 12),
+    ONE_DAY("24 hours", 3_600_000L, 24);
+
+    private final String displayName;
+    private final long bucketMillis;
+    private final int buckets;
+
+    VelocityWindow(String displayName, long bucketMillis, int buckets) {
+        this.displayName = displayName;
+        this.bucketMillis = bucketMillis;
+        this.buckets = buckets;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    public long getLengthMillis() {
+        return bucketMillis * buckets;
+    }
+}
@@ -0,0 +1,134 @@
+package com.neobridge.payment.audit;
+
+import com.neobridge.payment.entity.Payment;
+import com.neobridge.payment.entity.Payment.PaymentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Transitions are written and read back by status name, and transitions
+ * recorded in a transaction are held back until just before it commits.
+ */
+class PaymentTransitionLogTest {
+
+    private final UUID paymentId = UUID.randomUUID();
+
+    private JdbcTemplate jdbcTemplate;
+    private PaymentTransitionLog log;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        log = new PaymentTransitionLog();
+        ReflectionTestUtils.setField(log, "jdbcTemplate", jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void recordsStatusNames() {
+        log.record(payment(PaymentStatus.COMPLIANCE_CHECK), PaymentStatus.PENDING, "SCREENING");
+        log.record(payment(PaymentStatus.PENDING), null, "CREATED");
+
+        ArgumentCaptor<Object[]> row = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(anyString(), row.capture());
+        assertThat(row.getAllValues().get(0)).contains("PENDING", "COMPLIANCE_CHECK", "SCREENING");
+        assertThat(row.getAllValues().get(1)[2]).isNull();
+        assertThat(row.getAllValues().get(1)[3]).isEqualTo("PENDING");
+    }
+
+    @Test
+    void ignoresUnchangedStatus() {
+        log.record(payment(PaymentStatus.PROCESSING), PaymentStatus.PROCESSING, "RETRY");
+
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void writesTransactionTransitionsInOneBatchBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        log.record(payment(PaymentStatus.PROCESSING), PaymentStatus.PENDING, null);
+        log.record(payment(PaymentStatus.COMPLETED), PaymentStatus.PROCESSING, null);
+
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.get(0).beforeCommit(false);
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[3]).containsExactly("PROCESSING", "COMPLETED");
+        assertThat(TransactionSynchronizationManager.getResource(log)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void timelineMapsStatusNamesOldestFirst() throws Exception {
+        Instant created = Instant.parse("2026-03-01T10:00:00Z");
+        ResultSet creation = row(null, "PENDING", "CREATED", created);
+        ResultSet completion = row("PENDING", "COMPLETED", null, created.plusSeconds(5));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(paymentId), eq(Timestamp.from(created))))
+            .thenAnswer(invocation -> {
+                RowMapper<PaymentTransition> mapper = invocation.getArgument(1);
+                return List.of(mapper.mapRow(creation, 0), mapper.mapRow(completion, 1));
+            });
+
+        List<PaymentTransition> timeline = log.timeline(paymentId, created);
+
+        assertThat(timeline).extracting(PaymentTransition::getFromStatus)
+            .containsExactly(null, PaymentStatus.PENDING);
+        assertThat(timeline).extracting(PaymentTransition::getToStatus)
+            .containsExactly(PaymentStatus.PENDING, PaymentStatus.COMPLETED);
+        assertThat(timeline.get(0).getCode()).isEqualTo("CREATED");
+        assertThat(timeline.get(1).getOccurredAt()).isEqualTo(created.plusSeconds(5));
+    }
+
+    private Payment payment(PaymentStatus status) {
+        Payment payment = new Payment();
+        payment.setId(paymentId);
+        payment.setStatus(status);
+        return payment;
+    }
+
+    private static ResultSet row(String from, String to, String code, Instant occurredAt) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn(from);
+        when(rs.getString(2)).thenReturn(to);
+        when(rs.getString(3)).thenReturn(code);
+        when(rs.getTimestamp(4)).thenReturn(Timestamp.from(occurredAt));
+        return rs;
+    }
+}
@@ -0,0 +1,83 @@
+package com.neobridge.payment.audit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Partitions are created for today and the days ahead, and only dated
+ * partitions older than the retention are dropped.
+ */
+class PaymentTransitionPartitionsTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private JdbcTemplate jdbcTemplate;
+    private PaymentTransitionPartitions partitions;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        partitions = new PaymentTransitionPartitions();
+        ReflectionTestUtils.setField(partitions, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(partitions, "daysAhead", 2);
+    }
+
+    @Test
+    void createsPartitionsForTodayAndTheDaysAhead() {
+        partitions.maintain();
+
+        LocalDate today = LocalDate.now();
+        ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).execute(ddl.capture());
+        assertThat(ddl.getAllValues()).containsExactly(
+            create(today), create(today.plusDays(1)), create(today.plusDays(2)));
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    @Test
+    void dropsDatedPartitionsOutsideTheRetention() {
+        ReflectionTestUtils.setField(partitions, "retentionDays", 30);
+        LocalDate today = LocalDate.now();
+        String expired = "payment_transitions_" + today.minusDays(31).format(SUFFIX);
+        String cutoff = "payment_transitions_" + today.minusDays(30).format(SUFFIX);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+            .thenReturn(List.of("payment_transitions_default", expired, cutoff));
+
+        partitions.maintain();
+
+        verify(jdbcTemplate).execute("DROP TABLE " + expired);
+        verify(jdbcTemplate, never()).execute("DROP TABLE " + cutoff);
+        verify(jdbcTemplate, never()).execute("DROP TABLE payment_transitions_default");
+    }
+
+    @Test
+    void maintenanceFailureDoesNotPropagate() {
+        doThrow(new IllegalStateException("down")).when(jdbcTemplate).execute(anyString());
+
+        partitions.maintain();
+
+        verify(jdbcTemplate).execute(anyString());
+    }
+
+    private static String create(LocalDate day) {
+        return "CREATE TABLE IF NOT EXISTS payment_transitions_" + day.format(SUFFIX) +
+               " PARTITION OF payment_transitions FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')";
+    }
+}
@@ -0,0 +1,64 @@
+package com.neobridge.payment.fee;
+
+import com.neobridge.payment.config.PaymentFeeProperties.FeeRuleProperties;
+import com.neobridge.payment.config.PaymentFeeProperties.TierProperties;
+import com.neobridge.payment.entity.Payment.PaymentPriority;
+import com.neobridge.payment.entity.Payment.PaymentType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Single-core fee quote throughput. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class FeeScheduleBenchmark {
+
+    private static final int AMOUNTS = 1 << 16;
+    private static final int ROUNDS = 5;
+    private static final long QUOTES_PER_ROUND = 20_000_000L;
+
+    @Test
+    void quotesPerSecondPerCore() {
+        FeeRuleProperties swift = FeeScheduleTest.rule("0.01", "25.00");
+        swift.setMax(new BigDecimal("500.00"));
+        TierProperties large = new TierProperties();
+        large.setFrom(new BigDecimal("100000.00"));
+        large.setPercentage(new BigDecimal("0.005"));
+        swift.setTiers(List.of(large));
+        FeeSchedule schedule = FeeSchedule.compile(Map.of("swift", swift, "sepa", FeeScheduleTest.rule("0.0005", "0.25")), 1);
+
+        BigDecimal[] amounts = new BigDecimal[AMOUNTS];
+        for (int i = 0; i < AMOUNTS; i++) {
+            amounts[i] = BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(1, 50_000_000_00L), 2);
+        }
+
+        // Warm-up round, then keep the best measured round
+        run(schedule, amounts);
+        double best = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            best = Math.max(best, run(schedule, amounts));
+        }
+        System.out.printf("Fee quotes: %.1fM quotes/sec on one core%n", best / 1_000_000);
+        assertThat(best).isPositive();
+    }
+
+    private static double run(FeeSchedule schedule, BigDecimal[] amounts) {
+        long checksum = 0;
+        long started = System.nanoTime();
+        for (long i = 0; i < QUOTES_PER_ROUND; i++) {
+            PaymentType type = (i & 1) == 0 ? PaymentType.SWIFT_TRANSFER : PaymentType.SEPA_TRANSFER;
+            BigDecimal fee = schedule.ruleFor(type, PaymentPriority.NORMAL, "EUR").fee(amounts[(int) (i & (AMOUNTS - 1))]);
+            checksum += fee.unscaledValue().longValue();
+        }
+        long elapsed = System.nanoTime() - started;
+        assertThat(checksum).isPositive();
+        return QUOTES_PER_ROUND * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,118 @@
+package com.neobridge.payment.fee;
+
+import com.neobridge.payment.config.PaymentFeeProperties.FeeRuleProperties;
+import com.neobridge.payment.config.PaymentFeeProperties.TierProperties;
+import com.neobridge.payment.entity.Payment.PaymentPriority;
+import com.neobridge.payment.entity.Payment.PaymentType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeeScheduleTest {
+
+    @Test
+    void appliesPercentageAndFixedFee() {
+        FeeSchedule schedule = FeeSchedule.compile(Map.of("domestic", rule("0.001", "0.50")), 1);
+
+        FeeRule rule = schedule.ruleFor(PaymentType.DOMESTIC_TRANSFER, PaymentPriority.NORMAL, "EUR");
+
+        assertThat(rule.getCurrency()).isEqualTo("EUR");
+        assertThat(rule.fee(new BigDecimal("1000.00"))).isEqualByComparingTo("1.50");
+    }
+
+    @Test
+    void clampsToMinAndMax() {
+        FeeRuleProperties swift = rule("0.01", "0");
+        swift.setMin(new BigDecimal("5.00"));
+        swift.setMax(new BigDecimal("50.00"));
+        FeeRule rule = FeeSchedule.compile(Map.of("swift", swift), 1)
+            .ruleFor(PaymentType.SWIFT_TRANSFER, PaymentPriority.NORMAL, "EUR");
+
+        assertThat(rule.fee(new BigDecimal("100.00"))).isEqualByComparingTo("5.00");
+        assertThat(rule.fee(new BigDecimal("1000.00"))).isEqualByComparingTo("10.00");
+        assertThat(rule.fee(new BigDecimal("100000.00"))).isEqualByComparingTo("50.00");
+    }
+
+    @Test
+    void selectsHighestTierAtOrBelowAmount() {
+        FeeRuleProperties international = rule("0.01", "1.00");
+        international.setTiers(List.of(tier("10000.00", "0.005"), tier("1000.00", "0.0075")));
+        FeeRule rule = FeeSchedule.compile(Map.of("international", international), 1)
+            .ruleFor(PaymentType.INTERNATIONAL_TRANSFER, PaymentPriority.NORMAL, "EUR");
+
+        assertThat(rule.fee(new BigDecimal("999.99"))).isEqualByComparingTo("10.9999");
+        assertThat(rule.fee(new BigDecimal("1000.00"))).isEqualByComparingTo("8.50");
+        assertThat(rule.fee(new BigDecimal("20000.00"))).isEqualByComparingTo("101.00");
+    }
+
+    @Test
+    void priorityOverrideInheritsUnsetFields() {
+        FeeRuleProperties domestic = rule("0.001", "0.50");
+        FeeRuleProperties urgent = new FeeRuleProperties();
+        urgent.setFixed(new BigDecimal("2.50"));
+        domestic.setPriorities(Map.of("urgent", urgent));
+        FeeSchedule schedule = FeeSchedule.compile(Map.of("domestic", domestic), 1);
+
+        assertThat(schedule.ruleFor(PaymentType.DOMESTIC_TRANSFER, PaymentPriority.URGENT, "EUR")
+            .fee(new BigDecimal("1000.00"))).isEqualByComparingTo("3.50");
+        assertThat(schedule.ruleFor(PaymentType.DOMESTIC_TRANSFER, null, "EUR")
+            .fee(new BigDecimal("1000.00"))).isEqualByComparingTo("1.50");
+    }
+
+    @Test
+    void currencyOverrideIsDenominatedInItsOwnCurrency() {
+        FeeRuleProperties domestic = rule("0.001", "0.50");
+        FeeRuleProperties usd = new FeeRuleProperties();
+        usd.setFixed(new BigDecimal("0.60"));
+        domestic.setCurrencies(Map.of("usd", usd));
+        FeeSchedule schedule = FeeSchedule.compile(Map.of("domestic", domestic), 1);
+
+        FeeRule rule = schedule.ruleFor(PaymentType.DOMESTIC_TRANSFER, PaymentPriority.NORMAL, "USD");
+
+        assertThat(rule.getCurrency()).isEqualTo("USD");
+        assertThat(rule.fee(new BigDecimal("1000.00"))).isEqualByComparingTo("1.60");
+        assertThat(schedule.ruleFor(PaymentType.DOMESTIC_TRANSFER, PaymentPriority.NORMAL, "GBP").getCurrency())
+            .isEqualTo("EUR");
+    }
+
+    @Test
+    void fallsBackToDefaultRuleThenToFree() {
+        FeeSchedule withDefault = FeeSchedule.compile(Map.of("default", rule("0.02", "0")), 1);
+        FeeSchedule empty = FeeSchedule.compile(Map.of(), 1);
+
+        assertThat(withDefault.ruleFor(PaymentType.CARD_PAYMENT, PaymentPriority.NORMAL, "EUR")
+            .fee(new BigDecimal("50.00"))).isEqualByComparingTo("1.00");
+        assertThat(empty.ruleFor(PaymentType.CARD_PAYMENT, PaymentPriority.NORMAL, "EUR")
+            .fee(new BigDecimal("50.00"))).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void rejectsMaxBelowMin() {
+        FeeRuleProperties broken = rule("0.01", "0");
+        broken.setMin(new BigDecimal("10"));
+        broken.setMax(new BigDecimal("5"));
+
+        assertThatThrownBy(() -> FeeSchedule.compile(Map.of("sepa", broken), 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static FeeRuleProperties rule(String percentage, String fixed) {
+        FeeRuleProperties rule = new FeeRuleProperties();
+        rule.setPercentage(new BigDecimal(percentage));
+        rule.setFixed(new BigDecimal(fixed));
+        rule.setCurrency("EUR");
+        return rule;
+    }
+
+    private static TierProperties tier(String from, String percentage) {
+        TierProperties tier = new TierProperties();
+        tier.setFrom(new BigDecimal(from));
+        tier.setPercentage(new BigDecimal(percentage));
+        return tier;
+    }
+}
@@ -0,0 +1,174 @@
+package com.neobridge.payment.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.neobridge.payment.dto.PaymentProjection;
+import com.neobridge.payment.dto.PaymentResponse;
+import com.neobridge.payment.entity.Payment;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-row cost of producing a payment history row: a fully hydrated
+ * {@link Payment} through {@link PaymentResponse#fromPayment} versus the
+ * SUMMARY and DETAIL projections read column by column. Both sides end in
+ * serialised JSON. Database time is not included; the projection's saving
+ * there (fewer columns, no entity hydration) comes on top of these numbers.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class PaymentProjectionBenchmark {
+
+    private static final int ROWS = 250_000;
+    private static final int ROUNDS = 5;
+    private static final Set<PaymentField> ORDINAL_FIELDS =
+        EnumSet.of(PaymentField.PRIORITY, PaymentField.COMPLIANCE_STATUS, PaymentField.RISK_LEVEL);
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void projectionVersusEntityResponse() throws Exception {
+        Payment payment = samplePayment();
+        Object[] columns = columns(payment);
+        ResultSet row = resultSet(columns);
+
+        Result entity = best(() -> mapper.writeValueAsBytes(PaymentResponse.fromPayment(payment)));
+        Result summary = best(() -> mapper.writeValueAsBytes(project(row, PaymentView.SUMMARY.getFields())));
+        Result detail = best(() -> mapper.writeValueAsBytes(project(row, PaymentView.DETAIL.getFields())));
+
+        System.out.printf("fromPayment: %.2fM rows/sec, %d bytes/row%n", entity.rowsPerSecond / 1e6, entity.bytes);
+        System.out.printf("SUMMARY projection: %.2fM rows/sec, %d bytes/row%n", summary.rowsPerSecond / 1e6, summary.bytes);
+        System.out.printf("DETAIL projection: %.2fM rows/sec, %d bytes/row%n", detail.rowsPerSecond / 1e6, detail.bytes);
+        assertThat(summary.bytes).isLessThan(entity.bytes);
+    }
+
+    private static PaymentProjection project(ResultSet row, Set<PaymentField> fields) throws Exception {
+        PaymentProjection projection = new PaymentProjection();
+        for (PaymentField field : fields) {
+            field.read(row, field.ordinal(), projection);
+        }
+        return projection;
+    }
+
+    private static Result best(RowWriter writer) throws Exception {
+        Result best = new Result();
+        for (int round = 0; round <= ROUNDS; round++) {
+            long bytes = 0;
+            long started = System.nanoTime();
+            for (int i = 0; i < ROWS; i++) {
+                bytes += writer.write().length;
+            }
+            double rate = ROWS * 1e9 / (System.nanoTime() - started);
+            if (round > 0 && rate > best.rowsPerSecond) { // round 0 warms up
+                best.rowsPerSecond = rate;
+            }
+            best.bytes = bytes / ROWS;
+        }
+        return best;
+    }
+
+    /**
+     * Column values as the JDBC driver returns them, indexed by field ordinal.
+     */
+    private static Object[] columns(Payment payment) throws Exception {
+        Object[] columns = new Object[PaymentField.values().length];
+        for (PaymentField field : PaymentField.values()) {
+            String name = field.getJsonName();
+            Object value = Payment.class.getMethod("get" + Character.toUpperCase(name.charAt(0)) + name.substring(1))
+                .invoke(payment);
+            if (value instanceof Enum<?> constant) {
+                value = ORDINAL_FIELDS.contains(field) ? (Object) constant.ordinal() : constant.name();
+            } else if (value instanceof LocalDateTime dateTime) {
+                value = Timestamp.valueOf(dateTime);
+            } else if (value instanceof Instant instant) {
+                value = Timestamp.from(instant);
+            }
+            columns[field.ordinal()] = value;
+        }
+        return columns;
+    }
+
+    private static ResultSet resultSet(Object[] columns) {
+        boolean[] lastWasNull = new boolean[1];
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("wasNull")) {
+                    return lastWasNull[0];
+                }
+                Object value = columns[(Integer) args[0]];
+                lastWasNull[0] = value == null;
+                return method.getName().equals("getInt") && value == null ? 0 : value;
+            });
+    }
+
+    private static Payment samplePayment() {
+        Payment payment = new Payment();
+        payment.setId(UUID.randomUUID());
+        payment.setPaymentId("PAY-20240102-000123456");
+        payment.setUserId(UUID.randomUUID());
+        payment.setSourceAccountId(UUID.randomUUID());
+        payment.setDestinationAccountId(UUID.randomUUID());
+        payment.setPaymentType(Payment.PaymentType.INTERNATIONAL_TRANSFER);
+        payment.setPaymentMethod(Payment.PaymentMethod.BANK_TRANSFER);
+        payment.setStatus(Payment.PaymentStatus.PROCESSING);
+        payment.setDirection(Payment.PaymentDirection.OUTBOUND);
+        payment.setAmount(new BigDecimal("1250.0000"));
+        payment.setCurrency("EUR");
+        payment.setExchangeRate(new BigDecimal("1.08500000"));
+        payment.setOriginalAmount(new BigDecimal("1356.2500"));
+        payment.setOriginalCurrency("USD");
+        payment.setFeeAmount(new BigDecimal("12.5000"));
+        payment.setFeeCurrency("EUR");
+        payment.setTotalAmount(new BigDecimal("1262.5000"));
+        payment.setReference("INV-2024-0042");
+        payment.setExternalReference("E2E-7731-2209");
+        payment.setDescription("Invoice 2024-0042 consulting services");
+        payment.setCounterpartyName("Nordic Supplies AB");
+        payment.setCounterpartyAccount("5000000058398257466");
+        payment.setCounterpartyBank("Nordic Savings Bank");
+        payment.setCounterpartySwift("NDEASESSXXX");
+        payment.setCounterpartyIban("SE4550000000058398257466");
+        payment.setCounterpartyBic("NDEASESS");
+        payment.setPriority(Payment.PaymentPriority.NORMAL);
+        payment.setProcessingDate(LocalDateTime.now());
+        payment.setRetryCount(0);
+        payment.setMaxRetries(3);
+        payment.setMetadata("{\"channel\":\"web\",\"device\":\"ios\",\"ip\":\"203.0.113.7\"}");
+        payment.setComplianceData("screening:v12 hit=false top=0");
+        payment.setComplianceStatus(Payment.ComplianceStatus.APPROVED);
+        payment.setFraudScore(10);
+        payment.setRiskLevel(Payment.RiskLevel.MEDIUM);
+        payment.setIsUrgent(false);
+        payment.setIsBatchPayment(false);
+        payment.setCreatedAt(Instant.now());
+        payment.setUpdatedAt(Instant.now());
+        return payment;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+
+        byte[] write() throws Exception;
+    }
+
+    private static final class Result {
+
+        private double rowsPerSecond;
+        private long bytes;
+    }
+}
@@ -0,0 +1,96 @@
+package com.neobridge.payment.reconciliation;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end reconciliation of a generated 5M-line MT940 statement: mapped
+ * reading, parsing, index matching and report writing. Reports lines/sec and
+ * the peak heap, which should stay near the size of the payment index.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ReconciliationBenchmark {
+
+    private static final int PAYMENTS = 1_250_000;
+    private static final int LINES_PER_PAYMENT = 4; // :61:, :86:, continuation, blank
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 2);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void linesPerSecondWithBoundedHeap() throws Exception {
+        Path statement = generateStatement(tempDir.resolve("statement.sta"));
+        PaymentIndex index = new PaymentIndex(0, 2);
+        for (int i = 0; i < PAYMENTS; i++) {
+            index.add(new UUID(0, i), "P" + i, "PAY-" + i, null, 10_000L + i, "EUR", DAY.toEpochDay(), (i & 1) == 0);
+        }
+
+        System.gc();
+        resetPeakHeap();
+        long started = System.nanoTime();
+        long lines;
+        long matched;
+        try (ReconciliationReportWriter reports = new ReconciliationReportWriter(tempDir.resolve("run"))) {
+            StatementMatcher matcher = new StatementMatcher(index, reports);
+            lines = matcher.run(statement, new Mt940StatementParser(), DAY.toEpochDay(), DAY.toEpochDay());
+            matched = reports.getMatchCount();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        System.out.printf("Reconciliation: %d lines in %d ms, %.1fM lines/sec, %d matched, peak heap %d MB%n",
+                         lines, elapsed / 1_000_000, lines * 1e3 / elapsed, matched, peakHeap() >> 20);
+        assertThat(lines).isGreaterThanOrEqualTo((long) PAYMENTS * LINES_PER_PAYMENT);
+        assertThat(matched).isEqualTo(PAYMENTS);
+    }
+
+    private static Path generateStatement(Path file) throws Exception {
+        String valueDate = DAY.format(DateTimeFormatter.ofPattern("yyMMdd"));
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            writer.write(":20:BENCH\n:60F:C" + valueDate + "EUR0,00\n");
+            for (int i = 0; i < PAYMENTS; i++) {
+                long units = 10_000L + i;
+                String amount = (units / 10_000) + "," + String.format("%04d", units % 10_000);
+                writer.write(":61:" + valueDate + ((i & 1) == 0 ? "C" : "D") + amount + "NTRFPAY-" + i + "//B" + i + "\n");
+                writer.write(":86:?20EREF+PAY-" + i + "?21Benchmark transfer\n");
+                writer.write("?22continued narrative\n");
+                writer.write("\n");
+            }
+            writer.write("-\n");
+        }
+        return file;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
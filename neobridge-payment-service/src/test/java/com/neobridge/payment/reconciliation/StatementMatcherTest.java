@@ -0,0 +1,95 @@
+package com.neobridge.payment.reconciliation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementMatcherTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 2);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void matchesMt940LinesByCustomerAndEndToEndReference() throws Exception {
+        Path statement = write("statement.sta", """
+            :20:STMT1
+            :60F:C240101EUR1000,00
+            :61:2401020102C100,00NTRFPAY-1//BANK1
+            :86:Incoming transfer
+            :61:2401020102D25,50NTRFNONREF//BANK2
+            :86:?20EREF+PAY-2?21Supplier
+            :61:2401020102C999,00NTRFPAY-404//BANK3
+            -
+            """);
+        PaymentIndex index = new PaymentIndex(0, 2);
+        index.add(UUID.randomUUID(), "P1", "PAY-1", null, 1_000_000, "EUR", DAY.toEpochDay(), true);
+        index.add(UUID.randomUUID(), "P2", "PAY-2", null, 255_000, "EUR", DAY.toEpochDay(), false);
+        index.add(UUID.randomUUID(), "P3", "PAY-3", null, 10_000, "EUR", DAY.toEpochDay(), false);
+
+        try (ReconciliationReportWriter reports = new ReconciliationReportWriter(tempDir.resolve("run"))) {
+            StatementMatcher matcher = new StatementMatcher(index, reports);
+            long lines = matcher.run(statement, new Mt940StatementParser(), DAY.toEpochDay(), DAY.toEpochDay());
+
+            assertThat(lines).isEqualTo(8);
+            assertThat(matcher.getEntries()).isEqualTo(3);
+            assertThat(reports.getMatchCount()).isEqualTo(2);
+            assertThat(reports.getExceptionCount()).isEqualTo(1);
+            // PAY-3 was booked but never appeared on the statement
+            assertThat(reports.getBreakCount()).isEqualTo(1);
+        }
+        List<String> breaks = Files.readAllLines(tempDir.resolve("run").resolve(ReconciliationReportWriter.BREAKS_FILE));
+        assertThat(breaks).hasSize(2);
+        assertThat(breaks.get(1)).startsWith("MISSING_FROM_STATEMENT").contains("P3");
+    }
+
+    @Test
+    void reportsClosestCandidateForCsvBreaks() throws Exception {
+        Path statement = write("statement.csv", """
+            value_date,amount,currency,reference,description
+            2024-01-02,-40.00,EUR,PAY-1,Rent
+            2024-01-02;12.00;USD;PAY-2
+            2024-01-02,abc,EUR,PAY-3
+            """);
+        PaymentIndex index = new PaymentIndex(0, 2);
+        index.add(UUID.randomUUID(), "P1", "PAY-1", null, 400_000, "EUR", DAY.toEpochDay(), false);
+        index.add(UUID.randomUUID(), "P2", "PAY-2", "EXT-2", 120_000, "EUR", DAY.toEpochDay(), true);
+
+        try (ReconciliationReportWriter reports = new ReconciliationReportWriter(tempDir.resolve("run"))) {
+            StatementMatcher matcher = new StatementMatcher(index, reports);
+            matcher.run(statement, new CsvStatementParser(), DAY.toEpochDay(), DAY.toEpochDay());
+
+            assertThat(matcher.getEntries()).isEqualTo(2);
+            assertThat(reports.getMatchCount()).isEqualTo(1);
+            assertThat(reports.getExceptionCount()).isEqualTo(1);
+            // PAY-2 breaks on currency and is then also missing from the statement
+            assertThat(reports.getBreakCount()).isEqualTo(2);
+        }
+        List<String> breaks = Files.readAllLines(tempDir.resolve("run").resolve(ReconciliationReportWriter.BREAKS_FILE));
+        assertThat(breaks.get(1)).startsWith("CURRENCY_MISMATCH").contains("P2");
+    }
+
+    @Test
+    void doesNotMatchTheSamePaymentTwice() {
+        PaymentIndex index = new PaymentIndex(0, 2);
+        index.add(UUID.randomUUID(), "P1", "PAY-1", null, 10_000, "EUR", DAY.toEpochDay(), true);
+        StatementEntry entry = new StatementEntry(1, "pay-1", null, 10_000, "EUR", DAY.toEpochDay(), true);
+
+        assertThat(index.match(entry).isMatched()).isTrue();
+        PaymentIndex.MatchResult second = index.match(entry);
+        assertThat(second.isMatched()).isFalse();
+        assertThat(second.isUnknownReference()).isFalse();
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+}
@@ -0,0 +1,101 @@
+package com.neobridge.payment.screening;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Index build time, retained heap and per-counterparty screening latency
+ * against a synthetic list of 1M entries (about 1.2M names).
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ScreeningIndexBenchmark {
+
+    private static final int ENTRIES = 1_000_000;
+    private static final int QUERIES = 20_000;
+    private static final String[] SYLLABLES = {
+        "al", "an", "ar", "ba", "be", "da", "de", "el", "en", "er", "fa", "ga", "ha", "ib", "ka", "ko",
+        "la", "li", "ma", "mi", "na", "ni", "ol", "or", "pa", "ra", "ri", "sa", "se", "ta", "to", "va",
+        "vi", "yu", "za", "zo", "bru", "dor", "gri", "kov", "lin", "mar", "nov", "rov", "sky", "ton"
+    };
+
+    @Test
+    void buildAndScreenOneMillionEntries() {
+        Random random = new Random(42);
+        List<SanctionsEntry> entries = new ArrayList<>(ENTRIES);
+        List<String> listed = new ArrayList<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            List<String> aliases = i % 5 == 0 ? List.of(name(random, 2)) : List.of();
+            String name = name(random, 3);
+            entries.add(new SanctionsEntry("E" + i, SanctionsEntry.EntryType.INDIVIDUAL, name, aliases, List.of(), "BENCH"));
+            if (i % 100 == 0) {
+                listed.add(aliases.isEmpty() || i % 200 == 0 ? name : aliases.get(0));
+            }
+        }
+
+        long heapBefore = usedHeap();
+        long started = System.nanoTime();
+        ScreeningIndex index = ScreeningIndex.build(entries, 1);
+        long buildMillis = (System.nanoTime() - started) / 1_000_000;
+        entries = null;
+        long retained = usedHeap() - heapBefore;
+
+        // Half the queries are misspelled listed names, half are unlisted names
+        String[] queries = new String[QUERIES];
+        Random queryRandom = new Random(7);
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = i % 2 == 0 ? typo(queryRandom, listed.get(queryRandom.nextInt(listed.size()))) : name(queryRandom, 3);
+        }
+
+        int hits = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            hits += index.screen(queries[i], null, null, null, 85, 10).isHit() ? 1 : 0; // warm-up
+        }
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long t0 = System.nanoTime();
+            index.screen(queries[i], null, null, null, 85, 10);
+            latencies[i] = System.nanoTime() - t0;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("Screening index: %d entries, %d names, built in %d ms, ~%d MB retained; " +
+                          "screen p50 %d us, p99 %d us, %d/%d hits%n",
+                          index.size(), index.getVariantCount(), buildMillis, retained >> 20,
+                          latencies[QUERIES / 2] / 1_000, latencies[QUERIES * 99 / 100] / 1_000, hits, QUERIES);
+        assertThat(hits).isPositive();
+    }
+
+    private static String name(Random random, int tokens) {
+        StringBuilder name = new StringBuilder();
+        for (int t = 0; t < tokens; t++) {
+            if (t > 0) {
+                name.append(' ');
+            }
+            int syllables = 2 + random.nextInt(3);
+            for (int s = 0; s < syllables; s++) {
+                String syllable = SYLLABLES[random.nextInt(SYLLABLES.length)];
+                name.append(s == 0 ? Character.toUpperCase(syllable.charAt(0)) + syllable.substring(1) : syllable);
+            }
+        }
+        return name.toString();
+    }
+
+    private static String typo(Random random, String name) {
+        int at = 1 + random.nextInt(name.length() - 2);
+        return name.charAt(at) == ' ' ? name : name.substring(0, at) + name.charAt(at + 1) + name.charAt(at) + name.substring(at + 2);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
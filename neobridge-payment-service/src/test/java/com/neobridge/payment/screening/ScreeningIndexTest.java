@@ -0,0 +1,60 @@
+package com.neobridge.payment.screening;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScreeningIndexTest {
+
+    private static final ScreeningIndex INDEX = ScreeningIndex.build(List.of(
+        entry("1", "Ivan Petrovich Sidorov", List.of("Ivan Sidorov"), List.of()),
+        entry("2", "Golden Crescent Trading LLC", List.of(), List.of("DE89370400440532013000", "GCTRAEAD")),
+        entry("3", "Maria Fernanda Gonzalez", List.of(), List.of())
+    ), 7);
+
+    @Test
+    void matchesMisspelledAndReorderedNames() {
+        ScreeningResult result = INDEX.screen("Sidorov Ivan Petrovitch", null, null, null, 85, 10);
+
+        assertThat(result.isHit()).isTrue();
+        assertThat(result.getListVersion()).isEqualTo(7);
+        assertThat(result.getMatches().get(0).getEntry().getId()).isEqualTo("1");
+    }
+
+    @Test
+    void dropsLegalFormsAndMatchesIdentifiersExactly() {
+        assertThat(INDEX.screen("Golden Crescent Trading", null, null, null, 85, 10).isHit()).isTrue();
+        assertThat(INDEX.screenIdentifier("de89 3704 0044 0532 0130 00", ScreeningField.COUNTERPARTY_IBAN)).hasSize(1);
+        // Branch BIC matches a bank-level listing
+        assertThat(INDEX.screenIdentifier("GCTRAEADDXB", ScreeningField.COUNTERPARTY_BIC)).hasSize(1);
+    }
+
+    @Test
+    void doesNotMatchUnrelatedNames() {
+        assertThat(INDEX.screen("Johanna Lindqvist", "Nordic Savings Bank", "SE4550000000058398257466", null, 85, 10).isHit())
+            .isFalse();
+    }
+
+    @Test
+    void smallQueriesStayCorrectAfterLargeQueryGrowsCandidateTable() {
+        // Thousands of variants sharing trigrams with the query grow the per-thread candidate table
+        List<SanctionsEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            entries.add(entry("n" + i, "Alexander Konstantinov " + Integer.toString(i, 36), List.of(), List.of()));
+        }
+        entries.add(entry("target", "Zbigniew Brzezinski", List.of(), List.of()));
+        ScreeningIndex index = ScreeningIndex.build(entries, 1);
+
+        assertThat(index.screenName("Alexander Konstantinov", ScreeningField.COUNTERPARTY_NAME, 85, 5)).hasSize(5);
+        List<ScreeningMatch> matches = index.screenName("Zbigniew Brzezinsky", ScreeningField.COUNTERPARTY_NAME, 85, 5);
+
+        assertThat(matches).extracting(match -> match.getEntry().getId()).containsExactly("target");
+    }
+
+    static SanctionsEntry entry(String id, String name, List<String> aliases, List<String> identifiers) {
+        return new SanctionsEntry(id, SanctionsEntry.EntryType.ENTITY, name, aliases, identifiers, "TEST");
+    }
+}
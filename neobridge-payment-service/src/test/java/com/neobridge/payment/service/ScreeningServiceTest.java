@@ -0,0 +1,51 @@
+package com.neobridge.payment.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScreeningServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void refusesToStartWithoutListWhenRequired() {
+        ScreeningService service = service("", true);
+
+        assertThatThrownBy(service::init)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("list-file");
+    }
+
+    @Test
+    void refusesToStartWithUnreadableListWhenRequired() {
+        ScreeningService service = service(tempDir.resolve("missing.txt").toString(), true);
+
+        assertThatThrownBy(service::init).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void startsWithEmptyIndexWhenScreeningIsOptional() {
+        ScreeningService service = service("", false);
+
+        service.init();
+
+        assertThat(service.getIndex().size()).isZero();
+        assertThat(service.screen("Anyone", null, null, null).isHit()).isFalse();
+    }
+
+    private static ScreeningService service(String listFile, boolean required) {
+        ScreeningService service = new ScreeningService();
+        ReflectionTestUtils.setField(service, "listFile", listFile);
+        ReflectionTestUtils.setField(service, "required", required);
+        ReflectionTestUtils.setField(service, "threshold", 85);
+        ReflectionTestUtils.setField(service, "maxMatches", 10);
+        return service;
+    }
+}
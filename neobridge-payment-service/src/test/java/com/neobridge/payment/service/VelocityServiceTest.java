@@ -0,0 +1,90 @@
+package com.neobridge.payment.service;
+
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.common.fx.FxRateUpdate;
+import com.neobridge.payment.event.PaymentEvent;
+import com.neobridge.payment.velocity.VelocityStats;
+import com.neobridge.payment.velocity.VelocityWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VelocityServiceTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private FxRateService fxRateService;
+    private VelocityService velocityService;
+
+    @BeforeEach
+    void setUp() {
+        fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "baseCurrency", "EUR");
+        ReflectionTestUtils.setField(fxRateService, "maxAge", Duration.ofMinutes(5));
+        fxRateService.init();
+
+        velocityService = new VelocityService();
+        ReflectionTestUtils.setField(velocityService, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(velocityService, "shardCount", 4);
+        ReflectionTestUtils.setField(velocityService, "snapshotEnabled", false);
+        ReflectionTestUtils.setField(velocityService, "userMaxPerMinute", 2);
+        ReflectionTestUtils.setField(velocityService, "userMaxPerHour", 30);
+        ReflectionTestUtils.setField(velocityService, "userMaxAmountPerDay", new BigDecimal("1000.00"));
+        ReflectionTestUtils.setField(velocityService, "counterpartyMaxPerHour", 20);
+        ReflectionTestUtils.setField(velocityService, "userPerMinuteWeight", 25);
+        ReflectionTestUtils.setField(velocityService, "userPerHourWeight", 15);
+        ReflectionTestUtils.setField(velocityService, "userAmountPerDayWeight", 30);
+        ReflectionTestUtils.setField(velocityService, "counterpartyPerHourWeight", 15);
+        velocityService.init();
+    }
+
+    @Test
+    void convertsForeignAmountsIntoBaseCurrency() {
+        fxRateService.apply(new FxRateUpdate("EUR", "USD", new BigDecimal("1.25"), Instant.now()));
+
+        velocityService.record(created("125.00", "USD"));
+
+        VelocityStats stats = velocityService.getUserVelocity(userId);
+        assertThat(stats.getCount(VelocityWindow.ONE_DAY)).isEqualTo(1);
+        assertThat(stats.getAmountUnits(VelocityWindow.ONE_DAY)).isEqualTo(1_000_000L);
+        assertThat(velocityService.getUnpricedEvents()).isZero();
+    }
+
+    @Test
+    void countsUnpricedPaymentsWithoutTheirAmount() {
+        velocityService.record(created("5000.00", "JPY"));
+
+        VelocityStats stats = velocityService.getUserVelocity(userId);
+        assertThat(stats.getCount(VelocityWindow.ONE_DAY)).isEqualTo(1);
+        assertThat(stats.getAmountUnits(VelocityWindow.ONE_DAY)).isZero();
+        assertThat(velocityService.getUnpricedEvents()).isEqualTo(1);
+    }
+
+    @Test
+    void scoresWithConfiguredWeights() {
+        for (int i = 0; i < 3; i++) {
+            velocityService.record(created("400.00", "EUR"));
+        }
+
+        // Over the per-minute count and the daily amount, under the hourly count
+        assertThat(velocityService.velocityScore(userId, null)).isEqualTo(55);
+    }
+
+    private PaymentEvent created(String amount, String currency) {
+        PaymentEvent event = new PaymentEvent();
+        event.setEventType(PaymentEvent.EventType.CREATED);
+        event.setPaymentId("PAY-" + UUID.randomUUID());
+        event.setUserId(userId);
+        event.setAmount(new BigDecimal(amount));
+        event.setCurrency(currency);
+        event.setOccurredAt(Instant.now());
+        return event;
+    }
+}
@@ -0,0 +1,131 @@
+package com.neobridge.payment.util;
+
+import com.neobridge.common.fx.FxRateService;
+import com.neobridge.common.fx.FxRateUnavailableException;
+import com.neobridge.common.fx.FxRateUpdate;
+import com.neobridge.payment.config.PaymentFeeProperties;
+import com.neobridge.payment.config.PaymentFeeProperties.FeeRuleProperties;
+import com.neobridge.payment.entity.Payment.PaymentPriority;
+import com.neobridge.payment.entity.Payment.PaymentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentFeeCalculatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FxRateService fxRateService;
+    private PaymentFeeProperties feeProperties;
+
+    @BeforeEach
+    void setUp() {
+        fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "baseCurrency", "EUR");
+        ReflectionTestUtils.setField(fxRateService, "maxAge", Duration.ofMinutes(5));
+        fxRateService.init();
+
+        FeeRuleProperties domestic = new FeeRuleProperties();
+        domestic.setPercentage(new BigDecimal("0.001"));
+        domestic.setFixed(new BigDecimal("0.50"));
+        domestic.setMax(new BigDecimal("5.00"));
+        domestic.setCurrency("EUR");
+        feeProperties = new PaymentFeeProperties();
+        feeProperties.setFees(Map.of("domestic", domestic));
+    }
+
+    @Test
+    void pricesRuleCurrencyPaymentsDirectly() {
+        PaymentFeeCalculator calculator = calculator("");
+
+        assertThat(calculator.calculateFee(PaymentType.DOMESTIC_TRANSFER, new BigDecimal("1000.00"), "EUR"))
+            .isEqualByComparingTo("1.50");
+    }
+
+    @Test
+    void convertsFixedAndCappedAmountsIntoPaymentCurrency() {
+        fxRateService.apply(new FxRateUpdate("EUR", "USD", new BigDecimal("1.10"), Instant.now()));
+        PaymentFeeCalculator calculator = calculator("");
+
+        // 1100 USD = 1000 EUR -> 0.50 + 1.00 EUR -> 1.65 USD
+        assertThat(calculator.calculateFee(PaymentType.DOMESTIC_TRANSFER, new BigDecimal("1100.00"), "USD"))
+            .isEqualByComparingTo("1.65");
+        // Capped at 5.00 EUR -> 5.50 USD
+        assertThat(calculator.calculateFee(PaymentType.DOMESTIC_TRANSFER, new BigDecimal("110000.00"), "USD"))
+            .isEqualByComparingTo("5.50");
+    }
+
+    @Test
+    void refusesToPriceWithoutRate() {
+        PaymentFeeCalculator calculator = calculator("");
+
+        assertThatThrownBy(() -> calculator.calculateFee(PaymentType.DOMESTIC_TRANSFER, new BigDecimal("100.00"), "CHF"))
+            .isInstanceOf(FxRateUnavailableException.class);
+    }
+
+    @Test
+    void reloadsScheduleFileWhenItChanges() throws Exception {
+        Path file = tempDir.resolve("fees.yml");
+        Files.writeString(file, """
+            fees:
+              domestic:
+                percentage: 0.002
+                fixed: 1.00
+                currency: EUR
+            """);
+        PaymentFeeCalculator calculator = calculator(file.toString());
+        long installed = calculator.getSchedule().getVersion();
+
+        assertThat(calculator.calculateFee(PaymentType.DOMESTIC_TRANSFER, new BigDecimal("1000.00"), "EUR"))
+            .isEqualByComparingTo("3.00");
+
+        Files.writeString(file, """
+            fees:
+              domestic:
+                percentage: 0.002
+                fixed: 1.00
+                currency: EUR
+                priorities:
+                  urgent:
+                    fixed: 4.00
+            """);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        calculator.reloadIfChanged();
+
+        assertThat(calculator.getSchedule().getVersion()).isGreaterThan(installed);
+        assertThat(calculator.calculateFee(PaymentType.DOMESTIC_TRANSFER, new BigDecimal("1000.00"), "EUR",
+                                           PaymentPriority.URGENT)).isEqualByComparingTo("6.00");
+    }
+
+    @Test
+    void keepsCurrentScheduleWhenFileIsInvalid() throws Exception {
+        Path file = tempDir.resolve("fees.yml");
+        Files.writeString(file, "limits: {}\n");
+        PaymentFeeCalculator calculator = calculator(file.toString());
+
+        assertThat(calculator.calculateFee(PaymentType.DOMESTIC_TRANSFER, new BigDecimal("1000.00"), "EUR"))
+            .isEqualByComparingTo("1.50");
+    }
+
+    private PaymentFeeCalculator calculator(String scheduleFile) {
+        PaymentFeeCalculator calculator = new PaymentFeeCalculator();
+        ReflectionTestUtils.setField(calculator, "feeProperties", feeProperties);
+        ReflectionTestUtils.setField(calculator, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(calculator, "scheduleFile", scheduleFile);
+        calculator.init();
+        return calculator;
+    }
+}